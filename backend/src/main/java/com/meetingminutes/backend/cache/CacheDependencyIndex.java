@@ -0,0 +1,97 @@
+package com.meetingminutes.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis sorted sets mapping each meeting and user to the cache entries derived from them, so a change can evict
+ * exactly those entries instead of clearing whole caches. Entries register themselves when written (see
+ * {@link CacheKeys} for which keys depend on what), scored by when the entry itself expires. Every registration
+ * prunes members whose entry has already expired, so an active user's set holds only live entries rather than
+ * one member per key ever cached, and an idle set expires with the longest cache TTL.
+ */
+@Slf4j
+public class CacheDependencyIndex {
+
+    private static final String SEPARATOR = "::";
+    private static final String PREFIX = "cache-deps:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration retention;
+
+    public CacheDependencyIndex(StringRedisTemplate redisTemplate, Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+    }
+
+    public record CacheEntry(String cacheName, String key) {
+    }
+
+    /**
+     * @param ttl how long the entry lives in Redis; null or zero means the longest cache TTL
+     */
+    void register(String cacheName, String key, Duration ttl) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + (ttl != null && !ttl.isZero() && !ttl.isNegative() ? ttl : retention).toMillis();
+        CacheKeys.meetingOf(key).ifPresent(meetingId -> add(meetingSet(meetingId), cacheName, key, expiresAt, now));
+        CacheKeys.userOf(key).ifPresent(userId -> add(userSet(userId), cacheName, key, expiresAt, now));
+    }
+
+    /**
+     * Removes and returns the entries registered against the meeting and the users
+     */
+    public List<CacheEntry> drain(UUID meetingId, Iterable<UUID> userIds) {
+        List<CacheEntry> entries = new ArrayList<>(drain(meetingSet(meetingId)));
+        for (UUID userId : userIds) {
+            entries.addAll(drain(userSet(userId)));
+        }
+        return entries;
+    }
+
+    private void add(String set, String cacheName, String key, long expiresAt, long now) {
+        try {
+            redisTemplate.opsForZSet().add(set, cacheName + SEPARATOR + key, expiresAt);
+            redisTemplate.opsForZSet().removeRangeByScore(set, 0, now);
+            // Members now leave with their entries, so keeping the set alive while it is used no longer lets it grow
+            redisTemplate.expire(set, retention);
+        } catch (Exception e) {
+            // Unindexed entries still expire on their TTL
+            log.warn("Failed to index cache entry {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private List<CacheEntry> drain(String set) {
+        Set<String> members = redisTemplate.opsForZSet().range(set, 0, -1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        // ZREM only what was read, so entries registered meanwhile stay indexed
+        redisTemplate.opsForZSet().remove(set, members.toArray());
+        return entries(members);
+    }
+
+    private static List<CacheEntry> entries(Set<String> members) {
+        List<CacheEntry> entries = new ArrayList<>(members.size());
+        for (String member : members) {
+            int separator = member.indexOf(SEPARATOR);
+            if (separator > 0) {
+                entries.add(new CacheEntry(member.substring(0, separator), member.substring(separator + SEPARATOR.length())));
+            }
+        }
+        return entries;
+    }
+
+    private static String meetingSet(UUID meetingId) {
+        return PREFIX + "meeting:" + meetingId;
+    }
+
+    private static String userSet(UUID userId) {
+        return PREFIX + "user:" + userId;
+    }
+}
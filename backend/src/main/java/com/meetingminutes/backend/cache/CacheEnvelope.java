@@ -0,0 +1,18 @@
+package com.meetingminutes.backend.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What {@link TwoTierCache} actually stores: the cached value plus what early refresh needs to know,
+ * namely how long the value took to compute and when its Redis entry expires (epoch millis, 0 if never).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope {
+    private Object value;
+    private long computeMillis;
+    private long expiresAt;
+}
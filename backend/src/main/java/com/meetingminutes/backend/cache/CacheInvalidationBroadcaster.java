@@ -0,0 +1,70 @@
+package com.meetingminutes.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Publishes near-cache invalidations on a Redis channel and applies the ones published by other nodes.
+ * Messages are {@code nodeId|cacheName|E|key} for one key and {@code nodeId|cacheName|C|} for a clear.
+ */
+@Slf4j
+public class CacheInvalidationBroadcaster implements MessageListener {
+
+    private static final char EVICT = 'E';
+    private static final char CLEAR = 'C';
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Consumer<Invalidation> handler = invalidation -> { };
+
+    public CacheInvalidationBroadcaster(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public record Invalidation(String cacheName, String key) {
+
+        public boolean isClear() {
+            return key == null;
+        }
+    }
+
+    void onInvalidation(Consumer<Invalidation> handler) {
+        this.handler = handler;
+    }
+
+    public void evict(String cacheName, String key) {
+        publish(nodeId + "|" + cacheName + "|" + EVICT + "|" + key);
+    }
+
+    public void clear(String cacheName) {
+        publish(nodeId + "|" + cacheName + "|" + CLEAR + "|");
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            // Other nodes keep their copy until the near-cache TTL expires it
+            log.warn("Failed to broadcast cache invalidation on {}: {}", channel, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        handler.accept(new Invalidation(parts[1], parts[2].charAt(0) == CLEAR ? null : parts[3]));
+    }
+}
@@ -0,0 +1,56 @@
+package com.meetingminutes.backend.cache;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache key conventions the {@link CacheDependencyIndex} understands. A bare meeting id is the meeting's own
+ * entry and {@code m:<meetingId>:...} keys are further per-meeting entries (such as one viewer's overlay); both go
+ * stale whenever the meeting changes. {@code u:<userId>:...} keys are derived from what one user can see and go
+ * stale whenever a meeting they can access changes. Use from SpEL as
+ * {@code T(com.meetingminutes.backend.cache.CacheKeys).forUser(#user.id, 'recent', #limit)}.
+ */
+public final class CacheKeys {
+
+    private static final String USER_PREFIX = "u:";
+    private static final String MEETING_PREFIX = "m:";
+    private static final int UUID_LENGTH = 36;
+
+    private CacheKeys() {
+    }
+
+    public static String forUser(UUID userId, Object... parts) {
+        return USER_PREFIX + userId + Stream.of(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(":", parts.length > 0 ? ":" : "", ""));
+    }
+
+    public static String forMeetingViewer(UUID meetingId, UUID userId) {
+        return MEETING_PREFIX + meetingId + ":viewer:" + userId;
+    }
+
+    static Optional<UUID> userOf(String key) {
+        return prefixed(key, USER_PREFIX);
+    }
+
+    static Optional<UUID> meetingOf(String key) {
+        return key.length() == UUID_LENGTH ? parseUuid(key) : prefixed(key, MEETING_PREFIX);
+    }
+
+    private static Optional<UUID> prefixed(String key, String prefix) {
+        if (!key.startsWith(prefix) || key.length() < prefix.length() + UUID_LENGTH) {
+            return Optional.empty();
+        }
+        return parseUuid(key.substring(prefix.length(), prefix.length() + UUID_LENGTH));
+    }
+
+    private static Optional<UUID> parseUuid(String value) {
+        try {
+            return Optional.of(UUID.fromString(value));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.meetingminutes.backend.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Short-lived Redis lock ({@code SET NX PX}) that lets one node recompute a cache entry while the others
+ * wait for it to land in Redis. The lock expires on its own if its holder dies mid-load.
+ */
+@Slf4j
+public class CacheLoadLock {
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration leaseTime;
+
+    public CacheLoadLock(StringRedisTemplate redisTemplate, Duration leaseTime) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTime = leaseTime;
+    }
+
+    /**
+     * @return a token to pass to {@link #release}, or null if another node holds the lock
+     */
+    public String tryAcquire(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, leaseTime);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * Deletes the lock only if it is still ours, so an expired lease never releases someone else's lock
+     */
+    public void release(String cacheName, String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(lockKey(cacheName, key)), token);
+        } catch (Exception e) {
+            log.debug("Failed to release cache load lock for {}::{}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    public Duration getLeaseTime() {
+        return leaseTime;
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return "cache-lock:" + cacheName + "::" + key;
+    }
+}
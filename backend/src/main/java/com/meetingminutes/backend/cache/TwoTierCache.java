@@ -0,0 +1,372 @@
+package com.meetingminutes.backend.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Caffeine near-cache (L1, this node only) in front of a Redis cache (L2, shared). Reads try L1
+ * first and backfill it from L2; writes and evictions go to both tiers and are broadcast so other
+ * nodes drop their L1 copy. L1 keys are the same strings Redis keys are built from, so a broadcast
+ * key means the same entry everywhere.
+ * <p>
+ * {@code @Cacheable(sync = true)} lookups go through {@link #get(Object, Callable)}, which loads a
+ * missing key once: concurrent callers on this node share one in-flight load, and a Redis lock makes
+ * other nodes wait for the value to land instead of recomputing it. Hot entries are also recomputed
+ * shortly before they expire, by one caller chosen probabilistically (the earlier the closer to expiry
+ * and the slower the load), while everyone else keeps reading the current value.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private static final long LOCK_POLL_MILLIS = 25;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> local;
+    private final Cache remote;
+    private final RedisCacheWriter.TtlFunction ttlFunction;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final CacheLoadLock loadLock;
+    private final CacheDependencyIndex dependencyIndex;
+    private final double earlyRefreshBeta;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter computedLoads;
+    private final Counter sharedLoads;
+    private final Counter earlyRefreshes;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, CacheEnvelope> local,
+                        Cache remote,
+                        RedisCacheWriter.TtlFunction ttlFunction,
+                        CacheInvalidationBroadcaster broadcaster,
+                        CacheLoadLock loadLock,
+                        CacheDependencyIndex dependencyIndex,
+                        double earlyRefreshBeta,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.ttlFunction = ttlFunction;
+        this.broadcaster = broadcaster;
+        this.loadLock = loadLock;
+        this.dependencyIndex = dependencyIndex;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+
+        this.localHits = tierCounter(meterRegistry, "l1", "hit");
+        this.localMisses = tierCounter(meterRegistry, "l1", "miss");
+        this.remoteHits = tierCounter(meterRegistry, "l2", "hit");
+        this.remoteMisses = tierCounter(meterRegistry, "l2", "miss");
+        this.computedLoads = loadCounter(meterRegistry, "computed");
+        this.sharedLoads = loadCounter(meterRegistry, "shared");
+        this.earlyRefreshes = loadCounter(meterRegistry, "early-refresh");
+        meterRegistry.gauge("cache.tier.size", Tags.of("cache", name, "tier", "l1"),
+                local, com.github.benmanes.caffeine.cache.Cache::estimatedSize);
+    }
+
+    private Counter tierCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("Cache lookups per tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Counter loadCounter(MeterRegistry registry, String result) {
+        return Counter.builder("cache.loads")
+                .description("Synchronized cache loads: computed here, shared from another caller or node, or refreshed early")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheEnvelope envelope = lookup(key);
+        return envelope != null ? new SimpleValueWrapper(envelope.getValue()) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheEnvelope envelope;
+        try {
+            envelope = lookup(key);
+        } catch (RuntimeException e) {
+            // Redis is unavailable; the load below skips it too, so the caller still gets a value
+            log.warn("Cache get error for key: {} in cache: {}. Loading without cache.", key, name, e);
+            envelope = null;
+        }
+        if (envelope == null) {
+            return (T) loadOnce(key, valueLoader);
+        }
+        if (shouldRefreshEarly(envelope)) {
+            return (T) refreshEarly(key, valueLoader, envelope);
+        }
+        return (T) envelope.getValue();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return; // Redis is configured without null values; keep the tiers consistent
+        }
+        store(key, value, 0);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        remote.evict(key);
+        broadcaster.evict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        boolean present = remote.evictIfPresent(key);
+        broadcaster.evict(name, localKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        remote.clear();
+        broadcaster.clear(name);
+    }
+
+    /**
+     * Drops this node's copy only; called for invalidations broadcast by other nodes
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * Same string RedisCache derives its key from (toString of the key object), so it is stable across nodes
+     */
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private CacheEnvelope lookup(Object key) {
+        String localKey = localKey(key);
+        CacheEnvelope envelope = local.getIfPresent(localKey);
+        if (envelope != null) {
+            localHits.increment();
+            return envelope;
+        }
+        localMisses.increment();
+
+        envelope = lookupRemote(key);
+        if (envelope == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(localKey, envelope);
+        return envelope;
+    }
+
+    private CacheEnvelope lookupRemote(Object key) {
+        ValueWrapper wrapper = remote.get(key);
+        Object stored = wrapper != null ? wrapper.get() : null;
+        if (stored == null) {
+            return null;
+        }
+        // Values written before envelopes existed carry no refresh metadata and simply expire
+        return stored instanceof CacheEnvelope envelope ? envelope : new CacheEnvelope(stored, 0, 0);
+    }
+
+    private void store(Object key, Object value, long computeMillis) {
+        String localKey = localKey(key);
+        CacheEnvelope envelope = new CacheEnvelope(value, computeMillis, 0);
+        Duration ttl = ttlFunction.getTimeToLive(key, envelope);
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+            envelope.setExpiresAt(System.currentTimeMillis() + ttl.toMillis());
+        }
+        local.put(localKey, envelope);
+        remote.put(key, envelope);
+        dependencyIndex.register(name, localKey, ttl);
+        broadcaster.evict(name, localKey);
+    }
+
+    /**
+     * XFetch: recompute with a probability that rises as expiry nears, scaled by how long the value takes to compute
+     */
+    private boolean shouldRefreshEarly(CacheEnvelope envelope) {
+        if (earlyRefreshBeta <= 0 || envelope.getExpiresAt() <= 0 || envelope.getComputeMillis() <= 0) {
+            return false;
+        }
+        double headStart = envelope.getComputeMillis() * earlyRefreshBeta
+                * -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + headStart >= envelope.getExpiresAt();
+    }
+
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            sharedLoads.increment();
+            return await(existing);
+        }
+        try {
+            Object value = loadAcrossNodes(key, localKey, valueLoader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    private Object loadAcrossNodes(Object key, String localKey, Callable<?> valueLoader) {
+        String token;
+        try {
+            token = loadLock.tryAcquire(name, localKey);
+        } catch (RuntimeException e) {
+            return compute(key, valueLoader, false);
+        }
+        if (token != null) {
+            try {
+                return compute(key, valueLoader, true);
+            } finally {
+                loadLock.release(name, localKey, token);
+            }
+        }
+
+        // Another node is computing this entry; wait for it to land rather than repeat the work
+        long deadline = System.nanoTime() + loadLock.getLeaseTime().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            CacheEnvelope landed = lookupRemote(key);
+            if (landed != null) {
+                local.put(localKey, landed);
+                sharedLoads.increment();
+                return landed.getValue();
+            }
+        }
+        // The holder is slow or died; answer this request ourselves
+        return compute(key, valueLoader, true);
+    }
+
+    private Object refreshEarly(Object key, Callable<?> valueLoader, CacheEnvelope current) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(localKey, flight) != null) {
+            return current.getValue();
+        }
+        try {
+            String token = loadLock.tryAcquire(name, localKey);
+            if (token == null) {
+                return current.getValue(); // another node is already refreshing it
+            }
+            try {
+                Object value = compute(key, valueLoader, true);
+                earlyRefreshes.increment();
+                flight.complete(value);
+                return value;
+            } finally {
+                loadLock.release(name, localKey, token);
+            }
+        } catch (RuntimeException e) {
+            // The current value is still valid until it expires
+            log.debug("Early refresh of {}::{} failed: {}", name, localKey, e.getMessage());
+            return current.getValue();
+        } finally {
+            flight.complete(current.getValue());
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    private Object compute(Object key, Callable<?> valueLoader, boolean storeRemotely) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        computedLoads.increment();
+        if (value != null) {
+            long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (storeRemotely) {
+                try {
+                    store(key, value, computeMillis);
+                } catch (RuntimeException e) {
+                    log.warn("Cache put error for key: {} in cache: {}.", key, name, e);
+                }
+            }
+        }
+        return value;
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
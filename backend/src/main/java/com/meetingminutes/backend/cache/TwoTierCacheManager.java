@@ -0,0 +1,89 @@
+package com.meetingminutes.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the Redis cache manager in a {@link TwoTierCache} with its own bounded
+ * Caffeine near-cache, and routes broadcast invalidations to the right one.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remote;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final CacheLoadLock loadLock;
+    private final CacheDependencyIndex dependencyIndex;
+    private final double earlyRefreshBeta;
+    private final MeterRegistry meterRegistry;
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remote,
+                               CacheInvalidationBroadcaster broadcaster,
+                               CacheLoadLock loadLock,
+                               CacheDependencyIndex dependencyIndex,
+                               double earlyRefreshBeta,
+                               MeterRegistry meterRegistry,
+                               long maximumSize,
+                               Duration expireAfterWrite) {
+        this.remote = remote;
+        this.broadcaster = broadcaster;
+        this.loadLock = loadLock;
+        this.dependencyIndex = dependencyIndex;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.meterRegistry = meterRegistry;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+
+        broadcaster.onInvalidation(invalidation -> {
+            TwoTierCache cache = caches.get(invalidation.cacheName());
+            if (cache == null) {
+                return;
+            }
+            if (invalidation.isClear()) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(invalidation.key());
+            }
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remote.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        RedisCacheWriter.TtlFunction ttlFunction = remoteCache instanceof RedisCache redisCache
+                ? redisCache.getCacheConfiguration().getTtlFunction()
+                : (key, value) -> Duration.ZERO;
+        return caches.computeIfAbsent(name, cacheName -> new TwoTierCache(cacheName,
+                // Shorter than the Redis TTL so a lost invalidation heals on its own
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(expireAfterWrite)
+                        .build(),
+                remoteCache, ttlFunction, broadcaster, loadLock, dependencyIndex, earlyRefreshBeta,
+                meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remote.getCacheNames();
+    }
+}
@@ -0,0 +1,99 @@
+package com.meetingminutes.backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Cache value serializer that prefixes every payload with a three-byte header (magic, format version,
+ * codec) so nodes on different releases can share Redis during a rolling deploy. Values are written
+ * with the configured codec and read with whichever codec the header names; headerless values are
+ * JSON written before the header existed, and values from an unknown version read as a cache miss.
+ * Version 2 marks a {@link CacheEnvelope} payload, so nodes that predate envelopes skip it instead of
+ * handing an envelope to a caller expecting the bare value.
+ */
+@Slf4j
+public class VersionedCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xCA;
+    static final byte FORMAT_VERSION = 1;
+    static final byte ENVELOPE_VERSION = 2;
+    static final int HEADER_LENGTH = 3;
+
+    public enum Codec {
+        JSON((byte) 1),
+        SMILE((byte) 2);
+
+        private final byte id;
+
+        Codec(byte id) {
+            this.id = id;
+        }
+
+        static Codec fromId(byte id) {
+            for (Codec codec : values()) {
+                if (codec.id == id) {
+                    return codec;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final Codec writeCodec;
+
+    /**
+     * Both mappers must carry the same default typing so either can read what the other wrote
+     */
+    public VersionedCacheSerializer(ObjectMapper jsonMapper, ObjectMapper smileMapper, Codec writeCodec) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = smileMapper;
+        this.writeCodec = writeCodec;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            byte[] payload = mapper(writeCodec).writeValueAsBytes(value);
+            byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+            bytes[0] = MAGIC;
+            bytes[1] = value instanceof CacheEnvelope ? ENVELOPE_VERSION : FORMAT_VERSION;
+            bytes[2] = writeCodec.id;
+            System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+            return bytes;
+        } catch (Exception e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            if (bytes[0] != MAGIC) {
+                // Written by a release without the header; those were always typed JSON
+                return jsonMapper.readValue(bytes, Object.class);
+            }
+            Codec codec = bytes.length >= HEADER_LENGTH ? Codec.fromId(bytes[2]) : null;
+            if ((bytes[1] != FORMAT_VERSION && bytes[1] != ENVELOPE_VERSION) || codec == null) {
+                log.debug("Ignoring cache value with unknown format {}/{}", bytes[1], bytes.length >= HEADER_LENGTH ? bytes[2] : -1);
+                return null;
+            }
+            return mapper(codec).readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, Object.class);
+        } catch (Exception e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    private ObjectMapper mapper(Codec codec) {
+        return codec == Codec.SMILE ? smileMapper : jsonMapper;
+    }
+}
@@ -1,5 +1,13 @@
 package com.meetingminutes.backend.config;
 
+import com.meetingminutes.backend.cache.CacheDependencyIndex;
+import com.meetingminutes.backend.cache.CacheInvalidationBroadcaster;
+import com.meetingminutes.backend.cache.CacheLoadLock;
+import com.meetingminutes.backend.cache.TwoTierCacheManager;
+import com.meetingminutes.backend.cache.VersionedCacheSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.interceptor.CacheErrorHandler;
@@ -9,14 +17,19 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.cache.Cache;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,19 +40,80 @@ import java.time.Duration;
 @EnableCaching
 public class CacheConfig implements CachingConfigurer {
 
+    // Entries are evicted by domain events (see CacheInvalidationService), so TTLs only bound staleness from
+    // changes that publish nothing, such as meetings drifting from upcoming to past
+    private static final Duration MEETINGS_TTL = Duration.ofMinutes(30);
+    private static final Duration USER_PROFILES_TTL = Duration.ofHours(1);
+    private static final Duration ANALYTICS_TTL = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+
+    @Value("${app.cache.local.enabled:true}")
+    private boolean localCacheEnabled;
+
+    @Value("${app.cache.local.maximum-size:2000}")
+    private long localCacheMaximumSize;
+
+    @Value("${app.cache.local.expire-after-write-seconds:60}")
+    private long localCacheExpireAfterWriteSeconds;
+
+    @Value("${app.cache.load-lock-lease-ms:5000}")
+    private long loadLockLeaseMs;
+
+    @Value("${app.cache.early-refresh-beta:1.0}")
+    private double earlyRefreshBeta;
+
+    @Value("${app.cache.codec:json}")
+    private String cacheCodec;
+
+    @Value("${app.cache.invalidation-channel:cache-invalidation}")
+    private String invalidationChannel;
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
-                .allowIfBaseType(Object.class)
-                .build();
-        objectMapper.activateDefaultTyping(ptv, DefaultTyping.NON_FINAL);
-        
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    public CacheInvalidationBroadcaster cacheInvalidationBroadcaster(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationBroadcaster(stringRedisTemplate, invalidationChannel);
+    }
+
+    /**
+     * Subscribes this node to near-cache invalidations published by the others
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           CacheInvalidationBroadcaster broadcaster) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(invalidationChannel));
+        return container;
+    }
+
+    @Bean
+    public CacheDependencyIndex cacheDependencyIndex(StringRedisTemplate stringRedisTemplate) {
+        return new CacheDependencyIndex(stringRedisTemplate, USER_PROFILES_TTL);
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     CacheInvalidationBroadcaster broadcaster,
+                                     CacheDependencyIndex dependencyIndex,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     MeterRegistry meterRegistry) {
+        CacheLoadLock loadLock = new CacheLoadLock(stringRedisTemplate, Duration.ofMillis(loadLockLeaseMs));
+        // With the near-cache disabled the two-tier wrapper still provides single-flight loads and dependency tracking
+        return new TwoTierCacheManager(redisCacheManager(connectionFactory), broadcaster, loadLock, dependencyIndex,
+                earlyRefreshBeta, meterRegistry, localCacheEnabled ? localCacheMaximumSize : 0,
+                Duration.ofSeconds(localCacheExpireAfterWriteSeconds));
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        VersionedCacheSerializer serializer = new VersionedCacheSerializer(
+                cacheObjectMapper(new JsonFactory()),
+                cacheObjectMapper(SmileFactory.builder()
+                        // Type ids repeat on every nested DTO; let Smile back-reference them
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build()),
+                VersionedCacheSerializer.Codec.valueOf(cacheCodec.trim().toUpperCase()));
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(30))
+                .entryTtl(DEFAULT_TTL)
                 .disableCachingNullValues()
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair
@@ -48,15 +122,31 @@ public class CacheConfig implements CachingConfigurer {
                         RedisSerializationContext.SerializationPair
                                 .fromSerializer(serializer));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withCacheConfiguration("meetings", defaultConfig
-                        .entryTtl(Duration.ofMinutes(10)))
+                        .entryTtl(MEETINGS_TTL))
                 .withCacheConfiguration("userProfiles", defaultConfig
-                        .entryTtl(Duration.ofHours(1)))
+                        .entryTtl(USER_PROFILES_TTL))
                 .withCacheConfiguration("analytics", defaultConfig
-                        .entryTtl(Duration.ofMinutes(5)))
+                        .entryTtl(ANALYTICS_TTL))
                 .build();
+        // Not a bean any more, so the initialization Spring would have done is done here
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    /**
+     * Typed mapper for cache values over the given format; JSON and Smile share this so each reads the other's type ids
+     */
+    public static ObjectMapper cacheObjectMapper(JsonFactory factory) {
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        objectMapper.registerModule(new JavaTimeModule());
+        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
+                .allowIfBaseType(Object.class)
+                .build();
+        objectMapper.activateDefaultTyping(ptv, DefaultTyping.NON_FINAL);
+        return objectMapper;
     }
 
     @Override
@@ -2,19 +2,31 @@ package com.meetingminutes.backend.config;
 
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.data.mongodb.core.index.TextIndexDefinition;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
+@DependsOn("entityManagerFactory") // Hibernate must have created the tables before indexes and triggers
 @Slf4j
 public class DatabaseIndexConfig {
 
+    private static final String TRANSCRIPTS_TEXT_INDEX = "transcripts_text";
+    private static final String EXTRACTIONS_TEXT_INDEX = "ai_extractions_text";
+
     private final JdbcTemplate jdbcTemplate;
     private final MongoTemplate mongoTemplate;
 
+    @Value("${app.dashboard.rollups.enabled:true}")
+    private boolean rollupsEnabled;
+
     public DatabaseIndexConfig(MongoTemplate mongoTemplate, JdbcTemplate jdbcTemplate) {
         this.mongoTemplate = mongoTemplate;
         this.jdbcTemplate = jdbcTemplate;
@@ -31,9 +43,390 @@ public class DatabaseIndexConfig {
     @PostConstruct
     public void createIndexes() {
         createPostgreSQLIndexes();
+        createMeetingAccessTable();
+        createDashboardRollupTables();
+        createAnalyticsViews();
+        createSuggestionIndexes();
         createMongoDBIndexes();
     }
 
+    /**
+     * Denormalized (user, meeting) access table kept in sync by triggers on meetings and attendees,
+     * so list, search and dashboard queries scan one index instead of the creator-OR-attendee subquery
+     */
+    private void createMeetingAccessTable() {
+        try {
+            jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS meeting_access (
+                    user_id UUID NOT NULL,
+                    meeting_id UUID NOT NULL,
+                    role VARCHAR(16) NOT NULL,
+                    created_at TIMESTAMP,
+                    scheduled_time TIMESTAMP,
+                    status VARCHAR(32),
+                    PRIMARY KEY (user_id, meeting_id)
+                )
+            """);
+            // Schemas where Hibernate generated this table carry enum check constraints that would reject new statuses
+            jdbcTemplate.execute("ALTER TABLE meeting_access DROP CONSTRAINT IF EXISTS meeting_access_role_check");
+            jdbcTemplate.execute("ALTER TABLE meeting_access DROP CONSTRAINT IF EXISTS meeting_access_status_check");
+
+            // Keyset pagination orders by (sort key, meeting_id) in one direction, so both columns share it
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meeting_access_user_created_id ON meeting_access(user_id, created_at, meeting_id)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meeting_access_user_scheduled ON meeting_access(user_id, scheduled_time)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meeting_access_user_scheduled_id ON meeting_access(user_id, COALESCE(scheduled_time, TIMESTAMP '1970-01-01 00:00:00'), meeting_id)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meeting_access_user_status_id ON meeting_access(user_id, status, meeting_id)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meeting_access_meeting ON meeting_access(meeting_id)");
+
+            // Recomputes the single row for one (meeting, user) pair from the source tables
+            jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION refresh_meeting_access(p_meeting_id UUID, p_user_id UUID) RETURNS void AS $$
+                BEGIN
+                    IF p_meeting_id IS NULL OR p_user_id IS NULL THEN
+                        RETURN;
+                    END IF;
+                    DELETE FROM meeting_access WHERE meeting_id = p_meeting_id AND user_id = p_user_id;
+                    INSERT INTO meeting_access (user_id, meeting_id, role, created_at, scheduled_time, status)
+                    SELECT p_user_id, m.id,
+                           CASE WHEN m.created_by = p_user_id THEN 'ORGANIZER' ELSE 'ATTENDEE' END,
+                           m.created_at, m.scheduled_time, m.status
+                    FROM meetings m
+                    WHERE m.id = p_meeting_id
+                      AND (m.created_by = p_user_id
+                           OR EXISTS (SELECT 1 FROM attendees a WHERE a.meeting_id = p_meeting_id AND a.user_id = p_user_id));
+                END;
+                $$ LANGUAGE plpgsql
+            """);
+
+            jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION meetings_meeting_access_trigger() RETURNS trigger AS $$
+                BEGIN
+                    IF TG_OP = 'DELETE' THEN
+                        DELETE FROM meeting_access WHERE meeting_id = OLD.id;
+                        RETURN OLD;
+                    END IF;
+                    IF TG_OP = 'INSERT' THEN
+                        PERFORM refresh_meeting_access(NEW.id, NEW.created_by);
+                        RETURN NEW;
+                    END IF;
+                    IF NEW.created_by IS DISTINCT FROM OLD.created_by THEN
+                        PERFORM refresh_meeting_access(NEW.id, OLD.created_by);
+                        PERFORM refresh_meeting_access(NEW.id, NEW.created_by);
+                    END IF;
+                    IF NEW.created_at IS DISTINCT FROM OLD.created_at
+                       OR NEW.scheduled_time IS DISTINCT FROM OLD.scheduled_time
+                       OR NEW.status IS DISTINCT FROM OLD.status THEN
+                        UPDATE meeting_access
+                        SET created_at = NEW.created_at, scheduled_time = NEW.scheduled_time, status = NEW.status
+                        WHERE meeting_id = NEW.id;
+                    END IF;
+                    RETURN NEW;
+                END;
+                $$ LANGUAGE plpgsql
+            """);
+
+            jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION attendees_meeting_access_trigger() RETURNS trigger AS $$
+                BEGIN
+                    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+                        PERFORM refresh_meeting_access(OLD.meeting_id, OLD.user_id);
+                    END IF;
+                    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+                        PERFORM refresh_meeting_access(NEW.meeting_id, NEW.user_id);
+                        RETURN NEW;
+                    END IF;
+                    RETURN OLD;
+                END;
+                $$ LANGUAGE plpgsql
+            """);
+
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_meetings_meeting_access ON meetings");
+            jdbcTemplate.execute("""
+                CREATE TRIGGER trg_meetings_meeting_access
+                AFTER INSERT OR UPDATE OR DELETE ON meetings
+                FOR EACH ROW EXECUTE FUNCTION meetings_meeting_access_trigger()
+            """);
+
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_attendees_meeting_access ON attendees");
+            jdbcTemplate.execute("""
+                CREATE TRIGGER trg_attendees_meeting_access
+                AFTER INSERT OR UPDATE OF meeting_id, user_id OR DELETE ON attendees
+                FOR EACH ROW EXECUTE FUNCTION attendees_meeting_access_trigger()
+            """);
+
+            // Backfill rows for data written before the triggers existed
+            int backfilled = jdbcTemplate.update("""
+                INSERT INTO meeting_access (user_id, meeting_id, role, created_at, scheduled_time, status)
+                SELECT p.user_id, m.id,
+                       CASE WHEN m.created_by = p.user_id THEN 'ORGANIZER' ELSE 'ATTENDEE' END,
+                       m.created_at, m.scheduled_time, m.status
+                FROM meetings m
+                JOIN (SELECT id AS meeting_id, created_by AS user_id FROM meetings
+                      UNION
+                      SELECT meeting_id, user_id FROM attendees WHERE user_id IS NOT NULL) p
+                  ON p.meeting_id = m.id
+                ON CONFLICT (user_id, meeting_id) DO NOTHING
+            """);
+            if (backfilled > 0) {
+                log.info("Backfilled {} meeting_access row(s)", backfilled);
+            }
+
+            log.info("meeting_access table and triggers created successfully");
+        } catch (Exception e) {
+            // Every list, count and search reads meeting_access; running without it would silently show nothing
+            throw new IllegalStateException("Failed to set up meeting_access: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Per-user meeting counts by (role, status) and by creation day, kept in step with meeting_access by a
+     * statement-level trigger in the same transaction, so the dashboard reads a handful of primary-key rows
+     */
+    private void createDashboardRollupTables() {
+        try {
+            jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS dashboard_status_rollup (
+                    user_id UUID NOT NULL,
+                    role VARCHAR(16) NOT NULL,
+                    status VARCHAR(32) NOT NULL,
+                    meeting_count BIGINT NOT NULL,
+                    PRIMARY KEY (user_id, role, status)
+                )
+            """);
+            jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS dashboard_daily_rollup (
+                    user_id UUID NOT NULL,
+                    day DATE NOT NULL,
+                    meeting_count BIGINT NOT NULL,
+                    PRIMARY KEY (user_id, day)
+                )
+            """);
+
+            // Deltas are summed per key and applied in key order, so statements touching many users (a status
+            // change fans out to every attendee) always lock rollup rows in the same order and cannot deadlock
+            jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION apply_dashboard_rollup(p_deltas JSONB) RETURNS void AS $$
+                BEGIN
+                    IF p_deltas IS NULL THEN
+                        RETURN;
+                    END IF;
+                    INSERT INTO dashboard_status_rollup (user_id, role, status, meeting_count)
+                    SELECT d.user_id, d.role, COALESCE(d.status, 'UNKNOWN'), SUM(d.delta)
+                    FROM jsonb_to_recordset(p_deltas) AS d(user_id UUID, role VARCHAR, status VARCHAR, created_at TIMESTAMP, delta INT)
+                    GROUP BY 1, 2, 3
+                    HAVING SUM(d.delta) <> 0
+                    ORDER BY 1, 2, 3
+                    ON CONFLICT (user_id, role, status)
+                    DO UPDATE SET meeting_count = dashboard_status_rollup.meeting_count + EXCLUDED.meeting_count;
+
+                    INSERT INTO dashboard_daily_rollup (user_id, day, meeting_count)
+                    SELECT d.user_id, CAST(d.created_at AS date), SUM(d.delta)
+                    FROM jsonb_to_recordset(p_deltas) AS d(user_id UUID, role VARCHAR, status VARCHAR, created_at TIMESTAMP, delta INT)
+                    WHERE d.created_at IS NOT NULL
+                    GROUP BY 1, 2
+                    HAVING SUM(d.delta) <> 0
+                    ORDER BY 1, 2
+                    ON CONFLICT (user_id, day)
+                    DO UPDATE SET meeting_count = dashboard_daily_rollup.meeting_count + EXCLUDED.meeting_count;
+                END;
+                $$ LANGUAGE plpgsql
+            """);
+
+            jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION meeting_access_rollup_trigger() RETURNS trigger AS $$
+                BEGIN
+                    IF TG_OP = 'INSERT' THEN
+                        PERFORM apply_dashboard_rollup((SELECT jsonb_agg(d) FROM (
+                            SELECT user_id, role, status, created_at, 1 AS delta FROM new_rows) d));
+                    ELSIF TG_OP = 'DELETE' THEN
+                        PERFORM apply_dashboard_rollup((SELECT jsonb_agg(d) FROM (
+                            SELECT user_id, role, status, created_at, -1 AS delta FROM old_rows) d));
+                    ELSE
+                        PERFORM apply_dashboard_rollup((SELECT jsonb_agg(d) FROM (
+                            SELECT user_id, role, status, created_at, -1 AS delta FROM old_rows
+                            UNION ALL
+                            SELECT user_id, role, status, created_at, 1 AS delta FROM new_rows) d));
+                    END IF;
+                    RETURN NULL;
+                END;
+                $$ LANGUAGE plpgsql
+            """);
+
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_meeting_access_rollup_insert ON meeting_access");
+            jdbcTemplate.execute("""
+                CREATE TRIGGER trg_meeting_access_rollup_insert
+                AFTER INSERT ON meeting_access REFERENCING NEW TABLE AS new_rows
+                FOR EACH STATEMENT EXECUTE FUNCTION meeting_access_rollup_trigger()
+            """);
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_meeting_access_rollup_update ON meeting_access");
+            jdbcTemplate.execute("""
+                CREATE TRIGGER trg_meeting_access_rollup_update
+                AFTER UPDATE ON meeting_access REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+                FOR EACH STATEMENT EXECUTE FUNCTION meeting_access_rollup_trigger()
+            """);
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_meeting_access_rollup_delete ON meeting_access");
+            jdbcTemplate.execute("""
+                CREATE TRIGGER trg_meeting_access_rollup_delete
+                AFTER DELETE ON meeting_access REFERENCING OLD TABLE AS old_rows
+                FOR EACH STATEMENT EXECUTE FUNCTION meeting_access_rollup_trigger()
+            """);
+
+            // Recount from meeting_access with writers held off; the function body runs as one transaction
+            jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION rebuild_dashboard_rollups() RETURNS void AS $$
+                BEGIN
+                    LOCK TABLE meeting_access IN SHARE MODE;
+                    DELETE FROM dashboard_status_rollup;
+                    DELETE FROM dashboard_daily_rollup;
+                    INSERT INTO dashboard_status_rollup (user_id, role, status, meeting_count)
+                    SELECT user_id, role, COALESCE(status, 'UNKNOWN'), COUNT(*)
+                    FROM meeting_access
+                    GROUP BY 1, 2, 3;
+                    INSERT INTO dashboard_daily_rollup (user_id, day, meeting_count)
+                    SELECT user_id, CAST(created_at AS date), COUNT(*)
+                    FROM meeting_access
+                    WHERE created_at IS NOT NULL
+                    GROUP BY 1, 2;
+                    INSERT INTO dashboard_rollup_state (id, built_at, rebuild_requested)
+                    VALUES (1, now(), FALSE)
+                    ON CONFLICT (id) DO UPDATE SET built_at = EXCLUDED.built_at, rebuild_requested = FALSE;
+                END;
+                $$ LANGUAGE plpgsql
+            """);
+
+            // The triggers keep the rollups exact once built, so the locking recount only runs the first time (rows
+            // written before the triggers existed) or when someone sets rebuild_requested after repairing drift.
+            // Restarts otherwise never block writes to meeting_access.
+            jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS dashboard_rollup_state (
+                    id INT PRIMARY KEY CHECK (id = 1),
+                    built_at TIMESTAMP NOT NULL,
+                    rebuild_requested BOOLEAN NOT NULL DEFAULT FALSE
+                )
+            """);
+            jdbcTemplate.execute("""
+                CREATE OR REPLACE FUNCTION rebuild_dashboard_rollups_if_needed() RETURNS boolean AS $$
+                BEGIN
+                    IF EXISTS (SELECT 1 FROM dashboard_rollup_state WHERE NOT rebuild_requested) THEN
+                        RETURN FALSE;
+                    END IF;
+                    PERFORM rebuild_dashboard_rollups();
+                    RETURN TRUE;
+                END;
+                $$ LANGUAGE plpgsql
+            """);
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT rebuild_dashboard_rollups_if_needed()", Boolean.class))) {
+                log.info("Rebuilt dashboard rollups from meeting_access");
+            }
+
+            log.info("Dashboard rollup tables and triggers created successfully");
+        } catch (Exception e) {
+            if (rollupsEnabled) {
+                // Dashboards read these tables while rollups are enabled; without them every request would fail
+                throw new IllegalStateException("Failed to set up dashboard rollups: " + e.getMessage(), e);
+            }
+            log.warn("Failed to create dashboard rollup tables: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Materialized analytics refreshed off the request path by AnalyticsViewRefresher. Each view holds one row set
+     * per organizer plus an institution-wide set under the nil UUID (GROUPING SETS), and has the unique index
+     * REFRESH ... CONCURRENTLY needs. Views are created populated once; later definition changes need a drop.
+     */
+    private void createAnalyticsViews() {
+        try {
+            jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS analytics_view_refresh (
+                    view_name VARCHAR(64) PRIMARY KEY,
+                    refreshed_at TIMESTAMP NOT NULL,
+                    duration_ms BIGINT
+                )
+            """);
+
+            jdbcTemplate.execute("""
+                CREATE MATERIALIZED VIEW IF NOT EXISTS mv_top_participants AS
+                SELECT COALESCE(p.organizer_id, '00000000-0000-0000-0000-000000000000'::uuid) AS organizer_id,
+                       p.user_id, u.name, u.email, p.meeting_count
+                FROM (
+                    SELECT m.created_by AS organizer_id, a.user_id, COUNT(a.id) AS meeting_count
+                    FROM attendees a
+                    JOIN meetings m ON a.meeting_id = m.id
+                    WHERE a.user_id IS NOT NULL
+                    GROUP BY GROUPING SETS ((m.created_by, a.user_id), (a.user_id))
+                ) p
+                JOIN users u ON u.id = p.user_id
+            """);
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uq_mv_top_participants ON mv_top_participants(organizer_id, user_id)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_mv_top_participants_rank ON mv_top_participants(organizer_id, meeting_count DESC)");
+
+            jdbcTemplate.execute("""
+                CREATE MATERIALIZED VIEW IF NOT EXISTS mv_monthly_meeting_trend AS
+                SELECT COALESCE(created_by, '00000000-0000-0000-0000-000000000000'::uuid) AS organizer_id,
+                       CAST(date_trunc('month', created_at) AS date) AS month,
+                       COUNT(*) AS meeting_count,
+                       COUNT(*) FILTER (WHERE status = 'PROCESSED') AS processed_count
+                FROM meetings
+                WHERE created_at IS NOT NULL
+                GROUP BY GROUPING SETS ((created_by, date_trunc('month', created_at)), (date_trunc('month', created_at)))
+            """);
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uq_mv_monthly_meeting_trend ON mv_monthly_meeting_trend(organizer_id, month)");
+
+            jdbcTemplate.execute("""
+                CREATE MATERIALIZED VIEW IF NOT EXISTS mv_task_completion AS
+                SELECT COALESCE(m.created_by, '00000000-0000-0000-0000-000000000000'::uuid) AS organizer_id,
+                       CAST(date_trunc('month', m.created_at) AS date) AS month,
+                       COUNT(*) AS total_tasks,
+                       COUNT(*) FILTER (WHERE ai.status = 'COMPLETED') AS completed_tasks,
+                       COUNT(*) FILTER (WHERE ai.status = 'OVERDUE') AS overdue_tasks
+                FROM action_items ai
+                JOIN meetings m ON m.id = ai.meeting_id
+                WHERE ai.status <> 'DRAFT' AND m.created_at IS NOT NULL
+                GROUP BY GROUPING SETS ((m.created_by, date_trunc('month', m.created_at)), (date_trunc('month', m.created_at)))
+            """);
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uq_mv_task_completion ON mv_task_completion(organizer_id, month)");
+
+            // Views created just now are populated; record that so freshness is never unknown
+            jdbcTemplate.update("""
+                INSERT INTO analytics_view_refresh (view_name, refreshed_at)
+                SELECT matviewname, now() FROM pg_matviews
+                WHERE matviewname IN ('mv_top_participants', 'mv_monthly_meeting_trend', 'mv_task_completion')
+                ON CONFLICT (view_name) DO NOTHING
+            """);
+
+            log.info("Analytics materialized views created successfully");
+        } catch (Exception e) {
+            log.warn("Failed to create analytics materialized views: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Trigram indexes for partial-word suggestions and the per-meeting transcript term table
+     */
+    private void createSuggestionIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meetings_title_trgm ON meetings USING gin (title gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meeting_series_title_trgm ON meeting_series USING gin (title gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (name gin_trgm_ops)");
+
+            jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS transcript_terms (
+                    meeting_id UUID NOT NULL REFERENCES meetings(id) ON DELETE CASCADE,
+                    term VARCHAR(64) NOT NULL,
+                    frequency INT NOT NULL,
+                    PRIMARY KEY (meeting_id, term)
+                )
+            """);
+            // Prefix lookups within the user's meetings, whatever the database collation
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_transcript_terms_meeting_prefix ON transcript_terms(meeting_id, term text_pattern_ops)");
+
+            log.info("Suggestion indexes created successfully");
+        } catch (Exception e) {
+            log.warn("Failed to create suggestion indexes: {}", e.getMessage());
+        }
+    }
+
     private void createPostgreSQLIndexes() {
         try {
             // Full-text search indexes
@@ -50,6 +443,12 @@ public class DatabaseIndexConfig {
             jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meetings_scheduled_time ON meetings(scheduled_time)");
             jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meetings_created_at ON meetings(created_at DESC)");
             jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meetings_series_status ON meetings(series_id, status)");
+            // Keyset walk over transcribed meetings when the flag is reconciled against Mongo
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_meetings_has_transcript ON meetings(id) WHERE has_transcript");
+
+            // Per-meeting child lookups; the dashboard counters join these from the user's meetings
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_attendees_meeting ON attendees(meeting_id)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_action_items_meeting_status ON action_items(meeting_id, status)");
 
             // Composite indexes for search performance
             jdbcTemplate.execute("""
@@ -74,32 +473,41 @@ public class DatabaseIndexConfig {
 
     private void createMongoDBIndexes() {
         try {
-            // Text search index for transcripts
-            TextIndexDefinition textIndex = new TextIndexDefinition.TextIndexDefinitionBuilder()
-                    .onField("rawText")
-                    .onField("wordTimestamps.word")
-                    .build();
-
-            mongoTemplate.indexOps("transcripts").createIndex(textIndex);
+            // Text search index for transcripts. Field names are the stored ones; indexOps() does not map properties.
+            ensureTextIndex("transcripts", new TextIndexDefinition.TextIndexDefinitionBuilder()
+                    .named(TRANSCRIPTS_TEXT_INDEX)
+                    .onField("raw_text")
+                    .onField("word_timestamps.word")
+                    .build());
 
             // Regular indexes for performance
             mongoTemplate.indexOps("transcripts").createIndex(
-                    new org.springframework.data.mongodb.core.index.Index().on("meetingId", org.springframework.data.domain.Sort.Direction.ASC)
+                    new org.springframework.data.mongodb.core.index.Index().on("created_at", org.springframework.data.domain.Sort.Direction.DESC)
             );
-
+            // Each node's search and similarity indexes catch up on transcripts and extractions by update time
             mongoTemplate.indexOps("transcripts").createIndex(
-                    new org.springframework.data.mongodb.core.index.Index().on("createdAt", org.springframework.data.domain.Sort.Direction.DESC)
+                    new org.springframework.data.mongodb.core.index.Index().on("updated_at", org.springframework.data.domain.Sort.Direction.ASC)
+            );
+            mongoTemplate.indexOps("ai_extractions").createIndex(
+                    new org.springframework.data.mongodb.core.index.Index().on("updated_at", org.springframework.data.domain.Sort.Direction.ASC)
             );
 
             // Text search index for AI extractions
-            TextIndexDefinition extractionIndex = new TextIndexDefinition.TextIndexDefinitionBuilder()
-                    .onField("extractedData.decisions.topic")
-                    .onField("extractedData.decisions.decision")
-                    .onField("extractedData.actionItems.description")
-                    .onField("extractedData.topicsDiscussed.summary")
-                    .build();
+            ensureTextIndex("ai_extractions", new TextIndexDefinition.TextIndexDefinitionBuilder()
+                    .named(EXTRACTIONS_TEXT_INDEX)
+                    .onField("extracted_data.decisions.topic")
+                    .onField("extracted_data.decisions.decision")
+                    .onField("extracted_data.actionItems.description")
+                    .onField("extracted_data.topicsDiscussed.summary")
+                    .build());
 
-            mongoTemplate.indexOps("ai_extractions").createIndex(extractionIndex);
+            // Latest-version lookups and retention compaction walk documents in this order
+            mongoTemplate.indexOps("generated_documents").createIndex(
+                    new org.springframework.data.mongodb.core.index.Index()
+                            .on("meeting_id", org.springframework.data.domain.Sort.Direction.ASC)
+                            .on("document_type", org.springframework.data.domain.Sort.Direction.ASC)
+                            .on("version", org.springframework.data.domain.Sort.Direction.DESC)
+            );
 
             log.info("MongoDB indexes created successfully");
         } catch (Exception e) {
@@ -107,4 +515,22 @@ public class DatabaseIndexConfig {
         }
     }
 
+    /**
+     * A collection can hold only one text index, so drop any other one (such as an earlier index
+     * built on unmapped property names) before creating the named index
+     */
+    private void ensureTextIndex(String collection, TextIndexDefinition definition) {
+        IndexOperations indexOps = mongoTemplate.indexOps(collection);
+        String name = definition.getIndexOptions().getString("name");
+
+        for (IndexInfo info : indexOps.getIndexInfo()) {
+            boolean isText = info.getIndexFields().stream().anyMatch(IndexField::isText);
+            if (isText && !info.getName().equals(name)) {
+                log.info("Dropping outdated text index {} on {}", info.getName(), collection);
+                indexOps.dropIndex(info.getName());
+            }
+        }
+        indexOps.createIndex(definition);
+    }
+
 }
@@ -3,6 +3,7 @@ package com.meetingminutes.backend.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.StandardCacheManager;
 import org.thymeleaf.templatemode.TemplateMode;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 
@@ -17,6 +18,9 @@ public class ThymeleafTemplateConfig {
         templateResolver.setCharacterEncoding("UTF-8");
         templateResolver.setOrder(1);
         templateResolver.setCheckExistence(true);
+        // Keep parsed templates (minutes, emails) in memory for the lifetime of the app
+        templateResolver.setCacheable(true);
+        templateResolver.setCacheTTLMs(null);
         return templateResolver;
     }
 
@@ -24,6 +28,10 @@ public class ThymeleafTemplateConfig {
     public TemplateEngine emailTemplateEngine() {
         TemplateEngine templateEngine = new TemplateEngine();
         templateEngine.setTemplateResolver(emailTemplateResolver());
+
+        StandardCacheManager cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheMaxSize(50);
+        templateEngine.setCacheManager(cacheManager);
         return templateEngine;
     }
 }
@@ -9,7 +9,9 @@ import com.meetingminutes.backend.entity.TaskStatus;
 import com.meetingminutes.backend.entity.User;
 import com.meetingminutes.backend.service.ActionItemService;
 import com.meetingminutes.backend.service.UserService;
+import com.meetingminutes.backend.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -28,10 +30,16 @@ public class ActionItemController {
     @GetMapping("/my-tasks")
     public ResponseEntity<List<ActionItemResponse>> getMyTasks(
             @RequestParam(required = false) TaskStatus status,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Authentication authentication) {
         String email = authentication.getName();
         User user = userService.findByEmail(email);
 
+        String eTag = actionItemService.getUserTasksETag(user, status);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ETags.notModified(eTag);
+        }
+
         List<ActionItemResponse> responses;
         if (status != null) {
             responses = actionItemService.getUserTasksByStatus(user, status)
@@ -45,7 +53,7 @@ public class ActionItemController {
                     .toList();
         }
 
-        return ResponseEntity.ok(responses);
+        return ETags.ok(eTag, responses);
     }
 
     @PatchMapping("/{taskId}/status")
@@ -0,0 +1,99 @@
+package com.meetingminutes.backend.controller;
+
+import com.meetingminutes.backend.dto.AnalyticsViewResponse;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.entity.UserRole;
+import com.meetingminutes.backend.exception.ForbiddenException;
+import com.meetingminutes.backend.service.AnalyticsService;
+import com.meetingminutes.backend.service.UserService;
+import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Analytics served from materialized views. {@code institution=true} returns the institution-wide rows and is
+ * limited to admins; every response carries the refresh time of the view it was read from.
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final UserService userService;
+
+    @GetMapping("/top-participants")
+    @RateLimiter(name = "dashboardEndpoints")
+    public ResponseEntity<AnalyticsViewResponse> getTopParticipants(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean institution,
+            Authentication authentication) {
+        return read("mv_top_participants", institution, authentication,
+                scope -> analyticsService.getTopParticipants(scope, Math.max(1, Math.min(limit, 100))));
+    }
+
+    @GetMapping("/monthly-trend")
+    @RateLimiter(name = "dashboardEndpoints")
+    public ResponseEntity<AnalyticsViewResponse> getMonthlyTrend(
+            @RequestParam(defaultValue = "6") int months,
+            @RequestParam(defaultValue = "false") boolean institution,
+            Authentication authentication) {
+        return read("mv_monthly_meeting_trend", institution, authentication,
+                scope -> analyticsService.getMonthlyMeetingTrend(scope, Math.max(1, Math.min(months, 60))));
+    }
+
+    @GetMapping("/task-completion")
+    @RateLimiter(name = "dashboardEndpoints")
+    public ResponseEntity<AnalyticsViewResponse> getTaskCompletion(
+            @RequestParam(defaultValue = "6") int months,
+            @RequestParam(defaultValue = "false") boolean institution,
+            Authentication authentication) {
+        return read("mv_task_completion", institution, authentication,
+                scope -> analyticsService.getTaskCompletionTrend(scope, Math.max(1, Math.min(months, 60))));
+    }
+
+    /**
+     * Counters over the meetings the user organizes (meetings, tasks, participants, upcoming week) with the
+     * monthly trend; read live, so not tied to a view's refresh time
+     */
+    @GetMapping("/summary")
+    @RateLimiter(name = "dashboardEndpoints")
+    public ResponseEntity<Map<String, Object>> getSummary(Authentication authentication) {
+        User user = userService.findByEmail(authentication.getName());
+        return ResponseEntity.ok(analyticsService.getUserDashboardStats(user.getId()));
+    }
+
+    @GetMapping("/freshness")
+    public ResponseEntity<Map<String, LocalDateTime>> getFreshness() {
+        return ResponseEntity.ok(analyticsService.getViewFreshness());
+    }
+
+    private ResponseEntity<AnalyticsViewResponse> read(String view, boolean institution, Authentication authentication,
+                                                       Function<UUID, List<Map<String, Object>>> query) {
+        User user = userService.findByEmail(authentication.getName());
+        if (institution && user.getRole() != UserRole.ADMIN) {
+            log.warn("User {} requested institution-wide analytics from {}", user.getEmail(), view);
+            throw new ForbiddenException("Institution-wide analytics are limited to administrators");
+        }
+
+        UUID scope = institution ? AnalyticsService.INSTITUTION : user.getId();
+        return ResponseEntity.ok(AnalyticsViewResponse.builder()
+                .scope(institution ? "institution" : "user")
+                .rows(query.apply(scope))
+                .refreshedAt(analyticsService.getViewFreshness().get(view))
+                .build());
+    }
+}
@@ -1,6 +1,5 @@
 package com.meetingminutes.backend.controller;
 
-import com.meetingminutes.backend.document.AIExtraction;
 import com.meetingminutes.backend.document.GeneratedDocument;
 import com.meetingminutes.backend.document.Transcript;
 import com.meetingminutes.backend.dto.*;
@@ -10,26 +9,22 @@ import com.meetingminutes.backend.exception.ForbiddenException;
 import com.meetingminutes.backend.exception.EntityNotFoundException;
 import com.meetingminutes.backend.exception.ValidationException;
 import com.meetingminutes.backend.repository.*;
-import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
 import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
 import com.meetingminutes.backend.service.*;
+import com.meetingminutes.backend.util.ETags;
+import com.meetingminutes.backend.util.MeetingCursor;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.gridfs.GridFsResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -50,12 +45,16 @@ public class MeetingController {
     private final AttendeeService attendeeService;
     private final ActionItemService actionItemService;
     private final DocumentGenerationService documentGenerationService;
+    private final DocumentRenderCoordinator documentRenderCoordinator;
+    private final DocumentRegenerationQueue documentRegenerationQueue;
+    private final MeetingAccessService meetingAccessService;
+    private final MeetingDetailService meetingDetailService;
+    private final SimilarMeetingIndex similarMeetingIndex;
     private final UserService userService;
     private final AgendaItemRepo agendaItemRepo;
     private final AttendeeRepo attendeeRepo;
     private final ActionItemRepo actionItemRepo;
     private final TranscriptRepository transcriptRepository;
-    private final AIExtractionRepository aiExtractionRepository;
     private final MeetingRepository meetingRepository;
     private final MeetingSeriesRepo meetingSeriesRepo;
 
@@ -76,34 +75,51 @@ public class MeetingController {
     }
 
     @GetMapping("/{meetingId}")
-    @Cacheable(value = "meetings", key = "#meetingId")
-    public MeetingDetailResponse getMeeting(
+    public ResponseEntity<MeetingDetailResponse> getMeeting(
             @PathVariable UUID meetingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Authentication authentication) {
 
         String email = authentication.getName();
         User user = userService.findByEmail(email);
         log.debug("Fetching meeting: {} for user: {}", meetingId, user.getEmail());
 
-        Meeting meeting = meetingService.getMeeting(meetingId, user);
+        // Access is decided per viewer before the shared payload is touched
+        MeetingViewerResponse viewer = meetingDetailService.getViewer(meetingId, user);
+        if (!viewer.hasAccess()) {
+            if (!meetingRepository.existsById(meetingId)) {
+                throw new EntityNotFoundException("Meeting not found");
+            }
+            throw new ForbiddenException("Access denied to this meeting");
+        }
 
-        // Fetch all related data
-        List<AgendaItem> agendaItems = agendaItemRepo.findByMeetingIdOrderByOrderIndexAsc(meetingId);
-        List<Attendee> attendees = attendeeRepo.findByMeetingId(meetingId);
-        List<ActionItem> actionItems = actionItemRepo.findByMeetingIdOrderByCreatedAtAsc(meetingId);
+        // Pollers get a 304 from version stamps alone, without assembling the detail
+        String version = meetingDetailService.getVersion(meetingId);
+        String eTag = meetingDetailService.getETag(meetingId, user.getId(), version);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ETags.notModified(eTag);
+        }
 
-        // Fetch MongoDB data
-        Optional<Transcript> transcript = transcriptRepository.findByMeetingId(meetingId);
-        Optional<AIExtraction> aiExtraction = aiExtractionRepository.findByMeetingId(meetingId);
+        // The cached payload may predate a change its eviction has not reached yet (e.g. a background render);
+        // rebuild it rather than send an older body under the newer tag
+        VersionedMeetingDetail shared = meetingDetailService.getSharedDetail(meetingId);
+        if (!version.equals(shared.getVersion())) {
+            shared = meetingDetailService.reloadSharedDetail(meetingId);
+        }
+        return ETags.ok(meetingDetailService.getETag(meetingId, user.getId(), shared.getVersion()),
+                shared.getDetail().toBuilder().viewer(viewer).build());
+    }
 
-        // Fetch document URL
-        String minutesDocumentUrl = documentGenerationService.getDocumentUrl(meetingId);
+    @GetMapping("/{meetingId}/similar")
+    public ResponseEntity<List<MeetingSearchResult>> getSimilarMeetings(
+            @PathVariable UUID meetingId,
+            @RequestParam(defaultValue = "5") int limit,
+            Authentication authentication) {
 
-        MeetingDetailResponse response = convertToDetailResponse(
-                meeting, agendaItems, attendees, actionItems,
-                transcript.orElse(null), aiExtraction.orElse(null), minutesDocumentUrl);
+        User user = userService.findByEmail(authentication.getName());
+        Meeting meeting = meetingService.getMeeting(meetingId, user);
 
-        return response;
+        return ResponseEntity.ok(similarMeetingIndex.findSimilar(meeting, user, limit));
     }
 
     @PutMapping("/{meetingId}")
@@ -120,18 +136,7 @@ public class MeetingController {
         try {
             Meeting updatedMeeting = meetingService.updateMeeting(meetingId, request, user);
 
-            // Fetch updated related data
-            List<AgendaItem> agendaItems = agendaItemRepo.findByMeetingIdOrderByOrderIndexAsc(meetingId);
-            List<Attendee> attendees = attendeeRepo.findByMeetingId(meetingId);
-            List<ActionItem> actionItems = actionItemRepo.findByMeetingIdOrderByCreatedAtAsc(meetingId);
-
-            Optional<Transcript> transcript = transcriptRepository.findByMeetingId(meetingId);
-            Optional<AIExtraction> aiExtraction = aiExtractionRepository.findByMeetingId(meetingId);
-            String minutesDocumentUrl = documentGenerationService.getDocumentUrl(meetingId);
-
-            MeetingDetailResponse response = convertToDetailResponse(
-                    updatedMeeting, agendaItems, attendees, actionItems,
-                    transcript.orElse(null), aiExtraction.orElse(null), minutesDocumentUrl);
+            MeetingDetailResponse response = meetingDetailService.assemble(updatedMeeting);
 
             return ResponseEntity.ok(response);
 
@@ -243,6 +248,7 @@ public class MeetingController {
     @GetMapping("/{meetingId}/transcript")
     public ResponseEntity<ApiResponse<TranscriptResponse>> getMeetingTranscript(
             @PathVariable UUID meetingId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Authentication authentication) {
 
         String email = authentication.getName();
@@ -253,17 +259,18 @@ public class MeetingController {
             // Verify user has access to the meeting
             meetingService.getMeeting(meetingId, user);
 
-            log.info("Total transcripts in DB: {}", transcriptRepository.count());
-            log.info("Looking for transcript with meetingId type: {}, value: {}",
-                    meetingId.getClass().getSimpleName(), meetingId);
+            // Check the update time first so unchanged polls skip loading the text and word timestamps
+            Optional<Transcript> stamp = transcriptRepository.findUpdatedAtByMeetingId(meetingId);
+            String eTag = stamp.map(t -> ETags.weak(meetingId, t.getId(), t.getUpdatedAt())).orElse(null);
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return ETags.notModified(eTag);
+            }
 
             // Get transcript from MongoDB
-            Optional<Transcript> transcriptOpt = transcriptRepository.findByMeetingId(meetingId);
-
-            log.info("Looking for transcript with meetingId: {}", meetingId);
-            log.info("Transcript found: {}", transcriptOpt.isPresent());
-            transcriptOpt
-                    .ifPresent(t -> log.info("Transcript id: {}, meetingId stored: {}", t.getId(), t.getMeetingId()));
+            Optional<Transcript> transcriptOpt = stamp.isPresent()
+                    ? transcriptRepository.findByMeetingId(meetingId)
+                    : Optional.empty();
+            log.debug("Transcript found for meeting {}: {}", meetingId, transcriptOpt.isPresent());
 
             if (transcriptOpt.isEmpty()) {
                 ApiResponse<TranscriptResponse> response = ApiResponse.<TranscriptResponse>builder()
@@ -281,7 +288,7 @@ public class MeetingController {
                     .data(transcriptResponse)
                     .build();
 
-            return ResponseEntity.ok(response);
+            return ETags.ok(eTag, response);
 
         } catch (Exception e) {
             log.error("Failed to fetch transcript for meeting: {}", meetingId, e);
@@ -310,17 +317,15 @@ public class MeetingController {
                 throw new ForbiddenException("Only the meeting organizer can regenerate documents.");
             }
 
-            AIExtraction extraction = aiExtractionRepository.findByMeetingId(id).orElse(null);
-            
-            documentGenerationService.generateMinutesPDF(meeting, extraction, currentUser);
-            documentGenerationService.generateMinutesDOCX(meeting, extraction, currentUser);
+            // Coalesced per meeting and rendered in the background; completion is pushed over WebSocket
+            documentRegenerationQueue.enqueue(id);
 
             ApiResponse<Void> response = ApiResponse.<Void>builder()
                     .success(true)
-                    .message("Documents regenerated successfully")
+                    .message("Document regeneration queued")
                     .build();
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
         } catch (Exception e) {
             log.error("Failed to regenerate documents for meeting: {}", id, e);
             ApiResponse<Void> response = ApiResponse.<Void>builder()
@@ -331,93 +336,40 @@ public class MeetingController {
         }
     }
 
-    private MeetingDetailResponse convertToDetailResponse(
-            Meeting meeting,
-            List<AgendaItem> agendaItems,
-            List<Attendee> attendees,
-            List<ActionItem> actionItems,
-            Transcript transcript,
-            AIExtraction aiExtraction,
-            String minutesDocumentUrl) {
-
-        boolean hasOutdatedDocuments = false;
-        List<GeneratedDocument> docs = documentGenerationService.getMeetingDocuments(meeting.getId());
-        if (docs != null && !docs.isEmpty()) {
-            LocalDateTime latestDocTime = docs.stream()
-                    .map(GeneratedDocument::getGeneratedAt)
-                    .filter(Objects::nonNull)
-                    .max(LocalDateTime::compareTo)
-                    .orElse(null);
-            
-            if (latestDocTime != null) {
-                if (meeting.getUpdatedAt() != null && meeting.getUpdatedAt().isAfter(latestDocTime)) {
-                    hasOutdatedDocuments = true;
-                } else if (actionItems != null) {
-                    for (ActionItem item : actionItems) {
-                        if (item.getUpdatedAt() != null && item.getUpdatedAt().isAfter(latestDocTime)) {
-                            hasOutdatedDocuments = true;
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-
-        return MeetingDetailResponse.builder()
-                .id(meeting.getId())
-                .title(meeting.getTitle())
-                .description(meeting.getDescription())
-                .agendaText(meeting.getAgendaText())
-                .status(meeting.getStatus())
-                .scheduledTime(meeting.getScheduledTime())
-                .actualStartTime(meeting.getActualStartTime())
-                .actualEndTime(meeting.getActualEndTime())
-                .usePreviousContext(meeting.getUsePreviousContext())
-                .createdBy(UserResponse.from(meeting.getCreatedBy()))
-                .series(MeetingSeriesResponse.simpleFrom(meeting.getSeries()))
-
-                // Populate the previously null fields
-                .agendaItems(agendaItems != null ? agendaItems.stream()
-                        .map(AgendaItemResponse::from)
-                        .collect(Collectors.toList())
-                        : null)
-                .attendees(attendees != null ? attendees.stream()
-                        .map(AttendeeResponse::from)
-                        .collect(Collectors.toList())
-                        : null)
-                .actionItems(actionItems != null ? actionItems.stream()
-                        .map(ActionItemResponse::from)
-                        .collect(Collectors.toList())
-                        : null)
-                .transcriptId(transcript != null ? transcript.getId() : null)
-                .aiExtractionId(aiExtraction != null ? aiExtraction.getId() : null)
-                .minutesDocumentUrl(minutesDocumentUrl)
-                .hasOutdatedDocuments(hasOutdatedDocuments)
-
-                .createdAt(meeting.getCreatedAt())
-                .updatedAt(meeting.getUpdatedAt())
-                .build();
-    }
-
     @GetMapping
     public ResponseEntity<PaginatedResponse<MeetingSummaryResponse>> getUserMeetings(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
             Authentication authentication) {
 
         String email = authentication.getName();
         User user = userService.findByEmail(email);
-        log.debug("Fetching meetings for user: {}, page: {}, size: {}", user.getEmail(), page, size);
+        log.debug("Fetching meetings for user: {}, page: {}, size: {}, cursor: {}", user.getEmail(), page, size, cursor != null);
+
+        String sortField = switch (sortBy) {
+            case "title", "scheduledTime", "status" -> sortBy;
+            default -> "createdAt";
+        };
+        boolean ascending = direction.equalsIgnoreCase("asc");
 
-        Sort sort = direction.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        // A cursor continues from the previous page; page numbers are still honoured for older clients
+        MeetingCursor after = cursor != null && !cursor.isBlank()
+                ? MeetingCursor.decode(cursor, sortField, ascending, null)
+                : null;
+        int offset = after == null ? page * size : 0;
 
-        // Use repository with proper pagination
-        Page<Meeting> meetingsPage = meetingRepository.findByUserOrAttendee(user, pageable);
+        MeetingSlice slice = meetingRepository.findSlice(
+                user.getId(), MeetingListFilter.none(), sortField, ascending, after, offset, size);
 
-        List<MeetingSummaryResponse> summaryResponses = meetingsPage.getContent().stream()
+        long total = includeTotal
+                ? meetingRepository.countMatching(user.getId(), MeetingListFilter.none())
+                : meetingRepository.estimateMatching(user.getId(), MeetingListFilter.none());
+
+        List<MeetingSummaryResponse> summaryResponses = slice.content().stream()
                 .map(this::convertToSummaryResponse)
                 .toList();
 
@@ -425,9 +377,12 @@ public class MeetingController {
                 .data(summaryResponses)
                 .page(page)
                 .size(size)
-                .totalElements(meetingsPage.getTotalElements())
-                .totalPages(meetingsPage.getTotalPages())
-                .last(meetingsPage.isLast())
+                .totalElements(total)
+                .totalPages(size > 0 ? (int) Math.ceil((double) total / size) : 0)
+                .first(after == null && page == 0)
+                .last(!slice.hasNext())
+                .nextCursor(slice.hasNext() ? slice.nextCursor().encode() : null)
+                .totalEstimated(includeTotal ? null : true)
                 .build();
 
         return ResponseEntity.ok(response);
@@ -709,19 +664,22 @@ public class MeetingController {
         log.info("Downloading latest document for meeting: {}, format: {} by user: {}", meetingId, format, email);
 
         try {
-            // Get all documents for the meeting
-            List<GeneratedDocument> documents = documentGenerationService.getMeetingDocuments(meetingId);
-
-            if (documents.isEmpty()) {
-                log.warn("No documents found for meeting: {}", meetingId);
+            Optional<GeneratedDocument.DocumentType> documentType = toDocumentType(format);
+            if (documentType.isEmpty()) {
+                log.warn("Unsupported document format: {} for meeting: {}", format, meetingId);
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
             }
 
-            // Find the latest document of the requested format
-            Optional<GeneratedDocument> latestDoc = documents.stream()
-                    .filter(doc -> matchesFormat(doc, format))
-                    .max(Comparator.comparing(GeneratedDocument::getGeneratedAt)
-                            .thenComparing(GeneratedDocument::getVersion));
+            // Rendering on demand costs CPU, so only participants may trigger it
+            Meeting meeting = meetingRepository.findById(meetingId)
+                    .orElseThrow(() -> new EntityNotFoundException("Meeting not found with ID: " + meetingId));
+            if (!meetingAccessService.hasAccessToMeeting(meeting, userService.findByEmail(email))) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+
+            // Find the latest document of the requested format, rendering it if it was deferred
+            Optional<GeneratedDocument> latestDoc = documentRenderCoordinator
+                    .getOrRenderLatest(meetingId, documentType.get());
 
             if (latestDoc.isEmpty()) {
                 log.warn("No {} document found for meeting: {}", format, meetingId);
@@ -731,17 +689,19 @@ public class MeetingController {
             // Download the document
             return downloadDocument(meetingId, latestDoc.get().getId(), format, authentication);
 
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         } catch (Exception e) {
             log.error("Failed to download latest document for meeting: {}", meetingId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    private boolean matchesFormat(GeneratedDocument doc, String format) {
+    private Optional<GeneratedDocument.DocumentType> toDocumentType(String format) {
         return switch (format.toLowerCase()) {
-            case "pdf" -> doc.getDocumentType() == GeneratedDocument.DocumentType.MINUTES_PDF;
-            case "docx" -> doc.getDocumentType() == GeneratedDocument.DocumentType.MINUTES_DOCX;
-            default -> false;
+            case "pdf" -> Optional.of(GeneratedDocument.DocumentType.MINUTES_PDF);
+            case "docx" -> Optional.of(GeneratedDocument.DocumentType.MINUTES_DOCX);
+            default -> Optional.empty();
         };
     }
 
@@ -832,18 +792,7 @@ public class MeetingController {
 
             Meeting updatedMeeting = meetingRepository.save(meeting);
 
-            // Return updated meeting details
-            List<AgendaItem> agendaItems = agendaItemRepo.findByMeetingIdOrderByOrderIndexAsc(meetingId);
-            List<Attendee> attendees = attendeeRepo.findByMeetingId(meetingId);
-            List<ActionItem> actionItems = actionItemRepo.findByMeetingIdOrderByCreatedAtAsc(meetingId);
-
-            Optional<Transcript> transcript = transcriptRepository.findByMeetingId(meetingId);
-            Optional<AIExtraction> aiExtraction = aiExtractionRepository.findByMeetingId(meetingId);
-            String minutesDocumentUrl = documentGenerationService.getDocumentUrl(meetingId);
-
-            MeetingDetailResponse response = convertToDetailResponse(
-                    updatedMeeting, agendaItems, attendees, actionItems,
-                    transcript.orElse(null), aiExtraction.orElse(null), minutesDocumentUrl);
+            MeetingDetailResponse response = meetingDetailService.assemble(updatedMeeting);
 
             return ResponseEntity.ok(response);
 
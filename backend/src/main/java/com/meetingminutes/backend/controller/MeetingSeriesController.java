@@ -4,15 +4,20 @@ package com.meetingminutes.backend.controller;
 import com.meetingminutes.backend.dto.MeetingSeriesResponse;
 import com.meetingminutes.backend.dto.MeetingSummaryResponse;
 import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.service.MeetingSeriesExportService;
 import com.meetingminutes.backend.service.MeetingSeriesService;
 import com.meetingminutes.backend.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,8 +29,12 @@ import java.util.UUID;
 public class MeetingSeriesController {
 
     private final MeetingSeriesService meetingSeriesService;
+    private final MeetingSeriesExportService meetingSeriesExportService;
     private final UserService userService;
 
+    @Value("${app.export.async-timeout-ms:600000}")
+    private long exportTimeoutMs;
+
     /**
      * Create a new meeting series
      */
@@ -81,6 +90,35 @@ public class MeetingSeriesController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * Export the latest minutes of every meeting in a series as a streamed ZIP
+     */
+    @GetMapping("/{seriesId}/export")
+    public WebAsyncTask<Void> exportSeries(
+            @PathVariable UUID seriesId,
+            @RequestParam(defaultValue = "pdf") String format,
+            @RequestParam(defaultValue = "false") boolean includeTranscripts,
+            Authentication authentication,
+            HttpServletResponse response) {
+
+        String email = authentication.getName();
+        User user = userService.findByEmail(email);
+        log.info("Exporting series: {} as {} (transcripts: {}) for user: {}",
+                seriesId, format, includeTranscripts, user.getEmail());
+
+        var export = meetingSeriesExportService.prepareExport(seriesId, user, format, includeTranscripts);
+
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + meetingSeriesExportService.archiveFilename(export) + "\"");
+
+        // Large series can stream for minutes, so only this request gets the long async timeout
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            meetingSeriesExportService.writeZip(export, response.getOutputStream());
+            return null;
+        });
+    }
+
     /**
      * Update a meeting series
      */
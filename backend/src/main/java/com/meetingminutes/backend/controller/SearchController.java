@@ -2,8 +2,11 @@ package com.meetingminutes.backend.controller;
 
 import com.meetingminutes.backend.dto.SearchRequest;
 import com.meetingminutes.backend.dto.SearchResponse;
+import com.meetingminutes.backend.dto.SearchSuggestion;
 import com.meetingminutes.backend.entity.User;
 import com.meetingminutes.backend.service.MeetingSearchService;
+import com.meetingminutes.backend.service.SearchSuggestionService;
+import com.meetingminutes.backend.service.UnifiedSearchService;
 import com.meetingminutes.backend.service.UserService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import jakarta.validation.Valid;
@@ -15,6 +18,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -24,6 +28,8 @@ import java.util.Map;
 public class SearchController {
 
     private final MeetingSearchService meetingSearchService;
+    private final UnifiedSearchService unifiedSearchService;
+    private final SearchSuggestionService searchSuggestionService;
     private final UserService userService;
 
     @PostMapping("/meetings")
@@ -103,6 +109,45 @@ public class SearchController {
         }
     }
 
+    @GetMapping("/suggest")
+    @RateLimiter(name = "searchEndpoints")
+    public ResponseEntity<List<SearchSuggestion>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+        log.debug("Suggestion request from user: {} - prefix: {}", email, q);
+
+        try {
+            User user = userService.findByEmail(email);
+            return ResponseEntity.ok(searchSuggestionService.suggest(q, user, limit));
+        } catch (Exception e) {
+            log.error("Suggestions failed for user: {}", email, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/unified")
+    @RateLimiter(name = "searchEndpoints")
+    public ResponseEntity<SearchResponse> unifiedSearch(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        String email = authentication.getName();
+        log.info("Unified search request from user: {} - query: {}", email, q);
+
+        try {
+            User user = userService.findByEmail(email);
+            SearchResponse response = unifiedSearchService.search(q, user, size);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Unified search failed for user: {}", email, e);
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/transcripts")
     @RateLimiter(name = "searchEndpoints")
     public ResponseEntity<SearchResponse> searchTranscripts(
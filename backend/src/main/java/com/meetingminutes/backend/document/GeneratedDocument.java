@@ -42,6 +42,10 @@ public class GeneratedDocument {
     @Field("generated_at")
     private LocalDateTime generatedAt;
 
+    // SHA-256 over the rendered inputs, used to skip regenerating identical content
+    @Field("content_hash")
+    private String contentHash;
+
     @Field("metadata")
     private DocumentMetadata metadata;
 
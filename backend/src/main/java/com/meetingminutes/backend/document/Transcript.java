@@ -49,6 +49,11 @@ public class Transcript {
 
     private String deviceUsed;
 
+    // Users who can read the meeting, mirrored from meeting_access so search filters on the caller alone
+    @Indexed
+    @Field("access_user_ids")
+    private List<UUID> accessUserIds;
+
     public Transcript() {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,23 @@
+package com.meetingminutes.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows read from an analytics materialized view, with the time that view was last refreshed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsViewResponse {
+    private String scope; // "user" or "institution"
+    private List<Map<String, Object>> rows;
+    private LocalDateTime refreshedAt;
+}
@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class MeetingDetailResponse {
@@ -39,4 +39,6 @@ public class MeetingDetailResponse {
     private LocalDateTime updatedAt;
     
     private Boolean hasOutdatedDocuments;
+
+    private MeetingViewerResponse viewer; // per-user; never part of the cached shared payload
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.meetingminutes.backend.dto;
 
+import com.meetingminutes.backend.repository.MeetingCard;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,7 +17,8 @@ public class MeetingSearchResult {
     private String meetingId;
     private String title;
     private String description;
-    private String highlight;
+    private String highlight;       // HTML, matches wrapped in <mark>; the first of highlights
+    private List<String> highlights;
     private Double relevanceScore;
     private String status;
     private LocalDateTime meetingDate;
@@ -26,4 +28,18 @@ public class MeetingSearchResult {
     private Integer actionItemCount;
     private Boolean hasTranscript;
     private String seriesTitle;
+    private List<TranscriptSnippetResponse> transcriptSnippets;
+
+    public static MeetingSearchResultBuilder fromCard(MeetingCard card) {
+        return MeetingSearchResult.builder()
+                .meetingId(card.id().toString())
+                .title(card.title())
+                .description(card.description())
+                .status(card.status())
+                .meetingDate(card.scheduledTime())
+                .createdAt(card.createdAt())
+                .participantCount(card.participantCount())
+                .actionItemCount(card.actionItemCount())
+                .seriesTitle(card.seriesTitle());
+    }
 }
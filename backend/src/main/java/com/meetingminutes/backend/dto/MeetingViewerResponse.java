@@ -0,0 +1,28 @@
+package com.meetingminutes.backend.dto;
+
+import com.meetingminutes.backend.entity.AttendanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The requesting user's relation to a meeting, overlaid on the shared {@link MeetingDetailResponse}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingViewerResponse {
+    private String role; // ORGANIZER, ATTENDEE or ASSIGNEE; null when the user has no access
+    private Boolean canEdit;
+    private AttendanceStatus attendanceStatus;
+    private List<UUID> assignedActionItemIds;
+
+    public boolean hasAccess() {
+        return role != null;
+    }
+}
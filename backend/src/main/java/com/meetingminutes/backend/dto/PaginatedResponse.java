@@ -22,6 +22,8 @@ public class PaginatedResponse<T> {
     private long totalElements;
     private boolean first;
     private boolean last;
+    private String nextCursor;
+    private Boolean totalEstimated;
 
     public static <T> PaginatedResponse<T> fromPage(Page<T> page) {
         return PaginatedResponse.<T>builder()
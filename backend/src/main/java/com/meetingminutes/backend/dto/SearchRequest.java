@@ -41,6 +41,9 @@ public class SearchRequest {
     private int page = 0;
     private int size = 20;
 
+    private String cursor; // opaque position from the previous response's nextCursor; takes precedence over page
+    private boolean includeTotal = true; // false returns a planner estimate instead of an exact count
+
     public void validateDateRange() {
         if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
             throw new IllegalArgumentException("From date cannot be after to date");
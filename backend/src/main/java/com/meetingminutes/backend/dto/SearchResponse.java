@@ -18,6 +18,8 @@ public class SearchResponse {
     private long totalResults;
     private int totalPages;
     private int currentPage;
+    private String nextCursor;
+    private boolean totalEstimated;
 
     private Map<String, Long> statusFacet;
     private Map<String, Long> seriesFacet;
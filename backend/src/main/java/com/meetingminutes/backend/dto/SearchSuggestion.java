@@ -0,0 +1,16 @@
+package com.meetingminutes.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSuggestion {
+    private String text;
+    private String type;        // meeting, series, person or term
+    private String meetingId;   // set for meeting suggestions only
+}
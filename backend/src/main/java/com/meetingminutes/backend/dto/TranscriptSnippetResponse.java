@@ -0,0 +1,16 @@
+package com.meetingminutes.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TranscriptSnippetResponse {
+    private String highlight;      // HTML, matches wrapped in <mark>
+    private Double startSeconds;   // seek position of the first match in the recording
+    private Double endSeconds;
+}
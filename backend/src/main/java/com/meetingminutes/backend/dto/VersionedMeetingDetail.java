@@ -0,0 +1,17 @@
+package com.meetingminutes.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The cached shared {@link MeetingDetailResponse} together with the version stamp read before it was assembled,
+ * so an ETag is only ever paired with the body it describes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionedMeetingDetail {
+    private String version;
+    private MeetingDetailResponse detail;
+}
@@ -25,6 +25,7 @@ public class WebSocketMessage {
         PROCESSING_ERROR,
         TASK_ASSIGNED,
         DOCUMENT_GENERATED,
+        DOCUMENT_REGENERATION_FAILED,
         PARTICIPANT_JOINED,
         MEETING_UPDATED
     }
@@ -69,6 +69,11 @@ public class Meeting extends BaseEntity {
     @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
     private String searchVector;
 
+    // Whether Mongo holds a transcript for the meeting, so search can filter and count on it in SQL.
+    // Written only through MeetingRepository.markTranscribed.
+    @Column(name = "has_transcript", columnDefinition = "boolean not null default false", insertable = false, updatable = false)
+    private Boolean hasTranscript;
+
     public Meeting(String title, User createdBy) {
         this.title = title;
         this.createdBy = createdBy;
@@ -0,0 +1,64 @@
+package com.meetingminutes.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One row per (user, meeting) the user can see, as organizer or registered attendee.
+ * Rows are maintained by database triggers on meetings and attendees (see DatabaseIndexConfig),
+ * so the application only ever reads this table. It is mapped as a subselect so Hibernate's
+ * schema generation never creates or alters it; DatabaseIndexConfig owns the DDL.
+ */
+@Entity
+@Subselect("SELECT user_id, meeting_id, role, created_at, scheduled_time, status FROM meeting_access")
+@Synchronize("meeting_access")
+@IdClass(MeetingAccess.MeetingAccessId.class)
+@Immutable
+@Getter
+@NoArgsConstructor
+public class MeetingAccess {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Id
+    @Column(name = "meeting_id", nullable = false)
+    private UUID meetingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private Role role;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "scheduled_time")
+    private LocalDateTime scheduledTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private MeetingStatus status;
+
+    public enum Role {
+        ORGANIZER, ATTENDEE
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MeetingAccessId implements Serializable {
+        private UUID userId;
+        private UUID meetingId;
+    }
+}
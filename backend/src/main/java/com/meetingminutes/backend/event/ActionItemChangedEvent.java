@@ -0,0 +1,10 @@
+package com.meetingminutes.backend.event;
+
+import java.util.UUID;
+
+/**
+ * Published when an action item is created, edited, reassigned, acknowledged, published or deleted. {@code assigneeId}
+ * is the assigned user (null for external assignees), who may not otherwise have access to the meeting.
+ */
+public record ActionItemChangedEvent(UUID meetingId, UUID assigneeId) {
+}
@@ -0,0 +1,11 @@
+package com.meetingminutes.backend.event;
+
+import java.util.UUID;
+
+/**
+ * Published when an attendee of a meeting is invited, linked, joins, responds or is removed. {@code userId} is the
+ * attendee's account (null for external invites); {@code accessChanged} is set when the set of users who can read
+ * the meeting may have changed as a result.
+ */
+public record AttendeeChangedEvent(UUID meetingId, UUID userId, boolean accessChanged) {
+}
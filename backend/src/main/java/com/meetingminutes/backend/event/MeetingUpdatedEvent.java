@@ -0,0 +1,16 @@
+package com.meetingminutes.backend.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published when a meeting or anything shown with it (status, agenda, series, documents) changes, including creation
+ * and deletion. {@code affectedUserIds} names users who should be treated as affected even though they may no longer
+ * appear in meeting_access, e.g. everyone who could see a meeting that is being deleted.
+ */
+public record MeetingUpdatedEvent(UUID meetingId, List<UUID> affectedUserIds) {
+
+    public MeetingUpdatedEvent(UUID meetingId) {
+        this(meetingId, List.of());
+    }
+}
@@ -19,6 +19,9 @@ public interface ActionItemRepo extends JpaRepository<ActionItem, UUID> {
 
     List<ActionItem> findByMeetingIdOrderByCreatedAtAsc(UUID meetingId);
 
+    @Query("SELECT ai.id FROM ActionItem ai WHERE ai.meeting.id = :meetingId AND ai.assignedToUser.id = :userId")
+    List<UUID> findIdsByMeetingIdAndAssignedToUserId(@Param("meetingId") UUID meetingId, @Param("userId") UUID userId);
+
     @Query("SELECT ai FROM ActionItem ai WHERE ai.assignedToUser.id = :userId AND ai.status != 'DRAFT' ORDER BY ai.deadline ASC")
     List<ActionItem> findByAssignedToUserOrderByDeadlineAsc(@Param("userId") UUID userId);
 
@@ -31,6 +34,17 @@ public interface ActionItemRepo extends JpaRepository<ActionItem, UUID> {
     @Query("SELECT ai FROM ActionItem ai WHERE ai.assignedToUser.id = :userId AND ai.status = :status AND ai.status != 'DRAFT'")
     List<ActionItem> findByAssignedToUserAndStatus(@Param("userId") UUID userId, @Param("status") TaskStatus status);
 
+    /**
+     * Version stamp of the user's task list (optionally one status): row count plus the latest change to a task
+     * or to the meeting whose title it shows
+     */
+    @Query(value = "SELECT count(*) || ':' || coalesce(max(ai.updated_at)::text, '') || ':' || coalesce(max(m.updated_at)::text, '') " +
+            "FROM action_items ai JOIN meetings m ON m.id = ai.meeting_id " +
+            "WHERE ai.assigned_to_user_id = :userId AND ai.status <> 'DRAFT' " +
+            "AND (CAST(:status AS varchar) IS NULL OR ai.status = CAST(:status AS varchar))",
+            nativeQuery = true)
+    String findAssignedStamp(@Param("userId") UUID userId, @Param("status") String status);
+
     @Query("SELECT COUNT(ai) FROM ActionItem ai WHERE ai.assignedToUser.id = :userId AND ai.status = :status AND ai.status != 'DRAFT'")
     long countByAssignedToUserAndStatus(@Param("userId") UUID userId, @Param("status") TaskStatus status);
 
@@ -0,0 +1,40 @@
+package com.meetingminutes.backend.repository;
+
+import com.meetingminutes.backend.entity.MeetingAccess;
+import com.meetingminutes.backend.entity.MeetingStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * A user's dashboard counters read from the rollup tables: meetings by role and status, meetings created per
+ * day since the requested date, and accessible meetings scheduled after the requested time
+ */
+public record DashboardRollup(Map<MeetingAccess.Role, Map<String, Long>> statusCounts,
+                              Map<LocalDate, Long> createdPerDay,
+                              long upcomingMeetings) {
+
+    public long count(MeetingStatus status) {
+        return statusCounts.values().stream()
+                .mapToLong(byStatus -> byStatus.getOrDefault(status.name(), 0L))
+                .sum();
+    }
+
+    public long total() {
+        return statusCounts.values().stream()
+                .flatMap(byStatus -> byStatus.values().stream())
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public Map<String, Long> countsFor(MeetingAccess.Role role) {
+        return statusCounts.getOrDefault(role, Map.of());
+    }
+
+    public long createdBetween(LocalDate start, LocalDate endExclusive) {
+        return createdPerDay.entrySet().stream()
+                .filter(day -> !day.getKey().isBefore(start) && day.getKey().isBefore(endExclusive))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+}
@@ -0,0 +1,18 @@
+package com.meetingminutes.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns a search result card shows, read without loading the Meeting entity or its collections
+ */
+public record MeetingCard(UUID id,
+                          String title,
+                          String description,
+                          String status,
+                          LocalDateTime scheduledTime,
+                          LocalDateTime createdAt,
+                          String seriesTitle,
+                          int participantCount,
+                          int actionItemCount) {
+}
@@ -0,0 +1,12 @@
+package com.meetingminutes.backend.repository;
+
+import java.util.Map;
+
+/**
+ * Facet counts over a whole filtered meeting set, not just the page being returned
+ */
+public record MeetingFacets(Map<String, Long> status,
+                            Map<String, Long> series,
+                            Map<String, Long> date,
+                            Map<String, Long> category) {
+}
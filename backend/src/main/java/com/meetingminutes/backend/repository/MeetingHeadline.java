@@ -0,0 +1,11 @@
+package com.meetingminutes.backend.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ts_headline output for one meeting, already escaped HTML. {@code fragments} come from the
+ * description and agenda and are empty when only the title matched.
+ */
+public record MeetingHeadline(UUID meetingId, String title, List<String> fragments, List<String> matchedFields) {
+}
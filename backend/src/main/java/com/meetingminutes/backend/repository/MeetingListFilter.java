@@ -0,0 +1,31 @@
+package com.meetingminutes.backend.repository;
+
+import com.meetingminutes.backend.entity.MeetingStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Filters applied on top of "meetings the user can access". Null fields are not filtered on.
+ */
+@Builder
+public record MeetingListFilter(String textQuery,
+                                Collection<MeetingStatus> statuses,
+                                UUID seriesId,
+                                LocalDateTime scheduledFrom,
+                                LocalDateTime scheduledTo,
+                                LocalDateTime createdFrom,
+                                LocalDateTime createdTo,
+                                boolean withActionItems,
+                                boolean withTranscript) {
+
+    public static MeetingListFilter none() {
+        return MeetingListFilter.builder().build();
+    }
+
+    public boolean hasTextQuery() {
+        return textQuery != null && !textQuery.isBlank();
+    }
+}
@@ -1,16 +1,20 @@
 package com.meetingminutes.backend.repository;
 
 import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.MeetingAccess;
 import com.meetingminutes.backend.entity.MeetingStatus;
 import com.meetingminutes.backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,7 +33,8 @@ public interface MeetingRepository extends JpaRepository<Meeting, UUID>, Meeting
     @Query("SELECT m FROM Meeting m WHERE m.series.id = :seriesId AND m.status = 'PROCESSED' ORDER BY m.createdAt DESC")
     List<Meeting> findProcessedMeetingsInSeries(@Param("seriesId") UUID seriesId);
 
-    @Query("SELECT m FROM Meeting m WHERE m.createdBy = :user OR m.id IN (SELECT a.meeting.id FROM Attendee a WHERE a.user = :user) ORDER BY m.createdAt DESC")
+    @Query("SELECT m FROM Meeting m JOIN MeetingAccess ma ON ma.meetingId = m.id " +
+            "WHERE ma.userId = :#{#user.id} ORDER BY ma.createdAt DESC")
     Page<Meeting> findByCreatedByOrAttendeesUser(@Param("user") User user, Pageable pageable);
 
     List<Meeting> findByStatus(MeetingStatus status);
@@ -89,134 +94,111 @@ public interface MeetingRepository extends JpaRepository<Meeting, UUID>, Meeting
     Page<Meeting> findByCreatedByAndCreatedAtAfter(User user, LocalDateTime date, Pageable pageable);
 
     // Get meetings where user is creator OR attendee
-    @Query("SELECT m FROM Meeting m WHERE m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)")
+    @Query("SELECT m FROM Meeting m JOIN MeetingAccess ma ON ma.meetingId = m.id " +
+            "WHERE ma.userId = :#{#user.id}")
     Page<Meeting> findByUserOrAttendee(@Param("user") User user, Pageable pageable);
 
+    @Query("SELECT ma.meetingId FROM MeetingAccess ma WHERE ma.userId = :userId AND ma.meetingId IN :meetingIds")
+    List<UUID> findAccessibleAmong(@Param("userId") UUID userId, @Param("meetingIds") Collection<UUID> meetingIds);
+
+    /**
+     * Sets the has_transcript flag on the given meetings; returns how many actually changed
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE meetings SET has_transcript = :hasTranscript " +
+            "WHERE id IN (:meetingIds) AND has_transcript <> :hasTranscript", nativeQuery = true)
+    int markTranscribed(@Param("meetingIds") Collection<UUID> meetingIds, @Param("hasTranscript") boolean hasTranscript);
+
+    @Query(value = "SELECT id FROM meetings WHERE has_transcript AND id > :after ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<UUID> findTranscribedAfter(@Param("after") UUID after, @Param("limit") int limit);
+
+    @Query("SELECT ma.userId FROM MeetingAccess ma WHERE ma.meetingId = :meetingId")
+    List<UUID> findAccessUserIds(@Param("meetingId") UUID meetingId);
+
+    // (meetingId, userId) rows for a batch of meetings
+    @Query("SELECT ma.meetingId, ma.userId FROM MeetingAccess ma WHERE ma.meetingId IN :meetingIds")
+    List<Object[]> findAccessUserIdsByMeetingIds(@Param("meetingIds") Collection<UUID> meetingIds);
+
+    @Query("SELECT ma.role FROM MeetingAccess ma WHERE ma.userId = :userId AND ma.meetingId = :meetingId")
+    Optional<MeetingAccess.Role> findAccessRole(@Param("userId") UUID userId, @Param("meetingId") UUID meetingId);
+
+    /**
+     * Version stamp of everything the meeting detail shows from Postgres: the meeting's version and update time
+     * plus row count and latest update of its agenda items, attendees and action items. Counts catch deletions.
+     */
+    @Query(value = "SELECT concat_ws('|', m.version, m.updated_at, " +
+            "(SELECT count(*) || ':' || coalesce(max(a.updated_at)::text, '') FROM agenda_items a WHERE a.meeting_id = m.id), " +
+            "(SELECT count(*) || ':' || coalesce(max(t.updated_at)::text, '') FROM attendees t WHERE t.meeting_id = m.id), " +
+            "(SELECT count(*) || ':' || coalesce(max(ai.updated_at)::text, '') FROM action_items ai WHERE ai.meeting_id = m.id)) " +
+            "FROM meetings m WHERE m.id = :meetingId",
+            nativeQuery = true)
+    Optional<String> findDetailStamp(@Param("meetingId") UUID meetingId);
+
     // Count meetings where user is creator OR attendee
-    @Query("SELECT COUNT(m) FROM Meeting m WHERE m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)")
+    @Query("SELECT COUNT(ma) FROM MeetingAccess ma WHERE ma.userId = :#{#user.id}")
     long countByUserOrAttendee(@Param("user") User user);
 
     // Get upcoming meetings where user is creator OR attendee
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.scheduledTime > :scheduledTime")
+    @Query("SELECT m FROM Meeting m JOIN MeetingAccess ma ON ma.meetingId = m.id " +
+            "WHERE ma.userId = :#{#user.id} AND ma.scheduledTime > :scheduledTime")
     Page<Meeting> findByUserOrAttendeeAndScheduledTimeAfter(
             @Param("user") User user,
             @Param("scheduledTime") LocalDateTime scheduledTime,
             Pageable pageable);
 
     // Count upcoming meetings where user is creator OR attendee
-    @Query("SELECT COUNT(m) FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.scheduledTime > :scheduledTime")
+    @Query("SELECT COUNT(ma) FROM MeetingAccess ma " +
+            "WHERE ma.userId = :#{#user.id} AND ma.scheduledTime > :scheduledTime")
     long countByUserOrAttendeeAndScheduledTimeAfter(
             @Param("user") User user,
             @Param("scheduledTime") LocalDateTime scheduledTime);
 
     // Get meetings by status where user is creator OR attendee
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.status = :status")
+    @Query("SELECT m FROM Meeting m JOIN MeetingAccess ma ON ma.meetingId = m.id " +
+            "WHERE ma.userId = :#{#user.id} AND ma.status = :status")
     Page<Meeting> findByUserOrAttendeeAndStatus(
             @Param("user") User user,
             @Param("status") MeetingStatus status,
             Pageable pageable);
 
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.status = :status")
+    @Query("SELECT m FROM Meeting m JOIN MeetingAccess ma ON ma.meetingId = m.id " +
+            "WHERE ma.userId = :#{#user.id} AND ma.status = :status")
     List<Meeting> findByUserOrAttendeeAndStatus(
             @Param("user") User user,
             @Param("status") MeetingStatus status);
 
     // Count meetings by status where user is creator OR attendee
-    @Query("SELECT COUNT(m) FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.status = :status")
+    @Query("SELECT COUNT(ma) FROM MeetingAccess ma " +
+            "WHERE ma.userId = :#{#user.id} AND ma.status = :status")
     long countByUserOrAttendeeAndStatus(
             @Param("user") User user,
             @Param("status") MeetingStatus status);
 
-    // Get meetings within date range where user is creator OR attendee
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.createdAt BETWEEN :start AND :end")
-    Page<Meeting> findByUserOrAttendeeAndCreatedAtBetween(
-            @Param("user") User user,
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end,
-            Pageable pageable);
-
     // Count meetings within date range where user is creator OR attendee
-    @Query("SELECT COUNT(m) FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.createdAt BETWEEN :start AND :end")
+    @Query("SELECT COUNT(ma) FROM MeetingAccess ma " +
+            "WHERE ma.userId = :#{#user.id} AND ma.createdAt BETWEEN :start AND :end")
     long countByUserOrAttendeeAndCreatedAtBetween(
             @Param("user") User user,
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end);
 
     // Get meetings after date where user is creator OR attendee
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.createdAt > :date")
+    @Query("SELECT m FROM Meeting m JOIN MeetingAccess ma ON ma.meetingId = m.id " +
+            "WHERE ma.userId = :#{#user.id} AND ma.createdAt > :date")
     List<Meeting> findByUserOrAttendeeAndCreatedAtAfter(
             @Param("user") User user,
             @Param("date") LocalDateTime date);
 
-    // For filtered searches with userOrAttendee
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.status IN :statuses")
-    Page<Meeting> findByUserOrAttendeeAndStatusIn(
-            @Param("user") User user,
-            @Param("statuses") List<MeetingStatus> statuses,
-            Pageable pageable);
-
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.series.id = :seriesId")
-    Page<Meeting> findByUserOrAttendeeAndSeriesId(
-            @Param("user") User user,
-            @Param("seriesId") UUID seriesId,
-            Pageable pageable);
-
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.scheduledTime BETWEEN :start AND :end")
-    Page<Meeting> findByUserOrAttendeeAndScheduledTimeBetween(
-            @Param("user") User user,
-            @Param("start") LocalDateTime start,
-            @Param("end") LocalDateTime end,
-            Pageable pageable);
-
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.actionItems IS NOT EMPTY")
-    Page<Meeting> findByUserOrAttendeeAndActionItemsIsNotEmpty(
-            @Param("user") User user,
-            Pageable pageable);
-
-    @Query("SELECT m FROM Meeting m WHERE (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
-            "AND m.id IN :meetingIds")
-    Page<Meeting> findByUserOrAttendeeAndIdIn(
-            @Param("user") User user,
-            @Param("meetingIds") List<UUID> meetingIds,
-            Pageable pageable);
-
     // Full-text search for userOrAttendee
     @Query(value = "SELECT m.*, ts_rank_cd(m.search_vector, plainto_tsquery('english', :query)) as rank " +
-            "FROM meetings m " +
-            "WHERE (m.created_by = :userId OR m.id IN " +
-            "(SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
+            "FROM meeting_access ma JOIN meetings m ON m.id = ma.meeting_id " +
+            "WHERE ma.user_id = :userId " +
             "AND m.search_vector @@ plainto_tsquery('english', :query) " +
             "ORDER BY rank DESC, m.created_at DESC",
-            countQuery = "SELECT COUNT(*) FROM meetings m " +
-                    "WHERE (m.created_by = :userId OR m.id IN " +
-                    "(SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
+            countQuery = "SELECT COUNT(*) FROM meeting_access ma JOIN meetings m ON m.id = ma.meeting_id " +
+                    "WHERE ma.user_id = :userId " +
                     "AND m.search_vector @@ plainto_tsquery('english', :query)",
             nativeQuery = true)
     Page<Meeting> fullTextSearchWithRankingForUserOrAttendee(
@@ -225,9 +207,8 @@ public interface MeetingRepository extends JpaRepository<Meeting, UUID>, Meeting
             Pageable pageable);
 
     // Get meetings in series that user can access
-    @Query("SELECT m FROM Meeting m WHERE m.series.id = :seriesId " +
-            "AND (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
+    @Query("SELECT m FROM Meeting m JOIN MeetingAccess ma ON ma.meetingId = m.id " +
+            "WHERE ma.userId = :#{#user.id} AND m.series.id = :seriesId " +
             "ORDER BY m.createdAt DESC")
     List<Meeting> findBySeriesIdAndUserOrAttendee(@Param("seriesId") UUID seriesId,
                                                   @Param("user") User user);
@@ -240,10 +221,9 @@ public interface MeetingRepository extends JpaRepository<Meeting, UUID>, Meeting
                                         @Param("user") User user);
 
     // Get processed meetings in series that user can access
-    @Query("SELECT m FROM Meeting m WHERE m.series.id = :seriesId " +
-            "AND m.status = 'PROCESSED' " +
-            "AND (m.createdBy = :user OR m.id IN " +
-            "(SELECT a.meeting.id FROM Attendee a WHERE a.user = :user)) " +
+    @Query("SELECT m FROM Meeting m JOIN MeetingAccess ma ON ma.meetingId = m.id " +
+            "WHERE ma.userId = :#{#user.id} AND m.series.id = :seriesId " +
+            "AND ma.status = 'PROCESSED' " +
             "ORDER BY m.createdAt DESC")
     List<Meeting> findProcessedMeetingsInSeriesForUserOrAttendee(@Param("seriesId") UUID seriesId,
                                                                  @Param("user") User user);
@@ -255,49 +235,15 @@ public interface MeetingRepository extends JpaRepository<Meeting, UUID>, Meeting
                                     @Param("userId") UUID userId);
 
     @Query(value = "SELECT m.*, ts_rank_cd(m.search_vector, plainto_tsquery('english', :query)) as rank " +
-            "FROM meetings m " +
-            "WHERE (m.created_by = :userId OR m.id IN (SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
-            "AND m.search_vector @@ plainto_tsquery('english', :query) " +
-            "AND m.scheduled_time BETWEEN :start AND :end " +
-            "ORDER BY rank DESC, m.created_at DESC",
-            countQuery = "SELECT COUNT(*) FROM meetings m " +
-                    "WHERE (m.created_by = :userId OR m.id IN (SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
-                    "AND m.search_vector @@ plainto_tsquery('english', :query) " +
-                    "AND m.scheduled_time BETWEEN :start AND :end",
-            nativeQuery = true)
-    Page<Meeting> fullTextSearchWithDateRange(@Param("userId") UUID userId,
-                                              @Param("query") String query,
-                                              @Param("start") LocalDateTime start,
-                                              @Param("end") LocalDateTime end,
-                                              Pageable pageable);
-
-    @Query(value = "SELECT m.*, ts_rank_cd(m.search_vector, plainto_tsquery('english', :query)) as rank " +
-            "FROM meetings m " +
-            "WHERE (m.created_by = :userId OR m.id IN (SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
-            "AND m.search_vector @@ plainto_tsquery('english', :query) " +
-            "AND m.created_at BETWEEN :start AND :end " +
-            "ORDER BY rank DESC, m.created_at DESC",
-            countQuery = "SELECT COUNT(*) FROM meetings m " +
-                    "WHERE (m.created_by = :userId OR m.id IN (SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
-                    "AND m.search_vector @@ plainto_tsquery('english', :query) " +
-                    "AND m.created_at BETWEEN :start AND :end",
-            nativeQuery = true)
-    Page<Meeting> fullTextSearchWithDateRangeOnCreatedAt(@Param("userId") UUID userId,
-                                                         @Param("query") String query,
-                                                         @Param("start") LocalDateTime start,
-                                                         @Param("end") LocalDateTime end,
-                                                         Pageable pageable);
-
-    @Query(value = "SELECT m.*, ts_rank_cd(m.search_vector, plainto_tsquery('english', :query)) as rank " +
-            "FROM meetings m " +
-            "WHERE (m.created_by = :userId OR m.id IN (SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
+            "FROM meeting_access ma JOIN meetings m ON m.id = ma.meeting_id " +
+            "WHERE ma.user_id = :userId " +
             "AND m.search_vector @@ plainto_tsquery('english', :query) " +
             "ORDER BY " +
             "CASE WHEN :sortField = 'relevance' OR :sortField IS NULL THEN rank END DESC, " +
             "CASE WHEN :sortField = 'createdAt' THEN m.created_at END " +  // direction will be appended separately
             "NULLS LAST",
-            countQuery = "SELECT COUNT(*) FROM meetings m " +
-                    "WHERE (m.created_by = :userId OR m.id IN (SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
+            countQuery = "SELECT COUNT(*) FROM meeting_access ma JOIN meetings m ON m.id = ma.meeting_id " +
+                    "WHERE ma.user_id = :userId " +
                     "AND m.search_vector @@ plainto_tsquery('english', :query)",
             nativeQuery = true)
     Page<Meeting> fullTextSearchWithSort(@Param("userId") UUID userId,
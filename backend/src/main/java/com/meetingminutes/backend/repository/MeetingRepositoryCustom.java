@@ -1,11 +1,49 @@
 package com.meetingminutes.backend.repository;
 
-import com.meetingminutes.backend.entity.Meeting;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.meetingminutes.backend.util.MeetingCursor;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface MeetingRepositoryCustom {
-    Page<Meeting> fullTextSearchWithDynamicSort(UUID userId, String query, String sortField, String sortDirection, Pageable pageable);
+
+    /**
+     * Keyset page of the user's meetings ordered by (sort key, id). {@code offset} is only honoured
+     * without a cursor, for clients that still page by number.
+     */
+    MeetingSlice findSlice(UUID userId, MeetingListFilter filter, String sortField, boolean ascending,
+                           MeetingCursor after, int offset, int limit);
+
+    long countMatching(UUID userId, MeetingListFilter filter);
+
+    long estimateMatching(UUID userId, MeetingListFilter filter);
+
+    MeetingFacets computeFacets(UUID userId, MeetingListFilter filter, LocalDateTime now);
+
+    List<MetadataSearchHit> rankMetadataMatches(UUID userId, String query, int limit, Duration timeout);
+
+    List<MeetingCard> findCards(Collection<UUID> meetingIds);
+
+    /**
+     * Meetings created in [start, end] that the user can access, counted per {@code date_trunc} bucket
+     * (day, week, month, quarter or year) and keyed by bucket start, oldest first
+     */
+    Map<LocalDateTime, Long> countCreatedByPeriod(UUID userId, String unit, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Dashboard counters from the trigger-maintained rollup tables, with days created from {@code since}
+     */
+    DashboardRollup findDashboardRollup(UUID userId, LocalDate since, LocalDateTime now);
+
+    /**
+     * Total, processed, draft, processing, createdThisWeek and upcoming counts over the user's accessible meetings
+     */
+    Map<String, Long> countDashboard(UUID userId, LocalDateTime weekStart, LocalDateTime weekEnd, LocalDateTime now);
+
+    List<MeetingHeadline> findHeadlines(Collection<UUID> meetingIds, String query, int maxWords, int maxFragments);
 }
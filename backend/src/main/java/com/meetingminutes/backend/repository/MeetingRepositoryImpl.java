@@ -1,77 +1,520 @@
 package com.meetingminutes.backend.repository;
 
 import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.MeetingAccess;
+import com.meetingminutes.backend.entity.MeetingStatus;
+import com.meetingminutes.backend.util.Highlights;
+import com.meetingminutes.backend.util.MeetingCursor;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Repository
 @Transactional(readOnly = true)
 public class MeetingRepositoryImpl implements MeetingRepositoryCustom {
 
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private static final String TS_QUERY = "plainto_tsquery('english', :query)";
+    private static final Set<String> TRUNC_UNITS = Set.of("day", "week", "month", "quarter", "year");
+
+    private static final String FACET_DATE = "CAST(COALESCE(ma.scheduled_time, ma.created_at) AS date)";
+
     @PersistenceContext
     private EntityManager entityManager;
 
     @Override
-    public Page<Meeting> fullTextSearchWithDynamicSort(UUID userId, String query, String sortField, String sortDirection, Pageable pageable) {
-        // Build the base SQL
-        String baseSql = "SELECT m.* FROM meetings m " +
-                "WHERE (m.created_by = :userId OR m.id IN (SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
-                "AND m.search_vector @@ plainto_tsquery('english', :query)";
-
-        // Add ranking if sorting by relevance
-        String orderByClause;
-        if ("relevance".equals(sortField)) {
-            baseSql = baseSql.replace("SELECT m.*", "SELECT m.*, ts_rank_cd(m.search_vector, plainto_tsquery('english', :query)) as rank");
-            orderByClause = "ORDER BY rank DESC";
-        } else {
-            // Sort by a regular column
-            String column = mapSortFieldToColumn(sortField);
-            String safeDirection = "ASC".equalsIgnoreCase(sortDirection) ? "ASC" : "DESC";
-            orderByClause = "ORDER BY " + column + " " + safeDirection;
-        }
-
-        String countSql = "SELECT COUNT(*) FROM meetings m " +
-                "WHERE (m.created_by = :userId OR m.id IN (SELECT a.meeting_id FROM attendees a WHERE a.user_id = :userId)) " +
-                "AND m.search_vector @@ plainto_tsquery('english', :query)";
-
-        String finalSql = baseSql + " " + orderByClause;
-
-        // Create native query
-        Query queryObj = entityManager.createNativeQuery(finalSql, Meeting.class);
-        queryObj.setParameter("userId", userId);
-        queryObj.setParameter("query", query);
-
-        // Set pagination
-        queryObj.setFirstResult((int) pageable.getOffset());
-        queryObj.setMaxResults(pageable.getPageSize());
+    public MeetingSlice findSlice(UUID userId, MeetingListFilter filter, String sortField, boolean ascending,
+                                  MeetingCursor after, int offset, int limit) {
+        String sortExpression = sortExpression(sortField);
+        String direction = ascending ? "ASC" : "DESC";
+        FilterSql filterSql = buildFilter(userId, filter,
+                "title".equals(sortField) || "relevance".equals(sortField));
+
+        StringBuilder sql = new StringBuilder("SELECT ma.meeting_id, ")
+                .append(sortExpression).append(" AS sort_key ")
+                .append(filterSql.from()).append(' ').append(filterSql.where());
+
+        Map<String, Object> params = new HashMap<>(filterSql.params());
+        if (after != null) {
+            // Row comparison lets Postgres seek straight to the cursor position in the (sort key, id) index
+            sql.append(" AND (").append(sortExpression).append(", ma.meeting_id) ")
+                    .append(ascending ? ">" : "<")
+                    .append(" (").append(sortKeyParameter(sortField)).append(", :cursorId)");
+            params.put("sortKey", parseSortKey(sortField, after.sortKey()));
+            params.put("cursorId", after.id());
+        }
+        sql.append(" ORDER BY ").append(sortExpression).append(' ').append(direction)
+                .append(", ma.meeting_id ").append(direction);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        if (after == null && offset > 0) {
+            query.setFirstResult(offset);
+        }
+        // One extra row tells us whether another page exists without counting
+        query.setMaxResults(limit + 1);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > limit;
+        List<Object[]> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        List<UUID> ids = pageRows.stream().map(row -> toUuid(row[0])).toList();
+
+        MeetingCursor nextCursor = null;
+        if (hasNext) {
+            Object[] last = pageRows.get(pageRows.size() - 1);
+            nextCursor = MeetingCursor.of(sortField, ascending, filter.textQuery(), formatSortKey(last[1]),
+                    toUuid(last[0]));
+        }
+        return new MeetingSlice(loadInOrder(ids), nextCursor);
+    }
+
+    @Override
+    public long countMatching(UUID userId, MeetingListFilter filter) {
+        FilterSql filterSql = buildFilter(userId, filter, false);
+        Query query = entityManager.createNativeQuery("SELECT COUNT(*) " + filterSql.from() + " " + filterSql.where());
+        filterSql.params().forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    /**
+     * Reads the planner's row estimate instead of running the count, so it costs one plan regardless of size
+     */
+    @Override
+    public long estimateMatching(UUID userId, MeetingListFilter filter) {
+        FilterSql filterSql = buildFilter(userId, filter, false);
+        Query query = entityManager.createNativeQuery(
+                "EXPLAIN SELECT 1 " + filterSql.from() + " " + filterSql.where());
+        filterSql.params().forEach(query::setParameter);
+
+        @SuppressWarnings("unchecked")
+        List<Object> planLines = query.getResultList();
+        if (planLines.isEmpty()) {
+            return 0;
+        }
+        Matcher matcher = PLAN_ROWS.matcher(String.valueOf(planLines.get(0)));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    /**
+     * Status, series, date and category counts over every matching meeting, in one grouping-sets scan.
+     * The transcript count reads the has_transcript flag mirrored from Mongo.
+     */
+    @Override
+    public MeetingFacets computeFacets(UUID userId, MeetingListFilter filter, LocalDateTime now) {
+        FilterSql filterSql = buildFilter(userId, filter, true);
+        Map<String, Object> params = new HashMap<>(filterSql.params());
+        params.put("now", now);
+
+        String sql = "SELECT ma.status, s.title, " + FACET_DATE + ", " +
+                "GROUPING(ma.status, s.title, " + FACET_DATE + "), " +
+                "COUNT(*), " +
+                "COUNT(*) FILTER (WHERE ma.scheduled_time > :now), " +
+                "COUNT(*) FILTER (WHERE EXISTS (SELECT 1 FROM action_items ai WHERE ai.meeting_id = ma.meeting_id)), " +
+                "COUNT(*) FILTER (WHERE m.has_transcript) " +
+                filterSql.from() + " LEFT JOIN meeting_series s ON s.id = m.series_id " +
+                filterSql.where() + " " +
+                "GROUP BY GROUPING SETS ((ma.status), (s.title), (" + FACET_DATE + "), ())";
+
+        Query query = entityManager.createNativeQuery(sql);
+        params.forEach(query::setParameter);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        Map<String, Long> status = new LinkedHashMap<>();
+        Map<String, Long> series = new LinkedHashMap<>();
+        Map<String, Long> date = new LinkedHashMap<>();
+        Map<String, Long> category = new LinkedHashMap<>();
+
+        for (Object[] row : rows) {
+            long count = ((Number) row[4]).longValue();
+            // GROUPING() sets a bit for every column rolled up in the row's set: status=4, series=2, date=1
+            switch (((Number) row[3]).intValue()) {
+                case 0b011 -> {
+                    if (row[0] != null) {
+                        status.put(row[0].toString(), count);
+                    }
+                }
+                case 0b101 -> {
+                    if (row[1] != null) {
+                        series.put(row[1].toString(), count);
+                    }
+                }
+                case 0b110 -> date.put(row[2] != null ? row[2].toString() : "unscheduled", count);
+                case 0b111 -> {
+                    category.put("upcoming", ((Number) row[5]).longValue());
+                    category.put("withActions", ((Number) row[6]).longValue());
+                    category.put("withTranscript", ((Number) row[7]).longValue());
+                }
+                default -> {
+                }
+            }
+        }
+        category.put("processed", status.getOrDefault(MeetingStatus.PROCESSED.name(), 0L));
+
+        return new MeetingFacets(status, series, date, category);
+    }
+
+    /**
+     * Top metadata matches by rank. Per-field matching only runs on the limited rows of the inner query.
+     * The statement is cancelled after {@code timeout}, rounded up to whole seconds.
+     */
+    @Override
+    public List<MetadataSearchHit> rankMetadataMatches(UUID userId, String query, int limit, Duration timeout) {
+        String sql = "SELECT hit.meeting_id, hit.rank, " +
+                "to_tsvector('english', COALESCE(m.title, '')) @@ " + TS_QUERY + ", " +
+                "to_tsvector('english', COALESCE(m.description, '')) @@ " + TS_QUERY + ", " +
+                "to_tsvector('english', COALESCE(m.agenda_text, '')) @@ " + TS_QUERY + " " +
+                "FROM (SELECT ma.meeting_id, ts_rank_cd(m.search_vector, " + TS_QUERY + ") AS rank " +
+                "      FROM meeting_access ma JOIN meetings m ON m.id = ma.meeting_id " +
+                "      WHERE ma.user_id = :userId AND m.search_vector @@ " + TS_QUERY + " " +
+                "      ORDER BY rank DESC, ma.meeting_id DESC LIMIT :limit) hit " +
+                "JOIN meetings m ON m.id = hit.meeting_id " +
+                "ORDER BY hit.rank DESC, hit.meeting_id DESC";
+
+        Query nativeQuery = entityManager.createNativeQuery(sql);
+        nativeQuery.setParameter("userId", userId);
+        nativeQuery.setParameter("query", query);
+        nativeQuery.setParameter("limit", limit);
+        nativeQuery.setHint(HibernateHints.HINT_TIMEOUT, (int) Math.max(1, (timeout.toMillis() + 999) / 1000));
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = nativeQuery.getResultList();
+
+        List<MetadataSearchHit> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            List<String> fields = new ArrayList<>(3);
+            if (Boolean.TRUE.equals(row[2])) {
+                fields.add("title");
+            }
+            if (Boolean.TRUE.equals(row[3])) {
+                fields.add("description");
+            }
+            if (Boolean.TRUE.equals(row[4])) {
+                fields.add("agenda");
+            }
+            hits.add(new MetadataSearchHit(toUuid(row[0]), ((Number) row[1]).doubleValue(), fields));
+        }
+        return hits;
+    }
+
+    /**
+     * ts_headline fragments for the given meetings only; callers pass the ids of the page they return,
+     * since headline generation re-parses each document
+     */
+    @Override
+    public List<MeetingHeadline> findHeadlines(Collection<UUID> meetingIds, String query, int maxWords, int maxFragments) {
+        if (meetingIds.isEmpty() || query == null || query.isBlank()) {
+            return List.of();
+        }
+        String markers = "StartSel=\"" + Highlights.START + "\", StopSel=\"" + Highlights.STOP + "\"";
+        String titleOptions = markers + ", HighlightAll=true";
+        String bodyOptions = markers + ", MaxFragments=" + maxFragments + ", MaxWords=" + maxWords +
+                ", MinWords=" + Math.max(1, maxWords / 2) + ", FragmentDelimiter=\"" + Highlights.DELIMITER + "\"";
+
+        String sql = "SELECT m.id, " +
+                "ts_headline('english', COALESCE(m.title, ''), " + TS_QUERY + ", :titleOptions), " +
+                "ts_headline('english', CONCAT_WS(' ', m.description, m.agenda_text), " + TS_QUERY + ", :bodyOptions), " +
+                "to_tsvector('english', COALESCE(m.title, '')) @@ " + TS_QUERY + ", " +
+                "to_tsvector('english', COALESCE(m.description, '')) @@ " + TS_QUERY + ", " +
+                "to_tsvector('english', COALESCE(m.agenda_text, '')) @@ " + TS_QUERY + " " +
+                "FROM meetings m WHERE m.id IN (:ids)";
+
+        Query nativeQuery = entityManager.createNativeQuery(sql);
+        nativeQuery.setParameter("ids", meetingIds);
+        nativeQuery.setParameter("query", query);
+        nativeQuery.setParameter("titleOptions", titleOptions);
+        nativeQuery.setParameter("bodyOptions", bodyOptions);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = nativeQuery.getResultList();
+
+        List<MeetingHeadline> headlines = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            List<String> fields = new ArrayList<>(3);
+            if (Boolean.TRUE.equals(row[3])) {
+                fields.add("title");
+            }
+            if (Boolean.TRUE.equals(row[4])) {
+                fields.add("description");
+            }
+            if (Boolean.TRUE.equals(row[5])) {
+                fields.add("agenda");
+            }
+            // Without a body match ts_headline returns the opening words, which would highlight nothing
+            boolean bodyMatched = Boolean.TRUE.equals(row[4]) || Boolean.TRUE.equals(row[5]);
+            List<String> title = Highlights.fromHeadline((String) row[1]);
+            headlines.add(new MeetingHeadline(toUuid(row[0]),
+                    title.isEmpty() ? null : title.get(0),
+                    bodyMatched ? Highlights.fromHeadline((String) row[2]) : List.of(),
+                    fields));
+        }
+        return headlines;
+    }
+
+    @Override
+    public Map<LocalDateTime, Long> countCreatedByPeriod(UUID userId, String unit, LocalDateTime start, LocalDateTime end) {
+        if (!TRUNC_UNITS.contains(unit)) {
+            throw new IllegalArgumentException("Unsupported bucket unit: " + unit);
+        }
+        // Reads only meeting_access; (user_id, created_at, meeting_id) makes this an index-only range scan
+        Query query = entityManager.createNativeQuery(
+                "SELECT date_trunc(:unit, ma.created_at) AS bucket, COUNT(*) " +
+                        "FROM meeting_access ma " +
+                        "WHERE ma.user_id = :userId AND ma.created_at BETWEEN :start AND :end " +
+                        "GROUP BY bucket ORDER BY bucket");
+        query.setParameter("unit", unit);
+        query.setParameter("userId", userId);
+        query.setParameter("start", start);
+        query.setParameter("end", end);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        Map<LocalDateTime, Long> buckets = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            buckets.put(toLocalDateTime(row[0]), ((Number) row[1]).longValue());
+        }
+        return buckets;
+    }
+
+    /**
+     * One round trip: the user's status rollup rows, daily rollup rows from {@code since}, and an index range
+     * count of meeting_access for meetings scheduled after {@code now} (upcoming depends on the clock, so it is
+     * not rolled up)
+     */
+    @Override
+    public DashboardRollup findDashboardRollup(UUID userId, LocalDate since, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT 'S' AS kind, r.role, r.status, r.meeting_count FROM dashboard_status_rollup r " +
+                        "WHERE r.user_id = :userId " +
+                        "UNION ALL " +
+                        "SELECT 'D', NULL, CAST(d.day AS varchar), d.meeting_count FROM dashboard_daily_rollup d " +
+                        "WHERE d.user_id = :userId AND d.day >= :since " +
+                        "UNION ALL " +
+                        "SELECT 'U', NULL, NULL, COUNT(*) FROM meeting_access ma " +
+                        "WHERE ma.user_id = :userId AND ma.scheduled_time > :now");
+        query.setParameter("userId", userId);
+        query.setParameter("since", since);
+        query.setParameter("now", now);
 
         @SuppressWarnings("unchecked")
-        List<Meeting> content = queryObj.getResultList();
+        List<Object[]> rows = query.getResultList();
+
+        Map<MeetingAccess.Role, Map<String, Long>> statusCounts = new EnumMap<>(MeetingAccess.Role.class);
+        Map<LocalDate, Long> createdPerDay = new TreeMap<>();
+        long upcoming = 0;
+        for (Object[] row : rows) {
+            long count = ((Number) row[3]).longValue();
+            switch (row[0].toString()) {
+                case "S" -> statusCounts
+                        .computeIfAbsent(MeetingAccess.Role.valueOf((String) row[1]), role -> new HashMap<>())
+                        .merge((String) row[2], count, Long::sum);
+                case "D" -> {
+                    if (count != 0) {
+                        createdPerDay.put(LocalDate.parse((String) row[2]), count);
+                    }
+                }
+                default -> upcoming = count;
+            }
+        }
+        return new DashboardRollup(statusCounts, createdPerDay, upcoming);
+    }
+
+    /**
+     * The dashboard counters computed live in a single pass over the user's meeting_access rows, for when the
+     * rollup tables are disabled
+     */
+    @Override
+    public Map<String, Long> countDashboard(UUID userId, LocalDateTime weekStart, LocalDateTime weekEnd, LocalDateTime now) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT COUNT(*), " +
+                        "COUNT(*) FILTER (WHERE ma.status = 'PROCESSED'), " +
+                        "COUNT(*) FILTER (WHERE ma.status = 'DRAFT'), " +
+                        "COUNT(*) FILTER (WHERE ma.status = 'PROCESSING'), " +
+                        "COUNT(*) FILTER (WHERE ma.created_at >= :weekStart AND ma.created_at < :weekEnd), " +
+                        "COUNT(*) FILTER (WHERE ma.scheduled_time > :now) " +
+                        "FROM meeting_access ma WHERE ma.user_id = :userId");
+        query.setParameter("userId", userId);
+        query.setParameter("weekStart", weekStart);
+        query.setParameter("weekEnd", weekEnd);
+        query.setParameter("now", now);
+
+        Object[] row = (Object[]) query.getSingleResult();
+        Map<String, Long> counters = new LinkedHashMap<>();
+        String[] names = {"total", "processed", "draft", "processing", "createdThisWeek", "upcoming"};
+        for (int i = 0; i < names.length; i++) {
+            counters.put(names[i], ((Number) row[i]).longValue());
+        }
+        return counters;
+    }
 
-        // Get total count
-        Query countQuery = entityManager.createNativeQuery(countSql);
-        countQuery.setParameter("userId", userId);
-        countQuery.setParameter("query", query);
-        long total = ((Number) countQuery.getSingleResult()).longValue();
+    /**
+     * Result-card columns for many meetings in one query, counts included, in no particular order
+     */
+    @Override
+    public List<MeetingCard> findCards(Collection<UUID> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return List.of();
+        }
+        Query query = entityManager.createNativeQuery(
+                "SELECT m.id, m.title, m.description, m.status, m.scheduled_time, m.created_at, s.title, " +
+                        "(SELECT COUNT(*) FROM attendees a WHERE a.meeting_id = m.id), " +
+                        "(SELECT COUNT(*) FROM action_items ai WHERE ai.meeting_id = m.id) " +
+                        "FROM meetings m LEFT JOIN meeting_series s ON s.id = m.series_id " +
+                        "WHERE m.id IN (:ids)");
+        query.setParameter("ids", meetingIds);
 
-        return new PageImpl<>(content, pageable, total);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        List<MeetingCard> cards = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            cards.add(new MeetingCard(toUuid(row[0]), (String) row[1], (String) row[2],
+                    row[3] != null ? row[3].toString() : null,
+                    toLocalDateTime(row[4]), toLocalDateTime(row[5]), (String) row[6],
+                    ((Number) row[7]).intValue(), ((Number) row[8]).intValue()));
+        }
+        return cards;
     }
 
-    private String mapSortFieldToColumn(String sortField) {
+    private FilterSql buildFilter(UUID userId, MeetingListFilter filter, boolean joinMeetings) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder where = new StringBuilder("WHERE ma.user_id = :userId");
+        params.put("userId", userId);
+
+        // meeting_access alone answers most lists; only join meetings when a column from it is needed
+        boolean needsMeetings = joinMeetings || filter.hasTextQuery() || filter.seriesId() != null
+                || filter.withTranscript();
+
+        if (filter.hasTextQuery()) {
+            where.append(" AND m.search_vector @@ ").append(TS_QUERY);
+            params.put("query", filter.textQuery().trim());
+        }
+        if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+            where.append(" AND ma.status IN (:statuses)");
+            params.put("statuses", filter.statuses().stream().map(MeetingStatus::name).toList());
+        }
+        if (filter.seriesId() != null) {
+            where.append(" AND m.series_id = :seriesId");
+            params.put("seriesId", filter.seriesId());
+        }
+        if (filter.scheduledFrom() != null) {
+            where.append(" AND ma.scheduled_time >= :scheduledFrom");
+            params.put("scheduledFrom", filter.scheduledFrom());
+        }
+        if (filter.scheduledTo() != null) {
+            where.append(" AND ma.scheduled_time <= :scheduledTo");
+            params.put("scheduledTo", filter.scheduledTo());
+        }
+        if (filter.createdFrom() != null) {
+            where.append(" AND ma.created_at >= :createdFrom");
+            params.put("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            where.append(" AND ma.created_at <= :createdTo");
+            params.put("createdTo", filter.createdTo());
+        }
+        if (filter.withActionItems()) {
+            where.append(" AND EXISTS (SELECT 1 FROM action_items ai WHERE ai.meeting_id = ma.meeting_id)");
+        }
+        if (filter.withTranscript()) {
+            where.append(" AND m.has_transcript");
+        }
+
+        String from = needsMeetings
+                ? "FROM meeting_access ma JOIN meetings m ON m.id = ma.meeting_id"
+                : "FROM meeting_access ma";
+        return new FilterSql(from, where.toString(), params);
+    }
+
+    private String sortExpression(String sortField) {
         return switch (sortField) {
-            case "createdAt" -> "m.created_at";
+            case "relevance" -> "ts_rank_cd(m.search_vector, " + TS_QUERY + ")";
             case "title" -> "m.title";
-            case "scheduledTime" -> "m.scheduled_time";
-            default -> "m.created_at"; // fallback
+            // Unscheduled meetings sort as the oldest so the key is never NULL
+            case "scheduledTime" -> "COALESCE(ma.scheduled_time, TIMESTAMP '1970-01-01 00:00:00')";
+            case "status" -> "ma.status";
+            default -> "ma.created_at";
+        };
+    }
+
+    private String sortKeyParameter(String sortField) {
+        // ts_rank_cd returns real; compare at that precision so the cursor row is excluded exactly
+        return "relevance".equals(sortField) ? "CAST(:sortKey AS real)" : ":sortKey";
+    }
+
+    private Object parseSortKey(String sortField, String sortKey) {
+        return switch (sortField) {
+            case "relevance" -> Float.parseFloat(sortKey);
+            case "title", "status" -> sortKey;
+            default -> LocalDateTime.parse(sortKey);
         };
     }
-}
\ No newline at end of file
+
+    private String formatSortKey(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Number number) {
+            return Float.toString(number.floatValue());
+        }
+        return String.valueOf(value);
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private UUID toUuid(Object value) {
+        return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
+    }
+
+    private List<Meeting> loadInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Meeting> meetings = entityManager.createQuery(
+                        "SELECT m FROM Meeting m LEFT JOIN FETCH m.series WHERE m.id IN :ids", Meeting.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+        Map<UUID, Meeting> byId = meetings.stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        List<Meeting> ordered = new ArrayList<>(ids.size());
+        ids.stream().map(byId::get).filter(Objects::nonNull).forEach(ordered::add);
+        return ordered;
+    }
+
+    private record FilterSql(String from, String where, Map<String, Object> params) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.meetingminutes.backend.repository;
+
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.util.MeetingCursor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated meeting list. {@code nextCursor} is null on the last page.
+ */
+public record MeetingSlice(List<Meeting> content, MeetingCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.meetingminutes.backend.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A meeting whose title, description or agenda matched a full-text query, with the fields that matched
+ */
+public record MetadataSearchHit(UUID meetingId, double rank, List<String> matchedFields) {
+}
@@ -22,5 +22,10 @@ public interface GeneratedDocumentRepo extends MongoRepository<GeneratedDocument
     @Query(value = "{ 'meeting_id': ?0 }", delete = true)
     void deleteByMeetingId(UUID meetingId);
 
+    Optional<GeneratedDocument> findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(UUID meetingId,
+            GeneratedDocument.DocumentType documentType);
+
+    Optional<GeneratedDocument> findFirstByMeetingIdOrderByGeneratedAtDesc(UUID meetingId);
+
     boolean existsByMeetingIdAndDocumentType(UUID meetingId, GeneratedDocument.DocumentType documentType);
 }
\ No newline at end of file
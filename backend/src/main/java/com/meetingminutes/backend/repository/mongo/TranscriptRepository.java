@@ -6,6 +6,7 @@ import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -32,6 +33,14 @@ public interface TranscriptRepository extends MongoRepository<Transcript, String
     @Query(value = "{ 'meeting_id': ?0 }", fields = "{ 'word_timestamps': 1 }")
     Optional<Transcript> findWordTimestampByMeetingId(UUID meetingId);
 
+    // Only the text, for exports that copy it out without the word timestamps
+    @Query(value = "{ 'meeting_id': ?0 }", fields = "{ 'raw_text': 1 }")
+    Optional<Transcript> findRawTextByMeetingId(UUID meetingId);
+
+    // Only the update time, for conditional GETs; leaves the body and word timestamps on the server
+    @Query(value = "{ 'meeting_id': ?0 }", fields = "{ 'updated_at': 1 }")
+    Optional<Transcript> findUpdatedAtByMeetingId(UUID meetingId);
+
     @Query(value = "{}", count = true)
     long countAllTranscripts();
 
@@ -40,4 +49,8 @@ public interface TranscriptRepository extends MongoRepository<Transcript, String
 
     @Query("{ 'meeting_id': { $in: ?0 } }")
     List<Transcript> findByMeetingIdIn(List<UUID> meetingIds);
+
+    // Existence check for many meetings at once; projects away the transcript body and word timestamps
+    @Query(value = "{ 'meeting_id': { $in: ?0 } }", fields = "{ 'meeting_id': 1 }")
+    List<Transcript> findMeetingIdsByMeetingIdIn(Collection<UUID> meetingIds);
 }
\ No newline at end of file
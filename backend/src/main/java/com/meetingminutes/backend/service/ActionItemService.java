@@ -4,10 +4,13 @@ import com.meetingminutes.backend.entity.ActionItem;
 import com.meetingminutes.backend.entity.Meeting;
 import com.meetingminutes.backend.entity.TaskStatus;
 import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.event.ActionItemChangedEvent;
 import com.meetingminutes.backend.repository.ActionItemRepo;
 import com.meetingminutes.backend.repository.MeetingRepository;
 import com.meetingminutes.backend.repository.UserRepo;
+import com.meetingminutes.backend.util.ETags;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +32,7 @@ public class ActionItemService {
     private final UserRepo userRepo;
     private final EmailService emailService;
     private final MeetingAccessService meetingAccessService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<ActionItem> getMeetingActionItems(UUID meetingId, User user) {
         Meeting meeting = meetingRepository.findById(meetingId)
@@ -47,6 +51,14 @@ public class ActionItemService {
         return actionItemRepo.findByAssignedToUserAndStatus(user.getId(), status);
     }
 
+    /**
+     * Weak ETag for {@link #getUserTasks} or {@link #getUserTasksByStatus}, from a count and latest update time
+     */
+    public String getUserTasksETag(User user, TaskStatus status) {
+        String statusName = status != null ? status.name() : null;
+        return ETags.weak(user.getId(), statusName, actionItemRepo.findAssignedStamp(user.getId(), statusName));
+    }
+
     public ActionItem createActionItem(UUID meetingId, String description, String assignedToEmail, LocalDateTime deadline, User creator) {
         Meeting meeting = meetingRepository.findByIdAndCreatedBy(meetingId, creator)
                 .orElseThrow(() -> new RuntimeException("Meeting not found or access denied"));
@@ -67,6 +79,7 @@ public class ActionItemService {
         }
 
         ActionItem savedItem = actionItemRepo.save(actionItem);
+        publishChanged(savedItem);
 
         if(actionItem.getAssignedToUser() != null) {
             emailService.sendTaskAssignmentNotification(actionItem);
@@ -88,7 +101,9 @@ public class ActionItemService {
             task.setCompletedAt(LocalDateTime.now());
         }
 
-        return actionItemRepo.save(task);
+        ActionItem savedTask = actionItemRepo.save(task);
+        publishChanged(savedTask);
+        return savedTask;
     }
 
     public ActionItem acknowledgeTask(UUID taskId, User user) {
@@ -102,7 +117,9 @@ public class ActionItemService {
         task.setAcknowledged(true);
         task.setAcknowledgedAt(LocalDateTime.now());
 
-        return actionItemRepo.save(task);
+        ActionItem savedTask = actionItemRepo.save(task);
+        publishChanged(savedTask);
+        return savedTask;
 
     }
 
@@ -132,7 +149,9 @@ public class ActionItemService {
             task.setNotes(notes);
         }
 
-        return actionItemRepo.save(task);
+        ActionItem savedTask = actionItemRepo.save(task);
+        publishChanged(savedTask);
+        return savedTask;
     }
 
     public void deleteTask(UUID taskId, User user) {
@@ -145,6 +164,7 @@ public class ActionItemService {
         }
 
         actionItemRepo.delete(task);
+        publishChanged(task);
     }
 
     public ActionItem reassignTask(UUID taskId, String assigneeEmail, User user) {
@@ -157,6 +177,7 @@ public class ActionItemService {
             throw new RuntimeException("Only meeting organizer can reassign tasks");
         }
 
+        UUID previousAssigneeId = assigneeId(task);
         Optional<User> assigneeUser = userRepo.findByEmail(assigneeEmail);
         if (assigneeUser.isPresent()) {
             task.setAssignedToUser(assigneeUser.get());
@@ -167,6 +188,8 @@ public class ActionItemService {
         }
 
         ActionItem updatedTask = actionItemRepo.save(task);
+        publishChanged(updatedTask);
+        publishIfReassigned(updatedTask, previousAssigneeId);
 
         if (updatedTask.getAssignedToUser() != null) {
             emailService.sendTaskAssignmentNotification(updatedTask);
@@ -215,6 +238,7 @@ public class ActionItemService {
         }
 
         ActionItem savedItem = actionItemRepo.save(actionItem);
+        publishChanged(savedItem);
         return ActionItemResponse.from(savedItem);
     }
 
@@ -227,6 +251,7 @@ public class ActionItemService {
             throw new RuntimeException("Only meeting creator can update task details");
         }
 
+        UUID previousAssigneeId = assigneeId(task);
         if (request.getDescription() != null) {
             task.setDescription(request.getDescription());
         }
@@ -256,6 +281,8 @@ public class ActionItemService {
         }
 
         ActionItem savedTask = actionItemRepo.save(task);
+        publishChanged(savedTask);
+        publishIfReassigned(savedTask, previousAssigneeId);
         return ActionItemResponse.from(savedTask);
     }
 
@@ -269,6 +296,7 @@ public class ActionItemService {
         }
 
         actionItemRepo.delete(task);
+        publishChanged(task);
     }
 
     public int publishActionItems(UUID meetingId, User user) {
@@ -287,6 +315,7 @@ public class ActionItemService {
                 task.setStatus(TaskStatus.PENDING);
                 task.setPublishedAt(LocalDateTime.now());
                 actionItemRepo.save(task);
+                publishChanged(task);
                 publishedCount++;
 
                 if (task.getAssignedToUser() != null || (task.getAssignedToEmail() != null && !task.getAssignedToEmail().isBlank())) {
@@ -297,6 +326,23 @@ public class ActionItemService {
         return publishedCount;
     }
 
+    private void publishChanged(ActionItem task) {
+        eventPublisher.publishEvent(new ActionItemChangedEvent(task.getMeeting().getId(), assigneeId(task)));
+    }
+
+    /**
+     * The previous assignee's task lists still show the item until told otherwise
+     */
+    private void publishIfReassigned(ActionItem task, UUID previousAssigneeId) {
+        if (previousAssigneeId != null && !previousAssigneeId.equals(assigneeId(task))) {
+            eventPublisher.publishEvent(new ActionItemChangedEvent(task.getMeeting().getId(), previousAssigneeId));
+        }
+    }
+
+    private static UUID assigneeId(ActionItem task) {
+        return task.getAssignedToUser() != null ? task.getAssignedToUser().getId() : null;
+    }
+
     private boolean canUserUpdateTask(ActionItem task, User user) {
         // User can update if they are assigned to the task or are organizer
 
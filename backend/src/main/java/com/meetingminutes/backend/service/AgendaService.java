@@ -4,10 +4,12 @@ import com.meetingminutes.backend.dto.CreateAgendaItemRequest;
 import com.meetingminutes.backend.entity.AgendaItem;
 import com.meetingminutes.backend.entity.Meeting;
 import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.event.MeetingUpdatedEvent;
 import com.meetingminutes.backend.repository.AgendaItemRepo;
 import com.meetingminutes.backend.repository.AttendeeRepo;
 import com.meetingminutes.backend.repository.MeetingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class AgendaService {
     private final AgendaItemRepo agendaItemRepo;
     private final MeetingRepository meetingRepository;
     private final AttendeeRepo attendeeRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AgendaItem createAgendaItem(CreateAgendaItemRequest request, UUID meetingId, User user) {
         Meeting meeting = meetingRepository.findById(meetingId)
@@ -38,7 +41,9 @@ public class AgendaService {
         agendaItem.setEstimatedDuration(request.getEstimatedDuration());
         agendaItem.setOrderIndex(getNextOrderIndex(meetingId));
 
-        return agendaItemRepo.save(agendaItem);
+        AgendaItem saved = agendaItemRepo.save(agendaItem);
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(meetingId));
+        return saved;
     }
 
     public List<AgendaItem> createAgendaItems(Meeting meeting, List<CreateAgendaItemRequest> agendaItemRequests) {
@@ -70,7 +75,9 @@ public class AgendaService {
         agendaItem.setDescription(request.getDescription());
         agendaItem.setEstimatedDuration(request.getEstimatedDuration());
 
-        return agendaItemRepo.save(agendaItem);
+        AgendaItem saved = agendaItemRepo.save(agendaItem);
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(meeting.getId()));
+        return saved;
     }
 
     public void deleteAgendaItem(UUID agendaItemId, User user) {
@@ -86,6 +93,7 @@ public class AgendaService {
 
         // Reorder remaining agenda items
         reorderAgendaItems(meeting.getId());
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(meeting.getId()));
     }
 
     private void reorderAgendaItems(UUID meetingId) {
@@ -134,7 +142,9 @@ public class AgendaService {
             agendaItem.setCompleted(completed);
         }
 
-        return agendaItemRepo.save(agendaItem);
+        AgendaItem saved = agendaItemRepo.save(agendaItem);
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(meeting.getId()));
+        return saved;
     }
 
     public Long getCompletedAgendaItemsCount(UUID meetingId, User user) {
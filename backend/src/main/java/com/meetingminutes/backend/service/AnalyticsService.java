@@ -1,6 +1,7 @@
 package com.meetingminutes.backend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -18,10 +20,22 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AnalyticsService {
 
+    /** Organizer id under which the materialized views keep their institution-wide rows */
+    public static final UUID INSTITUTION = new UUID(0L, 0L);
+
+    public static final List<String> MATERIALIZED_VIEWS =
+            List.of("mv_top_participants", "mv_monthly_meeting_trend", "mv_task_completion");
+
     private final JdbcTemplate jdbcTemplate;
     private final MongoTemplate mongoTemplate;
 
+    @Value("${app.dashboard.rollups.enabled:true}")
+    private boolean rollupsEnabled;
+
     public Map<String, Object> getMeetingStatsByUser(UUID userId) {
+        if (rollupsEnabled) {
+            return getMeetingStatsFromRollup(userId);
+        }
         String sql = """
                     SELECT
                         COUNT(*) as total_meetings,
@@ -35,6 +49,28 @@ public class AnalyticsService {
         return jdbcTemplate.queryForMap(sql, userId);
     }
 
+    /**
+     * Same counters as {@link #getMeetingStatsByUser}, from the user's ORGANIZER rows in dashboard_status_rollup
+     */
+    private Map<String, Object> getMeetingStatsFromRollup(UUID userId) {
+        Map<String, Long> byStatus = new HashMap<>();
+        jdbcTemplate.query("""
+                    SELECT status, meeting_count
+                    FROM dashboard_status_rollup
+                    WHERE user_id = ? AND role = 'ORGANIZER'
+                """, row -> {
+            byStatus.put(row.getString("status"), row.getLong("meeting_count"));
+        }, userId);
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("total_meetings", byStatus.values().stream().mapToLong(Long::longValue).sum());
+        stats.put("processed_meetings", byStatus.getOrDefault("PROCESSED", 0L));
+        stats.put("draft_meetings", byStatus.getOrDefault("DRAFT", 0L));
+        stats.put("processing_meetings", byStatus.getOrDefault("PROCESSING", 0L));
+        stats.put("failed_meetings", byStatus.getOrDefault("FAILED", 0L));
+        return stats;
+    }
+
     public Map<String, Object> getParticipantStats(UUID userId) {
         String sql = """
                     SELECT
@@ -61,16 +97,19 @@ public class AnalyticsService {
         return jdbcTemplate.queryForMap(sql, userId);
     }
 
+    /**
+     * Meetings per month for the organizer (or {@link #INSTITUTION}), newest first, read from
+     * mv_monthly_meeting_trend; whole months are counted, including the one {@code monthsBack} ago
+     */
     public List<Map<String, Object>> getMonthlyMeetingTrend(UUID userId, int monthsBack) {
         String sql = """
                     SELECT
-                        TO_CHAR(created_at, 'YYYY-MM') as month,
-                        COUNT(*) as meeting_count,
-                        COUNT(CASE WHEN status = 'PROCESSED' THEN 1 END) as processed_count
-                    FROM meetings
-                    WHERE created_by = ?
-                      AND created_at >= ?
-                    GROUP BY TO_CHAR(created_at, 'YYYY-MM')
+                        TO_CHAR(month, 'YYYY-MM') as month,
+                        meeting_count,
+                        processed_count
+                    FROM mv_monthly_meeting_trend
+                    WHERE organizer_id = ?
+                      AND month >= CAST(date_trunc('month', CAST(? AS timestamp)) AS date)
                     ORDER BY month DESC
                     LIMIT ?
                 """;
@@ -78,39 +117,136 @@ public class AnalyticsService {
         return jdbcTemplate.queryForList(sql, userId, startDate, monthsBack);
     }
 
+    /**
+     * Action item completion per month of the meeting, for the organizer (or {@link #INSTITUTION}), newest
+     * first, read from mv_task_completion
+     */
+    public List<Map<String, Object>> getTaskCompletionTrend(UUID userId, int monthsBack) {
+        String sql = """
+                    SELECT
+                        TO_CHAR(month, 'YYYY-MM') as month,
+                        total_tasks,
+                        completed_tasks,
+                        overdue_tasks,
+                        ROUND(100.0 * completed_tasks / NULLIF(total_tasks, 0), 2) as completion_rate
+                    FROM mv_task_completion
+                    WHERE organizer_id = ?
+                      AND month >= CAST(date_trunc('month', CAST(? AS timestamp)) AS date)
+                    ORDER BY month DESC
+                """;
+        LocalDateTime startDate = LocalDateTime.now().minusMonths(monthsBack);
+        return jdbcTemplate.queryForList(sql, userId, startDate);
+    }
+
+    /**
+     * When each analytics view was last refreshed; reads from the views are at most this old
+     */
+    public Map<String, LocalDateTime> getViewFreshness() {
+        Map<String, LocalDateTime> freshness = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT view_name, refreshed_at FROM analytics_view_refresh ORDER BY view_name", row -> {
+            freshness.put(row.getString("view_name"), row.getTimestamp("refreshed_at").toLocalDateTime());
+        });
+        return freshness;
+    }
+
     public Map<String, Object> getUserDashboardStats(UUID userId) {
+        Map<String, Object> counters = getDashboardCounters(userId);
+
         Map<String, Object> dashboard = new HashMap<>();
-        dashboard.put("meetingStats", getMeetingStatsByUser(userId));
-        dashboard.put("taskStats", getTaskStatsByUser(userId));
-        dashboard.put("participantStats", getParticipantStats(userId));
+        dashboard.put("meetingStats", pick(counters, "total_meetings", "processed_meetings", "draft_meetings",
+                "processing_meetings", "failed_meetings"));
+        dashboard.put("taskStats", pick(counters, "total_tasks", "completed_tasks", "pending_tasks", "overdue_tasks"));
+        dashboard.put("participantStats", pick(counters, "unique_participants", "total_participations"));
         dashboard.put("recentTrend", getMonthlyMeetingTrend(userId, 6));
+        dashboard.put("upcomingMeetings", counters.get("upcoming_meetings"));
 
-        String upcomingMeetingsSql = """
-                    SELECT COUNT(*) FROM meetings
-                    WHERE created_by = ? AND scheduled_time > ? AND scheduled_time < ?
+        return dashboard;
+    }
+
+    /**
+     * Every dashboard counter in one statement. The user's meetings are read once from meeting_access (a CTE
+     * referenced more than once is materialized) and each counter is a {@code COUNT(*) FILTER} over that set
+     * or its attendees and action items, instead of a separate scan per stats method. With rollups enabled the
+     * status counts come from the user's ORGANIZER rows in dashboard_status_rollup instead, in the same statement.
+     */
+    public Map<String, Object> getDashboardCounters(UUID userId) {
+        String meetingCounts = rollupsEnabled ? """
+                    meeting_counts AS (
+                        SELECT
+                            CAST(COALESCE(SUM(meeting_count), 0) AS bigint) as total_meetings,
+                            CAST(COALESCE(SUM(meeting_count) FILTER (WHERE status = 'PROCESSED'), 0) AS bigint) as processed_meetings,
+                            CAST(COALESCE(SUM(meeting_count) FILTER (WHERE status = 'DRAFT'), 0) AS bigint) as draft_meetings,
+                            CAST(COALESCE(SUM(meeting_count) FILTER (WHERE status = 'PROCESSING'), 0) AS bigint) as processing_meetings,
+                            CAST(COALESCE(SUM(meeting_count) FILTER (WHERE status = 'FAILED'), 0) AS bigint) as failed_meetings
+                        FROM dashboard_status_rollup
+                        WHERE user_id = ? AND role = 'ORGANIZER'
+                    ),
+                """ : """
+                    meeting_counts AS (
+                        SELECT
+                            COUNT(*) as total_meetings,
+                            COUNT(*) FILTER (WHERE status = 'PROCESSED') as processed_meetings,
+                            COUNT(*) FILTER (WHERE status = 'DRAFT') as draft_meetings,
+                            COUNT(*) FILTER (WHERE status = 'PROCESSING') as processing_meetings,
+                            COUNT(*) FILTER (WHERE status = 'FAILED') as failed_meetings
+                        FROM owned
+                    ),
                 """;
-        Long upcomingMeetings = jdbcTemplate.queryForObject(
-                upcomingMeetingsSql,
-                Long.class,
-                userId,
-                LocalDateTime.now(),
-                LocalDateTime.now().plusDays(7));
-        dashboard.put("upcomingMeetings", upcomingMeetings != null ? upcomingMeetings : 0);
+        String sql = """
+                    WITH owned AS (
+                        SELECT meeting_id, status, scheduled_time
+                        FROM meeting_access
+                        WHERE user_id = ? AND role = 'ORGANIZER'
+                    ),
+                """ + meetingCounts + """
+                    upcoming_counts AS (
+                        SELECT COUNT(*) FILTER (WHERE scheduled_time > ? AND scheduled_time < ?) as upcoming_meetings
+                        FROM owned
+                    ),
+                    task_counts AS (
+                        SELECT
+                            COUNT(*) as total_tasks,
+                            COUNT(*) FILTER (WHERE ai.status = 'COMPLETED') as completed_tasks,
+                            COUNT(*) FILTER (WHERE ai.status = 'PENDING') as pending_tasks,
+                            COUNT(*) FILTER (WHERE ai.status = 'OVERDUE') as overdue_tasks
+                        FROM owned o
+                        JOIN action_items ai ON ai.meeting_id = o.meeting_id
+                    ),
+                    participant_counts AS (
+                        SELECT
+                            COUNT(DISTINCT a.user_id) as unique_participants,
+                            COUNT(a.id) as total_participations
+                        FROM owned o
+                        JOIN attendees a ON a.meeting_id = o.meeting_id
+                    )
+                    SELECT * FROM meeting_counts, upcoming_counts, task_counts, participant_counts
+                """;
+        LocalDateTime now = LocalDateTime.now();
+        return rollupsEnabled
+                ? jdbcTemplate.queryForMap(sql, userId, userId, now, now.plusDays(7))
+                : jdbcTemplate.queryForMap(sql, userId, now, now.plusDays(7));
+    }
 
-        return dashboard;
+    private static Map<String, Object> pick(Map<String, Object> source, String... keys) {
+        Map<String, Object> picked = new HashMap<>();
+        for (String key : keys) {
+            picked.put(key, source.get(key));
+        }
+        return picked;
     }
 
+    /**
+     * Most frequent attendees of the organizer's meetings (or across {@link #INSTITUTION}), read from
+     * mv_top_participants
+     */
     public List<Map<String, Object>> getTopParticipants(UUID userId, int limit) {
         String sql = """
                     SELECT
-                        u.name,
-                        u.email,
-                        COUNT(a.id) as meeting_count
-                    FROM attendees a
-                    JOIN meetings m ON a.meeting_id = m.id
-                    JOIN users u ON a.user_id = u.id
-                    WHERE m.created_by = ?
-                    GROUP BY u.id, u.name, u.email
+                        name,
+                        email,
+                        meeting_count
+                    FROM mv_top_participants
+                    WHERE organizer_id = ?
                     ORDER BY meeting_count DESC
                     LIMIT ?
                 """;
@@ -0,0 +1,88 @@
+package com.meetingminutes.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Refreshes the analytics materialized views with {@code REFRESH MATERIALIZED VIEW CONCURRENTLY}, so readers
+ * keep seeing the previous contents while the joins run, and records each refresh in analytics_view_refresh.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsViewRefresher {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${app.analytics.views.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.analytics.views.refresh-interval-ms:900000}")
+    private long refreshIntervalMs;
+
+    @Scheduled(fixedDelayString = "${app.analytics.views.refresh-interval-ms:900000}",
+            initialDelayString = "${app.analytics.views.initial-delay-ms:60000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        refreshAll(false);
+    }
+
+    /**
+     * Refreshes every view; unless forced, views another node refreshed within half an interval are skipped
+     */
+    public void refreshAll(boolean force) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Analytics view refresh already running, skipping");
+            return;
+        }
+        try {
+            for (String view : AnalyticsService.MATERIALIZED_VIEWS) {
+                if (force || !refreshedRecently(view)) {
+                    refresh(view);
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean refreshedRecently(String view) {
+        Boolean recent = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM analytics_view_refresh " +
+                        "WHERE view_name = ? AND refreshed_at > now() - ? * interval '1 millisecond')",
+                Boolean.class, view, refreshIntervalMs / 2);
+        return Boolean.TRUE.equals(recent);
+    }
+
+    private void refresh(String view) {
+        long start = System.currentTimeMillis();
+        try {
+            // Read before the refresh takes its snapshot, so refreshed_at never claims changes it did not see
+            LocalDateTime startedAt = jdbcTemplate.queryForObject(
+                    "SELECT CAST(clock_timestamp() AS timestamp)", LocalDateTime.class);
+            // Names come from AnalyticsService.MATERIALIZED_VIEWS, never from input
+            jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view);
+            long durationMs = System.currentTimeMillis() - start;
+            jdbcTemplate.update("""
+                    INSERT INTO analytics_view_refresh (view_name, refreshed_at, duration_ms)
+                    VALUES (?, ?, ?)
+                    ON CONFLICT (view_name) DO UPDATE
+                    SET refreshed_at = EXCLUDED.refreshed_at, duration_ms = EXCLUDED.duration_ms
+                    """, view, startedAt, durationMs);
+            log.info("Refreshed {} in {} ms", view, durationMs);
+        } catch (Exception e) {
+            log.warn("Failed to refresh {}: {}", view, e.getMessage());
+        }
+    }
+}
@@ -7,8 +7,10 @@ import com.meetingminutes.backend.exception.EntityNotFoundException;
 import com.meetingminutes.backend.repository.AttendeeRepo;
 import com.meetingminutes.backend.repository.MeetingRepository;
 import com.meetingminutes.backend.repository.UserRepo;
+import com.meetingminutes.backend.event.AttendeeChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +34,7 @@ public class AttendeeService {
     private final MeetingRepository meetingRepository;
     private final UserRepo userRepo;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Attendee> inviteParticipants(UUID meetingId, InviteParticipantRequest request, User inviter) {
         Meeting meeting = meetingRepository.findByIdAndCreatedBy(meetingId, inviter)
@@ -59,6 +62,8 @@ public class AttendeeService {
 
             Attendee savedAttendee = attendeeRepo.save(attendee);
             invitedAttendees.add(savedAttendee);
+            UUID invitedUserId = savedAttendee.getUser() != null ? savedAttendee.getUser().getId() : null;
+            eventPublisher.publishEvent(new AttendeeChangedEvent(meetingId, invitedUserId, invitedUserId != null));
 
             emailService.sendMeetingInvitation(meeting, email, attendee.getInviteToken(), request.getMessage());
         }
@@ -136,6 +141,11 @@ public class AttendeeService {
             attendeeRepo.save(attendee);
         }
 
+        attendees.stream()
+                .map(attendee -> attendee.getMeeting().getId())
+                .distinct()
+                .forEach(meetingId -> eventPublisher.publishEvent(new AttendeeChangedEvent(meetingId, user.getId(), true)));
+
         log.info("Successfully linked {} attendee records for user: {}", attendees.size(), user.getEmail());
     }
 
@@ -154,7 +164,10 @@ public class AttendeeService {
             attendee.setJoinedAt(LocalDateTime.now());
         }
 
-        return attendeeRepo.save(attendee);
+        Attendee saved = attendeeRepo.save(attendee);
+        eventPublisher.publishEvent(new AttendeeChangedEvent(attendee.getMeeting().getId(),
+                attendee.getUser() != null ? attendee.getUser().getId() : null, false));
+        return saved;
     }
 
     public PaginatedAttendeeResponse getMeetingAttendeesWithPagination(
@@ -207,7 +220,10 @@ public class AttendeeService {
         attendee.setStatus(AttendanceStatus.CONFIRMED);
         attendee.setRespondedAt(LocalDateTime.now());
 
-        return attendeeRepo.save(attendee);
+        Attendee saved = attendeeRepo.save(attendee);
+        eventPublisher.publishEvent(new AttendeeChangedEvent(attendee.getMeeting().getId(),
+                user != null ? user.getId() : null, user != null));
+        return saved;
     }
 
     public List<Attendee> getMeetingAttendees(UUID meetingId, User user) {
@@ -237,6 +253,8 @@ public class AttendeeService {
         }
 
         attendeeRepo.delete(attendee);
+        eventPublisher.publishEvent(new AttendeeChangedEvent(meeting.getId(),
+                attendee.getUser() != null ? attendee.getUser().getId() : null, true));
     }
 
     public List<Attendee> getUserAttendances(User user) {
@@ -0,0 +1,117 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.cache.CacheDependencyIndex;
+import com.meetingminutes.backend.event.ActionItemChangedEvent;
+import com.meetingminutes.backend.event.AttendeeChangedEvent;
+import com.meetingminutes.backend.event.MeetingUpdatedEvent;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evicts exactly the cache entries derived from a changed meeting: its own entry plus the user-scoped entries
+ * (dashboards, lists, searches, analytics) of everyone who can see it. Runs after commit so a reload cannot
+ * pick up the old rows again.
+ * <p>
+ * A reader that loaded the old rows just before the commit can still store them after the eviction, so the same
+ * entries (and any registered again since) are evicted a second time after a short delay. That bounds such a
+ * stale entry to the delay instead of its TTL.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationService {
+
+    private final CacheDependencyIndex dependencyIndex;
+    private final CacheManager cacheManager;
+    private final MeetingRepository meetingRepository;
+    private final long secondEvictDelayMs;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    public CacheInvalidationService(CacheDependencyIndex dependencyIndex,
+                                    CacheManager cacheManager,
+                                    MeetingRepository meetingRepository,
+                                    @Value("${app.cache.second-evict-delay-ms:5000}") long secondEvictDelayMs) {
+        this.dependencyIndex = dependencyIndex;
+        this.cacheManager = cacheManager;
+        this.meetingRepository = meetingRepository;
+        this.secondEvictDelayMs = secondEvictDelayMs;
+
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(1);
+        this.scheduler.setThreadNamePrefix("cache-evict-");
+        this.scheduler.initialize();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMeetingUpdated(MeetingUpdatedEvent event) {
+        invalidate(event.meetingId(), event.affectedUserIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onActionItemChanged(ActionItemChangedEvent event) {
+        invalidate(event.meetingId(), event.assigneeId() != null ? List.of(event.assigneeId()) : List.of());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttendeeChanged(AttendeeChangedEvent event) {
+        // A removed attendee is no longer in meeting_access but still has the meeting in their cached lists
+        invalidate(event.meetingId(), event.userId() != null ? List.of(event.userId()) : List.of());
+    }
+
+    private void invalidate(UUID meetingId, Collection<UUID> extraUserIds) {
+        try {
+            Set<UUID> userIds = new LinkedHashSet<>(meetingRepository.findAccessUserIds(meetingId));
+            userIds.addAll(extraUserIds);
+
+            List<CacheDependencyIndex.CacheEntry> entries = dependencyIndex.drain(meetingId, userIds);
+            evict(entries);
+            log.debug("Evicted {} cache entries for meeting {} ({} users)", entries.size(), meetingId, userIds.size());
+
+            if (secondEvictDelayMs > 0) {
+                scheduler.schedule(() -> evictAgain(meetingId, userIds, entries),
+                        Instant.now().plusMillis(secondEvictDelayMs));
+            }
+        } catch (Exception e) {
+            // Entries then live until their TTL; nothing else depends on this succeeding
+            log.warn("Failed to invalidate cache entries for meeting: {}", meetingId, e);
+        }
+    }
+
+    private void evictAgain(UUID meetingId, Set<UUID> userIds, List<CacheDependencyIndex.CacheEntry> evicted) {
+        try {
+            Set<CacheDependencyIndex.CacheEntry> entries = new LinkedHashSet<>(evicted);
+            entries.addAll(dependencyIndex.drain(meetingId, userIds));
+            evict(entries);
+        } catch (Exception e) {
+            log.warn("Failed to evict cache entries for meeting {} again: {}", meetingId, e.getMessage());
+        }
+    }
+
+    private void evict(Collection<CacheDependencyIndex.CacheEntry> entries) {
+        for (CacheDependencyIndex.CacheEntry entry : entries) {
+            Cache cache = cacheManager.getCache(entry.cacheName());
+            if (cache != null) {
+                cache.evict(entry.key());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
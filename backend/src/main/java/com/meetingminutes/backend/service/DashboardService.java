@@ -5,9 +5,11 @@ import com.meetingminutes.backend.dto.UserResponse;
 import com.meetingminutes.backend.entity.Meeting;
 import com.meetingminutes.backend.entity.MeetingStatus;
 import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.DashboardRollup;
 import com.meetingminutes.backend.repository.MeetingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -16,9 +18,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,24 +36,65 @@ public class DashboardService {
 
     private final MeetingRepository meetingRepository;
 
-    @Cacheable(value = "analytics", key = "#user.email + '_stats'")
+    @Value("${app.dashboard.rollups.enabled:true}")
+    private boolean rollupsEnabled;
+
+    @Cacheable(value = "analytics", key = "T(com.meetingminutes.backend.cache.CacheKeys).forUser(#user.id, 'stats')", sync = true)
     public Map<String, Object> getDashboardStats(User user) {
         log.info("Computing dashboard stats for user: {}", user.getEmail());
-        Map<String, Object> stats = new HashMap<>();
+        Map<String, Object> stats = rollupsEnabled ? statsFromRollup(user) : statsFromQueries(user);
+        stats.put("userRole", user.getRole().name());
+        stats.put("userEmail", user.getEmail());
+
+        return stats;
+    }
+
+    /**
+     * Reads the trigger-maintained rollup tables in one round trip instead of counting meetings
+     */
+    private Map<String, Object> statsFromRollup(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate startOfWeek = now.with(DayOfWeek.MONDAY).toLocalDate();
+        LocalDate monthAgo = now.minusMonths(1).toLocalDate();
+        DashboardRollup rollup = meetingRepository.findDashboardRollup(user.getId(), monthAgo, now);
+
+        Map<String, Long> monthlyTrend = new LinkedHashMap<>();
+        rollup.createdPerDay().forEach((day, count) ->
+                monthlyTrend.put(day.format(DateTimeFormatter.ISO_LOCAL_DATE), count));
+
+        return buildStats(rollup.total(),
+                rollup.count(MeetingStatus.PROCESSED),
+                rollup.count(MeetingStatus.DRAFT),
+                rollup.count(MeetingStatus.PROCESSING),
+                rollup.createdBetween(startOfWeek, startOfWeek.plusDays(7)),
+                rollup.upcomingMeetings(),
+                monthlyTrend);
+    }
 
-        long totalMeetings = meetingRepository.countByUserOrAttendee(user);
-        long processedMeetings = meetingRepository.countByUserOrAttendeeAndStatus(user, MeetingStatus.PROCESSED);
-        long draftMeetings = meetingRepository.countByUserOrAttendeeAndStatus(user, MeetingStatus.DRAFT);
-        long processingMeetings = meetingRepository.countByUserOrAttendeeAndStatus(user, MeetingStatus.PROCESSING);
+    /**
+     * Without rollups: one FILTER-aggregate pass over meeting_access and one day-bucketed count for the trend
+     */
+    private Map<String, Object> statsFromQueries(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startOfWeek = now.with(DayOfWeek.MONDAY).toLocalDate().atStartOfDay();
+        Map<String, Long> counters = meetingRepository.countDashboard(user.getId(), startOfWeek, startOfWeek.plusDays(7), now);
 
+        Map<String, Long> monthlyTrend = new LinkedHashMap<>();
+        meetingRepository.countCreatedByPeriod(user.getId(), "day", now.minusMonths(1), now)
+                .forEach((day, count) -> monthlyTrend.put(day.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE), count));
+
+        return buildStats(counters.get("total"), counters.get("processed"), counters.get("draft"),
+                counters.get("processing"), counters.get("createdThisWeek"), counters.get("upcoming"), monthlyTrend);
+    }
+
+    private Map<String, Object> buildStats(long totalMeetings, long processedMeetings, long draftMeetings,
+                                           long processingMeetings, long meetingsThisWeek, long upcomingCount,
+                                           Map<String, Long> monthlyTrend) {
+        Map<String, Object> stats = new HashMap<>();
         stats.put("totalMeetings", totalMeetings);
         stats.put("processedMeetings", processedMeetings);
         stats.put("draftMeetings", draftMeetings);
         stats.put("processingMeetings", processingMeetings);
-
-        LocalDateTime startOfWeek = LocalDateTime.now().with(java.time.DayOfWeek.MONDAY).toLocalDate().atStartOfDay();
-        LocalDateTime endOfWeek = startOfWeek.plusDays(7);
-        long meetingsThisWeek = meetingRepository.countByUserOrAttendeeAndCreatedAtBetween(user, startOfWeek, endOfWeek);
         stats.put("meetingsThisWeek", meetingsThisWeek);
 
         long totalProcessableMeetings = processedMeetings + processingMeetings;
@@ -59,28 +105,12 @@ public class DashboardService {
             stats.put("processingSuccessRate", 0.0);
         }
 
-        long upcomingCount = meetingRepository.countByUserOrAttendeeAndScheduledTimeAfter(user, LocalDateTime.now());
         stats.put("upcomingMeetings", upcomingCount);
-
-        LocalDateTime monthAgo = LocalDateTime.now().minusMonths(1);
-        List<Meeting> monthlyMeetings = meetingRepository.findByUserOrAttendeeAndCreatedAtAfter(user, monthAgo);
-        Map<String, Long> monthlyTrend = monthlyMeetings.stream()
-                .collect(Collectors.groupingBy(
-                        meeting -> {
-                            LocalDateTime date = meeting.getCreatedAt();
-                            return date != null ?
-                                    date.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE) : "unknown";
-                        },
-                        Collectors.counting()
-                ));
         stats.put("monthlyTrend", monthlyTrend);
-        stats.put("userRole", user.getRole().name());
-        stats.put("userEmail", user.getEmail());
-
         return stats;
     }
 
-    @Cacheable(value = "meetings", key = "#user.email + '_recent_' + #limit")
+    @Cacheable(value = "meetings", key = "T(com.meetingminutes.backend.cache.CacheKeys).forUser(#user.id, 'recent', #limit)", sync = true)
     public List<MeetingSummaryResponse> getRecentActivity(User user, int limit) {
         log.info("Computing recent activity for user: {} - limit: {}", user.getEmail(), limit);
         Pageable pageable = PageRequest.of(0, limit, Sort.by("createdAt").descending());
@@ -90,7 +120,7 @@ public class DashboardService {
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "meetings", key = "#user.email + '_upcoming_' + #limit")
+    @Cacheable(value = "meetings", key = "T(com.meetingminutes.backend.cache.CacheKeys).forUser(#user.id, 'upcoming', #limit)", sync = true)
     public List<MeetingSummaryResponse> getUpcomingMeetings(User user, int limit) {
         log.info("Computing upcoming meetings for user: {} - limit: {}", user.getEmail(), limit);
         Pageable pageable = PageRequest.of(0, limit, Sort.by("scheduledTime").ascending());
@@ -101,7 +131,7 @@ public class DashboardService {
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "meetings", key = "#user.email + '_processing'")
+    @Cacheable(value = "meetings", key = "T(com.meetingminutes.backend.cache.CacheKeys).forUser(#user.id, 'processing')", sync = true)
     public List<MeetingSummaryResponse> getProcessingQueue(User user) {
         log.info("Computing processing queue for user: {}", user.getEmail());
         List<Meeting> processingMeetings = meetingRepository.findByUserOrAttendeeAndStatus(
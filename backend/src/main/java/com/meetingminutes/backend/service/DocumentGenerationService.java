@@ -1,7 +1,9 @@
 package com.meetingminutes.backend.service;
 
 import com.meetingminutes.backend.document.AIExtraction;
+import com.meetingminutes.backend.document.ExtractedData;
 import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.entity.ActionItem;
 import com.meetingminutes.backend.entity.Attendee;
 import com.meetingminutes.backend.entity.Meeting;
 import com.meetingminutes.backend.entity.User;
@@ -9,6 +11,9 @@ import com.meetingminutes.backend.repository.mongo.GeneratedDocumentRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.xwpf.usermodel.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.gridfs.GridFsOperations;
@@ -17,13 +22,15 @@ import org.springframework.data.mongodb.gridfs.GridFsTemplate;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
-import org.xhtmlrenderer.pdf.ITextRenderer;
 import org.bson.Document;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -35,10 +42,47 @@ import java.util.stream.Collectors;
 @Slf4j
 public class DocumentGenerationService {
 
+    private static final String TEMPLATE_REVISION = "minutes-v1";
+
     private final TemplateEngine templateEngine;
     private final GridFsTemplate gridFsTemplate;
     private final GridFsOperations gridFsOperations;
     private final GeneratedDocumentRepo generatedDocumentRepository;
+    private final PdfRendererPool pdfRendererPool;
+
+    @Value("${app.documents.warm-up-enabled:true}")
+    private boolean warmUpEnabled;
+
+    /**
+     * Compiles the minutes template and loads fonts on every pooled renderer before the first real request
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpRenderers() {
+        if (!warmUpEnabled) {
+            return;
+        }
+        try {
+            User organizer = new User("warmup@meetingminutes.local", "Warm-up Organizer");
+            Meeting meeting = new Meeting("Warm-up", organizer);
+            meeting.setScheduledTime(LocalDateTime.now());
+            meeting.setAgendaItems(List.of());
+            meeting.setAttendees(List.of());
+            meeting.setActionItems(List.of());
+
+            Map<String, Object> templateData = new HashMap<>();
+            templateData.put("meeting", meeting);
+            templateData.put("attendees", List.of());
+            templateData.put("actionItems", List.of());
+            templateData.put("generatedAt", LocalDateTime.now());
+            templateData.put("version", 0);
+            templateData.put("hasAIExtraction", false);
+            templateData.put("fallbackContent", getFallbackContent(meeting, null));
+
+            pdfRendererPool.warmUp(generateHTMLContent(templateData));
+        } catch (Exception e) {
+            log.warn("PDF renderer warm-up failed, renderers will initialize on first use", e);
+        }
+    }
 
     /**
      * Generates meeting minutes in PDF format and stores in GridFS
@@ -50,6 +94,16 @@ public class DocumentGenerationService {
             // Prepare template data
             Map<String, Object> templateData = prepareTemplateData(meeting, extraction, user);
 
+            // Skip rendering when the latest PDF was built from the same inputs
+            String contentHash = computeContentHash(templateData);
+            Optional<String> unchanged = findUnchangedDocument(meeting.getId(),
+                    GeneratedDocument.DocumentType.MINUTES_PDF, contentHash);
+            if (unchanged.isPresent()) {
+                log.info("PDF minutes unchanged for meeting: {}, reusing fileId: {}", meeting.getId(), unchanged.get());
+                return unchanged.get();
+            }
+            addVersionData(templateData, meeting.getId());
+
             // Generate HTML from template
             String htmlContent = generateHTMLContent(templateData);
 
@@ -57,13 +111,13 @@ public class DocumentGenerationService {
             byte[] pdfBytes = generatePDFFromHTML(htmlContent);
 
             // Generate filename and store in GridFS
-            String filename = generateFilename(meeting, "pdf");
+            String filename = generateFilename(meeting, "pdf", (Integer) templateData.get("version"));
             String fileId = storeInGridFS(pdfBytes, filename, "application/pdf",
                     meeting.getId(), "PDF");
 
             // Save document metadata
             saveDocumentMetadata(meeting, fileId, filename, GeneratedDocument.DocumentType.MINUTES_PDF,
-                    pdfBytes.length, templateData);
+                    pdfBytes.length, templateData, contentHash);
 
             log.info("PDF minutes generated successfully for meeting: {}, fileId: {}", meeting.getId(), fileId);
             return fileId;
@@ -84,18 +138,28 @@ public class DocumentGenerationService {
             // Prepare template data
             Map<String, Object> templateData = prepareTemplateData(meeting, extraction, user);
 
+            // Skip rendering when the latest DOCX was built from the same inputs
+            String contentHash = computeContentHash(templateData);
+            Optional<String> unchanged = findUnchangedDocument(meeting.getId(),
+                    GeneratedDocument.DocumentType.MINUTES_DOCX, contentHash);
+            if (unchanged.isPresent()) {
+                log.info("DOCX minutes unchanged for meeting: {}, reusing fileId: {}", meeting.getId(), unchanged.get());
+                return unchanged.get();
+            }
+            addVersionData(templateData, meeting.getId());
+
             // Generate DOCX content
             byte[] docxBytes = generateDOCXContent(templateData);
 
             // Generate filename and store in GridFS
-            String filename = generateFilename(meeting, "docx");
+            String filename = generateFilename(meeting, "docx", (Integer) templateData.get("version"));
             String fileId = storeInGridFS(docxBytes, filename,
                     "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
                     meeting.getId(), "DOCX");
 
             // Save document metadata
             saveDocumentMetadata(meeting, fileId, filename, GeneratedDocument.DocumentType.MINUTES_DOCX,
-                    docxBytes.length, templateData);
+                    docxBytes.length, templateData, contentHash);
 
             log.info("DOCX minutes generated successfully for meeting: {}, fileId: {}", meeting.getId(), fileId);
             return fileId;
@@ -116,8 +180,6 @@ public class DocumentGenerationService {
         data.put("meeting", meeting);
         data.put("attendees", getConfirmedAttendees(meeting));
         data.put("actionItems", meeting.getActionItems());
-        data.put("generatedAt", LocalDateTime.now());
-        data.put("version", getNextVersion(meeting.getId()));
 
         // AI extraction data
         boolean hasAIExtraction = extraction != null && extraction.getExtractedData() != null;
@@ -133,6 +195,89 @@ public class DocumentGenerationService {
         return data;
     }
 
+    /**
+     * Adds the per-render fields that are deliberately excluded from the content hash
+     */
+    private void addVersionData(Map<String, Object> templateData, UUID meetingId) {
+        templateData.put("generatedAt", LocalDateTime.now());
+        templateData.put("version", getNextVersion(meetingId));
+    }
+
+    /**
+     * Returns the latest document's file ID when it was rendered from the same content hash
+     */
+    private Optional<String> findUnchangedDocument(UUID meetingId, GeneratedDocument.DocumentType documentType,
+            String contentHash) {
+        return generatedDocumentRepository
+                .findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(meetingId, documentType)
+                .filter(latest -> contentHash.equals(latest.getContentHash()))
+                .map(GeneratedDocument::getId);
+    }
+
+    /**
+     * Hashes every template input the PDF and DOCX renderers read. Bump TEMPLATE_REVISION
+     * whenever the template or DOCX layout changes so existing documents get re-rendered.
+     */
+    @SuppressWarnings("unchecked")
+    private String computeContentHash(Map<String, Object> templateData) throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        Meeting meeting = (Meeting) templateData.get("meeting");
+
+        hashValue(digest, TEMPLATE_REVISION);
+        hashValue(digest, meeting.getId());
+        hashValue(digest, meeting.getTitle());
+        hashValue(digest, meeting.getScheduledTime());
+        hashValue(digest, meeting.getCreatedBy().getName());
+        hashValue(digest, meeting.getSeries() != null ? meeting.getSeries().getTitle() : null);
+
+        if (meeting.getAgendaItems() != null) {
+            for (var agendaItem : meeting.getAgendaItems()) {
+                hashValue(digest, agendaItem.getTitle());
+                hashValue(digest, agendaItem.getDescription());
+            }
+        }
+
+        for (Attendee attendee : (List<Attendee>) templateData.get("attendees")) {
+            hashValue(digest, attendee.getUser() != null ? attendee.getUser().getName() : null);
+            hashValue(digest, attendee.getInviteEmail());
+            hashValue(digest, attendee.getStatus());
+        }
+
+        List<ActionItem> actionItems = (List<ActionItem>) templateData.get("actionItems");
+        if (actionItems != null) {
+            for (ActionItem actionItem : actionItems) {
+                hashValue(digest, actionItem.getDescription());
+                hashValue(digest, actionItem.getAssignedToUser() != null ? actionItem.getAssignedToUser().getName() : null);
+                hashValue(digest, actionItem.getAssignedToEmail());
+                hashValue(digest, actionItem.getDeadline());
+                hashValue(digest, actionItem.getStatus());
+            }
+        }
+
+        boolean hasAIExtraction = (Boolean) templateData.get("hasAIExtraction");
+        hashValue(digest, hasAIExtraction);
+        if (hasAIExtraction) {
+            AIExtraction extraction = (AIExtraction) templateData.get("extraction");
+            List<ExtractedData.ExtractedDecision> decisions = extraction.getExtractedData().getDecisions();
+            if (decisions != null) {
+                for (ExtractedData.ExtractedDecision decision : decisions) {
+                    hashValue(digest, decision.getTopic());
+                    hashValue(digest, decision.getDecision());
+                    hashValue(digest, decision.getContext());
+                }
+            }
+        }
+        hashValue(digest, templateData.get("fallbackContent"));
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private void hashValue(MessageDigest digest, Object value) {
+        digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        // Separator so adjacent fields cannot run into each other
+        digest.update((byte) 0);
+    }
+
     /**
      * Generates HTML content from Thymeleaf template
      */
@@ -143,16 +288,10 @@ public class DocumentGenerationService {
     }
 
     /**
-     * Converts HTML to PDF using Flying Saucer
+     * Converts HTML to PDF using a pooled Flying Saucer renderer
      */
-    private byte[] generatePDFFromHTML(String htmlContent) throws Exception {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            ITextRenderer renderer = new ITextRenderer();
-            renderer.setDocumentFromString(htmlContent);
-            renderer.layout();
-            renderer.createPDF(outputStream);
-            return outputStream.toByteArray();
-        }
+    private byte[] generatePDFFromHTML(String htmlContent) {
+        return pdfRendererPool.render(htmlContent);
     }
 
     /**
@@ -281,7 +420,7 @@ public class DocumentGenerationService {
      */
     private void saveDocumentMetadata(Meeting meeting, String fileId, String filename,
             GeneratedDocument.DocumentType documentType, long fileSize,
-            Map<String, Object> templateData) {
+            Map<String, Object> templateData, String contentHash) {
 
         GeneratedDocument document = GeneratedDocument.builder()
                 .id(fileId)
@@ -293,6 +432,7 @@ public class DocumentGenerationService {
                 .fileSize(fileSize)
                 .version((Integer) templateData.get("version"))
                 .generatedAt(LocalDateTime.now())
+                .contentHash(contentHash)
                 .metadata(GeneratedDocument.DocumentMetadata.builder()
                         .meetingTitle(meeting.getTitle())
                         .organizerName(meeting.getCreatedBy().getName())
@@ -356,10 +496,9 @@ public class DocumentGenerationService {
         return null; // No fallback needed - AI data is good
     }
 
-    private String generateFilename(Meeting meeting, String format) {
+    private String generateFilename(Meeting meeting, String format, Integer version) {
         String safeTitle = meeting.getTitle().replaceAll("[^a-zA-Z0-9.-]", "_");
         String date = LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
-        Integer version = getNextVersion(meeting.getId());
         return String.format("minutes_%s_%s_v%d.%s", safeTitle, date, version, format.toLowerCase());
     }
 
@@ -416,6 +555,13 @@ public class DocumentGenerationService {
         return generatedDocumentRepository.findByMeetingId(meetingId);
     }
 
+    /**
+     * Gets the most recently generated document for a meeting, if any
+     */
+    public Optional<GeneratedDocument> getLatestDocument(UUID meetingId) {
+        return generatedDocumentRepository.findFirstByMeetingIdOrderByGeneratedAtDesc(meetingId);
+    }
+
     /**
      * Deletes all documents for a meeting
      */
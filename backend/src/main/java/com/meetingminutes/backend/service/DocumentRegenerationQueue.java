@@ -0,0 +1,119 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.AIExtraction;
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.event.MeetingUpdatedEvent;
+import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces document regeneration requests per meeting. Each request restarts the meeting's
+ * debounce window, so a burst of edits results in a single background render.
+ */
+@Service
+@Slf4j
+public class DocumentRegenerationQueue {
+
+    private final DocumentRenderCoordinator documentRenderCoordinator;
+    private final DocumentGenerationService documentGenerationService;
+    private final AIExtractionRepository aiExtractionRepository;
+    private final WebSocketEventPublisher webSocketEventPublisher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long debounceMs;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    private final Map<UUID, PendingRegeneration> pending = new ConcurrentHashMap<>();
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+    private final AtomicLong tickets = new AtomicLong();
+
+    public DocumentRegenerationQueue(DocumentRenderCoordinator documentRenderCoordinator,
+                                     DocumentGenerationService documentGenerationService,
+                                     AIExtractionRepository aiExtractionRepository,
+                                     WebSocketEventPublisher webSocketEventPublisher,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${app.documents.regeneration-debounce-ms:3000}") long debounceMs,
+                                     @Value("${app.documents.regeneration-workers:2}") int workers) {
+        this.documentRenderCoordinator = documentRenderCoordinator;
+        this.documentGenerationService = documentGenerationService;
+        this.aiExtractionRepository = aiExtractionRepository;
+        this.webSocketEventPublisher = webSocketEventPublisher;
+        this.eventPublisher = eventPublisher;
+        this.debounceMs = debounceMs;
+
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(Math.max(1, workers));
+        this.scheduler.setThreadNamePrefix("doc-regen-");
+        this.scheduler.initialize();
+    }
+
+    /**
+     * Schedules a regeneration for the meeting, replacing any request still inside its debounce window
+     */
+    public void enqueue(UUID meetingId) {
+        pending.compute(meetingId, (id, previous) -> {
+            if (previous != null) {
+                previous.future().cancel(false);
+            }
+            long ticket = tickets.incrementAndGet();
+            ScheduledFuture<?> future = scheduler.schedule(() -> regenerate(id, ticket),
+                    Instant.now().plusMillis(debounceMs));
+            return new PendingRegeneration(ticket, future);
+        });
+        log.debug("Document regeneration queued for meeting: {}", meetingId);
+    }
+
+    private void regenerate(UUID meetingId, long ticket) {
+        // Only the most recent request for a meeting may run; older ones were superseded
+        PendingRegeneration current = pending.get(meetingId);
+        if (current == null || current.ticket() != ticket) {
+            return;
+        }
+
+        if (!running.add(meetingId)) {
+            // A render for this meeting is still in progress; try again after another window
+            enqueue(meetingId);
+            return;
+        }
+        pending.remove(meetingId, current);
+
+        try {
+            log.info("Regenerating documents for meeting: {}", meetingId);
+            Meeting meeting = documentRenderCoordinator.loadMeetingForRendering(meetingId);
+            AIExtraction extraction = aiExtractionRepository.findByMeetingId(meetingId).orElse(null);
+
+            documentRenderCoordinator.renderEagerFormats(meeting, extraction, meeting.getCreatedBy());
+            // The cached meeting detail lists the generated documents; evict it like any other meeting change
+            eventPublisher.publishEvent(new MeetingUpdatedEvent(meetingId));
+
+            webSocketEventPublisher.sendDocumentsRegenerated(meetingId,
+                    documentGenerationService.getDocumentUrl(meetingId));
+        } catch (Exception e) {
+            log.error("Background document regeneration failed for meeting: {}", meetingId, e);
+            webSocketEventPublisher.sendDocumentRegenerationFailed(meetingId,
+                    "Document regeneration failed: " + e.getMessage());
+        } finally {
+            running.remove(meetingId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private record PendingRegeneration(long ticket, ScheduledFuture<?> future) {
+    }
+}
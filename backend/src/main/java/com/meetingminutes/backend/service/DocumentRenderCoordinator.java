@@ -0,0 +1,179 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.AIExtraction;
+import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.exception.ProcessingException;
+import com.meetingminutes.backend.repository.ActionItemRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
+import com.meetingminutes.backend.repository.mongo.GeneratedDocumentRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decides which minutes formats are rendered eagerly and renders the others on first download.
+ * Concurrent first downloads of the same meeting and format share a single render.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentRenderCoordinator {
+
+    private static final long RENDER_WAIT_SECONDS = 120;
+
+    private final DocumentGenerationService documentGenerationService;
+    private final GeneratedDocumentRepo generatedDocumentRepository;
+    private final MeetingRepository meetingRepository;
+    private final ActionItemRepo actionItemRepo;
+    private final AIExtractionRepository aiExtractionRepository;
+    private final ApplicationContext applicationContext;
+
+    private final Map<String, CompletableFuture<String>> inFlightRenders = new ConcurrentHashMap<>();
+
+    @Value("${app.documents.primary-format:pdf}")
+    private String primaryFormat;
+
+    @Value("${app.documents.lazy-secondary-formats:false}")
+    private boolean lazySecondaryFormats;
+
+    /**
+     * Renders the formats the pipeline should produce up front: all of them, or only the primary in lazy mode
+     */
+    public void renderEagerFormats(Meeting meeting, AIExtraction extraction, User user) {
+        GeneratedDocument.DocumentType primaryType = getPrimaryType();
+        render(meeting, extraction, user, primaryType);
+
+        if (lazySecondaryFormats) {
+            log.debug("Lazy mode: deferring non-primary formats for meeting: {}", meeting.getId());
+            return;
+        }
+        for (GeneratedDocument.DocumentType type : GeneratedDocument.DocumentType.values()) {
+            if (type != primaryType) {
+                render(meeting, extraction, user, type);
+            }
+        }
+    }
+
+    /**
+     * Returns the latest document of the given type, rendering it first when it is missing
+     * or was built from older content than the primary format
+     */
+    public Optional<GeneratedDocument> getOrRenderLatest(UUID meetingId, GeneratedDocument.DocumentType type) {
+        Optional<GeneratedDocument> latest = findLatest(meetingId, type);
+        if (latest.isPresent() && !isStale(meetingId, type, latest.get())) {
+            return latest;
+        }
+
+        // Nothing to derive from until the pipeline has produced the primary format
+        GeneratedDocument.DocumentType primaryType = getPrimaryType();
+        if (type != primaryType && findLatest(meetingId, primaryType).isEmpty()) {
+            return latest;
+        }
+
+        String fileId = renderOnce(meetingId, type);
+        return generatedDocumentRepository.findById(fileId);
+    }
+
+    /**
+     * Loads the meeting with every association the minutes template reads
+     */
+    @Transactional(readOnly = true)
+    public Meeting loadMeetingForRendering(UUID meetingId) {
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new ProcessingException("Meeting not found"));
+        Hibernate.initialize(meeting.getAgendaItems());
+        Hibernate.initialize(meeting.getAttendees());
+        if (meeting.getAttendees() != null) {
+            meeting.getAttendees().forEach(attendee -> Hibernate.initialize(attendee.getUser()));
+        }
+        Hibernate.initialize(meeting.getSeries());
+        Hibernate.initialize(meeting.getCreatedBy());
+        meeting.setActionItems(actionItemRepo.findByMeetingId(meetingId));
+        meeting.getActionItems().forEach(item -> Hibernate.initialize(item.getAssignedToUser()));
+        return meeting;
+    }
+
+    public GeneratedDocument.DocumentType getPrimaryType() {
+        return "docx".equalsIgnoreCase(primaryFormat)
+                ? GeneratedDocument.DocumentType.MINUTES_DOCX
+                : GeneratedDocument.DocumentType.MINUTES_PDF;
+    }
+
+    private String renderOnce(UUID meetingId, GeneratedDocument.DocumentType type) {
+        String key = meetingId + ":" + type;
+        CompletableFuture<String> ownRender = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlightRenders.putIfAbsent(key, ownRender);
+
+        if (existing != null) {
+            log.debug("Waiting for in-flight {} render of meeting: {}", type, meetingId);
+            return awaitRender(existing, meetingId, type);
+        }
+
+        try {
+            DocumentRenderCoordinator proxy = applicationContext.getBean(DocumentRenderCoordinator.class);
+            Meeting meeting = proxy.loadMeetingForRendering(meetingId);
+            AIExtraction extraction = aiExtractionRepository.findByMeetingId(meetingId).orElse(null);
+
+            log.info("Rendering {} on demand for meeting: {}", type, meetingId);
+            String fileId = render(meeting, extraction, meeting.getCreatedBy(), type);
+            ownRender.complete(fileId);
+            return fileId;
+        } catch (RuntimeException e) {
+            ownRender.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRenders.remove(key, ownRender);
+        }
+    }
+
+    private String awaitRender(CompletableFuture<String> render, UUID meetingId, GeneratedDocument.DocumentType type) {
+        try {
+            return render.get(RENDER_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted while waiting for " + type + " render", e);
+        } catch (ExecutionException e) {
+            throw new ProcessingException("On-demand " + type + " render failed for meeting: " + meetingId, e.getCause());
+        } catch (TimeoutException e) {
+            throw new ProcessingException("Timed out waiting for " + type + " render for meeting: " + meetingId, e);
+        }
+    }
+
+    private String render(Meeting meeting, AIExtraction extraction, User user, GeneratedDocument.DocumentType type) {
+        return type == GeneratedDocument.DocumentType.MINUTES_PDF
+                ? documentGenerationService.generateMinutesPDF(meeting, extraction, user)
+                : documentGenerationService.generateMinutesDOCX(meeting, extraction, user);
+    }
+
+    private boolean isStale(UUID meetingId, GeneratedDocument.DocumentType type, GeneratedDocument document) {
+        GeneratedDocument.DocumentType primaryType = getPrimaryType();
+        if (type == primaryType || document.getContentHash() == null) {
+            return false;
+        }
+        // A secondary format is current when it was rendered from the same inputs as the latest primary
+        return findLatest(meetingId, primaryType)
+                .map(GeneratedDocument::getContentHash)
+                .filter(primaryHash -> !primaryHash.equals(document.getContentHash()))
+                .isPresent();
+    }
+
+    private Optional<GeneratedDocument> findLatest(UUID meetingId, GeneratedDocument.DocumentType type) {
+        return generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(meetingId, type);
+    }
+}
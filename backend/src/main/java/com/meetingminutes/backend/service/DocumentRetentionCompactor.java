@@ -0,0 +1,160 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.repository.mongo.GeneratedDocumentRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Deletes superseded minutes versions from GridFS. Per meeting and format, a version is kept when it
+ * is one of the newest {@code keep-last-versions} or newer than {@code max-age-days}; the latest is never deleted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentRetentionCompactor {
+
+    private final MongoTemplate mongoTemplate;
+    private final GridFsTemplate gridFsTemplate;
+    private final GeneratedDocumentRepo generatedDocumentRepository;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile CompactionReport lastReport;
+
+    @Value("${app.documents.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.documents.retention.keep-last-versions:5}")
+    private int keepLastVersions;
+
+    @Value("${app.documents.retention.max-age-days:0}")
+    private int maxAgeDays;
+
+    @Value("${app.documents.retention.batch-size:100}")
+    private int batchSize;
+
+    public record CompactionReport(int documentsDeleted, long bytesReclaimed, long durationMs,
+                                   LocalDateTime completedAt) {
+    }
+
+    // Runs every day at 3am
+    @Scheduled(cron = "${app.documents.retention.cron:0 0 3 * * *}")
+    public void scheduledCompaction() {
+        if (!enabled) {
+            return;
+        }
+        compact();
+    }
+
+    /**
+     * Runs one compaction pass over all generated documents and returns what was reclaimed
+     */
+    public CompactionReport compact() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Document compaction already running, skipping");
+            return lastReport;
+        }
+
+        long start = System.currentTimeMillis();
+        LocalDateTime ageCutoff = maxAgeDays > 0 ? LocalDateTime.now().minusDays(maxAgeDays) : null;
+        int keepLast = Math.max(1, keepLastVersions);
+
+        List<GeneratedDocument> batch = new ArrayList<>(batchSize);
+        int deleted = 0;
+        long reclaimed = 0;
+
+        Query query = new Query().with(Sort.by(Sort.Order.asc("meetingId"), Sort.Order.asc("documentType"),
+                Sort.Order.desc("version")));
+        query.fields().include("meetingId", "documentType", "version", "generatedAt", "fileSize");
+
+        try (Stream<GeneratedDocument> documents = mongoTemplate.stream(query, GeneratedDocument.class)) {
+            UUID currentMeeting = null;
+            GeneratedDocument.DocumentType currentType = null;
+            int rank = 0;
+
+            for (GeneratedDocument document : (Iterable<GeneratedDocument>) documents::iterator) {
+                if (!Objects.equals(document.getMeetingId(), currentMeeting)
+                        || document.getDocumentType() != currentType) {
+                    currentMeeting = document.getMeetingId();
+                    currentType = document.getDocumentType();
+                    rank = 0;
+                }
+                rank++;
+
+                if (isExpired(document, rank, keepLast, ageCutoff)) {
+                    batch.add(document);
+                    if (batch.size() >= batchSize) {
+                        deleted += batch.size();
+                        reclaimed += deleteBatch(batch);
+                        batch.clear();
+                    }
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                deleted += batch.size();
+                reclaimed += deleteBatch(batch);
+            }
+
+            lastReport = new CompactionReport(deleted, reclaimed, System.currentTimeMillis() - start,
+                    LocalDateTime.now());
+            log.info("Document compaction finished: {} versions deleted, {} bytes reclaimed in {} ms",
+                    deleted, reclaimed, lastReport.durationMs());
+            return lastReport;
+
+        } catch (Exception e) {
+            log.error("Document compaction failed after deleting {} versions ({} bytes)", deleted, reclaimed, e);
+            throw new RuntimeException("Document compaction failed: " + e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public CompactionReport getLastReport() {
+        return lastReport;
+    }
+
+    private boolean isExpired(GeneratedDocument document, int rank, int keepLast, LocalDateTime ageCutoff) {
+        if (rank <= keepLast) {
+            return false;
+        }
+        if (ageCutoff == null) {
+            return true;
+        }
+        return document.getGeneratedAt() == null || document.getGeneratedAt().isBefore(ageCutoff);
+    }
+
+    /**
+     * Deletes the GridFS files (and their chunks) first, then the metadata records
+     */
+    private long deleteBatch(List<GeneratedDocument> batch) {
+        List<String> fileIds = batch.stream().map(GeneratedDocument::getId).toList();
+
+        gridFsTemplate.delete(new Query(Criteria.where("_id").in(fileIds)));
+        generatedDocumentRepository.deleteAllById(fileIds);
+
+        long bytes = batch.stream()
+                .map(GeneratedDocument::getFileSize)
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sum();
+        log.debug("Deleted {} superseded document versions ({} bytes)", batch.size(), bytes);
+        return bytes;
+    }
+}
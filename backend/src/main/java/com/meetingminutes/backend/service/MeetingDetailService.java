@@ -0,0 +1,208 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.AIExtraction;
+import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.dto.*;
+import com.meetingminutes.backend.entity.*;
+import com.meetingminutes.backend.exception.EntityNotFoundException;
+import com.meetingminutes.backend.repository.ActionItemRepo;
+import com.meetingminutes.backend.repository.AgendaItemRepo;
+import com.meetingminutes.backend.repository.AttendeeRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
+import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import com.meetingminutes.backend.util.ETags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Builds meeting detail responses in two cacheable parts: the aggregate every attendee sees, cached once per
+ * meeting, and a small per-user overlay (access decision, role, own action items). Both are evicted through the
+ * meeting's dependency set, so a change to the meeting or its attendees refreshes every viewer.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class MeetingDetailService {
+
+    private final MeetingRepository meetingRepository;
+    private final AgendaItemRepo agendaItemRepo;
+    private final AttendeeRepo attendeeRepo;
+    private final ActionItemRepo actionItemRepo;
+    private final TranscriptRepository transcriptRepository;
+    private final AIExtractionRepository aiExtractionRepository;
+    private final DocumentGenerationService documentGenerationService;
+
+    /**
+     * The user-independent detail payload with the version it was built from. Callers must check access first
+     * (see {@link #getViewer}).
+     */
+    @Cacheable(value = "meetings", key = "#meetingId", sync = true)
+    public VersionedMeetingDetail getSharedDetail(UUID meetingId) {
+        return loadSharedDetail(meetingId);
+    }
+
+    /**
+     * Rebuilds the shared payload and replaces the cached one; for when the cached version is behind the live one
+     */
+    @CachePut(value = "meetings", key = "#meetingId")
+    public VersionedMeetingDetail reloadSharedDetail(UUID meetingId) {
+        return loadSharedDetail(meetingId);
+    }
+
+    /**
+     * The user's relation to the meeting; {@link MeetingViewerResponse#hasAccess()} is false when they cannot see it.
+     * Mirrors {@link MeetingAccessService#hasAccessToMeeting}: organizer, registered attendee or action item assignee.
+     */
+    @Cacheable(value = "meetings", key = "T(com.meetingminutes.backend.cache.CacheKeys).forMeetingViewer(#meetingId, #user.id)", sync = true)
+    public MeetingViewerResponse getViewer(UUID meetingId, User user) {
+        Optional<MeetingAccess.Role> accessRole = meetingRepository.findAccessRole(user.getId(), meetingId);
+        List<UUID> assignedActionItemIds = actionItemRepo.findIdsByMeetingIdAndAssignedToUserId(meetingId, user.getId());
+
+        String role = accessRole.map(Enum::name)
+                .orElse(assignedActionItemIds.isEmpty() ? null : "ASSIGNEE");
+        AttendanceStatus attendanceStatus = accessRole.isPresent()
+                ? attendeeRepo.findByMeetingIdAndUserId(meetingId, user.getId()).map(Attendee::getStatus).orElse(null)
+                : null;
+
+        return MeetingViewerResponse.builder()
+                .role(role)
+                .canEdit(accessRole.filter(MeetingAccess.Role.ORGANIZER::equals).isPresent())
+                .attendanceStatus(attendanceStatus)
+                .assignedActionItemIds(assignedActionItemIds)
+                .build();
+    }
+
+    /**
+     * Version of the shared detail from stamps only: the meeting row, its agenda, attendees and action items, and
+     * the latest generated document. Transcript and extraction arrive with a status change, which bumps the
+     * meeting version.
+     */
+    public String getVersion(UUID meetingId) {
+        String stamp = meetingRepository.findDetailStamp(meetingId)
+                .orElseThrow(() -> new EntityNotFoundException("Meeting not found"));
+        String latestDocument = documentGenerationService.getLatestDocument(meetingId)
+                .map(doc -> doc.getId() + "@" + doc.getGeneratedAt())
+                .orElse(null);
+        return stamp + "|" + Objects.toString(latestDocument, "-");
+    }
+
+    /**
+     * Weak ETag for the detail at {@code version} as seen by this user. The stamps also cover what decides the
+     * viewer's role, so the user id is all the overlay adds.
+     */
+    public String getETag(UUID meetingId, UUID userId, String version) {
+        return ETags.weak(meetingId, userId, version);
+    }
+
+    private VersionedMeetingDetail loadSharedDetail(UUID meetingId) {
+        // Stamped before reading, so a change made meanwhile leaves the entry looking older, never newer
+        String version = getVersion(meetingId);
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new EntityNotFoundException("Meeting not found"));
+        return new VersionedMeetingDetail(version, assemble(meeting));
+    }
+
+    /**
+     * Loads everything shown with the meeting and converts it; used uncached right after writes
+     */
+    public MeetingDetailResponse assemble(Meeting meeting) {
+        UUID meetingId = meeting.getId();
+
+        // Fetch all related data
+        List<AgendaItem> agendaItems = agendaItemRepo.findByMeetingIdOrderByOrderIndexAsc(meetingId);
+        List<Attendee> attendees = attendeeRepo.findByMeetingId(meetingId);
+        List<ActionItem> actionItems = actionItemRepo.findByMeetingIdOrderByCreatedAtAsc(meetingId);
+
+        // Fetch MongoDB data
+        Optional<Transcript> transcript = transcriptRepository.findByMeetingId(meetingId);
+        Optional<AIExtraction> aiExtraction = aiExtractionRepository.findByMeetingId(meetingId);
+
+        // Fetch document URL
+        String minutesDocumentUrl = documentGenerationService.getDocumentUrl(meetingId);
+
+        return convertToDetailResponse(meeting, agendaItems, attendees, actionItems,
+                transcript.orElse(null), aiExtraction.orElse(null), minutesDocumentUrl);
+    }
+
+    private MeetingDetailResponse convertToDetailResponse(
+            Meeting meeting,
+            List<AgendaItem> agendaItems,
+            List<Attendee> attendees,
+            List<ActionItem> actionItems,
+            Transcript transcript,
+            AIExtraction aiExtraction,
+            String minutesDocumentUrl) {
+
+        boolean hasOutdatedDocuments = false;
+        List<GeneratedDocument> docs = documentGenerationService.getMeetingDocuments(meeting.getId());
+        if (docs != null && !docs.isEmpty()) {
+            LocalDateTime latestDocTime = docs.stream()
+                    .map(GeneratedDocument::getGeneratedAt)
+                    .filter(Objects::nonNull)
+                    .max(LocalDateTime::compareTo)
+                    .orElse(null);
+            
+            if (latestDocTime != null) {
+                if (meeting.getUpdatedAt() != null && meeting.getUpdatedAt().isAfter(latestDocTime)) {
+                    hasOutdatedDocuments = true;
+                } else if (actionItems != null) {
+                    for (ActionItem item : actionItems) {
+                        if (item.getUpdatedAt() != null && item.getUpdatedAt().isAfter(latestDocTime)) {
+                            hasOutdatedDocuments = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        return MeetingDetailResponse.builder()
+                .id(meeting.getId())
+                .title(meeting.getTitle())
+                .description(meeting.getDescription())
+                .agendaText(meeting.getAgendaText())
+                .status(meeting.getStatus())
+                .scheduledTime(meeting.getScheduledTime())
+                .actualStartTime(meeting.getActualStartTime())
+                .actualEndTime(meeting.getActualEndTime())
+                .usePreviousContext(meeting.getUsePreviousContext())
+                .createdBy(UserResponse.from(meeting.getCreatedBy()))
+                .series(MeetingSeriesResponse.simpleFrom(meeting.getSeries()))
+
+                // Populate the previously null fields
+                .agendaItems(agendaItems != null ? agendaItems.stream()
+                        .map(AgendaItemResponse::from)
+                        .collect(Collectors.toList())
+                        : null)
+                .attendees(attendees != null ? attendees.stream()
+                        .map(AttendeeResponse::from)
+                        .collect(Collectors.toList())
+                        : null)
+                .actionItems(actionItems != null ? actionItems.stream()
+                        .map(ActionItemResponse::from)
+                        .collect(Collectors.toList())
+                        : null)
+                .transcriptId(transcript != null ? transcript.getId() : null)
+                .aiExtractionId(aiExtraction != null ? aiExtraction.getId() : null)
+                .minutesDocumentUrl(minutesDocumentUrl)
+                .hasOutdatedDocuments(hasOutdatedDocuments)
+
+                .createdAt(meeting.getCreatedAt())
+                .updatedAt(meeting.getUpdatedAt())
+                .build();
+    }
+}
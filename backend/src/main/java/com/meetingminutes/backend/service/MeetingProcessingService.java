@@ -8,6 +8,7 @@ import com.meetingminutes.backend.dto.ai.ExtractionRequest;
 import com.meetingminutes.backend.dto.ai.ExtractionResponse;
 import com.meetingminutes.backend.dto.ai.TranscriptionResponse;
 import com.meetingminutes.backend.entity.*;
+import com.meetingminutes.backend.event.MeetingUpdatedEvent;
 import com.meetingminutes.backend.exception.ProcessingException;
 import com.meetingminutes.backend.repository.ActionItemRepo;
 import com.meetingminutes.backend.repository.MeetingRepository;
@@ -16,9 +17,8 @@ import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
 import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,19 +40,20 @@ public class MeetingProcessingService {
     private final FileUploadService fileUploadService;
     private final EmailService emailService;
     private final DocumentGenerationService documentGenerationService; // Fixed typo
+    private final DocumentRenderCoordinator documentRenderCoordinator;
     private final AIServiceClient aiServiceClient; // Added AI service client
     private final UserRepo userRepo;
     private final ActionItemRepo actionItemRepo;
     private final WebSocketEventPublisher webSocketEventPublisher;
     private final MeetingAccessService meetingAccessService;
+    private final TranscriptSearchIndex transcriptSearchIndex;
+    private final SearchSuggestionService searchSuggestionService;
+    private final SimilarMeetingIndex similarMeetingIndex;
 
     private final ApplicationContext applicationContext;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Async
-    @Caching(evict = {
-            @CacheEvict(value = "meetings", allEntries = true),
-            @CacheEvict(value = "analytics", allEntries = true)
-    })
     public CompletableFuture<Void> processMeeting(UUID meetingId, User user) {
         log.info("Starting AI processing pipeline for meeting: {}", meetingId);
 
@@ -91,6 +92,7 @@ public class MeetingProcessingService {
                     50, "EXTRACTING", "Analyzing content and extracting key information");
             AIExtraction extraction = extractInformation(meeting, transcript.getRawText());
             validateProcessingStep("extraction", extraction);
+            similarMeetingIndex.index(meetingId, transcript.getRawText(), extraction.getExtractedData());
             log.info("AI extraction completed for meeting: {}", meetingId);
 
             // Step 3: Create Action Items
@@ -143,6 +145,10 @@ public class MeetingProcessingService {
             // Compensation transaction: Delete orphaned MongoDB documents
             try {
                 transcriptRepository.deleteByMeetingId(meetingId);
+                meetingRepository.markTranscribed(List.of(meetingId), false);
+                transcriptSearchIndex.deleteTranscript(meetingId);
+                searchSuggestionService.deleteTranscriptTerms(meetingId);
+                similarMeetingIndex.remove(meetingId);
                 aiExtractionRepository.deleteByMeetingId(meetingId);
                 log.info("Compensation successful: Deleted MongoDB records for failed meeting: {}", meetingId);
             } catch (Exception mongoEx) {
@@ -201,7 +207,12 @@ public class MeetingProcessingService {
                 }
 
                 log.debug("Transcription completed for meeting: {}", meetingId);
-                return transcriptRepository.save(transcript);
+                transcript.setAccessUserIds(meetingRepository.findAccessUserIds(meetingId));
+                Transcript saved = transcriptRepository.save(transcript);
+                meetingRepository.markTranscribed(List.of(meetingId), true);
+                transcriptSearchIndex.indexTranscript(saved);
+                searchSuggestionService.recordTranscriptTerms(meetingId, saved.getRawText());
+                return saved;
 
             } catch (Exception e) {
                 log.warn("Transcription attempt {}/{} failed for meeting: {}", attempt, maxAttempts, meetingId, e);
@@ -306,11 +317,10 @@ public class MeetingProcessingService {
         log.debug("Generating meeting minutes for meeting: {}", meeting.getId());
 
         try {
-            // Generate both PDF and DOCX versions
-            String pdfFileId = documentGenerationService.generateMinutesPDF(meeting, extraction, user);
-            String docxFileId = documentGenerationService.generateMinutesDOCX(meeting, extraction, user);
+            // Renders PDF and DOCX, or only the primary format when secondary formats are lazy
+            documentRenderCoordinator.renderEagerFormats(meeting, extraction, user);
 
-            log.debug("Meeting minutes generated - PDF: {}, DOCX: {}", pdfFileId, docxFileId);
+            log.debug("Meeting minutes generated for meeting: {}", meeting.getId());
 
         } catch (Exception e) {
             log.error("Document generation failed for meeting: {}", meeting.getId(), e);
@@ -332,6 +342,8 @@ public class MeetingProcessingService {
             }
 
             meetingRepository.save(meeting);
+            // Every stage the pipeline finishes (transcript, action items, documents) ends in a status change
+            eventPublisher.publishEvent(new MeetingUpdatedEvent(meetingId));
             log.debug("Meeting status updated to {} for meeting: {}", status, meetingId);
 
         } catch (Exception e) {
@@ -569,6 +581,7 @@ public class MeetingProcessingService {
         meeting.setStatus(MeetingStatus.FAILED);
         meeting.setActualEndTime(LocalDateTime.now());
         meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(meetingId));
 
         log.info("Processing cancelled for meeting: {}", meetingId);
     }
@@ -3,26 +3,34 @@ package com.meetingminutes.backend.service;
 import com.meetingminutes.backend.dto.SearchRequest;
 import com.meetingminutes.backend.dto.SearchResponse;
 import com.meetingminutes.backend.dto.MeetingSearchResult;
+import com.meetingminutes.backend.dto.TranscriptSnippetResponse;
 import com.meetingminutes.backend.entity.Meeting;
 import com.meetingminutes.backend.entity.MeetingStatus;
 import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.MeetingCard;
+import com.meetingminutes.backend.repository.MeetingFacets;
+import com.meetingminutes.backend.repository.MeetingHeadline;
+import com.meetingminutes.backend.repository.MeetingListFilter;
 import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.MeetingSlice;
 import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import com.meetingminutes.backend.util.Highlights;
+import com.meetingminutes.backend.util.MeetingCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.TextCriteria;
 import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.IsoFields;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,230 +39,166 @@ import java.util.stream.Collectors;
 @Slf4j
 public class MeetingSearchService {
 
+    // ISO week of the ISO week-based year, as Postgres date_trunc('week') buckets it, e.g. 2024-12-30 -> 2025-W01
+    private static final DateTimeFormatter ISO_WEEK = new DateTimeFormatterBuilder()
+            .appendValue(IsoFields.WEEK_BASED_YEAR, 4)
+            .appendLiteral("-W")
+            .appendValue(IsoFields.WEEK_OF_WEEK_BASED_YEAR, 2)
+            .toFormatter(Locale.ROOT);
+
     private final MeetingRepository meetingRepository;
     private final TranscriptRepository transcriptRepository;
     private final MongoTemplate mongoTemplate;
+    private final TranscriptSearchIndex transcriptSearchIndex;
+
+    @Value("${app.search.highlight-max-fragments:3}")
+    private int highlightMaxFragments;
+
+    @Value("${app.search.highlight-fragment-size:200}")
+    private int highlightFragmentSize;
 
-    @Cacheable(value = "meetings", key = "{#user.email, #request}")
+    @Cacheable(value = "meetings", key = "T(com.meetingminutes.backend.cache.CacheKeys).forUser(#user.id, 'search', #request)")
     public SearchResponse searchMeetings(SearchRequest request, User user) {
         log.info("Executing comprehensive search for user: {} with filters: {}", user.getEmail(), request);
 
         request.validateDateRange();
 
-        Pageable pageable = createPageable(request);
+        MeetingListFilter filter = buildFilter(request);
+        String sortField = resolveSortField(request, filter);
+        boolean ascending = !"relevance".equals(sortField) && "asc".equalsIgnoreCase(request.getSortDirection());
 
-        // ✅ FIXED: Use the new method that includes attended meetings
-        Page<Meeting> meetingsPage = executeAdvancedSearch(request, user, pageable);
+        MeetingCursor after = request.getCursor() != null && !request.getCursor().isBlank()
+                ? MeetingCursor.decode(request.getCursor(), sortField, ascending, filter.textQuery())
+                : null;
+        int offset = after == null ? request.getPage() * request.getSize() : 0;
 
-        return buildSearchResponse(meetingsPage, request, user);
-    }
+        MeetingSlice slice = meetingRepository.findSlice(
+                user.getId(), filter, sortField, ascending, after, offset, request.getSize());
+
+        long total = request.isIncludeTotal()
+                ? meetingRepository.countMatching(user.getId(), filter)
+                : meetingRepository.estimateMatching(user.getId(), filter);
 
-    private Pageable createPageable(SearchRequest request) {
-        Sort sort = createSort(request);
-        return PageRequest.of(request.getPage(), request.getSize(), sort);
+        return buildSearchResponse(slice, filter, total, !request.isIncludeTotal(), request, user);
     }
 
-    private Sort createSort(SearchRequest request) {
+    private String resolveSortField(SearchRequest request, MeetingListFilter filter) {
         String sortBy = request.getSortBy();
         if (sortBy == null) {
-            sortBy = "createdAt"; // default sort field
+            sortBy = filter.hasTextQuery() ? "relevance" : "createdAt";
         }
 
-        if ("relevance".equals(sortBy) && request.getQuery() != null) {
-            return Sort.by(Sort.Direction.DESC, "createdAt"); // relevance is handled by full-text search
-        }
-
-        // Default to DESC unless "asc" is explicitly requested
-        Sort.Direction direction = "asc".equalsIgnoreCase(request.getSortDirection())
-                ? Sort.Direction.ASC : Sort.Direction.DESC;
-
-        String sortField = switch (sortBy) {
-            case "title" -> "title";
-            case "scheduledTime" -> "scheduledTime";
-            case "status" -> "status";
+        return switch (sortBy) {
+            // Relevance only means something when there is a text query to rank against
+            case "relevance" -> filter.hasTextQuery() ? "relevance" : "createdAt";
+            case "title", "scheduledTime", "status" -> sortBy;
             default -> "createdAt";
         };
-
-        return Sort.by(direction, sortField);
     }
 
-    private Page<Meeting> executeCategorySearch(String category, User user, Pageable pageable) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDate today = LocalDate.now();
-        YearMonth currentMonth = YearMonth.now();
-        Year currentYear = Year.now();
+    /**
+     * Translates the request's category and filters into one filter over the user's accessible meetings
+     */
+    private MeetingListFilter buildFilter(SearchRequest request) {
+        MeetingListFilter.MeetingListFilterBuilder filter = MeetingListFilter.builder();
+        boolean hasQuery = request.getQuery() != null && !request.getQuery().trim().isEmpty();
+        if (hasQuery) {
+            filter.textQuery(request.getQuery().trim());
+        }
 
-        return switch (category.toLowerCase()) {
-            // ✅ FIXED: All methods now use userOrAttendee instead of just createdBy
-            case "recent" -> meetingRepository.findByUserOrAttendee(user, pageable);
-            case "upcoming" -> meetingRepository.findByUserOrAttendeeAndScheduledTimeAfter(user, now, pageable);
-            case "processed" -> meetingRepository.findByUserOrAttendeeAndStatus(user, MeetingStatus.PROCESSED, pageable);
-            case "draft" -> meetingRepository.findByUserOrAttendeeAndStatus(user, MeetingStatus.DRAFT, pageable);
-            case "processing" -> meetingRepository.findByUserOrAttendeeAndStatus(user, MeetingStatus.PROCESSING, pageable);
-            case "withActions" -> meetingRepository.findByUserOrAttendeeAndActionItemsIsNotEmpty(user, pageable);
-            case "withTranscript" -> findMeetingsWithTranscripts(user, pageable);
-            case "today" -> findMeetingsForDate(user, today, pageable);
-            case "yesterday" -> findMeetingsForDate(user, today.minusDays(1), pageable);
-            case "thisweek" -> findMeetingsForWeek(user, today, pageable);
-            case "lastweek" -> findMeetingsForWeek(user, today.minusWeeks(1), pageable);
-            case "thismonth" -> findMeetingsForMonth(user, currentMonth, pageable);
-            case "lastmonth" -> findMeetingsForMonth(user, currentMonth.minusMonths(1), pageable);
-            case "thisyear" -> findMeetingsForYear(user, currentYear, pageable);
-            case "lastyear" -> findMeetingsForYear(user, currentYear.minusYears(1), pageable);
-            case "q1" -> findMeetingsForQuarter(user, currentYear, 1, pageable);
-            case "q2" -> findMeetingsForQuarter(user, currentYear, 2, pageable);
-            case "q3" -> findMeetingsForQuarter(user, currentYear, 3, pageable);
-            case "q4" -> findMeetingsForQuarter(user, currentYear, 4, pageable);
-            default -> meetingRepository.findByUserOrAttendee(user, pageable);
-        };
-    }
+        if (request.getCategory() != null && !request.getCategory().trim().isEmpty()) {
+            applyCategory(filter, request.getCategory().trim().toLowerCase(), hasQuery);
+            return filter.build();
+        }
 
-    private Page<Meeting> executeFilteredSearch(SearchRequest request, User user, Pageable pageable) {
-        // Build query based on available filters
         if (request.getStatuses() != null && !request.getStatuses().isEmpty()) {
-            // ✅ FIXED: Use userOrAttendee method
-            return meetingRepository.findByUserOrAttendeeAndStatusIn(user, request.getStatuses(), pageable);
+            filter.statuses(request.getStatuses());
         }
-
         if (request.getSeriesId() != null) {
-            // ✅ FIXED: Use userOrAttendee method
-            return meetingRepository.findByUserOrAttendeeAndSeriesId(user, request.getSeriesId(), pageable);
+            filter.seriesId(request.getSeriesId());
         }
-
         if (request.getFromDate() != null && request.getToDate() != null) {
-            // ✅ FIXED: Use userOrAttendee method
-            return meetingRepository.findByUserOrAttendeeAndScheduledTimeBetween(
-                    user, request.getFromDate(), request.getToDate(), pageable);
+            filter.scheduledFrom(request.getFromDate()).scheduledTo(request.getToDate());
         }
-
-        if (request.getHasActionItems() != null && request.getHasActionItems()) {
-            // ✅ FIXED: Use userOrAttendee method
-            return meetingRepository.findByUserOrAttendeeAndActionItemsIsNotEmpty(user, pageable);
+        if (Boolean.TRUE.equals(request.getHasActionItems())) {
+            filter.withActionItems(true);
         }
-
-        if (request.getHasTranscript() != null && request.getHasTranscript()) {
-            return findMeetingsWithTranscripts(user, pageable);
+        if (Boolean.TRUE.equals(request.getHasTranscript())) {
+            filter.withTranscript(true);
         }
-
-        // Default: return all user's meetings (created OR attended)
-        // ✅ FIXED: Use userOrAttendee method
-        return meetingRepository.findByUserOrAttendee(user, pageable);
+        return filter.build();
     }
 
-    private Page<Meeting> findMeetingsWithTranscripts(User user, Pageable pageable) {
-        // Get only the meeting IDs the user can access
-        List<UUID> userMeetingIds = meetingRepository.findByUserOrAttendee(user, Pageable.unpaged())
-                .stream()
-                .map(Meeting::getId)
-                .collect(Collectors.toList());
-
-        if (userMeetingIds.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        // Query MongoDB for only the IDs in the user's meeting list — NOT findAll()
-        List<UUID> meetingIdsWithTranscripts = transcriptRepository
-                .findByMeetingIdIn(userMeetingIds)
-                .stream()
-                .map(transcript -> transcript.getMeetingId())
-                .distinct()
-                .collect(Collectors.toList());
-
-        if (meetingIdsWithTranscripts.isEmpty()) {
-            return Page.empty(pageable);
-        }
-
-        return meetingRepository.findByUserOrAttendeeAndIdIn(user, meetingIdsWithTranscripts, pageable);
-    }
-
-    private Page<Meeting> executeAdvancedSearch(SearchRequest request, User user, Pageable pageable) {
-        // If both category and query are present, combine them
-        if (request.getCategory() != null && !request.getCategory().trim().isEmpty() &&
-                request.getQuery() != null && !request.getQuery().trim().isEmpty()) {
-            return searchByCategoryAndQuery(request.getCategory(), request.getQuery(), user, pageable);
-        }
-        // Handle category‑only search (existing code)
-        if (request.getCategory() != null && !request.getCategory().trim().isEmpty()) {
-            return executeCategorySearch(request.getCategory(), user, pageable);
-        }
-        // Handle full‑text search (existing code)
-        if (request.getQuery() != null && !request.getQuery().trim().isEmpty()) {
-            return executeFullTextSearchWithFilters(request, user, pageable);
+    private void applyCategory(MeetingListFilter.MeetingListFilterBuilder filter, String category,
+                               boolean hasQuery) {
+        switch (category) {
+            case "upcoming" -> filter.scheduledFrom(LocalDateTime.now());
+            case "processed" -> filter.statuses(List.of(MeetingStatus.PROCESSED));
+            case "draft" -> filter.statuses(List.of(MeetingStatus.DRAFT));
+            case "processing" -> filter.statuses(List.of(MeetingStatus.PROCESSING));
+            case "withactions" -> filter.withActionItems(true);
+            case "withtranscript" -> filter.withTranscript(true);
+            default -> {
+                LocalDateTime[] range = getDateRangeForCategory(category);
+                if (range == null) {
+                    return; // "recent" and unknown categories list everything the user can access
+                }
+                if (hasQuery && shouldUseCreatedAtForCategory(category)) {
+                    filter.createdFrom(range[0]).createdTo(range[1]);
+                } else {
+                    filter.scheduledFrom(range[0]).scheduledTo(range[1]);
+                }
+            }
         }
-        // Handle filtered search without text query (existing code)
-        return executeFilteredSearch(request, user, pageable);
     }
 
-    private Page<Meeting> executeFullTextSearchWithFilters(SearchRequest request, User user, Pageable pageable) {
-        String query = request.getQuery().trim();
-        String sortField = request.getSortBy();
-        String sortDirection = request.getSortDirection();
-
-        // If no sort field is specified, default to relevance
-        if (sortField == null) {
-            sortField = "relevance";
+    /**
+     * Which of the given meetings have a transcript, in one Mongo round trip that only reads meeting ids
+     */
+    private Set<UUID> findMeetingIdsWithTranscripts(Collection<UUID> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return Set.of();
         }
-
-        Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-        return meetingRepository.fullTextSearchWithDynamicSort(user.getId(), query, sortField, sortDirection, unsortedPageable);
-    }
-
-    // Date-based search implementations - ✅ FIXED: All use userOrAttendee methods
-    private Page<Meeting> findMeetingsForDate(User user, LocalDate date, Pageable pageable) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay();
-        return meetingRepository.findByUserOrAttendeeAndScheduledTimeBetween(user, startOfDay, endOfDay, pageable);
-    }
-
-    private Page<Meeting> findMeetingsForWeek(User user, LocalDate date, Pageable pageable) {
-        LocalDateTime startOfWeek = date.with(java.time.DayOfWeek.MONDAY).atStartOfDay();
-        LocalDateTime endOfWeek = startOfWeek.plusDays(7);
-        return meetingRepository.findByUserOrAttendeeAndScheduledTimeBetween(user, startOfWeek, endOfWeek, pageable);
-    }
-
-    private Page<Meeting> findMeetingsForMonth(User user, YearMonth yearMonth, Pageable pageable) {
-        LocalDateTime startOfMonth = yearMonth.atDay(1).atStartOfDay();
-        LocalDateTime endOfMonth = yearMonth.atEndOfMonth().atTime(23, 59, 59);
-        return meetingRepository.findByUserOrAttendeeAndScheduledTimeBetween(user, startOfMonth, endOfMonth, pageable);
-    }
-
-    private Page<Meeting> findMeetingsForYear(User user, Year year, Pageable pageable) {
-        LocalDateTime startOfYear = year.atDay(1).atStartOfDay();
-        LocalDateTime endOfYear = year.atMonth(12).atEndOfMonth().atTime(23, 59, 59);
-        return meetingRepository.findByUserOrAttendeeAndScheduledTimeBetween(user, startOfYear, endOfYear, pageable);
-    }
-
-    private Page<Meeting> findMeetingsForQuarter(User user, Year year, int quarter, Pageable pageable) {
-        int startMonth = (quarter - 1) * 3 + 1;
-        int endMonth = startMonth + 2;
-
-        LocalDateTime startOfQuarter = year.atMonth(startMonth).atDay(1).atStartOfDay();
-        LocalDateTime endOfQuarter = year.atMonth(endMonth).atEndOfMonth().atTime(23, 59, 59);
-
-        return meetingRepository.findByUserOrAttendeeAndScheduledTimeBetween(user, startOfQuarter, endOfQuarter, pageable);
+        return transcriptRepository.findMeetingIdsByMeetingIdIn(meetingIds)
+                .stream()
+                .map(transcript -> transcript.getMeetingId())
+                .collect(Collectors.toSet());
     }
 
-    // The rest of your methods (buildSearchResponse, convertToSearchResult, etc.) remain the same
-    // They don't need changes because they work with Meeting objects regardless of how they were fetched
-
-    private SearchResponse buildSearchResponse(Page<Meeting> meetingsPage, SearchRequest request, User user) {
-        List<MeetingSearchResult> results = meetingsPage.getContent().stream()
-                .map(this::convertToSearchResult)
+    private SearchResponse buildSearchResponse(MeetingSlice slice, MeetingListFilter filter, long total,
+                                               boolean totalEstimated, SearchRequest request, User user) {
+        List<Meeting> meetings = slice.content();
+        List<UUID> pageIds = meetings.stream().map(Meeting::getId).toList();
+        Set<UUID> transcribed = findMeetingIdsWithTranscripts(pageIds);
+        Map<UUID, MeetingHeadline> headlines = filter.hasTextQuery()
+                ? findHeadlines(pageIds, filter.textQuery())
+                : Map.of();
+        List<MeetingSearchResult> results = meetings.stream()
+                .map(meeting -> convertToSearchResult(meeting, transcribed.contains(meeting.getId()),
+                        headlines.get(meeting.getId())))
                 .collect(Collectors.toList());
 
-        Map<String, Long> dateGroupCounts = buildDateGroupCounts(meetingsPage.getContent(), request.getDateGrouping());
-        Map<String, Object> facets = buildFacets(meetingsPage.getContent(), user);
+        Map<String, Long> dateGroupCounts = buildDateGroupCounts(meetings, request.getDateGrouping());
+        MeetingFacets facets = meetingRepository.computeFacets(user.getId(), filter, LocalDateTime.now());
 
         return SearchResponse.builder()
                 .results(results)
-                .totalResults(meetingsPage.getTotalElements())
-                .totalPages(meetingsPage.getTotalPages())
-                .currentPage(meetingsPage.getNumber())
+                .totalResults(total)
+                .totalPages(request.getSize() > 0 ? (int) Math.ceil((double) total / request.getSize()) : 0)
+                .currentPage(request.getPage())
+                .nextCursor(slice.hasNext() ? slice.nextCursor().encode() : null)
+                .totalEstimated(totalEstimated)
                 .dateGroupCounts(dateGroupCounts)
-                .facets(facets)
-                .statusFacet(buildStatusFacet(meetingsPage.getContent()))
-                .seriesFacet(buildSeriesFacet(meetingsPage.getContent()))
-                .dateFacet(buildDateFacet(meetingsPage.getContent()))
+                .facets(Map.of(
+                        "status", facets.status(),
+                        "series", facets.series(),
+                        "date", facets.date(),
+                        "category", facets.category()
+                ))
+                .statusFacet(facets.status())
+                .seriesFacet(facets.series())
+                .dateFacet(facets.date())
+                .categoryFacet(facets.category())
                 .build();
     }
 
@@ -278,7 +222,7 @@ public class MeetingSearchService {
 
         return switch (grouping.toLowerCase()) {
             case "day" -> dateTime.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
-            case "week" -> dateTime.toLocalDate().format(DateTimeFormatter.ofPattern("yyyy-'W'ww"));
+            case "week" -> dateTime.toLocalDate().format(ISO_WEEK);
             case "month" -> YearMonth.from(dateTime).format(DateTimeFormatter.ofPattern("yyyy-MM"));
             case "year" -> String.valueOf(dateTime.getYear());
             case "quarter" -> {
@@ -289,74 +233,22 @@ public class MeetingSearchService {
         };
     }
 
-    private Map<String, Object> buildFacets(List<Meeting> meetings, User user) {
-        Map<String, Long> statusCounts = buildStatusFacet(meetings);
-        Map<String, Long> seriesCounts = buildSeriesFacet(meetings);
-        Map<String, Long> dateCounts = buildDateFacet(meetings);
-        Map<String, Long> categoryCounts = buildCategoryFacet(meetings, user);
-
-        return Map.of(
-                "status", statusCounts,
-                "series", seriesCounts,
-                "date", dateCounts,
-                "category", categoryCounts
-        );
-    }
-
-    private Map<String, Long> buildStatusFacet(List<Meeting> meetings) {
-        return meetings.stream()
-                .collect(Collectors.groupingBy(
-                        meeting -> meeting.getStatus().name(),
-                        Collectors.counting()
-                ));
-    }
-
-    private Map<String, Long> buildSeriesFacet(List<Meeting> meetings) {
-        return meetings.stream()
-                .filter(meeting -> meeting.getSeries() != null)
-                .collect(Collectors.groupingBy(
-                        meeting -> meeting.getSeries().getTitle(),
-                        Collectors.counting()
-                ));
-    }
-
-    private Map<String, Long> buildDateFacet(List<Meeting> meetings) {
-        return meetings.stream()
-                .collect(Collectors.groupingBy(
-                        meeting -> {
-                            LocalDateTime date = meeting.getScheduledTime() != null ?
-                                    meeting.getScheduledTime() : meeting.getCreatedAt();
-                            return date != null ?
-                                    date.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE) : "unscheduled";
-                        },
-                        Collectors.counting()
-                ));
+    /**
+     * Highlighted title and description/agenda fragments for one page of meetings, keyed by meeting id
+     */
+    public Map<UUID, MeetingHeadline> findHeadlines(List<UUID> meetingIds, String query) {
+        // ts_headline sizes fragments in words; ~6 characters per English word including the space
+        int maxWords = Math.max(5, highlightFragmentSize / 6);
+        return meetingRepository.findHeadlines(meetingIds, query, maxWords, highlightMaxFragments).stream()
+                .collect(Collectors.toMap(MeetingHeadline::meetingId, headline -> headline));
     }
 
-    private Map<String, Long> buildCategoryFacet(List<Meeting> meetings, User user) {
-        Map<String, Long> categories = new HashMap<>();
-
-        // Count by status categories
-        categories.put("processed", meetings.stream()
-                .filter(m -> m.getStatus() == MeetingStatus.PROCESSED)
-                .count());
+    private MeetingSearchResult convertToSearchResult(Meeting meeting, boolean hasTranscript, MeetingHeadline headline) {
+        List<String> highlights = headline == null ? List.of() : headline.fragments();
+        String highlight = !highlights.isEmpty() ? highlights.get(0)
+                : headline != null && headline.title() != null ? headline.title()
+                : Highlights.escape(meeting.getTitle());
 
-        categories.put("upcoming", meetings.stream()
-                .filter(m -> m.getScheduledTime() != null && m.getScheduledTime().isAfter(LocalDateTime.now()))
-                .count());
-
-        categories.put("withTranscript", meetings.stream()
-                .filter(m -> hasTranscript(m.getId()))
-                .count());
-
-        categories.put("withActions", meetings.stream()
-                .filter(m -> m.getActionItems() != null && !m.getActionItems().isEmpty())
-                .count());
-
-        return categories;
-    }
-
-    private MeetingSearchResult convertToSearchResult(Meeting meeting) {
         return MeetingSearchResult.builder()
                 .meetingId(meeting.getId().toString())
                 .title(meeting.getTitle())
@@ -366,35 +258,25 @@ public class MeetingSearchService {
                 .createdAt(meeting.getCreatedAt())
                 .participantCount(meeting.getAttendees() != null ? meeting.getAttendees().size() : 0)
                 .actionItemCount(meeting.getActionItems() != null ? meeting.getActionItems().size() : 0)
-                .hasTranscript(hasTranscript(meeting.getId()))
+                .hasTranscript(hasTranscript)
                 .seriesTitle(meeting.getSeries() != null ? meeting.getSeries().getTitle() : null)
-                .matchingFields(List.of("title", "description")) // Simplified - you'd calculate this based on search
+                .matchingFields(headline != null ? headline.matchedFields() : List.of())
                 .relevanceScore(1.0) // Simplified - you'd get this from full-text search
-                .highlight(meeting.getTitle()) // Simplified - you'd generate highlights
+                .highlight(highlight)
+                .highlights(highlights)
                 .build();
     }
 
-    private boolean hasTranscript(UUID meetingId) {
-        return transcriptRepository.findByMeetingId(meetingId).isPresent();
-    }
-
-    // MongoDB Transcript Search - ✅ FIXED: Use userOrAttendee for access control
+    // MongoDB Transcript Search - access is checked against the user ids stored on each transcript
     public SearchResponse searchTranscripts(String query, User user, int page, int size) {
         log.info("Searching transcripts for user: {} with query: {}", user.getEmail(), query);
 
-        // ✅ FIXED: Get meetings user created OR is attending
-        List<UUID> userMeetingIds = meetingRepository.findByUserOrAttendee(user, Pageable.unpaged())
-                .stream()
-                .map(Meeting::getId)
-                .collect(Collectors.toList());
-
-        if (userMeetingIds.isEmpty()) {
-            return SearchResponse.builder()
-                    .results(new ArrayList<>())
-                    .totalResults(0L)
-                    .totalPages(0)
-                    .currentPage(page)
-                    .build();
+        if (transcriptSearchIndex.isAvailable()) {
+            try {
+                return searchTranscriptIndex(query, user.getId(), page, size);
+            } catch (Exception e) {
+                log.warn("Transcript index search failed, falling back to MongoDB text search", e);
+            }
         }
 
         // Create text search criteria
@@ -407,7 +289,9 @@ public class MeetingSearchService {
                 .with(PageRequest.of(page, size));
 
         // Add access control
-        textQuery.addCriteria(Criteria.where("meetingId").in(userMeetingIds));
+        textQuery.addCriteria(Criteria.where("accessUserIds").is(user.getId()));
+        // The highlight only needs the text; word timestamps are most of the document
+        textQuery.fields().include("meetingId").include("rawText");
 
         // Execute search
         List<com.meetingminutes.backend.document.Transcript> transcripts =
@@ -415,12 +299,16 @@ public class MeetingSearchService {
 
         // Get total count for pagination
         long totalCount = mongoTemplate.count(TextQuery.queryText(criteria)
-                        .addCriteria(Criteria.where("meetingId").in(userMeetingIds)),
+                        .addCriteria(Criteria.where("accessUserIds").is(user.getId())),
                 com.meetingminutes.backend.document.Transcript.class);
 
+        Map<UUID, MeetingCard> cards = findCards(transcripts.stream()
+                .map(com.meetingminutes.backend.document.Transcript::getMeetingId)
+                .toList());
+
         // Convert to search results
         List<MeetingSearchResult> results = transcripts.stream()
-                .map(this::convertTranscriptToSearchResult)
+                .map(transcript -> convertTranscriptToSearchResult(transcript, cards.get(transcript.getMeetingId()), query))
                 .collect(Collectors.toList());
 
         int totalPages = (int) Math.ceil((double) totalCount / size);
@@ -433,32 +321,81 @@ public class MeetingSearchService {
                 .build();
     }
 
-    private MeetingSearchResult convertTranscriptToSearchResult(com.meetingminutes.backend.document.Transcript transcript) {
-        // Get meeting details for context
-        Meeting meeting = meetingRepository.findById(transcript.getMeetingId()).orElse(null);
+    /**
+     * Lucene-backed transcript search: phrase/proximity queries, highlighted passages and the second
+     * in the recording where each passage starts
+     */
+    private SearchResponse searchTranscriptIndex(String query, UUID userId, int page, int size)
+            throws java.io.IOException {
+        TranscriptSearchIndex.TranscriptHits hits = transcriptSearchIndex.search(
+                query, userId, page * size, size, highlightMaxFragments);
+
+        Map<UUID, MeetingCard> cards = findCards(
+                hits.hits().stream().map(TranscriptSearchIndex.TranscriptHit::meetingId).toList());
+
+        List<MeetingSearchResult> results = new ArrayList<>(hits.hits().size());
+        for (TranscriptSearchIndex.TranscriptHit hit : hits.hits()) {
+            MeetingCard card = cards.get(hit.meetingId());
+            if (card == null) {
+                continue;
+            }
+            List<TranscriptSnippetResponse> snippets = hit.snippets().stream()
+                    .map(snippet -> TranscriptSnippetResponse.builder()
+                            .highlight(snippet.highlight())
+                            .startSeconds(snippet.startSeconds())
+                            .endSeconds(snippet.endSeconds())
+                            .build())
+                    .toList();
+
+            results.add(MeetingSearchResult.fromCard(card)
+                    .hasTranscript(true)
+                    .highlight(snippets.isEmpty() ? null : snippets.get(0).getHighlight())
+                    .highlights(snippets.stream().map(TranscriptSnippetResponse::getHighlight).toList())
+                    .transcriptSnippets(snippets)
+                    .matchingFields(List.of("transcript"))
+                    .relevanceScore((double) hit.score())
+                    .build());
+        }
 
-        if (meeting == null) {
+        return SearchResponse.builder()
+                .results(results)
+                .totalResults(hits.totalHits())
+                .totalPages((int) Math.ceil((double) hits.totalHits() / size))
+                .currentPage(page)
+                .build();
+    }
+
+    /**
+     * Card columns for a page of hits in one query, keyed by meeting id
+     */
+    private Map<UUID, MeetingCard> findCards(List<UUID> meetingIds) {
+        return meetingRepository.findCards(meetingIds).stream()
+                .collect(Collectors.toMap(MeetingCard::id, card -> card));
+    }
+
+    private MeetingSearchResult convertTranscriptToSearchResult(com.meetingminutes.backend.document.Transcript transcript,
+                                                                MeetingCard card, String query) {
+        if (card == null) {
             return MeetingSearchResult.builder()
                     .meetingId(transcript.getMeetingId().toString())
                     .title("Meeting not found")
-                    .highlight(truncateText(transcript.getRawText(), 200))
+                    .highlight(Highlights.escape(truncateText(transcript.getRawText(), highlightFragmentSize)))
                     .matchingFields(List.of("transcript"))
                     .relevanceScore(1.0)
                     .build();
         }
 
-        return MeetingSearchResult.builder()
-                .meetingId(transcript.getMeetingId().toString())
-                .title(meeting.getTitle())
-                .description(meeting.getDescription())
-                .status(meeting.getStatus().name())
-                .meetingDate(meeting.getScheduledTime())
-                .createdAt(meeting.getCreatedAt())
-                .participantCount(meeting.getAttendees() != null ? meeting.getAttendees().size() : 0)
-                .actionItemCount(meeting.getActionItems() != null ? meeting.getActionItems().size() : 0)
+        List<TranscriptSnippetResponse> snippets = Highlights.extract(
+                        transcript.getRawText(), query, highlightFragmentSize, highlightMaxFragments).stream()
+                .map(fragment -> TranscriptSnippetResponse.builder().highlight(fragment).build())
+                .toList();
+
+        return MeetingSearchResult.fromCard(card)
                 .hasTranscript(true)
-                .seriesTitle(meeting.getSeries() != null ? meeting.getSeries().getTitle() : null)
-                .highlight(truncateText(transcript.getRawText(), 200))
+                .highlight(snippets.isEmpty() ? Highlights.escape(truncateText(transcript.getRawText(), highlightFragmentSize))
+                        : snippets.get(0).getHighlight())
+                .highlights(snippets.stream().map(TranscriptSnippetResponse::getHighlight).toList())
+                .transcriptSnippets(snippets)
                 .matchingFields(List.of("transcript"))
                 .relevanceScore(1.0) // MongoDB text search provides score
                 .build();
@@ -472,34 +409,39 @@ public class MeetingSearchService {
     }
 
     // Analytics and reporting - ✅ FIXED: Use userOrAttendee methods
-    @Cacheable(value = "analytics", key = "#user.email + '_analytics_' + #period + '_' + #startDate.truncatedTo(T(java.time.temporal.ChronoUnit).MINUTES).toString() + '_' + #endDate.truncatedTo(T(java.time.temporal.ChronoUnit).MINUTES).toString()")
+    @Cacheable(value = "analytics", key = "T(com.meetingminutes.backend.cache.CacheKeys).forUser(#user.id, 'analytics', #period, #startDate.truncatedTo(T(java.time.temporal.ChronoUnit).MINUTES), #endDate.truncatedTo(T(java.time.temporal.ChronoUnit).MINUTES))")
     public Map<String, Long> getMeetingAnalytics(User user, String period, LocalDateTime startDate, LocalDateTime endDate) {
         try {
-            // ✅ FIXED: Get meetings user created OR is attending, using createdAt to include ad-hoc meetings
-            List<Meeting> meetings = meetingRepository.findByUserOrAttendeeAndCreatedAtBetween(
-                    user, startDate, endDate, Pageable.unpaged()).getContent();
-
-            // Group by period manually
-            return meetings.stream()
-                    .collect(Collectors.groupingBy(
-                            meeting -> formatDateForAnalytics(
-                                    meeting.getCreatedAt(),
-                                    period
-                            ),
-                            Collectors.counting()
-                    ));
+            // Postgres buckets by creation time (to include ad-hoc meetings); only one row per bucket comes back
+            Map<LocalDateTime, Long> buckets = meetingRepository.countCreatedByPeriod(
+                    user.getId(), toTruncUnit(period), startDate, endDate);
+
+            Map<String, Long> counts = new LinkedHashMap<>();
+            buckets.forEach((bucketStart, count) ->
+                    counts.merge(formatDateForAnalytics(bucketStart, period), count, Long::sum));
+            return counts;
         } catch (Exception e) {
             log.warn("Failed to get meeting analytics for user {}, returning empty map", user.getEmail(), e);
             return Map.of();
         }
     }
 
+    private String toTruncUnit(String period) {
+        return switch (period.toLowerCase()) {
+            case "weekly", "week" -> "week";
+            case "monthly", "month" -> "month";
+            case "quarterly", "quarter" -> "quarter";
+            case "yearly", "year" -> "year";
+            default -> "day";
+        };
+    }
+
     private String formatDateForAnalytics(LocalDateTime dateTime, String period) {
         if (dateTime == null) return "unscheduled";
 
         return switch (period.toLowerCase()) {
             case "daily", "day" -> dateTime.toLocalDate().format(DateTimeFormatter.ISO_LOCAL_DATE);
-            case "weekly", "week" -> dateTime.toLocalDate().format(DateTimeFormatter.ofPattern("yyyy-'W'ww"));
+            case "weekly", "week" -> dateTime.toLocalDate().format(ISO_WEEK);
             case "monthly", "month" -> YearMonth.from(dateTime).format(DateTimeFormatter.ofPattern("yyyy-MM"));
             case "quarterly", "quarter" -> {
                 int quarter = (dateTime.getMonthValue() - 1) / 3 + 1;
@@ -511,30 +453,6 @@ public class MeetingSearchService {
     }
 
 
-    private Page<Meeting> searchByCategoryAndQuery(String category, String query, User user, Pageable pageable) {
-        LocalDateTime[] range = getDateRangeForCategory(category);
-        if (range == null) {
-            // If category not recognized, fall back to full‑text search only
-            SearchRequest fallback = new SearchRequest();
-            fallback.setQuery(query);
-            return executeFullTextSearchWithFilters(fallback, user, pageable);
-        }
-
-        // Use unsorted pageable to prevent extra ORDER BY
-        Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-
-        // Decide which field to filter on based on category
-        if (shouldUseCreatedAtForCategory(category)) {
-            return meetingRepository.fullTextSearchWithDateRangeOnCreatedAt(
-                    user.getId(), query, range[0], range[1], unsortedPageable
-            );
-        } else {
-            return meetingRepository.fullTextSearchWithDateRange(
-                    user.getId(), query, range[0], range[1], unsortedPageable
-            );
-        }
-    }
-
     private boolean shouldUseCreatedAtForCategory(String category) {
         // Categories that should filter by creation date
         return List.of("recent", "thismonth", "thisweek", "today", "yesterday")
@@ -544,26 +462,47 @@ public class MeetingSearchService {
     private LocalDateTime[] getDateRangeForCategory(String category) {
         LocalDate today = LocalDate.now();
         YearMonth currentMonth = YearMonth.now();
+        Year currentYear = Year.now();
 
         return switch (category.toLowerCase()) {
-            case "thismonth" -> {
-                LocalDateTime start = currentMonth.atDay(1).atStartOfDay();
-                LocalDateTime end = currentMonth.atEndOfMonth().atTime(23, 59, 59);
-                yield new LocalDateTime[]{start, end};
-            }
-            case "thisweek" -> {
-                LocalDateTime start = today.with(java.time.DayOfWeek.MONDAY).atStartOfDay();
-                LocalDateTime end = start.plusDays(7);
-                yield new LocalDateTime[]{start, end};
-            }
-            case "today" -> {
-                LocalDateTime start = today.atStartOfDay();
-                LocalDateTime end = today.plusDays(1).atStartOfDay();
-                yield new LocalDateTime[]{start, end};
-            }
-            case "processed" -> null; // processed doesn't have a date range
-            // Add other categories as needed
+            case "today" -> dayRange(today);
+            case "yesterday" -> dayRange(today.minusDays(1));
+            case "thisweek" -> weekRange(today);
+            case "lastweek" -> weekRange(today.minusWeeks(1));
+            case "thismonth" -> monthRange(currentMonth);
+            case "lastmonth" -> monthRange(currentMonth.minusMonths(1));
+            case "thisyear" -> yearRange(currentYear);
+            case "lastyear" -> yearRange(currentYear.minusYears(1));
+            case "q1" -> quarterRange(currentYear, 1);
+            case "q2" -> quarterRange(currentYear, 2);
+            case "q3" -> quarterRange(currentYear, 3);
+            case "q4" -> quarterRange(currentYear, 4);
             default -> null;
         };
     }
-}
\ No newline at end of file
+
+    private LocalDateTime[] dayRange(LocalDate date) {
+        return new LocalDateTime[]{date.atStartOfDay(), date.plusDays(1).atStartOfDay()};
+    }
+
+    private LocalDateTime[] weekRange(LocalDate date) {
+        LocalDateTime startOfWeek = date.with(java.time.DayOfWeek.MONDAY).atStartOfDay();
+        return new LocalDateTime[]{startOfWeek, startOfWeek.plusDays(7)};
+    }
+
+    private LocalDateTime[] monthRange(YearMonth yearMonth) {
+        return new LocalDateTime[]{yearMonth.atDay(1).atStartOfDay(), yearMonth.atEndOfMonth().atTime(23, 59, 59)};
+    }
+
+    private LocalDateTime[] yearRange(Year year) {
+        return new LocalDateTime[]{year.atDay(1).atStartOfDay(), year.atMonth(12).atEndOfMonth().atTime(23, 59, 59)};
+    }
+
+    private LocalDateTime[] quarterRange(Year year, int quarter) {
+        int startMonth = (quarter - 1) * 3 + 1;
+        return new LocalDateTime[]{
+                year.atMonth(startMonth).atDay(1).atStartOfDay(),
+                year.atMonth(startMonth + 2).atEndOfMonth().atTime(23, 59, 59)
+        };
+    }
+}
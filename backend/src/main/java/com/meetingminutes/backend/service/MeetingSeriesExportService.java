@@ -0,0 +1,149 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.MeetingSeries;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.exception.EntityNotFoundException;
+import com.meetingminutes.backend.exception.ValidationException;
+import com.meetingminutes.backend.repository.MeetingSeriesRepo;
+import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams every meeting's latest minutes in a series into a ZIP archive, one GridFS file at a time
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingSeriesExportService {
+
+    private static final DateTimeFormatter ENTRY_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final MeetingSeriesService meetingSeriesService;
+    private final MeetingSeriesRepo meetingSeriesRepo;
+    private final DocumentRenderCoordinator documentRenderCoordinator;
+    private final DocumentGenerationService documentGenerationService;
+    private final TranscriptRepository transcriptRepository;
+
+    public record ExportEntry(UUID meetingId, String title, LocalDateTime meetingDate) {
+    }
+
+    public record SeriesExport(String seriesTitle, GeneratedDocument.DocumentType documentType,
+                               boolean includeTranscripts, List<ExportEntry> entries) {
+    }
+
+    /**
+     * Checks access and snapshots the meetings to export. Runs on the request thread so errors map to HTTP statuses.
+     */
+    public SeriesExport prepareExport(UUID seriesId, User user, String format, boolean includeTranscripts) {
+        GeneratedDocument.DocumentType documentType = switch (format.toLowerCase()) {
+            case "pdf" -> GeneratedDocument.DocumentType.MINUTES_PDF;
+            case "docx" -> GeneratedDocument.DocumentType.MINUTES_DOCX;
+            default -> throw new ValidationException("Unsupported export format: " + format);
+        };
+
+        List<Meeting> meetings = meetingSeriesService.getMeetingsInSeries(seriesId, user);
+        MeetingSeries series = meetingSeriesRepo.findById(seriesId)
+                .orElseThrow(() -> new EntityNotFoundException("Meeting series not found"));
+
+        List<ExportEntry> entries = meetings.stream()
+                .map(meeting -> new ExportEntry(meeting.getId(), meeting.getTitle(),
+                        meeting.getScheduledTime() != null ? meeting.getScheduledTime() : meeting.getCreatedAt()))
+                .sorted(Comparator.comparing(ExportEntry::meetingDate,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        return new SeriesExport(series.getTitle(), documentType, includeTranscripts, entries);
+    }
+
+    /**
+     * Writes the archive. Documents are copied straight from GridFS streams, so memory stays flat
+     * regardless of how many meetings the series has.
+     */
+    public void writeZip(SeriesExport export, OutputStream outputStream) throws IOException {
+        String extension = export.documentType() == GeneratedDocument.DocumentType.MINUTES_PDF ? "pdf" : "docx";
+        int exported = 0;
+
+        try (ZipOutputStream zip = new ZipOutputStream(outputStream, StandardCharsets.UTF_8)) {
+            int index = 0;
+            for (ExportEntry entry : export.entries()) {
+                index++;
+                String baseName = entryBaseName(index, entry);
+
+                Optional<GeneratedDocument> document = findDocument(entry.meetingId(), export.documentType());
+                if (document.isPresent()) {
+                    GridFsResource resource = documentGenerationService.getDocumentById(document.get().getId());
+                    if (resource != null && resource.exists()) {
+                        zip.putNextEntry(new ZipEntry(baseName + "." + extension));
+                        try (InputStream in = resource.getInputStream()) {
+                            in.transferTo(zip);
+                        }
+                        zip.closeEntry();
+                        exported++;
+                    }
+                }
+
+                if (export.includeTranscripts()) {
+                    Optional<Transcript> transcript = transcriptRepository.findRawTextByMeetingId(entry.meetingId());
+                    if (transcript.isPresent() && transcript.get().getRawText() != null) {
+                        zip.putNextEntry(new ZipEntry(baseName + "_transcript.txt"));
+                        // Encode through a small buffer instead of copying the whole text into a byte array;
+                        // the writer is flushed but not closed, which would close the archive
+                        Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+                        writer.write(transcript.get().getRawText());
+                        writer.flush();
+                        zip.closeEntry();
+                    }
+                }
+
+                // Push finished entries to the client instead of letting them pile up in buffers
+                zip.flush();
+            }
+        }
+
+        log.info("Exported {} of {} meetings from series '{}'", exported, export.entries().size(), export.seriesTitle());
+    }
+
+    public String archiveFilename(SeriesExport export) {
+        return sanitize(export.seriesTitle()) + "_minutes.zip";
+    }
+
+    private Optional<GeneratedDocument> findDocument(UUID meetingId, GeneratedDocument.DocumentType documentType) {
+        try {
+            return documentRenderCoordinator.getOrRenderLatest(meetingId, documentType);
+        } catch (Exception e) {
+            // One broken meeting should not abort an archive that is already streaming
+            log.warn("Skipping minutes for meeting {} in series export: {}", meetingId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String entryBaseName(int index, ExportEntry entry) {
+        String date = entry.meetingDate() != null ? entry.meetingDate().format(ENTRY_DATE_FORMAT) : "undated";
+        return String.format("%03d_%s_%s", index, date, sanitize(entry.title()));
+    }
+
+    private String sanitize(String value) {
+        return value == null ? "untitled" : value.replaceAll("[^a-zA-Z0-9.-]", "_");
+    }
+}
@@ -5,10 +5,12 @@ import com.meetingminutes.backend.dto.MeetingSummaryResponse;
 import com.meetingminutes.backend.entity.Meeting;
 import com.meetingminutes.backend.entity.MeetingSeries;
 import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.event.MeetingUpdatedEvent;
 import com.meetingminutes.backend.repository.MeetingRepository;
 import com.meetingminutes.backend.repository.MeetingSeriesRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class MeetingSeriesService {
 
     private final MeetingSeriesRepo meetingSeriesRepo;
     private final MeetingRepository meetingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ✅ FIXED: Get series user created OR is attending meetings in
     public List<MeetingSeries> getUserSeries(User user) {
@@ -74,7 +77,11 @@ public class MeetingSeriesService {
 
         series.setTitle(title);
         series.setDescription(description);
-        return meetingSeriesRepo.save(series);
+        MeetingSeries saved = meetingSeriesRepo.save(series);
+
+        // The series title is shown on each of its meetings and in search results
+        series.getMeetings().forEach(meeting -> eventPublisher.publishEvent(new MeetingUpdatedEvent(meeting.getId())));
+        return saved;
     }
 
     // ✅ FIXED: Include series where user is attending meetings
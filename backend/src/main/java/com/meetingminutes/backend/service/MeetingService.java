@@ -10,10 +10,10 @@ import com.meetingminutes.backend.exception.ValidationException;
 import com.meetingminutes.backend.repository.*;
 import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
 import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import com.meetingminutes.backend.event.MeetingUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -40,12 +40,11 @@ public class MeetingService {
     private final TranscriptRepository transcriptRepository;
     private final AIExtractionRepository aiExtractionRepository;
     private final DocumentGenerationService documentGenerationService;
+    private final TranscriptSearchIndex transcriptSearchIndex;
+    private final SimilarMeetingIndex similarMeetingIndex;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Caching(evict = {
-            @CacheEvict(value = "meetings", allEntries = true),
-            @CacheEvict(value = "analytics", allEntries = true)
-    })
     public Meeting createMeeting(CreateMeetingRequest request, User user) {
         if (request.getSeriesId() != null && request.getNewSeriesTitle() != null) {
             throw new IllegalArgumentException("Cannot specify both seriesId and newSeriesTitle");
@@ -77,6 +76,7 @@ public class MeetingService {
         }
 
         addOrganizerAsAttendee(savedMeeting, user);
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(savedMeeting.getId(), List.of(user.getId())));
 
         return savedMeeting;
     }
@@ -108,19 +108,20 @@ public class MeetingService {
         return meetingRepository.findBySeriesIdOrderByCreatedAtDesc(seriesId);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "meetings", allEntries = true),
-            @CacheEvict(value = "analytics", allEntries = true)
-    })
     public void deleteMeeting(UUID meetingId, User user) {
         Meeting meeting = meetingRepository.findByIdAndCreatedBy(meetingId, user)
                 .orElseThrow(() -> new RuntimeException("Meeting not found or access denied"));
 
+        // meeting_access rows go with the meeting, so capture who could see it first
+        List<UUID> accessUserIds = meetingRepository.findAccessUserIds(meetingId);
         meetingRepository.delete(meeting);
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(meetingId, accessUserIds));
 
         // Cascade delete to MongoDB to prevent orphan documents
         try {
             transcriptRepository.deleteByMeetingId(meetingId);
+            transcriptSearchIndex.deleteTranscript(meetingId);
+            similarMeetingIndex.remove(meetingId);
             aiExtractionRepository.deleteByMeetingId(meetingId);
             documentGenerationService.cleanupMeetingDocuments(meetingId);
             log.info("Successfully deleted MongoDB records for meeting: {}", meetingId);
@@ -129,10 +130,6 @@ public class MeetingService {
         }
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "meetings", allEntries = true),
-            @CacheEvict(value = "analytics", allEntries = true)
-    })
     public Meeting updateMeetingStatus(UUID meetingId, MeetingStatus status, User user) {
         Meeting meeting = meetingRepository.findByIdAndCreatedBy(meetingId, user)
                 .orElseThrow(() -> new RuntimeException("Meeting not found or access denied"));
@@ -146,6 +143,7 @@ public class MeetingService {
         }
 
         Meeting savedMeeting = meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(meetingId));
 
         // Broadcast the status update via WebSockets
         try {
@@ -174,10 +172,6 @@ public class MeetingService {
         return meetingRepository.save(meeting);
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "meetings", allEntries = true),
-            @CacheEvict(value = "analytics", allEntries = true)
-    })
     public Meeting updateMeeting(UUID meetingId, UpdateMeetingRequest request, User user) {
         log.info("Updating meeting: {} for user: {}", meetingId, user.getEmail());
 
@@ -217,6 +211,7 @@ public class MeetingService {
         }
 
         Meeting updatedMeeting = meetingRepository.save(meeting);
+        eventPublisher.publishEvent(new MeetingUpdatedEvent(meetingId));
         log.info("Meeting updated successfully: {}", meetingId);
 
         return updatedMeeting;
@@ -0,0 +1,123 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.exception.ProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Document;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+import org.xhtmlrenderer.resource.FSEntityResolver;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of reusable Flying Saucer renderers. A renderer keeps its font resolver and shared
+ * CSS context between documents, so fonts are loaded once per renderer instead of once per PDF.
+ */
+@Component
+@Slf4j
+public class PdfRendererPool {
+
+    private final BlockingQueue<ITextRenderer> idleRenderers;
+    private final int poolSize;
+    private final long borrowTimeoutMs;
+
+    // DocumentBuilder is not thread-safe, but it is cheap to reuse on the thread that created it
+    private final ThreadLocal<DocumentBuilder> documentBuilders =
+            ThreadLocal.withInitial(PdfRendererPool::createDocumentBuilder);
+
+    public PdfRendererPool(@Value("${app.documents.renderer-pool-size:2}") int poolSize,
+                           @Value("${app.documents.renderer-borrow-timeout-ms:30000}") long borrowTimeoutMs) {
+        this.poolSize = Math.max(1, poolSize);
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.idleRenderers = new ArrayBlockingQueue<>(this.poolSize);
+        for (int i = 0; i < this.poolSize; i++) {
+            idleRenderers.add(new ITextRenderer());
+        }
+        log.info("PDF renderer pool initialized with {} renderers", this.poolSize);
+    }
+
+    /**
+     * Renders XHTML into PDF bytes using a pooled renderer
+     */
+    public byte[] render(String xhtml) {
+        ITextRenderer renderer = borrow();
+        boolean healthy = false;
+        try {
+            byte[] pdf = renderWith(renderer, xhtml);
+            healthy = true;
+            return pdf;
+        } finally {
+            release(renderer, healthy);
+        }
+    }
+
+    /**
+     * Renders the given XHTML once on every pooled renderer so fonts and CSS are loaded up front
+     */
+    public void warmUp(String xhtml) {
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < poolSize; i++) {
+            render(xhtml);
+        }
+        log.info("Warmed up {} PDF renderers in {} ms", poolSize, System.currentTimeMillis() - start);
+    }
+
+    private byte[] renderWith(ITextRenderer renderer, String xhtml) {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            renderer.setDocument(parse(xhtml), null);
+            renderer.layout();
+            renderer.createPDF(outputStream);
+            return outputStream.toByteArray();
+        } catch (Exception e) {
+            throw new ProcessingException("PDF rendering failed: " + e.getMessage(), e);
+        }
+    }
+
+    private Document parse(String xhtml) throws Exception {
+        DocumentBuilder builder = documentBuilders.get();
+        builder.reset();
+        builder.setEntityResolver(FSEntityResolver.instance());
+        return builder.parse(new InputSource(new StringReader(xhtml)));
+    }
+
+    private ITextRenderer borrow() {
+        try {
+            ITextRenderer renderer = idleRenderers.poll(borrowTimeoutMs, TimeUnit.MILLISECONDS);
+            if (renderer == null) {
+                throw new ProcessingException("Timed out waiting for a PDF renderer after " + borrowTimeoutMs + " ms");
+            }
+            return renderer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted while waiting for a PDF renderer", e);
+        }
+    }
+
+    private void release(ITextRenderer renderer, boolean healthy) {
+        // A renderer that failed mid-document may hold half-built layout state, so replace it
+        ITextRenderer toReturn = healthy ? renderer : new ITextRenderer();
+        if (!idleRenderers.offer(toReturn)) {
+            log.warn("PDF renderer pool is full, dropping renderer");
+        }
+    }
+
+    private static DocumentBuilder createDocumentBuilder() {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setValidating(false);
+            return factory.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Failed to create XML document builder", e);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.dto.SearchSuggestion;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.util.SearchText;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Search-as-you-type suggestions over meeting titles, series titles, people and frequent transcript
+ * terms. Titles and names are matched through pg_trgm indexes, so partial words anywhere in a title
+ * match; transcript terms are prefix-matched in the transcript_terms table. Every branch is scoped
+ * through meeting_access.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchSuggestionService {
+
+    private static final int BACKFILL_BATCH = 500;
+
+    private static final String SUGGEST_SQL = """
+            (SELECT 'meeting' AS type, m.title AS text, m.id AS meeting_id,
+                    (lower(m.title) LIKE :prefix)::int AS prefix_match, similarity(m.title, :q) AS score
+             FROM meeting_access ma
+             JOIN meetings m ON m.id = ma.meeting_id
+             WHERE ma.user_id = :userId AND m.title ILIKE :contains
+             ORDER BY prefix_match DESC, score DESC
+             LIMIT :limit)
+            UNION ALL
+            (SELECT 'series', s.title, NULL, (lower(s.title) LIKE :prefix)::int, similarity(s.title, :q)
+             FROM meeting_series s
+             WHERE s.title ILIKE :contains
+               AND (s.created_by = :userId
+                    OR EXISTS (SELECT 1 FROM meetings m
+                               JOIN meeting_access ma ON ma.meeting_id = m.id AND ma.user_id = :userId
+                               WHERE m.series_id = s.id))
+             ORDER BY 4 DESC, 5 DESC
+             LIMIT :limit)
+            UNION ALL
+            (SELECT 'person', u.name, NULL, (lower(u.name) LIKE :prefix)::int, similarity(u.name, :q)
+             FROM users u
+             WHERE u.name ILIKE :contains
+               AND EXISTS (SELECT 1 FROM meeting_access theirs
+                           JOIN meeting_access mine ON mine.meeting_id = theirs.meeting_id AND mine.user_id = :userId
+                           WHERE theirs.user_id = u.id)
+             ORDER BY 4 DESC, 5 DESC
+             LIMIT :limit)
+            UNION ALL
+            (SELECT 'term', t.term, NULL, 1, SUM(t.frequency)::real
+             FROM meeting_access ma
+             JOIN transcript_terms t ON t.meeting_id = ma.meeting_id
+             WHERE ma.user_id = :userId AND t.term LIKE :prefix
+             GROUP BY t.term
+             ORDER BY 5 DESC
+             LIMIT :limit)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final MongoTemplate mongoTemplate;
+    private final ApplicationContext applicationContext;
+
+    @Value("${app.search.suggest.min-length:2}")
+    private int minLength;
+
+    @Value("${app.search.suggest.max-results:10}")
+    private int maxResults;
+
+    @Value("${app.search.suggest.terms-per-transcript:100}")
+    private int termsPerTranscript;
+
+    public List<SearchSuggestion> suggest(String input, User user, int limit) {
+        String q = input == null ? "" : input.trim().toLowerCase(Locale.ROOT);
+        if (q.length() < minLength) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, maxResults));
+
+        String escaped = escapeLike(q);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", user.getId())
+                .addValue("q", q)
+                .addValue("prefix", escaped + "%")
+                // Below three characters a trigram index cannot help, so only prefixes are matched
+                .addValue("contains", q.length() < 3 ? escaped + "%" : "%" + escaped + "%")
+                .addValue("limit", size);
+
+        List<RankedSuggestion> ranked = namedParameterJdbcTemplate.query(SUGGEST_SQL, params,
+                (rs, rowNum) -> new RankedSuggestion(
+                        SearchSuggestion.builder()
+                                .type(rs.getString(1))
+                                .text(rs.getString(2))
+                                .meetingId(rs.getString(3))
+                                .build(),
+                        rs.getInt(4) == 1,
+                        typeWeight(rs.getString(1))));
+
+        // Prefix matches first, then by kind: what the user named outranks words they may have said
+        List<RankedSuggestion> ordered = new ArrayList<>(ranked);
+        ordered.sort((a, b) -> a.prefix() != b.prefix()
+                ? Boolean.compare(b.prefix(), a.prefix())
+                : Integer.compare(a.typeWeight(), b.typeWeight()));
+
+        List<SearchSuggestion> suggestions = new ArrayList<>(size);
+        Set<String> seen = new HashSet<>();
+        for (RankedSuggestion suggestion : ordered) {
+            if (suggestions.size() == size) {
+                break;
+            }
+            if (seen.add(suggestion.suggestion().getType() + ":" + suggestion.suggestion().getText().toLowerCase(Locale.ROOT))) {
+                suggestions.add(suggestion.suggestion());
+            }
+        }
+        return suggestions;
+    }
+
+    private record RankedSuggestion(SearchSuggestion suggestion, boolean prefix, int typeWeight) {
+    }
+
+    private int typeWeight(String type) {
+        return switch (type) {
+            case "meeting" -> 0;
+            case "series" -> 1;
+            case "person" -> 2;
+            default -> 3;
+        };
+    }
+
+    /**
+     * Replaces the meeting's most frequent transcript terms. Failures are logged, never thrown, so
+     * suggestions cannot fail the processing pipeline.
+     */
+    public boolean recordTranscriptTerms(UUID meetingId, String text) {
+        try {
+            // Through the proxy so the replacement runs in its own transaction
+            applicationContext.getBean(SearchSuggestionService.class).replaceTranscriptTerms(meetingId, text);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to record transcript terms for meeting: {}", meetingId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Deletes and re-inserts the meeting's terms in one transaction, separate from the caller's, so a
+     * failed insert rolls the delete back instead of leaving the meeting without terms
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void replaceTranscriptTerms(UUID meetingId, String text) {
+        List<Map.Entry<String, Integer>> top = topTerms(text);
+        jdbcTemplate.update("DELETE FROM transcript_terms WHERE meeting_id = ?", meetingId);
+        jdbcTemplate.batchUpdate("INSERT INTO transcript_terms (meeting_id, term, frequency) VALUES (?, ?, ?)",
+                top, top.size(), (ps, term) -> {
+                    ps.setObject(1, meetingId);
+                    ps.setString(2, term.getKey());
+                    ps.setInt(3, term.getValue());
+                });
+    }
+
+    public void deleteTranscriptTerms(UUID meetingId) {
+        jdbcTemplate.update("DELETE FROM transcript_terms WHERE meeting_id = ?", meetingId);
+    }
+
+    /**
+     * Records terms for every stored transcript whose meeting has none yet, so an interrupted run
+     * resumes where it stopped on the next startup. Transcript text is only read for those meetings.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillTranscriptTerms() {
+        Query ids = new Query();
+        ids.fields().include("meetingId");
+        int recorded = 0;
+        try (Stream<Transcript> transcripts = mongoTemplate.stream(ids, Transcript.class)) {
+            List<UUID> batch = new ArrayList<>(BACKFILL_BATCH);
+            for (Transcript transcript : (Iterable<Transcript>) transcripts::iterator) {
+                if (transcript.getMeetingId() != null) {
+                    batch.add(transcript.getMeetingId());
+                }
+                if (batch.size() == BACKFILL_BATCH) {
+                    recorded += backfillBatch(batch);
+                    batch.clear();
+                }
+            }
+            recorded += backfillBatch(batch);
+        } catch (Exception e) {
+            log.warn("Transcript term backfill stopped after {} transcripts: {}", recorded, e.getMessage());
+            return;
+        }
+        if (recorded > 0) {
+            log.info("Backfilled suggestion terms for {} transcripts", recorded);
+        }
+    }
+
+    private int backfillBatch(List<UUID> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return 0;
+        }
+        Set<UUID> missing = new HashSet<>(meetingIds);
+        missing.removeAll(namedParameterJdbcTemplate.queryForList(
+                "SELECT DISTINCT meeting_id FROM transcript_terms WHERE meeting_id IN (:ids)",
+                new MapSqlParameterSource("ids", meetingIds), UUID.class));
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        Query texts = Query.query(Criteria.where("meetingId").in(missing));
+        texts.fields().include("meetingId").include("rawText");
+        int recorded = 0;
+        for (Transcript transcript : mongoTemplate.find(texts, Transcript.class)) {
+            if (transcript.getRawText() != null && recordTranscriptTerms(transcript.getMeetingId(), transcript.getRawText())) {
+                recorded++;
+            }
+        }
+        return recorded;
+    }
+
+    private List<Map.Entry<String, Integer>> topTerms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        SearchText.contentWords(text).forEach(word -> counts.merge(word, 1, Integer::sum));
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(termsPerTranscript)
+                .toList();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
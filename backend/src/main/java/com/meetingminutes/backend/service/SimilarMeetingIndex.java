@@ -0,0 +1,557 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.AIExtraction;
+import com.meetingminutes.backend.document.ExtractedData;
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.dto.MeetingSearchResult;
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.MeetingCard;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.util.SearchText;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-process MinHash/LSH index of processed meetings, built from transcript and extraction text.
+ * Each meeting keeps a MinHash signature; signatures are split into bands and hashed into buckets,
+ * so a lookup only compares against meetings sharing at least one band. The signatures are
+ * snapshotted to local disk and the buckets rebuilt from them on startup. Every node keeps its own
+ * index, so each one periodically picks up transcripts and extractions updated since its watermark and
+ * drops meetings whose transcript is gone.
+ */
+@Service
+@Slf4j
+public class SimilarMeetingIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x4d484c53; // "MHLS"
+    private static final int SNAPSHOT_VERSION = 3;
+    private static final long PRIME = 2147483647L; // 2^31 - 1
+    private static final long HASH_SEED = 0x5eed1dL; // fixed so snapshots stay comparable across restarts
+    private static final int REBUILD_BATCH = 200;
+
+    private final MongoTemplate mongoTemplate;
+    private final MeetingRepository meetingRepository;
+
+    private final int numHashes;
+    private final int bands;
+    private final int rows;
+    private final int shingleSize;
+    private final long[] hashA;
+    private final long[] hashB;
+
+    private final Map<UUID, int[]> signatures = new ConcurrentHashMap<>();
+    private final List<Map<Long, Set<UUID>>> buckets;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    // Serializes catch-up passes without blocking put/remove from the processing pipeline
+    private final Object syncLock = new Object();
+    private volatile boolean ready;
+    // Transcripts and extractions updated before this are indexed; null means never synced from Mongo
+    private volatile LocalDateTime watermark;
+
+    @Value("${app.search.similar.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.search.similar.snapshot-path:${java.io.tmpdir}/meeting-minutes/similar-meetings.bin}")
+    private String snapshotPath;
+
+    @Value("${app.search.similar.min-similarity:0.1}")
+    private double minSimilarity;
+
+    @Value("${app.search.similar.max-results:10}")
+    private int maxResults;
+
+    @Value("${app.search.index-sync.overlap-ms:120000}")
+    private long syncOverlapMs;
+
+    public SimilarMeetingIndex(MongoTemplate mongoTemplate,
+                               MeetingRepository meetingRepository,
+                               @Value("${app.search.similar.num-hashes:128}") int numHashes,
+                               @Value("${app.search.similar.bands:32}") int bands,
+                               @Value("${app.search.similar.shingle-size:1}") int shingleSize) {
+        if (bands <= 0 || numHashes % bands != 0) {
+            throw new IllegalArgumentException("app.search.similar.num-hashes must be a multiple of bands");
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.meetingRepository = meetingRepository;
+        this.numHashes = numHashes;
+        this.bands = bands;
+        this.rows = numHashes / bands;
+        this.shingleSize = Math.max(1, shingleSize);
+
+        Random random = new Random(HASH_SEED);
+        this.hashA = new long[numHashes];
+        this.hashB = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            hashA[i] = 1 + (long) (random.nextDouble() * (PRIME - 1));
+            hashB[i] = (long) (random.nextDouble() * PRIME);
+        }
+
+        this.buckets = new ArrayList<>(bands);
+        for (int i = 0; i < bands; i++) {
+            buckets.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Loads the snapshot and catches up on what changed since it was written, or rebuilds from Mongo
+     * when there is none or it was written with other settings
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (loadSnapshot()) {
+                syncChanges();
+            } else {
+                rebuild();
+            }
+            ready = true;
+            log.info("Similar-meeting index ready ({} meetings)", signatures.size());
+        } catch (Exception e) {
+            log.warn("Similar-meeting index unavailable: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return ready;
+    }
+
+    /**
+     * Adds or replaces a processed meeting. Failures are logged, never thrown, so indexing cannot
+     * fail the processing pipeline.
+     */
+    public void index(UUID meetingId, String transcriptText, ExtractedData extractedData) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int[] signature = signature(Objects.toString(transcriptText, "") + " " + SearchText.extractionText(extractedData));
+            if (signature == null) {
+                remove(meetingId);
+                return;
+            }
+            put(meetingId, signature);
+            dirty.set(true);
+        } catch (Exception e) {
+            log.warn("Failed to index meeting {} for similarity", meetingId, e);
+        }
+    }
+
+    public synchronized void remove(UUID meetingId) {
+        int[] previous = signatures.remove(meetingId);
+        if (previous != null) {
+            removeFromBuckets(meetingId, previous);
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * Meetings the user can access that resemble the given one, most similar first. A meeting that has
+     * not been processed yet is compared by its title, description and agenda.
+     */
+    public List<MeetingSearchResult> findSimilar(Meeting meeting, User user, int limit) {
+        if (!ready) {
+            return List.of();
+        }
+        int[] query = signatures.get(meeting.getId());
+        if (query == null) {
+            query = signature(String.join(" ", Objects.toString(meeting.getTitle(), ""),
+                    Objects.toString(meeting.getDescription(), ""), Objects.toString(meeting.getAgendaText(), "")));
+        }
+        if (query == null) {
+            return List.of();
+        }
+
+        Map<UUID, Double> scored = new HashMap<>();
+        for (UUID candidate : candidates(query)) {
+            if (candidate.equals(meeting.getId())) {
+                continue;
+            }
+            int[] other = signatures.get(candidate);
+            if (other != null) {
+                double similarity = estimateJaccard(query, other);
+                if (similarity >= minSimilarity) {
+                    scored.put(candidate, similarity);
+                }
+            }
+        }
+        if (scored.isEmpty()) {
+            return List.of();
+        }
+
+        // Access is checked on the scored candidates only, best first, until the page is full
+        List<UUID> ranked = scored.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+        Set<UUID> accessible = new HashSet<>(meetingRepository.findAccessibleAmong(user.getId(), ranked));
+        List<UUID> top = ranked.stream()
+                .filter(accessible::contains)
+                .limit(Math.max(1, Math.min(limit, maxResults)))
+                .toList();
+
+        Map<UUID, MeetingCard> cards = meetingRepository.findCards(top).stream()
+                .collect(Collectors.toMap(MeetingCard::id, card -> card));
+        return top.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .map(card -> MeetingSearchResult.fromCard(card)
+                        .relevanceScore(scored.get(card.id()))
+                        .matchingFields(List.of("similar"))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Re-indexes every transcript and its extraction from Mongo, reading only the fields used for shingles
+     */
+    public int rebuild() {
+        // Taken before reading so meetings processed during the rebuild are picked up by the next catch-up
+        LocalDateTime started = LocalDateTime.now();
+        Query transcripts = new Query();
+        transcripts.fields().include("meetingId").include("rawText");
+
+        Map<UUID, String> batch = new HashMap<>();
+        int indexed = 0;
+        try (Stream<Transcript> stream = mongoTemplate.stream(transcripts, Transcript.class)) {
+            for (Transcript transcript : (Iterable<Transcript>) stream::iterator) {
+                if (transcript.getMeetingId() != null) {
+                    batch.put(transcript.getMeetingId(), transcript.getRawText());
+                }
+                if (batch.size() == REBUILD_BATCH) {
+                    indexed += indexBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+        indexed += indexBatch(batch);
+        watermark = started;
+        snapshot();
+        log.info("Rebuilt similar-meeting index with {} meetings", indexed);
+        return indexed;
+    }
+
+    /**
+     * Indexes meetings whose transcript or extraction changed since the watermark, including those
+     * processed on other nodes. Reaches back by the configured overlap for writes stamped on a slower clock.
+     */
+    @Scheduled(fixedDelayString = "${app.search.index-sync.interval-ms:60000}",
+            initialDelayString = "${app.search.index-sync.interval-ms:60000}")
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        try {
+            syncChanges();
+        } catch (Exception e) {
+            // The watermark only moves forward on success, so the next pass retries the same window
+            log.warn("Similar-meeting index catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    private void syncChanges() {
+        synchronized (syncLock) {
+            LocalDateTime current = watermark;
+            Set<UUID> meetingIds = new HashSet<>();
+            LocalDateTime latest = current;
+            for (Transcript transcript : mongoTemplate.find(changedSince(current), Transcript.class)) {
+                meetingIds.add(transcript.getMeetingId());
+                latest = later(latest, transcript.getUpdatedAt());
+            }
+            for (AIExtraction extraction : mongoTemplate.find(changedSince(current), AIExtraction.class)) {
+                meetingIds.add(extraction.getMeetingId());
+                latest = later(latest, extraction.getUpdatedAt());
+            }
+            meetingIds.remove(null);
+
+            int indexed = indexMeetings(meetingIds);
+            watermark = latest != null ? latest : LocalDateTime.now();
+            if (indexed > 0) {
+                dirty.set(true);
+                log.debug("Similar-meeting index caught up on {} meetings", indexed);
+            }
+        }
+    }
+
+    private Query changedSince(LocalDateTime current) {
+        Query query = current == null ? new Query()
+                : Query.query(Criteria.where("updatedAt").gte(current.minus(Duration.ofMillis(syncOverlapMs))));
+        query.fields().include("meetingId").include("updatedAt");
+        return query;
+    }
+
+    private int indexMeetings(Set<UUID> meetingIds) {
+        int indexed = 0;
+        List<UUID> ids = new ArrayList<>(meetingIds);
+        for (int from = 0; from < ids.size(); from += REBUILD_BATCH) {
+            Query transcripts = Query.query(Criteria.where("meetingId")
+                    .in(ids.subList(from, Math.min(from + REBUILD_BATCH, ids.size()))));
+            transcripts.fields().include("meetingId").include("rawText");
+            Map<UUID, String> batch = new HashMap<>();
+            for (Transcript transcript : mongoTemplate.find(transcripts, Transcript.class)) {
+                batch.put(transcript.getMeetingId(), transcript.getRawText());
+            }
+            indexed += indexBatch(batch);
+        }
+        return indexed;
+    }
+
+    /**
+     * Removes meetings whose transcript no longer exists in Mongo, e.g. deleted by another node
+     */
+    @Scheduled(fixedDelayString = "${app.search.index-sync.prune-interval-ms:3600000}",
+            initialDelayString = "${app.search.index-sync.prune-interval-ms:3600000}")
+    public void prune() {
+        if (!ready) {
+            return;
+        }
+        try {
+            // Copy the keys before reading Mongo: anything indexed after this point is already stored
+            Set<UUID> orphaned = new HashSet<>(signatures.keySet());
+            Query stored = new Query();
+            stored.fields().include("meetingId");
+            try (Stream<Transcript> transcripts = mongoTemplate.stream(stored, Transcript.class)) {
+                transcripts.forEach(transcript -> orphaned.remove(transcript.getMeetingId()));
+            }
+            orphaned.forEach(this::remove);
+            if (!orphaned.isEmpty()) {
+                log.info("Pruned {} meetings without a stored transcript from the similar-meeting index", orphaned.size());
+            }
+        } catch (Exception e) {
+            log.warn("Similar-meeting index prune failed: {}", e.getMessage());
+        }
+    }
+
+    private static LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+        return candidate != null && (current == null || candidate.isAfter(current)) ? candidate : current;
+    }
+
+    private int indexBatch(Map<UUID, String> transcriptTexts) {
+        if (transcriptTexts.isEmpty()) {
+            return 0;
+        }
+        Query extractions = Query.query(Criteria.where("meetingId").in(transcriptTexts.keySet()));
+        extractions.fields().include("meetingId").include("extractedData");
+        Map<UUID, ExtractedData> extracted = new HashMap<>();
+        for (AIExtraction extraction : mongoTemplate.find(extractions, AIExtraction.class)) {
+            extracted.put(extraction.getMeetingId(), extraction.getExtractedData());
+        }
+
+        int indexed = 0;
+        for (Map.Entry<UUID, String> entry : transcriptTexts.entrySet()) {
+            int[] signature = signature(Objects.toString(entry.getValue(), "") + " "
+                    + SearchText.extractionText(extracted.get(entry.getKey())));
+            if (signature != null) {
+                put(entry.getKey(), signature);
+                indexed++;
+            }
+        }
+        return indexed;
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.similar.snapshot-interval-ms:300000}")
+    public void snapshotIfChanged() {
+        if (ready && dirty.get()) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Writes all signatures to a temporary file and moves it over the previous snapshot
+     */
+    public synchronized void snapshot() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path path = Path.of(snapshotPath);
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+            dirty.set(false);
+            Map<UUID, int[]> copy = new HashMap<>(signatures);
+            LocalDateTime syncedUpTo = watermark;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(numHashes);
+                out.writeInt(bands);
+                out.writeInt(shingleSize);
+                out.writeUTF(syncedUpTo == null ? "" : syncedUpTo.toString());
+                out.writeInt(copy.size());
+                for (Map.Entry<UUID, int[]> entry : copy.entrySet()) {
+                    out.writeLong(entry.getKey().getMostSignificantBits());
+                    out.writeLong(entry.getKey().getLeastSignificantBits());
+                    for (int value : entry.getValue()) {
+                        out.writeInt(value);
+                    }
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote similar-meeting snapshot with {} meetings to {}", copy.size(), path);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("Failed to write similar-meeting snapshot to {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private boolean loadSnapshot() throws IOException {
+        Path path = Path.of(snapshotPath);
+        if (!Files.exists(path)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION
+                    || in.readInt() != numHashes || in.readInt() != bands || in.readInt() != shingleSize) {
+                log.info("Similar-meeting snapshot at {} was written with other settings, rebuilding", path);
+                return false;
+            }
+            String syncedUpTo = in.readUTF();
+            watermark = syncedUpTo.isEmpty() ? null : LocalDateTime.parse(syncedUpTo);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                UUID meetingId = new UUID(in.readLong(), in.readLong());
+                int[] signature = new int[numHashes];
+                for (int j = 0; j < numHashes; j++) {
+                    signature[j] = in.readInt();
+                }
+                put(meetingId, signature);
+            }
+        }
+        return true;
+    }
+
+    private synchronized void put(UUID meetingId, int[] signature) {
+        int[] previous = signatures.put(meetingId, signature);
+        if (previous != null) {
+            removeFromBuckets(meetingId, previous);
+        }
+        for (int band = 0; band < bands; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), key -> ConcurrentHashMap.newKeySet())
+                    .add(meetingId);
+        }
+    }
+
+    private synchronized void removeFromBuckets(UUID meetingId, int[] signature) {
+        for (int band = 0; band < bands; band++) {
+            Map<Long, Set<UUID>> bucketsOfBand = buckets.get(band);
+            long key = bandKey(signature, band);
+            Set<UUID> bucket = bucketsOfBand.get(key);
+            if (bucket != null) {
+                bucket.remove(meetingId);
+                if (bucket.isEmpty()) {
+                    bucketsOfBand.remove(key);
+                }
+            }
+        }
+    }
+
+    private Set<UUID> candidates(int[] signature) {
+        Set<UUID> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            Set<UUID> bucket = buckets.get(band).get(bandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        return candidates;
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = 1125899906842597L;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = 31 * key + signature[i];
+        }
+        return key;
+    }
+
+    private double estimateJaccard(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < numHashes; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / numHashes;
+    }
+
+    /**
+     * MinHash signature over the text's word shingles (stop words dropped), or null when it has none
+     */
+    int[] signature(String text) {
+        Set<Integer> shingles = shingles(text);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[numHashes];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            long x = Integer.toUnsignedLong(shingle) % PRIME;
+            for (int i = 0; i < numHashes; i++) {
+                int value = (int) ((hashA[i] * x + hashB[i]) % PRIME);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private Set<Integer> shingles(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        List<String> words = SearchText.contentWords(text);
+        Set<Integer> shingles = new HashSet<>();
+        int size = Math.min(shingleSize, words.size());
+        for (int i = 0; i + size <= words.size() && size > 0; i++) {
+            shingles.add(String.join(" ", words.subList(i, i + size)).hashCode());
+        }
+        return shingles;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (ready && dirty.get()) {
+            snapshot();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.event.AttendeeChangedEvent;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the access list denormalized onto each transcript (Mongo document and Lucene index) in step
+ * with meeting_access, which the database maintains from attendees. Failed refreshes are retried, and a
+ * periodic pass compares every list with meeting_access and rewrites the ones that drifted. The same pass
+ * repairs meetings.has_transcript, which processing sets and clears next to the Mongo write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptAccessSync {
+
+    private static final int RECONCILE_BATCH = 500;
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final MongoTemplate mongoTemplate;
+    private final MeetingRepository meetingRepository;
+    private final TranscriptSearchIndex transcriptSearchIndex;
+
+    private final Set<UUID> failedRefreshes = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttendeeChanged(AttendeeChangedEvent event) {
+        if (!event.accessChanged()) {
+            return;
+        }
+        try {
+            refresh(event.meetingId());
+        } catch (Exception e) {
+            // Leaves the old list in place until the retry pass or the next reconcile corrects it
+            failedRefreshes.add(event.meetingId());
+            log.warn("Failed to refresh transcript access for meeting: {}", event.meetingId(), e);
+        }
+    }
+
+    /**
+     * Re-reads who can access the meeting and writes it to the transcript, if there is one
+     */
+    public void refresh(UUID meetingId) {
+        List<UUID> userIds = meetingRepository.findAccessUserIds(meetingId);
+        if (writeAccessList(meetingId, userIds)) {
+            log.debug("Refreshed transcript access for meeting {} ({} users)", meetingId, userIds.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.access-sync.retry-interval-ms:30000}")
+    public void retryFailedRefreshes() {
+        for (UUID meetingId : List.copyOf(failedRefreshes)) {
+            try {
+                refresh(meetingId);
+                failedRefreshes.remove(meetingId);
+            } catch (Exception e) {
+                log.debug("Retrying transcript access for meeting {} failed again: {}", meetingId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Runs once before the search index opens, so a rebuild picks the corrected lists up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Compares every transcript's access list with meeting_access and rewrites the ones that differ,
+     * including lists that were never written. Catches removals whose refresh was lost entirely.
+     */
+    @Scheduled(fixedDelayString = "${app.search.access-sync.reconcile-interval-ms:900000}",
+            initialDelayString = "${app.search.access-sync.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        Query all = new Query();
+        all.fields().include("meetingId", "accessUserIds");
+
+        int rewritten = 0;
+        try (Stream<Transcript> transcripts = mongoTemplate.stream(all, Transcript.class)) {
+            Map<UUID, List<UUID>> batch = new HashMap<>();
+            for (Transcript transcript : (Iterable<Transcript>) transcripts::iterator) {
+                if (transcript.getMeetingId() == null) {
+                    continue;
+                }
+                batch.put(transcript.getMeetingId(), transcript.getAccessUserIds());
+                if (batch.size() == RECONCILE_BATCH) {
+                    rewritten += reconcileBatch(batch);
+                    batch.clear();
+                }
+            }
+            rewritten += reconcileBatch(batch);
+        } catch (Exception e) {
+            log.warn("Transcript access reconcile stopped after {} rewrites: {}", rewritten, e.getMessage());
+            return;
+        }
+        if (rewritten > 0) {
+            log.info("Rewrote access lists on {} transcripts that differed from meeting_access", rewritten);
+        }
+        clearStaleTranscriptFlags();
+    }
+
+    /**
+     * Clears has_transcript on meetings whose transcript is gone, e.g. when the flag update after a
+     * compensating delete failed. Flags missing for existing transcripts are set while reconciling them.
+     */
+    private void clearStaleTranscriptFlags() {
+        int cleared = 0;
+        try {
+            UUID after = FIRST_ID;
+            List<UUID> flagged;
+            do {
+                flagged = meetingRepository.findTranscribedAfter(after, RECONCILE_BATCH);
+                if (flagged.isEmpty()) {
+                    break;
+                }
+                Set<UUID> transcribed = new HashSet<>(mongoTemplate.findDistinct(
+                        Query.query(Criteria.where("meetingId").in(flagged)), "meetingId", Transcript.class, UUID.class));
+                List<UUID> stale = flagged.stream().filter(id -> !transcribed.contains(id)).toList();
+                if (!stale.isEmpty()) {
+                    cleared += meetingRepository.markTranscribed(stale, false);
+                }
+                after = flagged.get(flagged.size() - 1);
+            } while (flagged.size() == RECONCILE_BATCH);
+        } catch (Exception e) {
+            log.warn("Clearing stale transcript flags stopped after {} meetings: {}", cleared, e.getMessage());
+            return;
+        }
+        if (cleared > 0) {
+            log.info("Cleared has_transcript on {} meetings without a transcript", cleared);
+        }
+    }
+
+    private int reconcileBatch(Map<UUID, List<UUID>> stored) {
+        if (stored.isEmpty()) {
+            return 0;
+        }
+        int flagged = meetingRepository.markTranscribed(stored.keySet(), true);
+        if (flagged > 0) {
+            log.info("Set has_transcript on {} meetings whose transcript was not flagged", flagged);
+        }
+        Map<UUID, Set<UUID>> expected = new HashMap<>();
+        for (Object[] row : meetingRepository.findAccessUserIdsByMeetingIds(stored.keySet())) {
+            expected.computeIfAbsent((UUID) row[0], id -> new HashSet<>()).add((UUID) row[1]);
+        }
+
+        int rewritten = 0;
+        for (Map.Entry<UUID, List<UUID>> entry : stored.entrySet()) {
+            Set<UUID> userIds = expected.getOrDefault(entry.getKey(), Set.of());
+            if (entry.getValue() != null && userIds.equals(new HashSet<>(entry.getValue()))) {
+                continue;
+            }
+            if (writeAccessList(entry.getKey(), new ArrayList<>(userIds))) {
+                failedRefreshes.remove(entry.getKey());
+                rewritten++;
+            }
+        }
+        return rewritten;
+    }
+
+    /**
+     * Writes the list and re-indexes the transcript locally; false when the meeting has no transcript
+     */
+    private boolean writeAccessList(UUID meetingId, List<UUID> userIds) {
+        Query byMeeting = Query.query(Criteria.where("meetingId").is(meetingId));
+
+        // Bumping updatedAt lets the search index on every other node pick the new list up on its next catch-up
+        Update update = Update.update("accessUserIds", userIds).set("updatedAt", LocalDateTime.now());
+        if (mongoTemplate.updateFirst(byMeeting, update, Transcript.class).getMatchedCount() == 0) {
+            return false;
+        }
+
+        byMeeting.fields().include("meetingId", "rawText", "wordTimestamps", "accessUserIds");
+        transcriptSearchIndex.indexTranscript(mongoTemplate.findOne(byMeeting, Transcript.class));
+        return true;
+    }
+}
@@ -0,0 +1,550 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.document.WordTimestamp;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.LengthGoalBreakIterator;
+import org.apache.lucene.search.uhighlight.Passage;
+import org.apache.lucene.search.uhighlight.PassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.BreakIterator;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over transcripts, kept on local disk behind a memory-mapped directory.
+ * Each transcript is one document whose text is rebuilt from its word timestamps, with a stored
+ * timeline of (character offset, start second) per word so highlighted passages map back to the recording.
+ * Documents also carry the ids of every user allowed to read the meeting, so searches filter on the
+ * caller alone instead of on the full list of meetings they can see.
+ * <p>
+ * Every node keeps its own index, so each one periodically re-reads the transcripts updated since its
+ * watermark (stored in the index's commit data) and drops documents whose transcript is gone.
+ */
+@Service
+@Slf4j
+public class TranscriptSearchIndex {
+
+    private static final String FIELD_MEETING_ID = "meetingId";
+    private static final String FIELD_TEXT = "text";
+    private static final String FIELD_TIMELINE = "timeline";
+    private static final String FIELD_PRINCIPAL = "principal";
+
+    // Bump when the document layout changes; a mismatching index is rebuilt on startup
+    private static final String INDEX_VERSION = "3";
+    private static final String VERSION_KEY = "version";
+    private static final String WATERMARK_KEY = "watermark";
+    private static final Set<String> STORED_HIT_FIELDS = Set.of(FIELD_MEETING_ID, FIELD_TIMELINE);
+    // Share of a passage placed before its first match; 0.5 centres the match
+    private static final float PASSAGE_FILL_FACTOR = 0.5f;
+
+    // Postings carry offsets so the highlighter never re-analyzes the transcript text
+    private static final FieldType TEXT_FIELD_TYPE = new FieldType();
+
+    static {
+        TEXT_FIELD_TYPE.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT_FIELD_TYPE.setTokenized(true);
+        TEXT_FIELD_TYPE.setStored(true);
+        TEXT_FIELD_TYPE.freeze();
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+    // Transcripts updated before this have been indexed; null until the first rebuild or catch-up
+    private volatile LocalDateTime watermark;
+
+    @Value("${app.search.transcript-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.search.transcript-index.path:${java.io.tmpdir}/meeting-minutes/transcript-index}")
+    private String indexPath;
+
+    @Value("${app.search.transcript-index.ram-buffer-mb:8}")
+    private double ramBufferMb;
+
+    @Value("${app.search.highlight-fragment-size:200}")
+    private int fragmentSize;
+
+    @Value("${app.search.index-sync.overlap-ms:120000}")
+    private long syncOverlapMs;
+
+    public TranscriptSearchIndex(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * A highlighted passage; {@code startSeconds} is where its first match is spoken, {@code endSeconds}
+     * where its last word starts. Both are null for transcripts without word timestamps.
+     */
+    public record TranscriptSnippet(String highlight, Double startSeconds, Double endSeconds) {
+    }
+
+    public record TranscriptHit(UUID meetingId, float score, List<TranscriptSnippet> snippets) {
+    }
+
+    public record TranscriptHits(long totalHits, List<TranscriptHit> hits) {
+    }
+
+    /**
+     * Opens the index and either builds it from every stored transcript (empty, older layout or no
+     * watermark) or catches up on the transcripts written while this node was down
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1) // after TranscriptAccessSync has backfilled the access lists the documents are built from
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path path = Path.of(indexPath);
+            Files.createDirectories(path);
+
+            IndexWriterConfig config = new IndexWriterConfig(analyzer);
+            config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            config.setRAMBufferSizeMB(ramBufferMb);
+
+            writer = new IndexWriter(new MMapDirectory(path), config);
+            searcherManager = new SearcherManager(writer, null);
+
+            String version = readCommitData(VERSION_KEY);
+            String storedWatermark = readCommitData(WATERMARK_KEY);
+            if (writer.getDocStats().numDocs == 0 || !INDEX_VERSION.equals(version) || storedWatermark == null) {
+                writer.deleteAll();
+                rebuild();
+            } else {
+                watermark = LocalDateTime.parse(storedWatermark);
+                catchUp();
+            }
+            log.info("Transcript search index ready at {} ({} transcripts)", path, writer.getDocStats().numDocs);
+        } catch (Exception e) {
+            // Search falls back to Mongo $text when the index is unavailable (e.g. locked by another instance)
+            log.warn("Transcript search index unavailable at {}: {}", indexPath, e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    public boolean isAvailable() {
+        return searcherManager != null;
+    }
+
+    /**
+     * Adds or replaces the transcript's document. Failures are logged, never thrown, so indexing
+     * cannot fail the processing pipeline.
+     */
+    public void indexTranscript(Transcript transcript) {
+        if (!isAvailable() || transcript == null || transcript.getMeetingId() == null) {
+            return;
+        }
+        try {
+            writer.updateDocument(meetingTerm(transcript.getMeetingId()), toDocument(transcript));
+            commit();
+            searcherManager.maybeRefresh();
+            log.debug("Indexed transcript for meeting: {}", transcript.getMeetingId());
+        } catch (Exception e) {
+            log.warn("Failed to index transcript for meeting: {}", transcript.getMeetingId(), e);
+        }
+    }
+
+    public void deleteTranscript(UUID meetingId) {
+        if (!isAvailable()) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(meetingTerm(meetingId));
+            commit();
+            searcherManager.maybeRefresh();
+        } catch (Exception e) {
+            log.warn("Failed to remove transcript for meeting {} from search index", meetingId, e);
+        }
+    }
+
+    /**
+     * Searches the transcripts the user may read. Supports Lucene query syntax, so quoted phrases
+     * and proximity ("budget review"~5) work; each hit carries up to {@code maxSnippets} highlighted passages.
+     */
+    public TranscriptHits search(String queryText, UUID userId, int offset, int limit, int maxSnippets)
+            throws IOException {
+        if (!isAvailable()) {
+            return new TranscriptHits(0, List.of());
+        }
+
+        Query query = new BooleanQuery.Builder()
+                .add(parse(queryText), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FIELD_PRINCIPAL, userId.toString())), BooleanClause.Occur.FILTER)
+                .build();
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, offset + limit);
+            ScoreDoc[] page = Arrays.copyOfRange(topDocs.scoreDocs,
+                    Math.min(offset, topDocs.scoreDocs.length), topDocs.scoreDocs.length);
+            if (page.length == 0) {
+                return new TranscriptHits(topDocs.totalHits.value, List.of());
+            }
+
+            int[] docIds = Arrays.stream(page).mapToInt(scoreDoc -> scoreDoc.doc).toArray();
+            OffsetHighlighter highlighter = new OffsetHighlighter(UnifiedHighlighter.builder(searcher, analyzer)
+                    .withFormatter(new OffsetPassageFormatter())
+                    // Passages of roughly the configured fragment size, cut on word boundaries around the match
+                    .withBreakIterator(() -> LengthGoalBreakIterator.createClosestToLength(
+                            BreakIterator.getWordInstance(Locale.ROOT), fragmentSize, PASSAGE_FILL_FACTOR)));
+
+            Map<String, Object[]> highlights = highlighter.highlightAsObjects(FIELD_TEXT, query, docIds, maxSnippets);
+            Object[] passages = highlights.get(FIELD_TEXT);
+
+            List<TranscriptHit> hits = new ArrayList<>(page.length);
+            for (int i = 0; i < page.length; i++) {
+                Document stored = searcher.storedFields().document(page[i].doc, STORED_HIT_FIELDS);
+                UUID meetingId = UUID.fromString(stored.get(FIELD_MEETING_ID));
+                BytesRef timeline = stored.getBinaryValue(FIELD_TIMELINE);
+
+                @SuppressWarnings("unchecked")
+                List<RawPassage> raw = passages[i] != null ? (List<RawPassage>) passages[i] : List.of();
+                hits.add(new TranscriptHit(meetingId, page[i].score, toSnippets(raw, timeline)));
+            }
+            return new TranscriptHits(topDocs.totalHits.value, hits);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Re-indexes every transcript from Mongo, reading only the fields the index needs
+     */
+    public synchronized int rebuild() throws IOException {
+        // Taken before reading so transcripts written during the rebuild are picked up by the next catch-up
+        LocalDateTime started = LocalDateTime.now();
+        int indexed = indexTranscripts(new org.springframework.data.mongodb.core.query.Query());
+        watermark = started;
+        commit();
+        searcherManager.maybeRefresh();
+        log.info("Rebuilt transcript search index with {} transcripts", indexed);
+        return indexed;
+    }
+
+    /**
+     * Indexes transcripts updated since the watermark, which includes those processed or re-shared on
+     * other nodes. The window reaches back by the configured overlap so a write whose timestamp was taken
+     * on a slower clock, or that committed just after the last pass, is not skipped.
+     */
+    @Scheduled(fixedDelayString = "${app.search.index-sync.interval-ms:60000}",
+            initialDelayString = "${app.search.index-sync.interval-ms:60000}")
+    public synchronized void catchUp() {
+        if (!isAvailable() || watermark == null) {
+            return;
+        }
+        LocalDateTime since = watermark.minus(Duration.ofMillis(syncOverlapMs));
+        try {
+            org.springframework.data.mongodb.core.query.Query updated =
+                    org.springframework.data.mongodb.core.query.Query.query(Criteria.where("updatedAt").gte(since));
+            int indexed = indexTranscripts(updated);
+            commit();
+            searcherManager.maybeRefresh();
+            if (indexed > 0) {
+                log.debug("Transcript search index caught up on {} transcripts updated since {}", indexed, since);
+            }
+        } catch (Exception e) {
+            // The watermark only moves forward on success, so the next pass retries the same window
+            log.warn("Transcript search index catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Removes documents whose transcript no longer exists in Mongo, e.g. deleted by another node
+     */
+    @Scheduled(fixedDelayString = "${app.search.index-sync.prune-interval-ms:3600000}",
+            initialDelayString = "${app.search.index-sync.prune-interval-ms:3600000}")
+    public synchronized void prune() {
+        if (!isAvailable()) {
+            return;
+        }
+        try {
+            // Read the index before Mongo: anything indexed after this point is already stored
+            Set<String> indexed = indexedMeetingIds();
+            org.springframework.data.mongodb.core.query.Query all = new org.springframework.data.mongodb.core.query.Query();
+            all.fields().include("meetingId");
+            try (Stream<Transcript> transcripts = mongoTemplate.stream(all, Transcript.class)) {
+                transcripts.forEach(transcript -> {
+                    if (transcript.getMeetingId() != null) {
+                        indexed.remove(transcript.getMeetingId().toString());
+                    }
+                });
+            }
+            if (indexed.isEmpty()) {
+                return;
+            }
+            for (String meetingId : indexed) {
+                writer.deleteDocuments(new Term(FIELD_MEETING_ID, meetingId));
+            }
+            commit();
+            searcherManager.maybeRefresh();
+            log.info("Pruned {} transcripts without a stored transcript from the search index", indexed.size());
+        } catch (Exception e) {
+            log.warn("Transcript search index prune failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Adds or replaces the matching transcripts and moves the watermark to the newest update seen
+     */
+    private int indexTranscripts(org.springframework.data.mongodb.core.query.Query query) throws IOException {
+        query.fields().include("meetingId", "rawText", "wordTimestamps", "accessUserIds", "updatedAt");
+
+        int indexed = 0;
+        LocalDateTime latest = watermark;
+        try (Stream<Transcript> transcripts = mongoTemplate.stream(query, Transcript.class)) {
+            for (Transcript transcript : (Iterable<Transcript>) transcripts::iterator) {
+                if (transcript.getMeetingId() != null) {
+                    writer.updateDocument(meetingTerm(transcript.getMeetingId()), toDocument(transcript));
+                    indexed++;
+                }
+                if (transcript.getUpdatedAt() != null && (latest == null || transcript.getUpdatedAt().isAfter(latest))) {
+                    latest = transcript.getUpdatedAt();
+                }
+            }
+        }
+        watermark = latest;
+        return indexed;
+    }
+
+    private Set<String> indexedMeetingIds() throws IOException {
+        Set<String> meetingIds = new HashSet<>();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            Terms terms = MultiTerms.getTerms(searcher.getIndexReader(), FIELD_MEETING_ID);
+            if (terms == null) {
+                return meetingIds;
+            }
+            TermsEnum termsEnum = terms.iterator();
+            BytesRef term;
+            while ((term = termsEnum.next()) != null) {
+                meetingIds.add(term.utf8ToString());
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        return meetingIds;
+    }
+
+    private Document toDocument(Transcript transcript) {
+        StringBuilder text = new StringBuilder();
+        ByteBuffer timeline = null;
+
+        List<WordTimestamp> words = transcript.getWordTimestamps();
+        if (words != null && !words.isEmpty()) {
+            // 4 bytes char offset + 4 bytes start second per word
+            timeline = ByteBuffer.allocate(words.size() * Integer.BYTES * 2);
+            for (WordTimestamp word : words) {
+                String token = word.getWord() == null ? "" : word.getWord().trim();
+                if (token.isEmpty()) {
+                    continue;
+                }
+                if (!text.isEmpty()) {
+                    text.append(' ');
+                }
+                timeline.putInt(text.length());
+                timeline.putFloat(word.getStartTime() != null ? word.getStartTime().floatValue() : -1f);
+                text.append(token);
+            }
+        } else if (transcript.getRawText() != null) {
+            text.append(transcript.getRawText());
+        }
+
+        Document document = new Document();
+        document.add(new StringField(FIELD_MEETING_ID, transcript.getMeetingId().toString(), Field.Store.YES));
+        document.add(new Field(FIELD_TEXT, text.toString(), TEXT_FIELD_TYPE));
+        if (transcript.getAccessUserIds() != null) {
+            for (UUID userId : transcript.getAccessUserIds()) {
+                document.add(new StringField(FIELD_PRINCIPAL, userId.toString(), Field.Store.NO));
+            }
+        }
+        if (timeline != null) {
+            document.add(new StoredField(FIELD_TIMELINE, new BytesRef(timeline.array(), 0, timeline.position())));
+        }
+        return document;
+    }
+
+    private Query parse(String queryText) {
+        QueryParser parser = new QueryParser(FIELD_TEXT, analyzer);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        try {
+            return parser.parse(queryText);
+        } catch (ParseException e) {
+            // Unbalanced quotes and similar: treat the input as plain terms
+            try {
+                return parser.parse(QueryParser.escape(queryText));
+            } catch (ParseException escaped) {
+                throw new IllegalArgumentException("Invalid transcript query: " + queryText, escaped);
+            }
+        }
+    }
+
+    private List<TranscriptSnippet> toSnippets(List<RawPassage> passages, BytesRef timeline) {
+        List<TranscriptSnippet> snippets = new ArrayList<>(passages.size());
+        for (RawPassage passage : passages) {
+            snippets.add(new TranscriptSnippet(passage.html(),
+                    secondsAt(timeline, passage.firstMatchOffset()),
+                    secondsAt(timeline, passage.endOffset() - 1)));
+        }
+        return snippets;
+    }
+
+    /**
+     * Start second of the word containing the given character offset (binary search over the timeline)
+     */
+    private Double secondsAt(BytesRef timeline, int charOffset) {
+        if (timeline == null || timeline.length == 0) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(timeline.bytes, timeline.offset, timeline.length).slice();
+        int entries = timeline.length / (Integer.BYTES * 2);
+
+        int low = 0;
+        int high = entries - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (buffer.getInt(mid * Integer.BYTES * 2) <= charOffset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        float seconds = buffer.getFloat(low * Integer.BYTES * 2 + Integer.BYTES);
+        return seconds < 0 ? null : (double) seconds;
+    }
+
+    private void commit() throws IOException {
+        LocalDateTime current = watermark;
+        writer.setLiveCommitData(current == null
+                ? Map.of(VERSION_KEY, INDEX_VERSION).entrySet()
+                : Map.of(VERSION_KEY, INDEX_VERSION, WATERMARK_KEY, current.toString()).entrySet());
+        writer.commit();
+    }
+
+    private String readCommitData(String key) {
+        if (writer.getLiveCommitData() == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+            if (key.equals(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private Term meetingTerm(UUID meetingId) {
+        return new Term(FIELD_MEETING_ID, meetingId.toString());
+    }
+
+    private record RawPassage(String html, int startOffset, int endOffset, int firstMatchOffset) {
+    }
+
+    /**
+     * Keeps each passage's offsets next to its highlighted text so they can be mapped to seconds
+     */
+    private static final class OffsetPassageFormatter extends PassageFormatter {
+
+        private final DefaultPassageFormatter html = new DefaultPassageFormatter("<mark>", "</mark>", "", true);
+
+        @Override
+        public Object format(Passage[] passages, String content) {
+            List<RawPassage> formatted = new ArrayList<>(passages.length);
+            for (Passage passage : passages) {
+                int firstMatch = passage.getNumMatches() > 0 ? passage.getMatchStarts()[0] : passage.getStartOffset();
+                formatted.add(new RawPassage(html.format(new Passage[]{passage}, content),
+                        passage.getStartOffset(), passage.getEndOffset(), firstMatch));
+            }
+            return formatted;
+        }
+    }
+
+    /**
+     * Exposes the object-valued highlighting the formatter above needs, which UnifiedHighlighter keeps protected
+     */
+    private static final class OffsetHighlighter extends UnifiedHighlighter {
+
+        OffsetHighlighter(Builder builder) {
+            super(builder);
+        }
+
+        Map<String, Object[]> highlightAsObjects(String field, Query query, int[] docIds, int maxPassages)
+                throws IOException {
+            return highlightFieldsAsObjects(new String[]{field}, query, docIds, new int[]{maxPassages});
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            if (searcherManager != null) {
+                searcherManager.close();
+            }
+            if (writer != null) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            log.debug("Error closing transcript search index", e);
+        } finally {
+            searcherManager = null;
+            writer = null;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        closeQuietly();
+    }
+}
@@ -0,0 +1,379 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.AIExtraction;
+import com.meetingminutes.backend.document.ExtractedData;
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.dto.MeetingSearchResult;
+import com.meetingminutes.backend.dto.SearchResponse;
+import com.meetingminutes.backend.dto.TranscriptSnippetResponse;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.MeetingCard;
+import com.meetingminutes.backend.repository.MeetingHeadline;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import com.meetingminutes.backend.util.Highlights;
+import com.meetingminutes.backend.util.SearchText;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Searches meeting metadata (Postgres), transcripts and AI extractions (Mongo) in parallel and fuses
+ * the three rankings with reciprocal rank fusion, so each meeting appears once with every field that matched.
+ */
+@Service
+@Slf4j
+public class UnifiedSearchService {
+
+    private final MeetingRepository meetingRepository;
+    private final TranscriptRepository transcriptRepository;
+    private final MongoTemplate mongoTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    private static final Set<String> METADATA_FIELDS = Set.of("title", "description", "agenda");
+    // Extraction candidates are read this many times over per page, since some will not be the caller's
+    private static final int EXTRACTION_OVERFETCH = 4;
+    private static final int EXTRACTION_MAX_PAGES = 3;
+
+    @Value("${app.search.unified.candidates-per-source:50}")
+    private int candidatesPerSource;
+
+    @Value("${app.search.unified.source-timeout-ms:2000}")
+    private long sourceTimeoutMs;
+
+    @Value("${app.search.unified.rrf-k:60}")
+    private int rrfK;
+
+    @Value("${app.search.highlight-fragment-size:200}")
+    private int fragmentSize;
+
+    @Value("${app.search.highlight-max-fragments:3}")
+    private int maxFragments;
+
+    public UnifiedSearchService(MeetingRepository meetingRepository,
+                                TranscriptRepository transcriptRepository,
+                                MongoTemplate mongoTemplate,
+                                @Value("${app.search.unified.workers:6}") int workers) {
+        this.meetingRepository = meetingRepository;
+        this.transcriptRepository = transcriptRepository;
+        this.mongoTemplate = mongoTemplate;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(Math.max(3, workers));
+        this.executor.setMaxPoolSize(Math.max(3, workers));
+        this.executor.setQueueCapacity(100);
+        this.executor.setThreadNamePrefix("unified-search-");
+        this.executor.initialize();
+    }
+
+    /**
+     * A meeting matched by one source; sources return these best match first. {@code text} is matched
+     * content the source already holds, kept for highlighting if the hit makes the returned page.
+     */
+    private record SourceHit(UUID meetingId, List<String> matchedFields, String text) {
+    }
+
+    private static final class FusedHit {
+        private final UUID meetingId;
+        private final Set<String> matchedFields = new LinkedHashSet<>();
+        private double score;
+        private String extractionText;
+
+        private FusedHit(UUID meetingId) {
+            this.meetingId = meetingId;
+        }
+    }
+
+    public SearchResponse search(String query, User user, int size) {
+        String trimmed = query == null ? "" : query.trim();
+        log.info("Unified search for user: {} with query: {}", user.getEmail(), trimmed);
+
+        if (trimmed.isEmpty()) {
+            return emptyResponse();
+        }
+
+        // All sources start together; total latency is that of the slowest one, capped by the timeout
+        CompletableFuture<List<SourceHit>> metadata = runSource("metadata",
+                () -> searchMetadata(user.getId(), trimmed));
+        CompletableFuture<List<SourceHit>> transcripts = runSource("transcripts",
+                () -> searchTranscripts(trimmed, user.getId()));
+        CompletableFuture<List<SourceHit>> extractions = runSource("extractions",
+                () -> searchExtractions(trimmed, user.getId()));
+
+        List<FusedHit> fused = fuse(List.of(metadata.join(), transcripts.join(), extractions.join()));
+        List<FusedHit> top = fused.subList(0, Math.min(size, fused.size()));
+
+        return SearchResponse.builder()
+                .results(hydrate(top, trimmed))
+                .totalResults(fused.size())
+                .totalPages(size > 0 ? (int) Math.ceil((double) fused.size() / size) : 0)
+                .currentPage(0)
+                .build();
+    }
+
+    /**
+     * Runs a source on the worker pool. A source that times out, fails or finds the queue full counts as
+     * having no hits; a timed-out task is cancelled so it stops holding a worker or a queue slot.
+     */
+    private CompletableFuture<List<SourceHit>> runSource(String name, Supplier<List<SourceHit>> source) {
+        CompletableFuture<List<SourceHit>> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(source.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Unified search source '{}' skipped: worker queue is full", name);
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        return result.completeOnTimeout(null, sourceTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((hits, error) -> {
+                    if (error != null) {
+                        log.warn("Unified search source '{}' failed: {}", name, error.getMessage());
+                        return List.of();
+                    }
+                    if (hits == null) {
+                        task.cancel(true);
+                        log.warn("Unified search source '{}' timed out after {} ms", name, sourceTimeoutMs);
+                        return List.of();
+                    }
+                    return hits;
+                });
+    }
+
+    private List<SourceHit> searchMetadata(UUID userId, String query) {
+        return meetingRepository.rankMetadataMatches(userId, query, candidatesPerSource,
+                        Duration.ofMillis(sourceTimeoutMs)).stream()
+                .map(hit -> new SourceHit(hit.meetingId(), hit.matchedFields(), null))
+                .toList();
+    }
+
+    private List<SourceHit> searchTranscripts(String query, UUID userId) {
+        TextQuery textQuery = textQuery(query, candidatesPerSource);
+        textQuery.addCriteria(Criteria.where("accessUserIds").is(userId));
+        textQuery.fields().include("meetingId");
+
+        return mongoTemplate.find(textQuery, Transcript.class).stream()
+                .map(transcript -> new SourceHit(transcript.getMeetingId(), List.of("transcript"), null))
+                .toList();
+    }
+
+    /**
+     * Extractions carry no access list, so they are ranked across all meetings and access is checked on
+     * the ranked candidates, best first, a page at a time until the source has enough hits
+     */
+    private List<SourceHit> searchExtractions(String query, UUID userId) {
+        int pageSize = candidatesPerSource * EXTRACTION_OVERFETCH;
+        List<UUID> accepted = new ArrayList<>(candidatesPerSource);
+        for (int page = 0; page < EXTRACTION_MAX_PAGES && accepted.size() < candidatesPerSource; page++) {
+            TextQuery textQuery = textQuery(query, pageSize);
+            textQuery.skip((long) page * pageSize);
+            textQuery.fields().include("meetingId");
+            List<UUID> ranked = mongoTemplate.find(textQuery, AIExtraction.class).stream()
+                    .map(AIExtraction::getMeetingId)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (ranked.isEmpty()) {
+                break;
+            }
+            Set<UUID> accessible = new HashSet<>(meetingRepository.findAccessibleAmong(userId, ranked));
+            ranked.stream()
+                    .filter(accessible::contains)
+                    .limit(candidatesPerSource - accepted.size())
+                    .forEach(accepted::add);
+            if (ranked.size() < pageSize) {
+                break;
+            }
+        }
+        if (accepted.isEmpty()) {
+            return List.of();
+        }
+
+        // Only the indexed parts of the accepted hits; the raw AI response and prompt can be large
+        Query byMeeting = Query.query(Criteria.where("meetingId").in(accepted));
+        byMeeting.fields().include("meetingId").include("extractedData");
+        Map<UUID, ExtractedData> extracted = new HashMap<>();
+        mongoTemplate.find(byMeeting, AIExtraction.class)
+                .forEach(extraction -> extracted.put(extraction.getMeetingId(), extraction.getExtractedData()));
+
+        List<String> terms = SearchText.queryTerms(query);
+        return accepted.stream()
+                .map(meetingId -> new SourceHit(meetingId,
+                        matchedExtractionFields(extracted.get(meetingId), terms),
+                        SearchText.extractionText(extracted.get(meetingId))))
+                .toList();
+    }
+
+    /**
+     * Best-scoring text matches first; the server abandons the query once the source timeout has passed
+     */
+    private TextQuery textQuery(String query, int limit) {
+        TextQuery textQuery = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(query))
+                .sortByScore();
+        textQuery.limit(limit);
+        textQuery.maxTime(Duration.ofMillis(sourceTimeoutMs));
+        return textQuery;
+    }
+
+    /**
+     * Mongo reports a match per document, not per field, so attribute it by looking for the query terms
+     */
+    private List<String> matchedExtractionFields(ExtractedData data, List<String> terms) {
+        List<String> fields = new ArrayList<>(3);
+        if (data == null) {
+            return List.of("extraction");
+        }
+        if (containsAny(data.getDecisions(), d -> d.getTopic() + " " + d.getDecision(), terms)) {
+            fields.add("decisions");
+        }
+        if (containsAny(data.getActionItems(), ExtractedData.ExtractedActionItem::getDescription, terms)) {
+            fields.add("actionItems");
+        }
+        if (containsAny(data.getTopicsDiscussed(), ExtractedData.ExtractedTopic::getSummary, terms)) {
+            fields.add("topics");
+        }
+        // Stemmed matches (e.g. "deciding" for "decision") will not contain the literal term
+        return fields.isEmpty() ? List.of("extraction") : fields;
+    }
+
+    private <T> boolean containsAny(List<T> items, Function<T, String> text, List<String> terms) {
+        if (items == null) {
+            return false;
+        }
+        return items.stream()
+                .map(text)
+                .filter(Objects::nonNull)
+                .map(String::toLowerCase)
+                .anyMatch(value -> terms.stream().anyMatch(value::contains));
+    }
+
+    /**
+     * Reciprocal rank fusion: each source contributes 1 / (k + rank), so a meeting found by several
+     * sources outranks one that tops a single source
+     */
+    private List<FusedHit> fuse(List<List<SourceHit>> rankings) {
+        Map<UUID, FusedHit> byMeeting = new LinkedHashMap<>();
+        for (List<SourceHit> ranking : rankings) {
+            for (int rank = 0; rank < ranking.size(); rank++) {
+                SourceHit hit = ranking.get(rank);
+                FusedHit fused = byMeeting.computeIfAbsent(hit.meetingId(), FusedHit::new);
+                fused.score += 1.0 / (rrfK + rank + 1);
+                fused.matchedFields.addAll(hit.matchedFields());
+                if (hit.text() != null) {
+                    fused.extractionText = hit.text();
+                }
+            }
+        }
+
+        List<FusedHit> ordered = new ArrayList<>(byMeeting.values());
+        ordered.sort(Comparator.comparingDouble((FusedHit hit) -> hit.score).reversed());
+        return ordered;
+    }
+
+    /**
+     * Loads cards and highlights for the returned page only: metadata headlines from Postgres, transcript
+     * text for the transcript hits on the page, and the extraction text the source already read
+     */
+    private List<MeetingSearchResult> hydrate(List<FusedHit> hits, String query) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> ids = hits.stream().map(hit -> hit.meetingId).toList();
+        Map<UUID, MeetingHeadline> headlines = meetingRepository.findHeadlines(
+                        hits.stream().filter(hit -> !Collections.disjoint(hit.matchedFields, METADATA_FIELDS))
+                                .map(hit -> hit.meetingId).toList(),
+                        query, Math.max(5, fragmentSize / 6), maxFragments).stream()
+                .collect(Collectors.toMap(MeetingHeadline::meetingId, headline -> headline));
+        Map<UUID, String> transcriptTexts = transcriptTexts(hits.stream()
+                .filter(hit -> hit.matchedFields.contains("transcript"))
+                .map(hit -> hit.meetingId)
+                .toList());
+        Map<UUID, MeetingCard> cards = meetingRepository.findCards(ids).stream()
+                .collect(Collectors.toMap(MeetingCard::id, card -> card));
+        Set<UUID> transcribed = transcriptRepository.findMeetingIdsByMeetingIdIn(ids).stream()
+                .map(Transcript::getMeetingId)
+                .collect(Collectors.toSet());
+
+        List<MeetingSearchResult> results = new ArrayList<>(hits.size());
+        for (FusedHit hit : hits) {
+            MeetingCard card = cards.get(hit.meetingId);
+            if (card == null) {
+                continue; // deleted between the search and hydration
+            }
+            MeetingHeadline headline = headlines.get(hit.meetingId);
+            List<TranscriptSnippetResponse> snippets = Highlights.extract(
+                            transcriptTexts.get(hit.meetingId), query, fragmentSize, maxFragments).stream()
+                    .map(fragment -> TranscriptSnippetResponse.builder().highlight(fragment).build())
+                    .toList();
+
+            List<String> highlights = new ArrayList<>(maxFragments);
+            if (headline != null) {
+                highlights.addAll(headline.fragments());
+            }
+            snippets.forEach(snippet -> highlights.add(snippet.getHighlight()));
+            highlights.addAll(Highlights.extract(hit.extractionText, query, fragmentSize, maxFragments));
+            List<String> page = highlights.subList(0, Math.min(maxFragments, highlights.size()));
+
+            String highlight = !page.isEmpty() ? page.get(0)
+                    : headline != null && headline.title() != null ? headline.title()
+                    : Highlights.escape(card.title());
+
+            results.add(MeetingSearchResult.fromCard(card)
+                    .hasTranscript(transcribed.contains(card.id()))
+                    .matchingFields(new ArrayList<>(hit.matchedFields))
+                    .relevanceScore(hit.score)
+                    .highlight(highlight)
+                    .highlights(new ArrayList<>(page))
+                    .transcriptSnippets(snippets)
+                    .build());
+        }
+        return results;
+    }
+
+    private Map<UUID, String> transcriptTexts(List<UUID> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return Map.of();
+        }
+        Query query = Query.query(Criteria.where("meetingId").in(meetingIds));
+        query.fields().include("meetingId").include("rawText");
+        return mongoTemplate.find(query, Transcript.class).stream()
+                .filter(transcript -> transcript.getRawText() != null)
+                .collect(Collectors.toMap(Transcript::getMeetingId, Transcript::getRawText, (a, b) -> a));
+    }
+
+    private SearchResponse emptyResponse() {
+        return SearchResponse.builder()
+                .results(new ArrayList<>())
+                .totalResults(0L)
+                .totalPages(0)
+                .currentPage(0)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -87,6 +87,49 @@ public class WebSocketEventPublisher {
         log.error("WebSocket error sent for meeting {}: {}", meetingId, errorMessage);
     }
 
+    public void sendDocumentsRegenerated(UUID meetingId, String documentUrl) {
+        String destination = "/topic/meetings/" + meetingId + "/processing";
+
+        messagingTemplate.convertAndSend(destination,
+                WebSocketMessage.builder()
+                        .type(WebSocketMessage.MessageType.DOCUMENT_GENERATED)
+                        .message("Documents regenerated")
+                        .data(ProcessingUpdateMessage.builder()
+                                .meetingId(meetingId)
+                                .status(MeetingStatus.PROCESSED)
+                                .progress(100)
+                                .currentStep("DOCUMENTS_REGENERATED")
+                                .message("Meeting minutes regenerated successfully")
+                                .timestamp(LocalDateTime.now())
+                                .documentUrl(documentUrl)
+                                .build())
+                        .timestamp(LocalDateTime.now())
+                        .build());
+
+        log.info("WebSocket document regeneration sent for meeting: {}", meetingId);
+    }
+
+    public void sendDocumentRegenerationFailed(UUID meetingId, String errorMessage) {
+        String destination = "/topic/meetings/" + meetingId + "/processing";
+
+        messagingTemplate.convertAndSend(destination,
+                WebSocketMessage.builder()
+                        .type(WebSocketMessage.MessageType.DOCUMENT_REGENERATION_FAILED)
+                        .message("Document regeneration failed")
+                        .data(ProcessingUpdateMessage.builder()
+                                .meetingId(meetingId)
+                                .status(MeetingStatus.PROCESSED)
+                                .progress(0)
+                                .currentStep("REGENERATION_FAILED")
+                                .message(errorMessage)
+                                .timestamp(LocalDateTime.now())
+                                .build())
+                        .timestamp(LocalDateTime.now())
+                        .build());
+
+        log.warn("WebSocket document regeneration failure sent for meeting {}: {}", meetingId, errorMessage);
+    }
+
     public void sendUserNotification(String userId, WebSocketMessage message) {
         messagingTemplate.convertAndSendToUser(userId, "/queue/notifications", message);
         log.debug("User notification sent to {}: {}", userId, message.getType());
@@ -0,0 +1,78 @@
+package com.meetingminutes.backend.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Weak entity tags built from version stamps (entity versions, update times, row counts) rather than from
+ * the rendered body, so a conditional GET can be answered before the response is assembled.
+ */
+public final class ETags {
+
+    /**
+     * Responses are per user and must be revalidated on every use; also keeps Spring Security's no-store default
+     * from stopping clients keeping the body around
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final char SEPARATOR = '|';
+    private static final int TAG_BYTES = 12;
+
+    private ETags() {
+    }
+
+    /**
+     * A weak tag ({@code W/"..."}) over the given parts in order; nulls are allowed and distinct from blanks
+     */
+    public static String weak(Object... parts) {
+        StringBuilder stamp = new StringBuilder();
+        for (Object part : parts) {
+            stamp.append(part == null ? "\u0000" : part.toString()).append(SEPARATOR);
+        }
+        byte[] digest = sha256().digest(stamp.toString().getBytes(StandardCharsets.UTF_8));
+        return "W/\"" + HexFormat.of().formatHex(digest, 0, TAG_BYTES) + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches the tag, using the weak comparison GET requires
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) {
+            return false;
+        }
+        String opaque = opaque(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || opaque(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE).build();
+    }
+
+    public static <T> ResponseEntity<T> ok(String eTag, T body) {
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE).body(body);
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
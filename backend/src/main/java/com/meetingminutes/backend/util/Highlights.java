@@ -0,0 +1,130 @@
+package com.meetingminutes.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Highlighted fragments for search results, as HTML with matches wrapped in {@code <mark>}.
+ * Text is always escaped, so stored content cannot inject markup.
+ */
+public final class Highlights {
+
+    /** Marker characters handed to ts_headline; they cannot occur in user text and are replaced after escaping */
+    public static final char START = '\u0002';
+    public static final char STOP = '\u0003';
+    public static final char DELIMITER = '\u0001';
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+(?:['-][\\p{L}\\p{N}]+)*");
+
+    private Highlights() {
+    }
+
+    /**
+     * Splits ts_headline output produced with the marker characters into escaped HTML fragments
+     */
+    public static List<String> fromHeadline(String headline) {
+        if (headline == null || headline.isBlank()) {
+            return List.of();
+        }
+        List<String> fragments = new ArrayList<>();
+        for (String fragment : headline.split(Pattern.quote(String.valueOf(DELIMITER)))) {
+            String trimmed = fragment.trim();
+            if (!trimmed.isEmpty()) {
+                fragments.add(escape(trimmed)
+                        .replace(String.valueOf(START), "<mark>")
+                        .replace(String.valueOf(STOP), "</mark>"));
+            }
+        }
+        return fragments;
+    }
+
+    /**
+     * Up to {@code maxFragments} passages of about {@code fragmentSize} characters around the words of
+     * {@code query}, in document order. A word matches when it starts with a query term, which also
+     * catches the inflected forms full-text search matched by stem.
+     */
+    public static List<String> extract(String text, String query, int fragmentSize, int maxFragments) {
+        if (text == null || text.isBlank() || maxFragments <= 0) {
+            return List.of();
+        }
+        List<String> terms = SearchText.queryTerms(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        List<int[]> matches = new ArrayList<>();
+        Matcher words = WORD.matcher(text);
+        while (words.find()) {
+            String word = words.group().toLowerCase(Locale.ROOT);
+            if (terms.stream().anyMatch(word::startsWith)) {
+                matches.add(new int[]{words.start(), words.end()});
+            }
+        }
+
+        List<String> fragments = new ArrayList<>(maxFragments);
+        int covered = -1;
+        for (int i = 0; i < matches.size() && fragments.size() < maxFragments; i++) {
+            int[] match = matches.get(i);
+            if (match[0] < covered) {
+                continue;
+            }
+            // A third of the fragment before the first match, the rest after
+            int start = wordBoundary(text, Math.max(0, match[0] - fragmentSize / 3), false);
+            int end = wordBoundary(text, Math.min(text.length(), start + fragmentSize), true);
+            end = Math.max(end, match[1]);
+
+            StringBuilder html = new StringBuilder();
+            int position = start;
+            for (int j = i; j < matches.size() && matches.get(j)[1] <= end; j++) {
+                int[] inner = matches.get(j);
+                html.append(escape(text.substring(position, inner[0])))
+                        .append("<mark>").append(escape(text.substring(inner[0], inner[1]))).append("</mark>");
+                position = inner[1];
+            }
+            html.append(escape(text.substring(position, end)));
+            fragments.add(html.toString().strip());
+            covered = end;
+        }
+        return fragments;
+    }
+
+    public static String escape(String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&#39;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Moves an offset to the nearest whitespace, backwards for fragment starts and forwards for ends
+     */
+    private static int wordBoundary(String text, int offset, boolean forward) {
+        if (offset <= 0 || offset >= text.length()) {
+            return offset;
+        }
+        int limit = 20; // give up on very long tokens rather than grow the fragment unbounded
+        int i = offset;
+        while (limit-- > 0 && i > 0 && i < text.length() && !Character.isWhitespace(text.charAt(i))) {
+            i += forward ? 1 : -1;
+        }
+        if (i <= 0 || i >= text.length()) {
+            return Math.max(0, Math.min(i, text.length()));
+        }
+        return Character.isWhitespace(text.charAt(i)) ? i : offset;
+    }
+}
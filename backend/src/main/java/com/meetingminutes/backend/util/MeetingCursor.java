@@ -0,0 +1,73 @@
+package com.meetingminutes.backend.util;
+
+import com.meetingminutes.backend.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a meeting list page: the sort key and id of that row, plus the
+ * ordering and text query it was taken from. Clients only ever see the opaque {@link #encode()} form.
+ */
+public record MeetingCursor(String sortField, boolean ascending, String queryHash, String sortKey, UUID id) {
+
+    private static final String SEPARATOR = "|";
+    private static final String NO_QUERY = "-";
+
+    /**
+     * Cursor for the row with the given sort key and id, in a list filtered by {@code query} (null when there is none)
+     */
+    public static MeetingCursor of(String sortField, boolean ascending, String query, String sortKey, UUID id) {
+        return new MeetingCursor(sortField, ascending, hashQuery(query), sortKey, id);
+    }
+
+    public String encode() {
+        String raw = sortField + SEPARATOR + (ascending ? "a" : "d") + SEPARATOR + queryHash + SEPARATOR
+                + id + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor and checks it was issued for the same ordering and text query as the current request.
+     * Relevance keys are only comparable within one query, so a cursor cannot be replayed against another.
+     */
+    public static MeetingCursor decode(String token, String sortField, boolean ascending, String query) {
+        MeetingCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The sort key goes last so titles containing the separator survive the round trip
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            cursor = new MeetingCursor(parts[0], "a".equals(parts[1]), parts[2], parts[4], UUID.fromString(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid pagination cursor");
+        }
+
+        if (!cursor.sortField().equals(sortField) || cursor.ascending() != ascending) {
+            throw new ValidationException("Pagination cursor does not match the requested sort order");
+        }
+        if (!cursor.queryHash().equals(hashQuery(query))) {
+            throw new ValidationException("Pagination cursor does not match the requested search query");
+        }
+        return cursor;
+    }
+
+    static String hashQuery(String query) {
+        if (query == null || query.isBlank()) {
+            return NO_QUERY;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(query.trim().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
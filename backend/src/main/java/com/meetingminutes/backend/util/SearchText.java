@@ -0,0 +1,88 @@
+package com.meetingminutes.backend.util;
+
+import com.meetingminutes.backend.document.ExtractedData;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Tokenizing shared by the search features, so highlights, suggestions and similarity all agree on
+ * what a word is and which words are too common to count.
+ */
+public final class SearchText {
+
+    public static final int MIN_WORD_LENGTH = 3;
+    public static final int MAX_WORD_LENGTH = 64;
+
+    private static final Pattern WORD = Pattern.compile("\\p{L}(?:[\\p{L}\\p{N}'-]*[\\p{L}\\p{N}])?");
+
+    private SearchText() {
+    }
+
+    /**
+     * Lowercased, distinct terms of a user query, split on anything that is not a letter or digit
+     */
+    public static List<String> queryTerms(String query) {
+        if (query == null) {
+            return List.of();
+        }
+        return Arrays.stream(query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> term.length() > 1)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Lowercased words of the text in order, without English stop words and words outside
+     * {@link #MIN_WORD_LENGTH}..{@link #MAX_WORD_LENGTH} characters
+     */
+    public static List<String> contentWords(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORD.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            String word = matcher.group();
+            if (word.length() >= MIN_WORD_LENGTH && word.length() <= MAX_WORD_LENGTH
+                    && !EnglishAnalyzer.ENGLISH_STOP_WORDS_SET.contains(word)) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * The searchable text of an AI extraction: decisions, action items and topics, one sentence each
+     */
+    public static String extractionText(ExtractedData data) {
+        if (data == null) {
+            return "";
+        }
+        List<String> parts = new ArrayList<>();
+        if (data.getDecisions() != null) {
+            data.getDecisions().forEach(d -> parts.add(labelled(d.getTopic(), d.getDecision())));
+        }
+        if (data.getActionItems() != null) {
+            data.getActionItems().forEach(item -> parts.add(item.getDescription()));
+        }
+        if (data.getTopicsDiscussed() != null) {
+            data.getTopicsDiscussed().forEach(topic -> parts.add(labelled(topic.getAgendaItem(), topic.getSummary())));
+        }
+        return parts.stream().filter(Objects::nonNull).collect(Collectors.joining(". "));
+    }
+
+    private static String labelled(String label, String text) {
+        if (label == null || label.isBlank()) {
+            return text;
+        }
+        return text == null ? label : label + ": " + text;
+    }
+}
@@ -0,0 +1,200 @@
+package com.meetingminutes.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.meetingminutes.backend.cache.VersionedCacheSerializer;
+import com.meetingminutes.backend.config.CacheConfig;
+import com.meetingminutes.backend.dto.ActionItemResponse;
+import com.meetingminutes.backend.dto.AgendaItemResponse;
+import com.meetingminutes.backend.dto.AttendeeResponse;
+import com.meetingminutes.backend.dto.MeetingDetailResponse;
+import com.meetingminutes.backend.dto.MeetingSearchResult;
+import com.meetingminutes.backend.dto.MeetingSeriesResponse;
+import com.meetingminutes.backend.dto.SearchResponse;
+import com.meetingminutes.backend.dto.UserResponse;
+import com.meetingminutes.backend.entity.AttendanceStatus;
+import com.meetingminutes.backend.entity.MeetingStatus;
+import com.meetingminutes.backend.entity.TaskStatus;
+import com.meetingminutes.backend.entity.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache value ser/de cost for the two largest cached payloads: the previous typed-JSON serializer
+ * against the versioned codec writing JSON and Smile. Payload sizes are printed at setup.
+ * Run from the test classpath via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    @Param({"legacy-json", "json", "smile"})
+    private String codec;
+
+    private RedisSerializer<Object> serializer;
+    private MeetingDetailResponse detail;
+    private SearchResponse search;
+    private byte[] detailBytes;
+    private byte[] searchBytes;
+
+    @Setup
+    public void setUp() {
+        serializer = serializer(codec);
+        detail = sampleDetail();
+        search = sampleSearch();
+        detailBytes = serializer.serialize(detail);
+        searchBytes = serializer.serialize(search);
+        System.out.printf("%n[%s] MeetingDetailResponse: %d bytes, SearchResponse: %d bytes%n",
+                codec, detailBytes.length, searchBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serializeDetail() {
+        return serializer.serialize(detail);
+    }
+
+    @Benchmark
+    public Object deserializeDetail() {
+        return serializer.deserialize(detailBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeSearch() {
+        return serializer.serialize(search);
+    }
+
+    @Benchmark
+    public Object deserializeSearch() {
+        return serializer.deserialize(searchBytes);
+    }
+
+    private static RedisSerializer<Object> serializer(String codec) {
+        if ("legacy-json".equals(codec)) {
+            return new GenericJackson2JsonRedisSerializer(CacheConfig.cacheObjectMapper(new JsonFactory()));
+        }
+        return new VersionedCacheSerializer(
+                CacheConfig.cacheObjectMapper(new JsonFactory()),
+                CacheConfig.cacheObjectMapper(SmileFactory.builder()
+                        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                        .build()),
+                VersionedCacheSerializer.Codec.valueOf(codec.toUpperCase()));
+    }
+
+    private static MeetingDetailResponse sampleDetail() {
+        UUID meetingId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        UserResponse organizer = user(0);
+
+        List<AgendaItemResponse> agendaItems = new ArrayList<>();
+        List<AttendeeResponse> attendees = new ArrayList<>();
+        List<ActionItemResponse> actionItems = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            agendaItems.add(AgendaItemResponse.builder()
+                    .id(UUID.randomUUID()).title("Agenda item " + i).description("Discussion of topic " + i)
+                    .orderIndex(i).estimatedDuration(Duration.ofMinutes(10)).meetingId(meetingId)
+                    .createdAt(now).updatedAt(now).build());
+            attendees.add(AttendeeResponse.builder()
+                    .id(UUID.randomUUID()).user(user(i)).status(AttendanceStatus.ATTENDED).isOrganizer(false)
+                    .invitedAt(now).joinedAt(now).meetingId(meetingId).createdAt(now).updatedAt(now).build());
+            actionItems.add(ActionItemResponse.builder()
+                    .id(UUID.randomUUID()).description("Follow up on agenda item " + i).assignedToUser(user(i))
+                    .deadline(now.plusDays(i)).status(TaskStatus.PENDING).acknowledged(false)
+                    .meetingId(meetingId).isAiGenerated(true).meetingTitle("Curriculum Committee Meeting")
+                    .createdAt(now).updatedAt(now).build());
+        }
+
+        return MeetingDetailResponse.builder()
+                .id(meetingId)
+                .title("Curriculum Committee Meeting")
+                .description("Quarterly review of course offerings")
+                .status(MeetingStatus.PROCESSED)
+                .agendaText("Review, budget, staffing")
+                .usePreviousContext(true)
+                .scheduledTime(now)
+                .createdBy(organizer)
+                .series(MeetingSeriesResponse.builder()
+                        .id(UUID.randomUUID()).title("Curriculum Committee").createdBy(organizer)
+                        .isActive(true).meetingCount(12).createdAt(now).updatedAt(now).build())
+                .agendaItems(agendaItems)
+                .attendees(attendees)
+                .actionItems(actionItems)
+                .transcriptId(UUID.randomUUID().toString())
+                .aiExtractionId(UUID.randomUUID().toString())
+                .createdAt(now)
+                .updatedAt(now)
+                .hasOutdatedDocuments(false)
+                .build();
+    }
+
+    private static SearchResponse sampleSearch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MeetingSearchResult> results = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            results.add(MeetingSearchResult.builder()
+                    .meetingId(UUID.randomUUID().toString())
+                    .title("Budget planning " + i)
+                    .description("Planning session for the quarterly budget")
+                    .highlight("Reviewed the <mark>budget</mark> for next quarter")
+                    .highlights(List.of("Reviewed the <mark>budget</mark> for next quarter",
+                            "The <mark>budget</mark> will be revisited in May"))
+                    .relevanceScore(1.0 / i)
+                    .status("PROCESSED")
+                    .meetingDate(now.minusDays(i))
+                    .createdAt(now.minusDays(i))
+                    .matchingFields(List.of("title", "transcript"))
+                    .participantCount(8)
+                    .actionItemCount(4)
+                    .hasTranscript(true)
+                    .seriesTitle("Finance Committee")
+                    .build());
+        }
+        Map<String, Long> statusFacet = new LinkedHashMap<>();
+        statusFacet.put("PROCESSED", 18L);
+        statusFacet.put("DRAFT", 2L);
+
+        return SearchResponse.builder()
+                .results(results)
+                .totalResults(120)
+                .totalPages(6)
+                .currentPage(0)
+                .statusFacet(statusFacet)
+                .build();
+    }
+
+    private static UserResponse user(int i) {
+        return UserResponse.builder()
+                .id(UUID.randomUUID())
+                .email("member" + i + "@university.edu")
+                .name("Member " + i)
+                .role(UserRole.PARTICIPANT)
+                .emailVerified(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,203 @@
+package com.meetingminutes.backend.benchmark;
+
+import com.meetingminutes.backend.service.AnalyticsService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Dashboard counters against seeded Postgres: the per-method queries (meeting, task and participant stats plus
+ * the upcoming count) against the single FILTER-aggregate CTE, both with rollups disabled. At setup each path runs
+ * once on a connection that counts the statements it sends, and the round trips and the table scans it started
+ * (from pg_stat_xact_user_tables) are printed. Needs Docker for the container.
+ * Run from the test classpath via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardQueryBenchmark {
+
+    private static final int ORGANIZERS = 200;
+
+    private static final String UPCOMING_SQL = """
+                SELECT COUNT(*) FROM meetings
+                WHERE created_by = ? AND scheduled_time > ? AND scheduled_time < ?
+            """;
+
+    @Param({"50", "500"})
+    private int meetingsPerOrganizer;
+
+    private PostgreSQLContainer<?> postgres;
+    private JdbcTemplate jdbcTemplate;
+    private AnalyticsService analyticsService;
+    private UUID userId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        seed();
+        analyticsService = new AnalyticsService(jdbcTemplate, null);
+        userId = jdbcTemplate.queryForObject("SELECT id FROM organizers WHERE n = 1", UUID.class);
+
+        report("separate", template -> separateQueries(new AnalyticsService(template, null), template));
+        report("single-pass", template -> new AnalyticsService(template, null).getDashboardCounters(userId));
+    }
+
+    @TearDown
+    public void tearDown() {
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<Object> separateQueries() {
+        return separateQueries(analyticsService, jdbcTemplate);
+    }
+
+    @Benchmark
+    public Map<String, Object> singlePass() {
+        return analyticsService.getDashboardCounters(userId);
+    }
+
+    private List<Object> separateQueries(AnalyticsService service, JdbcTemplate template) {
+        LocalDateTime now = LocalDateTime.now();
+        return List.of(
+                service.getMeetingStatsByUser(userId),
+                service.getTaskStatsByUser(userId),
+                service.getParticipantStats(userId),
+                template.queryForObject(UPCOMING_SQL, Long.class, userId, now, now.plusDays(7)));
+    }
+
+    /**
+     * Runs one path inside a transaction on a single connection and prints the statements it sent and the scans
+     * it started
+     */
+    private void report(String path, Consumer<JdbcTemplate> run) throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        connection.setAutoCommit(false);
+        AtomicInteger statements = new AtomicInteger();
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(countingStatements(connection, statements), true);
+        try {
+            JdbcTemplate template = new JdbcTemplate(dataSource);
+            run.accept(template);
+            int roundTrips = statements.get();
+            Map<String, Object> scans = template.queryForMap(
+                    "SELECT COALESCE(SUM(seq_scan), 0) AS seq_scans, COALESCE(SUM(idx_scan), 0) AS index_scans " +
+                            "FROM pg_stat_xact_user_tables");
+            System.out.printf("%n[%d meetings/organizer] %s: %d round trip(s), %s sequential scan(s), %s index scan(s)%n",
+                    meetingsPerOrganizer, path, roundTrips, scans.get("seq_scans"), scans.get("index_scans"));
+            connection.rollback();
+        } finally {
+            dataSource.destroy();
+            connection.close();
+        }
+    }
+
+    /**
+     * Every statement JdbcTemplate prepares or creates is executed once, so counting them counts round trips
+     */
+    private static Connection countingStatements(Connection target, AtomicInteger statements) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.equals("prepareStatement") || name.equals("createStatement") || name.equals("prepareCall")) {
+                        statements.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Tables and indexes shaped like the application's (meeting_access as DatabaseIndexConfig builds it),
+     * with every organizer owning the same number of meetings, five attendees and three tasks each
+     */
+    private void seed() {
+        jdbcTemplate.execute("""
+                CREATE TABLE meetings (id UUID PRIMARY KEY, created_by UUID NOT NULL, status VARCHAR(32),
+                                       scheduled_time TIMESTAMP, created_at TIMESTAMP);
+                CREATE TABLE attendees (id UUID PRIMARY KEY, meeting_id UUID NOT NULL, user_id UUID);
+                CREATE TABLE action_items (id UUID PRIMARY KEY, meeting_id UUID NOT NULL, status VARCHAR(32));
+                CREATE TABLE meeting_access (user_id UUID NOT NULL, meeting_id UUID NOT NULL, role VARCHAR(16) NOT NULL,
+                                             created_at TIMESTAMP, scheduled_time TIMESTAMP, status VARCHAR(32),
+                                             PRIMARY KEY (user_id, meeting_id));
+                CREATE TABLE organizers AS SELECT gen_random_uuid() AS id, n FROM generate_series(1, %d) n;
+                """.formatted(ORGANIZERS));
+
+        jdbcTemplate.update("""
+                INSERT INTO meetings (id, created_by, status, scheduled_time, created_at)
+                SELECT gen_random_uuid(), o.id,
+                       (ARRAY['DRAFT', 'PROCESSING', 'PROCESSED', 'FAILED', 'SCHEDULED'])[1 + m % 5],
+                       now() + ((m % 60) - 30) * interval '1 day',
+                       now() - (m % 365) * interval '1 day'
+                FROM organizers o, generate_series(1, ?) m
+                """, meetingsPerOrganizer);
+        jdbcTemplate.update("""
+                INSERT INTO attendees (id, meeting_id, user_id)
+                SELECT gen_random_uuid(), m.id, o.id
+                FROM meetings m
+                CROSS JOIN generate_series(1, 5) a
+                JOIN organizers o ON o.n = 1 + abs(hashtext(a::text || m.id::text)) %% %d
+                """.formatted(ORGANIZERS));
+        jdbcTemplate.update("""
+                INSERT INTO action_items (id, meeting_id, status)
+                SELECT gen_random_uuid(), m.id, (ARRAY['PENDING', 'COMPLETED', 'OVERDUE'])[t]
+                FROM meetings m, generate_series(1, 3) t
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO meeting_access (user_id, meeting_id, role, created_at, scheduled_time, status)
+                SELECT p.user_id, m.id,
+                       CASE WHEN m.created_by = p.user_id THEN 'ORGANIZER' ELSE 'ATTENDEE' END,
+                       m.created_at, m.scheduled_time, m.status
+                FROM meetings m
+                JOIN (SELECT id AS meeting_id, created_by AS user_id FROM meetings
+                      UNION
+                      SELECT meeting_id, user_id FROM attendees) p ON p.meeting_id = m.id
+                """);
+
+        jdbcTemplate.execute("""
+                CREATE INDEX idx_meetings_created_by_status ON meetings(created_by, status);
+                CREATE INDEX idx_meetings_created_by_date ON meetings(created_by, scheduled_time, created_at);
+                CREATE INDEX idx_attendees_meeting ON attendees(meeting_id);
+                CREATE INDEX idx_action_items_meeting_status ON action_items(meeting_id, status);
+                CREATE INDEX idx_meeting_access_user_scheduled ON meeting_access(user_id, scheduled_time);
+                CREATE INDEX idx_meeting_access_user_status_id ON meeting_access(user_id, status, meeting_id);
+                ANALYZE;
+                """);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DashboardQueryBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
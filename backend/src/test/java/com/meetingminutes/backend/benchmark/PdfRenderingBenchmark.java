@@ -0,0 +1,117 @@
+package com.meetingminutes.backend.benchmark;
+
+import com.meetingminutes.backend.config.ThymeleafTemplateConfig;
+import com.meetingminutes.backend.entity.ActionItem;
+import com.meetingminutes.backend.entity.AgendaItem;
+import com.meetingminutes.backend.entity.AttendanceStatus;
+import com.meetingminutes.backend.entity.Attendee;
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.service.PdfRendererPool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-document PDF latency: the original new-renderer-per-PDF path against the pooled renderer.
+ * Run from the test classpath via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfRenderingBenchmark {
+
+    private TemplateEngine templateEngine;
+    private Map<String, Object> templateData;
+    private PdfRendererPool rendererPool;
+
+    @Setup
+    public void setUp() {
+        templateEngine = new ThymeleafTemplateConfig().emailTemplateEngine();
+        templateData = sampleTemplateData();
+        rendererPool = new PdfRendererPool(1, 30000);
+    }
+
+    @Benchmark
+    public byte[] freshRendererPerDocument() throws Exception {
+        String html = templateEngine.process("documents/meeting-minutes", context());
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            ITextRenderer renderer = new ITextRenderer();
+            renderer.setDocumentFromString(html);
+            renderer.layout();
+            renderer.createPDF(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public byte[] pooledRenderer() {
+        String html = templateEngine.process("documents/meeting-minutes", context());
+        return rendererPool.render(html);
+    }
+
+    private Context context() {
+        Context context = new Context();
+        context.setVariables(templateData);
+        return context;
+    }
+
+    private static Map<String, Object> sampleTemplateData() {
+        User organizer = new User("organizer@university.edu", "Dr. Jane Smith");
+        Meeting meeting = new Meeting("Curriculum Committee Meeting", organizer);
+        meeting.setScheduledTime(LocalDateTime.now());
+
+        List<AgendaItem> agendaItems = new ArrayList<>();
+        List<Attendee> attendees = new ArrayList<>();
+        List<ActionItem> actionItems = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            agendaItems.add(new AgendaItem(meeting, "Agenda item " + i, i));
+
+            Attendee attendee = new Attendee(meeting, new User("member" + i + "@university.edu", "Member " + i));
+            attendee.setInviteEmail("member" + i + "@university.edu");
+            attendee.setStatus(AttendanceStatus.ATTENDED);
+            attendees.add(attendee);
+
+            ActionItem actionItem = new ActionItem(meeting, "Follow up on agenda item " + i);
+            actionItem.setAssignedToEmail("member" + i + "@university.edu");
+            actionItem.setDeadline(LocalDateTime.now().plusDays(i));
+            actionItems.add(actionItem);
+        }
+        meeting.setAgendaItems(agendaItems);
+        meeting.setAttendees(attendees);
+        meeting.setActionItems(actionItems);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("meeting", meeting);
+        data.put("attendees", attendees);
+        data.put("actionItems", actionItems);
+        data.put("generatedAt", LocalDateTime.now());
+        data.put("version", 1);
+        data.put("hasAIExtraction", false);
+        data.put("fallbackContent", "Meeting minutes generated from agenda and participant list.");
+        return data;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PdfRenderingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,149 @@
+package com.meetingminutes.backend.benchmark;
+
+import com.meetingminutes.backend.dto.SearchSuggestion;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.service.SearchSuggestionService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search-as-you-type latency against seeded Postgres with the pg_trgm and transcript_terms indexes
+ * DatabaseIndexConfig creates. Sample-time mode reports the latency distribution; the p0.99 line is
+ * the number checked against the 20 ms target. Needs Docker for the container. Run from the test
+ * classpath via {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SuggestionQueryBenchmark {
+
+    private static final int USERS = 2000;
+    private static final int TERMS_PER_MEETING = 40;
+    private static final String[] INPUTS = {"bu", "bud", "budg", "plan", "revi", "hir", "road", "q3 ro", "sync", "ja"};
+
+    @Param({"20000", "200000"})
+    private int meetings;
+
+    private PostgreSQLContainer<?> postgres;
+    private SearchSuggestionService suggestionService;
+    private User user;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+        postgres.start();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        seed(jdbcTemplate);
+
+        suggestionService = new SearchSuggestionService(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate),
+                null, null);
+        ReflectionTestUtils.setField(suggestionService, "minLength", 2);
+        ReflectionTestUtils.setField(suggestionService, "maxResults", 10);
+
+        user = new User();
+        user.setId(jdbcTemplate.queryForObject("SELECT id FROM users WHERE n = 1", UUID.class));
+        System.out.printf("%n[%d meetings] user sees %d meetings%n", meetings, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM meeting_access WHERE user_id = ?", Long.class, user.getId()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<SearchSuggestion> suggest() {
+        return suggestionService.suggest(INPUTS[next++ % INPUTS.length], user, 10);
+    }
+
+    /**
+     * The tables the suggestion query reads, with each meeting visible to its organizer and four attendees
+     */
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("""
+                CREATE EXTENSION IF NOT EXISTS pg_trgm;
+                CREATE TABLE users (id UUID PRIMARY KEY, n INT, name VARCHAR(255));
+                CREATE TABLE meeting_series (id UUID PRIMARY KEY, title VARCHAR(255), created_by UUID);
+                CREATE TABLE meetings (id UUID PRIMARY KEY, title VARCHAR(255), series_id UUID, created_by UUID);
+                CREATE TABLE meeting_access (user_id UUID NOT NULL, meeting_id UUID NOT NULL, role VARCHAR(16) NOT NULL,
+                                             PRIMARY KEY (user_id, meeting_id));
+                CREATE TABLE transcript_terms (meeting_id UUID NOT NULL, term VARCHAR(64) NOT NULL,
+                                               frequency INT NOT NULL, PRIMARY KEY (meeting_id, term));
+                """);
+
+        jdbcTemplate.update("""
+                INSERT INTO users (id, n, name)
+                SELECT gen_random_uuid(), n,
+                       (ARRAY['Alex', 'Budd', 'Jamie', 'Janet', 'Priya', 'Sam'])[1 + n % 6] || ' ' || n
+                FROM generate_series(1, ?) n
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO meeting_series (id, title, created_by)
+                SELECT gen_random_uuid(),
+                       (ARRAY['Weekly sync', 'Budget council', 'Roadmap planning', 'Hiring loop'])[1 + s % 4] || ' ' || s,
+                       (SELECT id FROM users WHERE n = 1 + s % ?)
+                FROM generate_series(1, 200) s
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO meetings (id, title, created_by)
+                SELECT gen_random_uuid(),
+                       (ARRAY['Q3 budget review', 'Roadmap planning', 'Hiring sync', 'Retro', 'Customer call',
+                              'Board prep', 'Design review'])[1 + m % 7] || ' #' || m,
+                       u.id
+                FROM generate_series(1, ?) m
+                JOIN users u ON u.n = 1 + m % ?
+                """, meetings, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO meeting_access (user_id, meeting_id, role)
+                SELECT created_by, id, 'ORGANIZER' FROM meetings
+                UNION
+                SELECT u.id, m.id, 'ATTENDEE'
+                FROM meetings m
+                CROSS JOIN generate_series(1, 4) a
+                JOIN users u ON u.n = 1 + abs(hashtext(a::text || m.id::text)) %% %d
+                ON CONFLICT DO NOTHING
+                """.formatted(USERS));
+        jdbcTemplate.update("""
+                INSERT INTO transcript_terms (meeting_id, term, frequency)
+                SELECT m.id,
+                       (ARRAY['budget', 'budgeting', 'buffer', 'planning', 'plan', 'review', 'revenue', 'hiring',
+                              'roadmap', 'sync', 'january', 'java', 'customer', 'design', 'deadline'])[1 + t % 15]
+                           || CASE WHEN t >= 15 THEN t::text ELSE '' END,
+                       1 + (t * 7) %% 20
+                FROM meetings m, generate_series(0, %d) t
+                """.formatted(TERMS_PER_MEETING - 1));
+
+        jdbcTemplate.execute("""
+                CREATE INDEX idx_meetings_title_trgm ON meetings USING gin (title gin_trgm_ops);
+                CREATE INDEX idx_meeting_series_title_trgm ON meeting_series USING gin (title gin_trgm_ops);
+                CREATE INDEX idx_users_name_trgm ON users USING gin (name gin_trgm_ops);
+                CREATE INDEX idx_transcript_terms_meeting_prefix ON transcript_terms(meeting_id, term text_pattern_ops);
+                CREATE INDEX idx_meeting_access_meeting ON meeting_access(meeting_id);
+                ANALYZE;
+                """);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SuggestionQueryBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.meetingminutes.backend.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheDependencyIndexTest {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private CacheDependencyIndex dependencyIndex;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        dependencyIndex = new CacheDependencyIndex(redisTemplate, RETENTION);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void register_ScoresMemberByEntryExpiry_AndPrunesExpiredMembers() {
+        long before = System.currentTimeMillis();
+        dependencyIndex.register("analytics", CacheKeys.forUser(userId, "analytics", "daily"), Duration.ofMinutes(5));
+        long after = System.currentTimeMillis();
+
+        String set = "cache-deps:user:" + userId;
+        ArgumentCaptor<Double> score = ArgumentCaptor.forClass(Double.class);
+        verify(zSetOperations).add(eq(set), eq("analytics::u:" + userId + ":analytics:daily"), score.capture());
+        assertTrue(score.getValue() >= before + Duration.ofMinutes(5).toMillis());
+        assertTrue(score.getValue() <= after + Duration.ofMinutes(5).toMillis());
+
+        ArgumentCaptor<Double> prunedUpTo = ArgumentCaptor.forClass(Double.class);
+        verify(zSetOperations).removeRangeByScore(eq(set), eq(0.0), prunedUpTo.capture());
+        assertTrue(prunedUpTo.getValue() >= before && prunedUpTo.getValue() <= after);
+        verify(redisTemplate).expire(set, RETENTION);
+    }
+
+    @Test
+    void register_KeyWithoutMeetingOrUser_IsNotIndexed() {
+        dependencyIndex.register("userProfiles", "someone@example.com", Duration.ofMinutes(5));
+
+        verify(zSetOperations, never()).add(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    void drain_RemovesOnlyTheMembersItRead() {
+        UUID meetingId = UUID.randomUUID();
+        Set<String> members = new LinkedHashSet<>(List.of("meetings::" + meetingId, "meetings::m:" + meetingId + ":viewer:x"));
+        when(zSetOperations.range("cache-deps:meeting:" + meetingId, 0, -1)).thenReturn(members);
+
+        List<CacheDependencyIndex.CacheEntry> entries = dependencyIndex.drain(meetingId, List.of());
+
+        assertEquals(List.of(new CacheDependencyIndex.CacheEntry("meetings", meetingId.toString()),
+                new CacheDependencyIndex.CacheEntry("meetings", "m:" + meetingId + ":viewer:x")), entries);
+        verify(zSetOperations).remove("cache-deps:meeting:" + meetingId, members.toArray());
+    }
+}
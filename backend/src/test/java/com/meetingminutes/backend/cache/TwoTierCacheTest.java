@@ -0,0 +1,120 @@
+package com.meetingminutes.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TwoTierCacheTest {
+
+    @Mock
+    private CacheInvalidationBroadcaster broadcaster;
+
+    @Mock
+    private CacheLoadLock loadLock;
+
+    @Mock
+    private CacheDependencyIndex dependencyIndex;
+
+    private ConcurrentMapCache remote;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("meetings", false);
+        cache = new TwoTierCache("meetings", Caffeine.newBuilder().maximumSize(100).build(), remote,
+                (key, value) -> Duration.ofMinutes(10), broadcaster, loadLock, dependencyIndex, 1.0,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void concurrentMisses_LoadOnce() throws Exception {
+        when(loadLock.tryAcquire(anyString(), anyString())).thenReturn("token");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("meeting-1", () -> {
+                        loads.incrementAndGet();
+                        TimeUnit.MILLISECONDS.sleep(200);
+                        return "detail";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("detail", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        verify(loadLock).release("meetings", "meeting-1", "token");
+    }
+
+    @Test
+    void missWhileAnotherNodeHoldsLock_WaitsForItsValue() {
+        when(loadLock.tryAcquire(anyString(), anyString())).thenReturn(null);
+        when(loadLock.getLeaseTime()).thenReturn(Duration.ofSeconds(2));
+        new Thread(() -> {
+            sleepQuietly(100);
+            remote.put("meeting-1", new CacheEnvelope("from other node", 50, 0));
+        }).start();
+
+        String value = cache.get("meeting-1", () -> fail("should not recompute"));
+
+        assertEquals("from other node", value);
+    }
+
+    @Test
+    void entryAboutToExpire_IsRefreshedEarly() {
+        when(loadLock.tryAcquire(anyString(), anyString())).thenReturn("token");
+        // Took a minute to compute and expires in a second: any draw refreshes it
+        remote.put("meeting-1", new CacheEnvelope("stale", 60_000, System.currentTimeMillis() + 1_000));
+
+        String value = cache.get("meeting-1", () -> "fresh");
+
+        assertEquals("fresh", value);
+        assertEquals("fresh", ((CacheEnvelope) remote.get("meeting-1").get()).getValue());
+    }
+
+    @Test
+    void freshEntry_IsServedWithoutLoading() {
+        remote.put("meeting-1", new CacheEnvelope("cached", 10, System.currentTimeMillis() + 600_000));
+
+        assertEquals("cached", cache.get("meeting-1", () -> fail("should not load")));
+        verifyNoInteractions(loadLock);
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.meetingminutes.backend.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.meetingminutes.backend.config.CacheConfig;
+import com.meetingminutes.backend.dto.UserResponse;
+import com.meetingminutes.backend.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VersionedCacheSerializerTest {
+
+    private final UserResponse user = UserResponse.builder()
+            .id(UUID.randomUUID())
+            .email("member@university.edu")
+            .name("Member")
+            .role(UserRole.PARTICIPANT)
+            .createdAt(LocalDateTime.of(2025, 3, 1, 9, 30))
+            .build();
+
+    private VersionedCacheSerializer serializer(VersionedCacheSerializer.Codec codec) {
+        return new VersionedCacheSerializer(
+                CacheConfig.cacheObjectMapper(new JsonFactory()),
+                CacheConfig.cacheObjectMapper(new SmileFactory()),
+                codec);
+    }
+
+    @Test
+    void smileValues_AreReadableByJsonWritingNodes() {
+        byte[] bytes = serializer(VersionedCacheSerializer.Codec.SMILE).serialize(user);
+
+        UserResponse read = (UserResponse) serializer(VersionedCacheSerializer.Codec.JSON).deserialize(bytes);
+
+        assertEquals(VersionedCacheSerializer.MAGIC, bytes[0]);
+        assertEquals(user.getId(), read.getId());
+        assertEquals(user.getCreatedAt(), read.getCreatedAt());
+    }
+
+    @Test
+    void headerlessJson_FromPreviousReleaseIsStillRead() {
+        byte[] legacy = new GenericJackson2JsonRedisSerializer(CacheConfig.cacheObjectMapper(new JsonFactory()))
+                .serialize(user);
+
+        UserResponse read = (UserResponse) serializer(VersionedCacheSerializer.Codec.SMILE).deserialize(legacy);
+
+        assertEquals(user.getEmail(), read.getEmail());
+    }
+
+    @Test
+    void unknownFormatVersion_ReadsAsMiss() {
+        byte[] bytes = serializer(VersionedCacheSerializer.Codec.SMILE).serialize(user);
+        bytes[1] = (byte) 0x7F;
+
+        assertNull(serializer(VersionedCacheSerializer.Codec.SMILE).deserialize(bytes));
+    }
+}
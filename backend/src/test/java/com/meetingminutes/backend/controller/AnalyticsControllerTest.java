@@ -0,0 +1,62 @@
+package com.meetingminutes.backend.controller;
+
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.service.AnalyticsService;
+import com.meetingminutes.backend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsControllerTest {
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private Authentication authentication;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("organizer@example.com", "Organizer");
+        user.setId(UUID.randomUUID());
+        when(authentication.getName()).thenReturn(user.getEmail());
+        when(userService.findByEmail(user.getEmail())).thenReturn(user);
+    }
+
+    @Test
+    void getTopParticipants_LimitIsClampedToOneThroughHundred() {
+        analyticsController.getTopParticipants(-5, false, authentication);
+        analyticsController.getTopParticipants(500, false, authentication);
+
+        verify(analyticsService).getTopParticipants(user.getId(), 1);
+        verify(analyticsService).getTopParticipants(user.getId(), 100);
+    }
+
+    @Test
+    void trends_MonthsAreClampedToOneThroughSixty() {
+        analyticsController.getMonthlyTrend(0, false, authentication);
+        analyticsController.getTaskCompletion(-12, false, authentication);
+        analyticsController.getTaskCompletion(600, false, authentication);
+
+        verify(analyticsService).getMonthlyMeetingTrend(user.getId(), 1);
+        verify(analyticsService).getTaskCompletionTrend(user.getId(), 1);
+        verify(analyticsService).getTaskCompletionTrend(user.getId(), 60);
+    }
+}
@@ -0,0 +1,112 @@
+package com.meetingminutes.backend.controller;
+
+import com.meetingminutes.backend.dto.MeetingDetailResponse;
+import com.meetingminutes.backend.dto.MeetingViewerResponse;
+import com.meetingminutes.backend.dto.VersionedMeetingDetail;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.service.MeetingDetailService;
+import com.meetingminutes.backend.service.UserService;
+import com.meetingminutes.backend.util.ETags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MeetingControllerTest {
+
+    @Mock
+    private MeetingDetailService meetingDetailService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private Authentication authentication;
+
+    @InjectMocks
+    private MeetingController meetingController;
+
+    private UUID meetingId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meetingId = UUID.randomUUID();
+        user = new User("attendee@example.com", "Attendee");
+        user.setId(UUID.randomUUID());
+        when(authentication.getName()).thenReturn(user.getEmail());
+        when(userService.findByEmail(user.getEmail())).thenReturn(user);
+        when(meetingDetailService.getViewer(meetingId, user))
+                .thenReturn(MeetingViewerResponse.builder().role("ATTENDEE").build());
+        when(meetingDetailService.getETag(any(), any(), any())).thenAnswer(invocation ->
+                ETags.weak(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    @Test
+    void getMeeting_MatchingTag_Returns304WithoutLoadingTheDetail() {
+        when(meetingDetailService.getVersion(meetingId)).thenReturn("v2");
+        String eTag = ETags.weak(meetingId, user.getId(), "v2");
+
+        ResponseEntity<MeetingDetailResponse> response = meetingController.getMeeting(meetingId, eTag, authentication);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(eTag, response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(meetingDetailService, never()).getSharedDetail(any());
+    }
+
+    @Test
+    void getMeeting_CachedDetailBehindLiveVersion_IsReloadedBeforeTagging() {
+        when(meetingDetailService.getVersion(meetingId)).thenReturn("v2");
+        when(meetingDetailService.getSharedDetail(meetingId)).thenReturn(detail("v1", "Old minutes"));
+        when(meetingDetailService.reloadSharedDetail(meetingId)).thenReturn(detail("v2", "New minutes"));
+
+        ResponseEntity<MeetingDetailResponse> response = meetingController.getMeeting(
+                meetingId, ETags.weak(meetingId, user.getId(), "v1"), authentication);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ETags.weak(meetingId, user.getId(), "v2"), response.getHeaders().getETag());
+        assertEquals("New minutes", response.getBody().getTitle());
+        assertEquals("ATTENDEE", response.getBody().getViewer().getRole());
+    }
+
+    @Test
+    void getMeeting_StaleBodyIsNeverSentUnderTheNewerTag() {
+        // A change lands again while reloading: the body goes out under its own tag, so the next poll refetches
+        when(meetingDetailService.getVersion(meetingId)).thenReturn("v3");
+        when(meetingDetailService.getSharedDetail(meetingId)).thenReturn(detail("v1", "Old minutes"));
+        when(meetingDetailService.reloadSharedDetail(meetingId)).thenReturn(detail("v2", "Newer minutes"));
+
+        ResponseEntity<MeetingDetailResponse> response = meetingController.getMeeting(meetingId, null, authentication);
+
+        assertEquals(ETags.weak(meetingId, user.getId(), "v2"), response.getHeaders().getETag());
+        assertEquals("Newer minutes", response.getBody().getTitle());
+    }
+
+    @Test
+    void getMeeting_CurrentCachedDetail_IsServedWithoutReload() {
+        when(meetingDetailService.getVersion(meetingId)).thenReturn("v1");
+        when(meetingDetailService.getSharedDetail(meetingId)).thenReturn(detail("v1", "Minutes"));
+
+        ResponseEntity<MeetingDetailResponse> response = meetingController.getMeeting(meetingId, null, authentication);
+
+        assertEquals(ETags.weak(meetingId, user.getId(), "v1"), response.getHeaders().getETag());
+        verify(meetingDetailService, never()).reloadSharedDetail(any());
+    }
+
+    private VersionedMeetingDetail detail(String version, String title) {
+        return new VersionedMeetingDetail(version, MeetingDetailResponse.builder().id(meetingId).title(title).build());
+    }
+}
@@ -0,0 +1,206 @@
+package com.meetingminutes.backend.integration;
+
+import com.meetingminutes.backend.entity.*;
+import com.meetingminutes.backend.repository.ActionItemRepo;
+import com.meetingminutes.backend.repository.AttendeeRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.UserRepo;
+import com.meetingminutes.backend.service.AnalyticsService;
+import com.meetingminutes.backend.service.EmailService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the analytics SQL against a real Postgres with the tables, triggers and rollups DatabaseIndexConfig creates
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.main.allow-bean-definition-overriding=true",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration"
+})
+public class AnalyticsServiceIntegrationTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    @SuppressWarnings("resource")
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0")
+            .withExposedPorts(27017);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("jwt.secret", () -> "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        registry.add("jwt.expiration", () -> "86400000");
+    }
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+
+    @Autowired
+    private ActionItemRepo actionItemRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @MockitoBean
+    private org.springframework.security.oauth2.client.registration.ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private org.springframework.data.redis.connection.RedisConnectionFactory redisConnectionFactory;
+
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        actionItemRepo.deleteAll();
+        attendeeRepo.deleteAll();
+        meetingRepository.deleteAll();
+        userRepo.deleteAll();
+
+        organizer = userRepo.save(user("organizer@example.com"));
+        User attendee = userRepo.save(user("attendee@example.com"));
+        User other = userRepo.save(user("other@example.com"));
+
+        Meeting upcoming = meetingRepository.save(meeting(organizer, MeetingStatus.DRAFT, LocalDateTime.now().plusDays(2)));
+        attendeeRepo.save(new Attendee(upcoming, attendee));
+        actionItemRepo.save(task(upcoming, TaskStatus.PENDING));
+        actionItemRepo.save(task(upcoming, TaskStatus.COMPLETED));
+
+        Meeting past = meetingRepository.save(meeting(organizer, MeetingStatus.PROCESSED, LocalDateTime.now().minusDays(3)));
+        attendeeRepo.save(new Attendee(past, attendee));
+        attendeeRepo.save(new Attendee(past, other));
+        actionItemRepo.save(task(past, TaskStatus.OVERDUE));
+
+        // The organizer only attends this one, so none of its counts are theirs
+        Meeting invited = meetingRepository.save(meeting(other, MeetingStatus.PROCESSED, LocalDateTime.now().plusDays(1)));
+        attendeeRepo.save(new Attendee(invited, organizer));
+        actionItemRepo.save(task(invited, TaskStatus.PENDING));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(analyticsService, "rollupsEnabled", true);
+    }
+
+    @Test
+    void dashboardCounters_FromMeetingAccess() {
+        ReflectionTestUtils.setField(analyticsService, "rollupsEnabled", false);
+
+        assertCounters(analyticsService.getDashboardCounters(organizer.getId()));
+    }
+
+    @Test
+    void dashboardCounters_FromRollups() {
+        ReflectionTestUtils.setField(analyticsService, "rollupsEnabled", true);
+
+        assertCounters(analyticsService.getDashboardCounters(organizer.getId()));
+    }
+
+    @Test
+    void dashboardCounters_SeparateQueriesAgree() {
+        ReflectionTestUtils.setField(analyticsService, "rollupsEnabled", false);
+        Map<String, Object> counters = analyticsService.getDashboardCounters(organizer.getId());
+
+        analyticsService.getMeetingStatsByUser(organizer.getId()).forEach((key, value) ->
+                assertEquals(number(value), number(counters.get(key)), key));
+        analyticsService.getTaskStatsByUser(organizer.getId()).forEach((key, value) ->
+                assertEquals(number(value), number(counters.get(key)), key));
+        analyticsService.getParticipantStats(organizer.getId()).forEach((key, value) ->
+                assertEquals(number(value), number(counters.get(key)), key));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void userDashboardStats_GroupsTheCounters() {
+        Map<String, Object> dashboard = analyticsService.getUserDashboardStats(organizer.getId());
+
+        Map<String, Object> meetingStats = (Map<String, Object>) dashboard.get("meetingStats");
+        assertEquals(2, number(meetingStats.get("total_meetings")));
+        assertEquals(3, number(((Map<String, Object>) dashboard.get("taskStats")).get("total_tasks")));
+        assertEquals(1, number(dashboard.get("upcomingMeetings")));
+    }
+
+    private void assertCounters(Map<String, Object> counters) {
+        assertEquals(2, number(counters.get("total_meetings")));
+        assertEquals(1, number(counters.get("processed_meetings")));
+        assertEquals(1, number(counters.get("draft_meetings")));
+        assertEquals(0, number(counters.get("processing_meetings")));
+        assertEquals(0, number(counters.get("failed_meetings")));
+        assertEquals(1, number(counters.get("upcoming_meetings")));
+        assertEquals(3, number(counters.get("total_tasks")));
+        assertEquals(1, number(counters.get("completed_tasks")));
+        assertEquals(1, number(counters.get("pending_tasks")));
+        assertEquals(1, number(counters.get("overdue_tasks")));
+        assertEquals(2, number(counters.get("unique_participants")));
+        assertEquals(3, number(counters.get("total_participations")));
+    }
+
+    private long number(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private ActionItem task(Meeting meeting, TaskStatus status) {
+        ActionItem task = new ActionItem(meeting, "Follow up");
+        task.setStatus(status);
+        return task;
+    }
+
+    private Meeting meeting(User createdBy, MeetingStatus status, LocalDateTime scheduledTime) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Budget review");
+        meeting.setStatus(status);
+        meeting.setScheduledTime(scheduledTime);
+        meeting.setCreatedBy(createdBy);
+        return meeting;
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(email);
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setPasswordHash("hash");
+        return user;
+    }
+}
@@ -0,0 +1,200 @@
+package com.meetingminutes.backend.integration;
+
+import com.meetingminutes.backend.entity.*;
+import com.meetingminutes.backend.repository.ActionItemRepo;
+import com.meetingminutes.backend.repository.AttendeeRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.UserRepo;
+import com.meetingminutes.backend.service.AnalyticsService;
+import com.meetingminutes.backend.service.AnalyticsViewRefresher;
+import com.meetingminutes.backend.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creates the analytics materialized views on a real Postgres and refreshes them through AnalyticsViewRefresher
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.main.allow-bean-definition-overriding=true",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration"
+})
+public class AnalyticsViewRefresherIntegrationTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    @SuppressWarnings("resource")
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0")
+            .withExposedPorts(27017);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("jwt.secret", () -> "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        registry.add("jwt.expiration", () -> "86400000");
+    }
+
+    @Autowired
+    private AnalyticsViewRefresher analyticsViewRefresher;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+
+    @Autowired
+    private ActionItemRepo actionItemRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private org.springframework.security.oauth2.client.registration.ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private org.springframework.data.redis.connection.RedisConnectionFactory redisConnectionFactory;
+
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        actionItemRepo.deleteAll();
+        attendeeRepo.deleteAll();
+        meetingRepository.deleteAll();
+        userRepo.deleteAll();
+
+        organizer = userRepo.save(user("organizer@example.com"));
+        User attendee = userRepo.save(user("attendee@example.com"));
+
+        Meeting processed = meetingRepository.save(meeting(MeetingStatus.PROCESSED));
+        attendeeRepo.save(new Attendee(processed, attendee));
+        actionItemRepo.save(task(processed, TaskStatus.COMPLETED));
+        actionItemRepo.save(task(processed, TaskStatus.PENDING));
+
+        Meeting draft = meetingRepository.save(meeting(MeetingStatus.DRAFT));
+        attendeeRepo.save(new Attendee(draft, attendee));
+    }
+
+    @Test
+    void startup_CreatesEveryViewAndRecordsItsFreshness() {
+        List<String> views = jdbcTemplate.queryForList(
+                "SELECT matviewname FROM pg_matviews ORDER BY matviewname", String.class);
+
+        assertTrue(views.containsAll(AnalyticsService.MATERIALIZED_VIEWS));
+        assertEquals(AnalyticsService.MATERIALIZED_VIEWS.size(), analyticsService.getViewFreshness().size());
+    }
+
+    @Test
+    void forcedRefresh_PopulatesTheViewsForTheOrganizerAndInstitution() {
+        analyticsViewRefresher.refreshAll(true);
+
+        Map<String, Object> trend = analyticsService.getMonthlyMeetingTrend(organizer.getId(), 1).get(0);
+        assertEquals(2L, ((Number) trend.get("meeting_count")).longValue());
+        assertEquals(1L, ((Number) trend.get("processed_count")).longValue());
+
+        Map<String, Object> tasks = analyticsService.getTaskCompletionTrend(AnalyticsService.INSTITUTION, 1).get(0);
+        assertEquals(2L, ((Number) tasks.get("total_tasks")).longValue());
+        assertEquals(1L, ((Number) tasks.get("completed_tasks")).longValue());
+
+        Map<String, Object> top = analyticsService.getTopParticipants(organizer.getId(), 5).get(0);
+        assertEquals("attendee@example.com", top.get("email"));
+        assertEquals(2L, ((Number) top.get("meeting_count")).longValue());
+    }
+
+    @Test
+    void forcedRefresh_RecordsWhenEachRefreshStarted() {
+        LocalDateTime before = databaseNow();
+        analyticsViewRefresher.refreshAll(true);
+        LocalDateTime after = databaseNow();
+
+        Map<String, LocalDateTime> freshness = analyticsService.getViewFreshness();
+        for (String view : AnalyticsService.MATERIALIZED_VIEWS) {
+            LocalDateTime refreshedAt = freshness.get(view);
+            assertFalse(refreshedAt.isBefore(before), view);
+            assertTrue(refreshedAt.isBefore(after), view);
+        }
+        // Views are refreshed one after another, so each one started after the previous had finished
+        LocalDateTime first = freshness.get(AnalyticsService.MATERIALIZED_VIEWS.get(0));
+        LocalDateTime last = freshness.get(AnalyticsService.MATERIALIZED_VIEWS.get(AnalyticsService.MATERIALIZED_VIEWS.size() - 1));
+        assertTrue(first.isBefore(last));
+    }
+
+    @Test
+    void unforcedRefresh_SkipsViewsRefreshedWithinHalfAnInterval() {
+        analyticsViewRefresher.refreshAll(true);
+        Map<String, LocalDateTime> refreshed = analyticsService.getViewFreshness();
+
+        analyticsViewRefresher.refreshAll(false);
+
+        assertEquals(refreshed, analyticsService.getViewFreshness());
+    }
+
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT CAST(clock_timestamp() AS timestamp)", LocalDateTime.class);
+    }
+
+    private ActionItem task(Meeting meeting, TaskStatus status) {
+        ActionItem task = new ActionItem(meeting, "Follow up");
+        task.setStatus(status);
+        return task;
+    }
+
+    private Meeting meeting(MeetingStatus status) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Budget review");
+        meeting.setStatus(status);
+        meeting.setCreatedBy(organizer);
+        return meeting;
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(email);
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setPasswordHash("hash");
+        return user;
+    }
+}
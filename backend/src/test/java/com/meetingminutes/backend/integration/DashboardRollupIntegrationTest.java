@@ -0,0 +1,192 @@
+package com.meetingminutes.backend.integration;
+
+import com.meetingminutes.backend.entity.*;
+import com.meetingminutes.backend.repository.AttendeeRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.UserRepo;
+import com.meetingminutes.backend.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the meeting_access statement triggers keep the dashboard rollups exact, and that the locking recount
+ * only runs when requested
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.main.allow-bean-definition-overriding=true",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration"
+})
+public class DashboardRollupIntegrationTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    @SuppressWarnings("resource")
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0")
+            .withExposedPorts(27017);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("jwt.secret", () -> "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        registry.add("jwt.expiration", () -> "86400000");
+    }
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private org.springframework.security.oauth2.client.registration.ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private org.springframework.data.redis.connection.RedisConnectionFactory redisConnectionFactory;
+
+    private User organizer;
+    private User attendee;
+
+    @BeforeEach
+    void setUp() {
+        attendeeRepo.deleteAll();
+        meetingRepository.deleteAll();
+        userRepo.deleteAll();
+
+        organizer = userRepo.save(user("organizer@example.com"));
+        attendee = userRepo.save(user("attendee@example.com"));
+    }
+
+    @Test
+    void insert_CountsTheOrganizerAndInvitedAttendee() {
+        Meeting meeting = meetingRepository.save(meeting());
+        attendeeRepo.save(new Attendee(meeting, attendee));
+
+        assertEquals(1, statusCount(organizer.getId(), "ORGANIZER", "DRAFT"));
+        assertEquals(1, statusCount(attendee.getId(), "ATTENDEE", "DRAFT"));
+        assertEquals(1, dailyCount(organizer.getId(), createdDay(meeting)));
+        assertEquals(1, dailyCount(attendee.getId(), createdDay(meeting)));
+    }
+
+    @Test
+    void statusChange_MovesEveryViewersCountToTheNewStatus() {
+        Meeting meeting = meetingRepository.save(meeting());
+        attendeeRepo.save(new Attendee(meeting, attendee));
+
+        jdbcTemplate.update("UPDATE meetings SET status = 'PROCESSED' WHERE id = ?", meeting.getId());
+
+        assertEquals(0, statusCount(organizer.getId(), "ORGANIZER", "DRAFT"));
+        assertEquals(1, statusCount(organizer.getId(), "ORGANIZER", "PROCESSED"));
+        assertEquals(0, statusCount(attendee.getId(), "ATTENDEE", "DRAFT"));
+        assertEquals(1, statusCount(attendee.getId(), "ATTENDEE", "PROCESSED"));
+        // Creation day is unchanged, so the daily count neither doubles nor drops
+        assertEquals(1, dailyCount(organizer.getId(), createdDay(meeting)));
+    }
+
+    @Test
+    void delete_RemovesTheAttendeeThenTheWholeMeeting() {
+        Meeting meeting = meetingRepository.save(meeting());
+        Attendee invite = attendeeRepo.save(new Attendee(meeting, attendee));
+        LocalDate day = createdDay(meeting);
+
+        attendeeRepo.delete(invite);
+        assertEquals(0, statusCount(attendee.getId(), "ATTENDEE", "DRAFT"));
+        assertEquals(0, dailyCount(attendee.getId(), day));
+        assertEquals(1, statusCount(organizer.getId(), "ORGANIZER", "DRAFT"));
+
+        meetingRepository.deleteById(meeting.getId());
+        assertEquals(0, statusCount(organizer.getId(), "ORGANIZER", "DRAFT"));
+        assertEquals(0, dailyCount(organizer.getId(), day));
+    }
+
+    @Test
+    void rebuild_RunsOnlyWhenRequested() {
+        Meeting meeting = meetingRepository.save(meeting());
+        jdbcTemplate.update("UPDATE dashboard_status_rollup SET meeting_count = 99 WHERE user_id = ?", organizer.getId());
+
+        // Startup already built the rollups, so a restart leaves meeting_access unlocked and the rows alone
+        assertFalse(jdbcTemplate.queryForObject("SELECT rebuild_dashboard_rollups_if_needed()", Boolean.class));
+        assertEquals(99, statusCount(organizer.getId(), "ORGANIZER", "DRAFT"));
+
+        jdbcTemplate.update("UPDATE dashboard_rollup_state SET rebuild_requested = TRUE");
+        assertTrue(jdbcTemplate.queryForObject("SELECT rebuild_dashboard_rollups_if_needed()", Boolean.class));
+        assertEquals(1, statusCount(organizer.getId(), "ORGANIZER", "DRAFT"));
+        assertEquals(1, dailyCount(organizer.getId(), createdDay(meeting)));
+        assertFalse(jdbcTemplate.queryForObject("SELECT rebuild_requested FROM dashboard_rollup_state", Boolean.class));
+    }
+
+    private long statusCount(UUID userId, String role, String status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(meeting_count), 0) FROM dashboard_status_rollup WHERE user_id = ? AND role = ? AND status = ?",
+                Long.class, userId, role, status);
+    }
+
+    private long dailyCount(UUID userId, LocalDate day) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(meeting_count), 0) FROM dashboard_daily_rollup WHERE user_id = ? AND day = ?",
+                Long.class, userId, Date.valueOf(day));
+    }
+
+    private LocalDate createdDay(Meeting meeting) {
+        return jdbcTemplate.queryForObject("SELECT CAST(created_at AS date) FROM meeting_access WHERE meeting_id = ? LIMIT 1",
+                Date.class, meeting.getId()).toLocalDate();
+    }
+
+    private Meeting meeting() {
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Budget review");
+        meeting.setStatus(MeetingStatus.DRAFT);
+        meeting.setCreatedBy(organizer);
+        return meeting;
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(email);
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setPasswordHash("hash");
+        return user;
+    }
+}
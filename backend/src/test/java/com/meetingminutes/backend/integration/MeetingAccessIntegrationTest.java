@@ -0,0 +1,184 @@
+package com.meetingminutes.backend.integration;
+
+import com.meetingminutes.backend.entity.*;
+import com.meetingminutes.backend.repository.AttendeeRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.UserRepo;
+import com.meetingminutes.backend.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises the meeting_access triggers against a real Postgres, through the same repositories the app writes with
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.main.allow-bean-definition-overriding=true",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration"
+})
+public class MeetingAccessIntegrationTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    @SuppressWarnings("resource")
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0")
+            .withExposedPorts(27017);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("jwt.secret", () -> "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        registry.add("jwt.expiration", () -> "86400000");
+    }
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private org.springframework.security.oauth2.client.registration.ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private org.springframework.data.redis.connection.RedisConnectionFactory redisConnectionFactory;
+
+    private User organizer;
+    private User attendee;
+
+    @BeforeEach
+    void setUp() {
+        attendeeRepo.deleteAll();
+        meetingRepository.deleteAll();
+        userRepo.deleteAll();
+
+        organizer = userRepo.save(user("organizer@example.com"));
+        attendee = userRepo.save(user("attendee@example.com"));
+    }
+
+    @Test
+    void meetingInsert_AddsOrganizerRow() {
+        Meeting meeting = meetingRepository.save(meeting());
+
+        assertEquals(List.of("ORGANIZER:DRAFT"), accessRows(organizer.getId(), meeting.getId()));
+        assertEquals(Optional.of(MeetingAccess.Role.ORGANIZER),
+                meetingRepository.findAccessRole(organizer.getId(), meeting.getId()));
+    }
+
+    @Test
+    void attendeeInsert_AddsAttendeeRow_AndRemovalDeletesIt() {
+        Meeting meeting = meetingRepository.save(meeting());
+        Attendee invite = attendeeRepo.save(new Attendee(meeting, attendee));
+
+        assertEquals(List.of("ATTENDEE:DRAFT"), accessRows(attendee.getId(), meeting.getId()));
+        assertEquals(Optional.of(MeetingAccess.Role.ATTENDEE),
+                meetingRepository.findAccessRole(attendee.getId(), meeting.getId()));
+
+        attendeeRepo.delete(invite);
+
+        assertTrue(accessRows(attendee.getId(), meeting.getId()).isEmpty());
+        assertEquals(List.of("ORGANIZER:DRAFT"), accessRows(organizer.getId(), meeting.getId()));
+    }
+
+    @Test
+    void organizerAlsoInvited_KeepsOrganizerRoleAfterInviteRemoved() {
+        Meeting meeting = meetingRepository.save(meeting());
+        Attendee selfInvite = attendeeRepo.save(new Attendee(meeting, organizer));
+
+        assertEquals(List.of("ORGANIZER:DRAFT"), accessRows(organizer.getId(), meeting.getId()));
+
+        attendeeRepo.delete(selfInvite);
+
+        assertEquals(List.of("ORGANIZER:DRAFT"), accessRows(organizer.getId(), meeting.getId()));
+    }
+
+    @Test
+    void meetingStatusChange_UpdatesEveryAccessRow() {
+        Meeting meeting = meetingRepository.save(meeting());
+        attendeeRepo.save(new Attendee(meeting, attendee));
+
+        meeting = meetingRepository.findById(meeting.getId()).orElseThrow();
+        meeting.setStatus(MeetingStatus.PROCESSED);
+        meetingRepository.save(meeting);
+
+        assertEquals(List.of("ORGANIZER:PROCESSED"), accessRows(organizer.getId(), meeting.getId()));
+        assertEquals(List.of("ATTENDEE:PROCESSED"), accessRows(attendee.getId(), meeting.getId()));
+    }
+
+    @Test
+    void meetingDelete_RemovesAllAccessRows() {
+        Meeting meeting = meetingRepository.save(meeting());
+        attendeeRepo.save(new Attendee(meeting, attendee));
+        UUID meetingId = meeting.getId();
+
+        attendeeRepo.deleteAll();
+        meetingRepository.deleteById(meetingId);
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM meeting_access WHERE meeting_id = ?", Integer.class, meetingId));
+    }
+
+    private List<String> accessRows(UUID userId, UUID meetingId) {
+        return jdbcTemplate.queryForList(
+                "SELECT role || ':' || status FROM meeting_access WHERE user_id = ? AND meeting_id = ?",
+                String.class, userId, meetingId);
+    }
+
+    private Meeting meeting() {
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Access Test Meeting");
+        meeting.setStatus(MeetingStatus.DRAFT);
+        meeting.setCreatedBy(organizer);
+        return meeting;
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(email);
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setPasswordHash("hash");
+        return user;
+    }
+}
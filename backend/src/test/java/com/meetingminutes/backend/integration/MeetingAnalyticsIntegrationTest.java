@@ -0,0 +1,159 @@
+package com.meetingminutes.backend.integration;
+
+import com.meetingminutes.backend.entity.*;
+import com.meetingminutes.backend.repository.AttendeeRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.UserRepo;
+import com.meetingminutes.backend.service.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Buckets meeting_access by creation time with date_trunc against a real Postgres
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.main.allow-bean-definition-overriding=true",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration"
+})
+public class MeetingAnalyticsIntegrationTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    @SuppressWarnings("resource")
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0")
+            .withExposedPorts(27017);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("jwt.secret", () -> "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        registry.add("jwt.expiration", () -> "86400000");
+    }
+
+    private static final LocalDateTime MARCH = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private org.springframework.security.oauth2.client.registration.ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private org.springframework.data.redis.connection.RedisConnectionFactory redisConnectionFactory;
+
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        attendeeRepo.deleteAll();
+        meetingRepository.deleteAll();
+        userRepo.deleteAll();
+
+        organizer = userRepo.save(user("organizer@example.com"));
+        User other = userRepo.save(user("other@example.com"));
+
+        createdAt(meetingRepository.save(meeting(organizer)), MARCH.plusDays(1).withHour(10));
+        createdAt(meetingRepository.save(meeting(organizer)), MARCH.plusDays(1).withHour(15));
+        createdAt(meetingRepository.save(meeting(organizer)), MARCH.plusDays(19).withHour(9));
+        createdAt(meetingRepository.save(meeting(organizer)), MARCH.plusMonths(2));
+
+        // Visible through the invitation only
+        Meeting invited = meetingRepository.save(meeting(other));
+        attendeeRepo.save(new Attendee(invited, organizer));
+        createdAt(invited, MARCH.plusDays(19).withHour(12));
+
+        createdAt(meetingRepository.save(meeting(other)), MARCH.plusDays(1));
+    }
+
+    @Test
+    void dayBuckets_CountOwnAndInvitedMeetingsInRange() {
+        Map<LocalDateTime, Long> buckets = meetingRepository.countCreatedByPeriod(
+                organizer.getId(), "day", MARCH, MARCH.plusMonths(1));
+
+        assertEquals(Map.of(MARCH.plusDays(1), 2L, MARCH.plusDays(19), 2L), buckets);
+        assertEquals(MARCH.plusDays(1), buckets.keySet().iterator().next());
+    }
+
+    @Test
+    void monthBuckets_StartOnTheFirstOfTheMonth() {
+        Map<LocalDateTime, Long> buckets = meetingRepository.countCreatedByPeriod(
+                organizer.getId(), "month", MARCH, MARCH.plusMonths(3));
+
+        assertEquals(Map.of(MARCH, 4L, MARCH.plusMonths(2), 1L), buckets);
+    }
+
+    @Test
+    void unsupportedUnit_IsRejectedBeforeQuerying() {
+        assertThrows(RuntimeException.class, () -> meetingRepository.countCreatedByPeriod(
+                organizer.getId(), "minute; DROP TABLE meetings", MARCH, MARCH.plusMonths(1)));
+    }
+
+    /**
+     * Creation time is set by Hibernate; rewriting it lets the meetings trigger carry it into meeting_access
+     */
+    private void createdAt(Meeting meeting, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE meetings SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), meeting.getId());
+    }
+
+    private Meeting meeting(User createdBy) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle("Budget review");
+        meeting.setStatus(MeetingStatus.DRAFT);
+        meeting.setCreatedBy(createdBy);
+        return meeting;
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(email);
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setPasswordHash("hash");
+        return user;
+    }
+}
@@ -0,0 +1,180 @@
+package com.meetingminutes.backend.integration;
+
+import com.meetingminutes.backend.entity.*;
+import com.meetingminutes.backend.repository.AttendeeRepo;
+import com.meetingminutes.backend.repository.MeetingListFilter;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.MeetingSlice;
+import com.meetingminutes.backend.repository.UserRepo;
+import com.meetingminutes.backend.service.EmailService;
+import com.meetingminutes.backend.util.MeetingCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pages through meeting lists with keyset cursors against a real Postgres and checks they agree with one full page
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.main.allow-bean-definition-overriding=true",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration"
+})
+public class MeetingKeysetPaginationIntegrationTest {
+
+    @Container
+    @SuppressWarnings("resource")
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    @SuppressWarnings("resource")
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0")
+            .withExposedPorts(27017);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("jwt.secret", () -> "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        registry.add("jwt.expiration", () -> "86400000");
+    }
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private AttendeeRepo attendeeRepo;
+
+    @Autowired
+    private UserRepo userRepo;
+
+    @MockitoBean
+    private org.springframework.security.oauth2.client.registration.ClientRegistrationRepository clientRegistrationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private org.springframework.data.redis.connection.RedisConnectionFactory redisConnectionFactory;
+
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        attendeeRepo.deleteAll();
+        meetingRepository.deleteAll();
+        userRepo.deleteAll();
+
+        organizer = userRepo.save(user("organizer@example.com"));
+        User other = userRepo.save(user("other@example.com"));
+
+        // Repeated titles force the id tie-breaker to decide page boundaries
+        for (String title : List.of("Sync", "Budget", "Sync", "Retro", "Sync", "Budget", "Planning")) {
+            meetingRepository.save(meeting(title, organizer));
+        }
+        meetingRepository.save(meeting("Someone else's meeting", other));
+    }
+
+    @Test
+    void titleAscending_CursorPagesMatchSingleFullPage() {
+        assertCursorPagesMatchFullPage("title", true);
+    }
+
+    @Test
+    void createdAtDescending_CursorPagesMatchSingleFullPage() {
+        assertCursorPagesMatchFullPage("createdAt", false);
+    }
+
+    @Test
+    void lastPage_HasNoCursor() {
+        MeetingSlice slice = meetingRepository.findSlice(
+                organizer.getId(), MeetingListFilter.none(), "title", true, null, 0, 7);
+
+        assertEquals(7, slice.content().size());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    void cursorSurvivesEncodeDecode() {
+        MeetingSlice first = meetingRepository.findSlice(
+                organizer.getId(), MeetingListFilter.none(), "title", true, null, 0, 2);
+        MeetingCursor decoded = MeetingCursor.decode(first.nextCursor().encode(), "title", true, null);
+
+        MeetingSlice second = meetingRepository.findSlice(
+                organizer.getId(), MeetingListFilter.none(), "title", true, decoded, 0, 2);
+
+        assertEquals(List.of("Budget", "Budget"), titles(first.content()));
+        assertEquals(List.of("Planning", "Retro"), titles(second.content()));
+    }
+
+    private void assertCursorPagesMatchFullPage(String sortField, boolean ascending) {
+        List<UUID> expected = ids(meetingRepository.findSlice(
+                organizer.getId(), MeetingListFilter.none(), sortField, ascending, null, 0, 100).content());
+
+        List<UUID> paged = new ArrayList<>();
+        MeetingCursor cursor = null;
+        int pages = 0;
+        do {
+            MeetingSlice slice = meetingRepository.findSlice(
+                    organizer.getId(), MeetingListFilter.none(), sortField, ascending, cursor, 0, 3);
+            paged.addAll(ids(slice.content()));
+            cursor = slice.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 10);
+
+        assertEquals(7, expected.size());
+        assertEquals(3, pages);
+        assertEquals(expected, paged);
+    }
+
+    private List<UUID> ids(List<Meeting> meetings) {
+        return meetings.stream().map(Meeting::getId).toList();
+    }
+
+    private List<String> titles(List<Meeting> meetings) {
+        return meetings.stream().map(Meeting::getTitle).toList();
+    }
+
+    private Meeting meeting(String title, User createdBy) {
+        Meeting meeting = new Meeting();
+        meeting.setTitle(title);
+        meeting.setStatus(MeetingStatus.DRAFT);
+        meeting.setCreatedBy(createdBy);
+        return meeting;
+    }
+
+    private User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(email);
+        user.setAuthProvider(AuthProvider.LOCAL);
+        user.setPasswordHash("hash");
+        return user;
+    }
+}
@@ -0,0 +1,66 @@
+package com.meetingminutes.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsViewRefresherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AnalyticsViewRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refresher, "enabled", true);
+        ReflectionTestUtils.setField(refresher, "refreshIntervalMs", 900000L);
+    }
+
+    @Test
+    void scheduledRefresh_RefreshesStaleViewsConcurrentlyAndRecordsFreshness() {
+        LocalDateTime startedAt = LocalDateTime.of(2026, 3, 1, 9, 0);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString(), anyLong())).thenReturn(false);
+        when(jdbcTemplate.queryForObject(contains("clock_timestamp()"), eq(LocalDateTime.class))).thenReturn(startedAt);
+
+        refresher.scheduledRefresh();
+
+        // The recorded time is read before each refresh starts, not after it finishes
+        InOrder inOrder = inOrder(jdbcTemplate);
+        for (String view : AnalyticsService.MATERIALIZED_VIEWS) {
+            inOrder.verify(jdbcTemplate).queryForObject(contains("clock_timestamp()"), eq(LocalDateTime.class));
+            inOrder.verify(jdbcTemplate).execute("REFRESH MATERIALIZED VIEW CONCURRENTLY " + view);
+            inOrder.verify(jdbcTemplate).update(contains("analytics_view_refresh"), eq(view), eq(startedAt), anyLong());
+        }
+    }
+
+    @Test
+    void scheduledRefresh_SkipsViewsAnotherNodeJustRefreshed() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), anyString(), anyLong())).thenReturn(true);
+
+        refresher.scheduledRefresh();
+
+        verify(jdbcTemplate, never()).execute(startsWith("REFRESH"));
+    }
+
+    @Test
+    void refreshAll_ForcedIgnoresRecentRefreshes() {
+        refresher.refreshAll(true);
+
+        verify(jdbcTemplate, times(AnalyticsService.MATERIALIZED_VIEWS.size())).execute(startsWith("REFRESH"));
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Boolean.class), anyString(), anyLong());
+    }
+}
@@ -0,0 +1,99 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.cache.CacheDependencyIndex;
+import com.meetingminutes.backend.event.AttendeeChangedEvent;
+import com.meetingminutes.backend.event.MeetingUpdatedEvent;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheInvalidationServiceTest {
+
+    @Mock
+    private CacheDependencyIndex dependencyIndex;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private Cache meetingsCache;
+
+    private CacheInvalidationService cacheInvalidationService;
+
+    @BeforeEach
+    void setUp() {
+        // No second pass unless a test asks for one
+        cacheInvalidationService = new CacheInvalidationService(dependencyIndex, cacheManager, meetingRepository, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheInvalidationService.shutdown();
+    }
+
+    @Test
+    void meetingUpdated_EvictsEntriesOfMeetingAndEveryUserWithAccess() {
+        UUID meetingId = UUID.randomUUID();
+        UUID owner = UUID.randomUUID();
+        UUID formerAttendee = UUID.randomUUID();
+        when(meetingRepository.findAccessUserIds(meetingId)).thenReturn(List.of(owner));
+        when(dependencyIndex.drain(meetingId, Set.of(owner, formerAttendee))).thenReturn(List.of(
+                new CacheDependencyIndex.CacheEntry("meetings", meetingId.toString()),
+                new CacheDependencyIndex.CacheEntry("meetings", "u:" + owner + ":recent:5")));
+        when(cacheManager.getCache("meetings")).thenReturn(meetingsCache);
+
+        cacheInvalidationService.onMeetingUpdated(new MeetingUpdatedEvent(meetingId, List.of(formerAttendee)));
+
+        verify(meetingsCache).evict(meetingId.toString());
+        verify(meetingsCache).evict("u:" + owner + ":recent:5");
+        verifyNoMoreInteractions(meetingsCache);
+    }
+
+    @Test
+    void meetingUpdated_EvictsAgainAfterTheDelay_IncludingEntriesStoredSinceTheFirstPass() {
+        cacheInvalidationService.shutdown();
+        cacheInvalidationService = new CacheInvalidationService(dependencyIndex, cacheManager, meetingRepository, 50);
+        UUID meetingId = UUID.randomUUID();
+        UUID owner = UUID.randomUUID();
+        CacheDependencyIndex.CacheEntry detail = new CacheDependencyIndex.CacheEntry("meetings", meetingId.toString());
+        CacheDependencyIndex.CacheEntry recent = new CacheDependencyIndex.CacheEntry("meetings", "u:" + owner + ":recent:5");
+        when(meetingRepository.findAccessUserIds(meetingId)).thenReturn(List.of(owner));
+        // A reader that loaded the old rows stored the list again between the two passes
+        when(dependencyIndex.drain(meetingId, Set.of(owner))).thenReturn(List.of(detail), List.of(recent));
+        when(cacheManager.getCache("meetings")).thenReturn(meetingsCache);
+
+        cacheInvalidationService.onMeetingUpdated(new MeetingUpdatedEvent(meetingId, List.of()));
+
+        verify(meetingsCache, timeout(2000).times(2)).evict(meetingId.toString());
+        verify(meetingsCache, timeout(2000)).evict("u:" + owner + ":recent:5");
+        verify(dependencyIndex, times(2)).drain(meetingId, Set.of(owner));
+    }
+
+    @Test
+    void removedAttendee_IsInvalidatedAlthoughNoLongerInAccessList() {
+        UUID meetingId = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        when(meetingRepository.findAccessUserIds(meetingId)).thenReturn(List.of());
+        when(dependencyIndex.drain(meetingId, Set.of(removed))).thenReturn(List.of());
+
+        cacheInvalidationService.onAttendeeChanged(new AttendeeChangedEvent(meetingId, removed, true));
+
+        verify(dependencyIndex).drain(meetingId, Set.of(removed));
+    }
+}
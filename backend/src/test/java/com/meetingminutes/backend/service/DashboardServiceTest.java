@@ -0,0 +1,83 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.entity.MeetingAccess;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.DashboardRollup;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dashboardService, "rollupsEnabled", true);
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("owner@example.com");
+    }
+
+    @Test
+    void getDashboardStats_ReadsRollupInOneQuery() {
+        LocalDate today = LocalDate.now();
+        DashboardRollup rollup = new DashboardRollup(
+                Map.of(MeetingAccess.Role.ORGANIZER, Map.of("PROCESSED", 3L, "DRAFT", 1L),
+                        MeetingAccess.Role.ATTENDEE, Map.of("PROCESSED", 1L, "PROCESSING", 1L)),
+                Map.of(today, 2L, today.minusWeeks(2), 1L),
+                4L);
+        when(meetingRepository.findDashboardRollup(eq(user.getId()), any(), any())).thenReturn(rollup);
+
+        Map<String, Object> stats = dashboardService.getDashboardStats(user);
+
+        assertEquals(6L, stats.get("totalMeetings"));
+        assertEquals(4L, stats.get("processedMeetings"));
+        assertEquals(1L, stats.get("draftMeetings"));
+        assertEquals(1L, stats.get("processingMeetings"));
+        assertEquals(2L, stats.get("meetingsThisWeek"));
+        assertEquals(4L, stats.get("upcomingMeetings"));
+        assertEquals(80.0, stats.get("processingSuccessRate"));
+        assertEquals(2, ((Map<?, ?>) stats.get("monthlyTrend")).size());
+        verify(meetingRepository, never()).countByUserOrAttendee(any());
+    }
+
+    @Test
+    void getDashboardStats_WithoutRollupsUsesSinglePassCounters() {
+        ReflectionTestUtils.setField(dashboardService, "rollupsEnabled", false);
+        Map<String, Long> counters = Map.of("total", 5L, "processed", 1L, "draft", 2L, "processing", 1L,
+                "createdThisWeek", 3L, "upcoming", 2L);
+        when(meetingRepository.countDashboard(eq(user.getId()), any(), any(), any())).thenReturn(counters);
+        when(meetingRepository.countCreatedByPeriod(eq(user.getId()), eq("day"), any(), any()))
+                .thenReturn(Map.of(LocalDate.now().atStartOfDay(), 3L));
+
+        Map<String, Object> stats = dashboardService.getDashboardStats(user);
+
+        assertEquals(5L, stats.get("totalMeetings"));
+        assertEquals(3L, stats.get("meetingsThisWeek"));
+        assertEquals(50.0, stats.get("processingSuccessRate"));
+        assertEquals(Map.of(LocalDate.now().toString(), 3L), stats.get("monthlyTrend"));
+        verify(meetingRepository, never()).findByUserOrAttendeeAndCreatedAtAfter(any(), any());
+    }
+}
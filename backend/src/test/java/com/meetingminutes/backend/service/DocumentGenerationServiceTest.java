@@ -0,0 +1,117 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.mongo.GeneratedDocumentRepo;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.gridfs.GridFsOperations;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.thymeleaf.TemplateEngine;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DocumentGenerationServiceTest {
+
+    @Mock
+    private TemplateEngine templateEngine;
+
+    @Mock
+    private GridFsTemplate gridFsTemplate;
+
+    @Mock
+    private GridFsOperations gridFsOperations;
+
+    @Mock
+    private GeneratedDocumentRepo generatedDocumentRepository;
+
+    @Mock
+    private PdfRendererPool pdfRendererPool;
+
+    @InjectMocks
+    private DocumentGenerationService documentGenerationService;
+
+    private Meeting meeting;
+    private User organizer;
+
+    @BeforeEach
+    void setUp() {
+        organizer = new User("organizer@example.com", "Organizer");
+        organizer.setId(UUID.randomUUID());
+        meeting = new Meeting("Budget Review", organizer);
+        meeting.setId(UUID.randomUUID());
+        meeting.setScheduledTime(LocalDateTime.of(2026, 3, 2, 10, 0));
+        meeting.setAgendaItems(List.of());
+        meeting.setAttendees(List.of());
+        meeting.setActionItems(List.of());
+
+        when(gridFsTemplate.store(any(InputStream.class), anyString(), anyString(), any(Document.class)))
+                .thenAnswer(invocation -> new ObjectId());
+    }
+
+    @Test
+    void generateMinutesDOCX_UnchangedInputs_ReusesLatestDocument() {
+        GeneratedDocument first = renderFirstVersion();
+        when(generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(
+                meeting.getId(), GeneratedDocument.DocumentType.MINUTES_DOCX)).thenReturn(Optional.of(first));
+
+        String fileId = documentGenerationService.generateMinutesDOCX(meeting, null, organizer);
+
+        assertEquals(first.getId(), fileId);
+        verify(gridFsTemplate, times(1)).store(any(InputStream.class), anyString(), anyString(), any(Document.class));
+        verify(generatedDocumentRepository, times(1)).save(any(GeneratedDocument.class));
+    }
+
+    @Test
+    void generateMinutesDOCX_ChangedTitle_RendersNextVersion() {
+        GeneratedDocument first = renderFirstVersion();
+        when(generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(
+                meeting.getId(), GeneratedDocument.DocumentType.MINUTES_DOCX)).thenReturn(Optional.of(first));
+        when(generatedDocumentRepository.findByMeetingId(meeting.getId())).thenReturn(List.of(first));
+        meeting.setTitle("Budget Review (revised)");
+
+        String fileId = documentGenerationService.generateMinutesDOCX(meeting, null, organizer);
+
+        assertNotEquals(first.getId(), fileId);
+        ArgumentCaptor<GeneratedDocument> saved = ArgumentCaptor.forClass(GeneratedDocument.class);
+        verify(generatedDocumentRepository, times(2)).save(saved.capture());
+        GeneratedDocument second = saved.getAllValues().get(1);
+        assertEquals(2, second.getVersion());
+        assertNotEquals(first.getContentHash(), second.getContentHash());
+    }
+
+    private GeneratedDocument renderFirstVersion() {
+        when(generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(
+                eq(meeting.getId()), eq(GeneratedDocument.DocumentType.MINUTES_DOCX))).thenReturn(Optional.empty());
+        when(generatedDocumentRepository.findByMeetingId(meeting.getId())).thenReturn(List.of());
+
+        String fileId = documentGenerationService.generateMinutesDOCX(meeting, null, organizer);
+
+        ArgumentCaptor<GeneratedDocument> saved = ArgumentCaptor.forClass(GeneratedDocument.class);
+        verify(generatedDocumentRepository).save(saved.capture());
+        GeneratedDocument first = saved.getValue();
+        assertEquals(fileId, first.getId());
+        assertEquals(1, first.getVersion());
+        assertNotNull(first.getContentHash());
+        return first;
+    }
+}
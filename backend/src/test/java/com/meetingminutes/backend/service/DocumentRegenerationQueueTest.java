@@ -0,0 +1,85 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.event.MeetingUpdatedEvent;
+import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DocumentRegenerationQueueTest {
+
+    @Mock
+    private DocumentRenderCoordinator documentRenderCoordinator;
+
+    @Mock
+    private DocumentGenerationService documentGenerationService;
+
+    @Mock
+    private AIExtractionRepository aiExtractionRepository;
+
+    @Mock
+    private WebSocketEventPublisher webSocketEventPublisher;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DocumentRegenerationQueue queue;
+    private UUID meetingId;
+    private Meeting meeting;
+
+    @BeforeEach
+    void setUp() {
+        queue = new DocumentRegenerationQueue(documentRenderCoordinator, documentGenerationService,
+                aiExtractionRepository, webSocketEventPublisher, eventPublisher, 50, 1);
+        meetingId = UUID.randomUUID();
+        meeting = new Meeting();
+        meeting.setId(meetingId);
+        meeting.setCreatedBy(new User("organizer@example.com", "Organizer"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void regenerate_Success_PublishesMeetingUpdatedOnce() {
+        when(documentRenderCoordinator.loadMeetingForRendering(meetingId)).thenReturn(meeting);
+        when(aiExtractionRepository.findByMeetingId(meetingId)).thenReturn(Optional.empty());
+
+        queue.enqueue(meetingId);
+        queue.enqueue(meetingId);
+
+        verify(webSocketEventPublisher, timeout(2000)).sendDocumentsRegenerated(eq(meetingId), any());
+        verify(eventPublisher).publishEvent(new MeetingUpdatedEvent(meetingId));
+        verify(documentRenderCoordinator, times(1)).renderEagerFormats(meeting, null, meeting.getCreatedBy());
+    }
+
+    @Test
+    void regenerate_Failure_LeavesTheCachedDetailAlone() {
+        when(documentRenderCoordinator.loadMeetingForRendering(meetingId)).thenReturn(meeting);
+        when(aiExtractionRepository.findByMeetingId(meetingId)).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("renderer down"))
+                .when(documentRenderCoordinator).renderEagerFormats(meeting, null, meeting.getCreatedBy());
+
+        queue.enqueue(meetingId);
+
+        verify(webSocketEventPublisher, timeout(2000)).sendDocumentRegenerationFailed(eq(meetingId), anyString());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,162 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.ActionItemRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
+import com.meetingminutes.backend.repository.mongo.GeneratedDocumentRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DocumentRenderCoordinatorTest {
+
+    @Mock
+    private DocumentGenerationService documentGenerationService;
+
+    @Mock
+    private GeneratedDocumentRepo generatedDocumentRepository;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private ActionItemRepo actionItemRepo;
+
+    @Mock
+    private AIExtractionRepository aiExtractionRepository;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @InjectMocks
+    private DocumentRenderCoordinator coordinator;
+
+    private UUID meetingId;
+    private Meeting meeting;
+
+    @BeforeEach
+    void setUp() {
+        meetingId = UUID.randomUUID();
+        User organizer = new User("organizer@example.com", "Organizer");
+        meeting = new Meeting("Budget Review", organizer);
+        meeting.setId(meetingId);
+        meeting.setAgendaItems(List.of());
+        meeting.setAttendees(List.of());
+    }
+
+    @Test
+    void getOrRenderLatest_ConcurrentFirstDownloads_ShareOneRender() throws Exception {
+        stubRenderingPath();
+        GeneratedDocument pdf = document("pdf-1", GeneratedDocument.DocumentType.MINUTES_PDF, "hash");
+        GeneratedDocument docx = document("docx-1", GeneratedDocument.DocumentType.MINUTES_DOCX, "hash");
+        when(generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(
+                meetingId, GeneratedDocument.DocumentType.MINUTES_DOCX)).thenReturn(Optional.empty());
+        when(generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(
+                meetingId, GeneratedDocument.DocumentType.MINUTES_PDF)).thenReturn(Optional.of(pdf));
+        when(generatedDocumentRepository.findById("docx-1")).thenReturn(Optional.of(docx));
+
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(documentGenerationService.generateMinutesDOCX(eq(meeting), any(), any())).thenAnswer(invocation -> {
+            rendering.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return "docx-1";
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<GeneratedDocument>> first = executor.submit(() ->
+                    coordinator.getOrRenderLatest(meetingId, GeneratedDocument.DocumentType.MINUTES_DOCX));
+            assertTrue(rendering.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<Thread> waiterThread = new CompletableFuture<>();
+            Future<Optional<GeneratedDocument>> second = executor.submit(() -> {
+                waiterThread.complete(Thread.currentThread());
+                return coordinator.getOrRenderLatest(meetingId, GeneratedDocument.DocumentType.MINUTES_DOCX);
+            });
+            Thread waiter = waiterThread.get(5, TimeUnit.SECONDS);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            // The second caller parks on the shared future with a timed get
+            while (waiter.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertEquals("docx-1", first.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+            assertEquals("docx-1", second.get(5, TimeUnit.SECONDS).orElseThrow().getId());
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(documentGenerationService, times(1)).generateMinutesDOCX(eq(meeting), any(), any());
+    }
+
+    @Test
+    void getOrRenderLatest_SecondaryOlderThanPrimary_RendersAgain() {
+        stubRenderingPath();
+        GeneratedDocument pdf = document("pdf-2", GeneratedDocument.DocumentType.MINUTES_PDF, "new-hash");
+        GeneratedDocument staleDocx = document("docx-1", GeneratedDocument.DocumentType.MINUTES_DOCX, "old-hash");
+        GeneratedDocument freshDocx = document("docx-2", GeneratedDocument.DocumentType.MINUTES_DOCX, "new-hash");
+        when(generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(
+                meetingId, GeneratedDocument.DocumentType.MINUTES_DOCX)).thenReturn(Optional.of(staleDocx));
+        when(generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(
+                meetingId, GeneratedDocument.DocumentType.MINUTES_PDF)).thenReturn(Optional.of(pdf));
+        when(documentGenerationService.generateMinutesDOCX(eq(meeting), any(), any())).thenReturn("docx-2");
+        when(generatedDocumentRepository.findById("docx-2")).thenReturn(Optional.of(freshDocx));
+
+        Optional<GeneratedDocument> result =
+                coordinator.getOrRenderLatest(meetingId, GeneratedDocument.DocumentType.MINUTES_DOCX);
+
+        assertEquals("docx-2", result.orElseThrow().getId());
+    }
+
+    @Test
+    void getOrRenderLatest_NoPrimaryYet_DoesNotRender() {
+        when(generatedDocumentRepository.findFirstByMeetingIdAndDocumentTypeOrderByVersionDesc(
+                eq(meetingId), any())).thenReturn(Optional.empty());
+
+        Optional<GeneratedDocument> result =
+                coordinator.getOrRenderLatest(meetingId, GeneratedDocument.DocumentType.MINUTES_DOCX);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(documentGenerationService, meetingRepository);
+    }
+
+    private void stubRenderingPath() {
+        when(applicationContext.getBean(DocumentRenderCoordinator.class)).thenReturn(coordinator);
+        when(meetingRepository.findById(meetingId)).thenReturn(Optional.of(meeting));
+        when(actionItemRepo.findByMeetingId(meetingId)).thenReturn(List.of());
+        when(aiExtractionRepository.findByMeetingId(meetingId)).thenReturn(Optional.empty());
+    }
+
+    private GeneratedDocument document(String id, GeneratedDocument.DocumentType type, String contentHash) {
+        return GeneratedDocument.builder()
+                .id(id)
+                .meetingId(meetingId)
+                .documentType(type)
+                .contentHash(contentHash)
+                .build();
+    }
+}
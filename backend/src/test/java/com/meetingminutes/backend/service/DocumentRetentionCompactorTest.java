@@ -0,0 +1,124 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.repository.mongo.GeneratedDocumentRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DocumentRetentionCompactorTest {
+
+    private static final GeneratedDocument.DocumentType PDF = GeneratedDocument.DocumentType.MINUTES_PDF;
+    private static final GeneratedDocument.DocumentType DOCX = GeneratedDocument.DocumentType.MINUTES_DOCX;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private GridFsTemplate gridFsTemplate;
+
+    @Mock
+    private GeneratedDocumentRepo generatedDocumentRepository;
+
+    @InjectMocks
+    private DocumentRetentionCompactor compactor;
+
+    private UUID meetingA;
+    private UUID meetingB;
+
+    @BeforeEach
+    void setUp() {
+        meetingA = UUID.randomUUID();
+        meetingB = UUID.randomUUID();
+        ReflectionTestUtils.setField(compactor, "enabled", true);
+        ReflectionTestUtils.setField(compactor, "keepLastVersions", 2);
+        ReflectionTestUtils.setField(compactor, "maxAgeDays", 0);
+        ReflectionTestUtils.setField(compactor, "batchSize", 2);
+    }
+
+    @Test
+    void compact_KeepsNewestVersionsPerMeetingAndFormat_DeletesRestInBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        // Ordered the way the compaction query sorts: meeting, format, newest version first
+        when(mongoTemplate.stream(any(Query.class), eq(GeneratedDocument.class))).thenReturn(Stream.of(
+                document("a-pdf-5", meetingA, PDF, 5, now, 500),
+                document("a-pdf-4", meetingA, PDF, 4, now, 400),
+                document("a-pdf-3", meetingA, PDF, 3, now, 300),
+                document("a-pdf-2", meetingA, PDF, 2, now, 200),
+                document("a-pdf-1", meetingA, PDF, 1, now, 100),
+                document("a-docx-2", meetingA, DOCX, 2, now, 20),
+                document("a-docx-1", meetingA, DOCX, 1, now, 10),
+                document("b-pdf-1", meetingB, PDF, 1, now, 1000)));
+
+        DocumentRetentionCompactor.CompactionReport report = compactor.compact();
+
+        assertEquals(3, report.documentsDeleted());
+        assertEquals(600, report.bytesReclaimed());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> deletedIds = ArgumentCaptor.forClass(List.class);
+        verify(generatedDocumentRepository, times(2)).deleteAllById(deletedIds.capture());
+        assertEquals(List.of("a-pdf-3", "a-pdf-2"), deletedIds.getAllValues().get(0));
+        assertEquals(List.of("a-pdf-1"), deletedIds.getAllValues().get(1));
+        verify(gridFsTemplate, times(2)).delete(any(Query.class));
+        assertSame(report, compactor.getLastReport());
+    }
+
+    @Test
+    void compact_WithMaxAge_KeepsRecentVersionsBeyondKeepLast() {
+        ReflectionTestUtils.setField(compactor, "keepLastVersions", 1);
+        ReflectionTestUtils.setField(compactor, "maxAgeDays", 30);
+        LocalDateTime now = LocalDateTime.now();
+        when(mongoTemplate.stream(any(Query.class), eq(GeneratedDocument.class))).thenReturn(Stream.of(
+                document("a-pdf-3", meetingA, PDF, 3, now, 300),
+                document("a-pdf-2", meetingA, PDF, 2, now.minusDays(1), 200),
+                document("a-pdf-1", meetingA, PDF, 1, now.minusDays(60), 100)));
+
+        DocumentRetentionCompactor.CompactionReport report = compactor.compact();
+
+        assertEquals(1, report.documentsDeleted());
+        verify(generatedDocumentRepository).deleteAllById(List.of("a-pdf-1"));
+    }
+
+    @Test
+    void compact_NothingExpired_DeletesNothing() {
+        when(mongoTemplate.stream(any(Query.class), eq(GeneratedDocument.class))).thenReturn(Stream.of(
+                document("a-pdf-1", meetingA, PDF, 1, LocalDateTime.now().minusYears(1), 100)));
+
+        DocumentRetentionCompactor.CompactionReport report = compactor.compact();
+
+        assertEquals(0, report.documentsDeleted());
+        verifyNoInteractions(gridFsTemplate, generatedDocumentRepository);
+    }
+
+    private GeneratedDocument document(String id, UUID meetingId, GeneratedDocument.DocumentType type, int version,
+                                       LocalDateTime generatedAt, long fileSize) {
+        return GeneratedDocument.builder()
+                .id(id)
+                .meetingId(meetingId)
+                .documentType(type)
+                .version(version)
+                .generatedAt(generatedAt)
+                .fileSize(fileSize)
+                .build();
+    }
+}
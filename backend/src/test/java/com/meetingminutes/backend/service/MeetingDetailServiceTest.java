@@ -0,0 +1,114 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.dto.MeetingViewerResponse;
+import com.meetingminutes.backend.entity.AttendanceStatus;
+import com.meetingminutes.backend.entity.Attendee;
+import com.meetingminutes.backend.entity.MeetingAccess;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.ActionItemRepo;
+import com.meetingminutes.backend.repository.AgendaItemRepo;
+import com.meetingminutes.backend.repository.AttendeeRepo;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.mongo.AIExtractionRepository;
+import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MeetingDetailServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private AgendaItemRepo agendaItemRepo;
+
+    @Mock
+    private AttendeeRepo attendeeRepo;
+
+    @Mock
+    private ActionItemRepo actionItemRepo;
+
+    @Mock
+    private TranscriptRepository transcriptRepository;
+
+    @Mock
+    private AIExtractionRepository aiExtractionRepository;
+
+    @Mock
+    private DocumentGenerationService documentGenerationService;
+
+    @InjectMocks
+    private MeetingDetailService meetingDetailService;
+
+    private UUID meetingId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meetingId = UUID.randomUUID();
+        user = new User();
+        user.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void getViewer_OrganizerCanEdit() {
+        when(meetingRepository.findAccessRole(user.getId(), meetingId)).thenReturn(Optional.of(MeetingAccess.Role.ORGANIZER));
+        when(actionItemRepo.findIdsByMeetingIdAndAssignedToUserId(meetingId, user.getId())).thenReturn(List.of());
+        when(attendeeRepo.findByMeetingIdAndUserId(meetingId, user.getId())).thenReturn(Optional.empty());
+
+        MeetingViewerResponse viewer = meetingDetailService.getViewer(meetingId, user);
+
+        assertTrue(viewer.hasAccess());
+        assertEquals("ORGANIZER", viewer.getRole());
+        assertTrue(viewer.getCanEdit());
+    }
+
+    @Test
+    void getViewer_AttendeeSeesOwnStatusAndAssignments() {
+        UUID actionItemId = UUID.randomUUID();
+        Attendee attendee = new Attendee();
+        attendee.setStatus(AttendanceStatus.CONFIRMED);
+        when(meetingRepository.findAccessRole(user.getId(), meetingId)).thenReturn(Optional.of(MeetingAccess.Role.ATTENDEE));
+        when(actionItemRepo.findIdsByMeetingIdAndAssignedToUserId(meetingId, user.getId())).thenReturn(List.of(actionItemId));
+        when(attendeeRepo.findByMeetingIdAndUserId(meetingId, user.getId())).thenReturn(Optional.of(attendee));
+
+        MeetingViewerResponse viewer = meetingDetailService.getViewer(meetingId, user);
+
+        assertEquals("ATTENDEE", viewer.getRole());
+        assertFalse(viewer.getCanEdit());
+        assertEquals(AttendanceStatus.CONFIRMED, viewer.getAttendanceStatus());
+        assertEquals(List.of(actionItemId), viewer.getAssignedActionItemIds());
+    }
+
+    @Test
+    void getViewer_AssigneeWithoutMeetingAccess() {
+        when(meetingRepository.findAccessRole(user.getId(), meetingId)).thenReturn(Optional.empty());
+        when(actionItemRepo.findIdsByMeetingIdAndAssignedToUserId(meetingId, user.getId())).thenReturn(List.of(UUID.randomUUID()));
+
+        MeetingViewerResponse viewer = meetingDetailService.getViewer(meetingId, user);
+
+        assertEquals("ASSIGNEE", viewer.getRole());
+        assertNull(viewer.getAttendanceStatus());
+        verifyNoInteractions(attendeeRepo);
+    }
+
+    @Test
+    void getViewer_NoRelationHasNoAccess() {
+        when(meetingRepository.findAccessRole(user.getId(), meetingId)).thenReturn(Optional.empty());
+        when(actionItemRepo.findIdsByMeetingIdAndAssignedToUserId(meetingId, user.getId())).thenReturn(List.of());
+
+        assertFalse(meetingDetailService.getViewer(meetingId, user).hasAccess());
+    }
+}
@@ -0,0 +1,73 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MeetingSearchServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private TranscriptRepository transcriptRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private TranscriptSearchIndex transcriptSearchIndex;
+
+    @InjectMocks
+    private MeetingSearchService searchService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("analyst@example.com", "Analyst");
+        user.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void getMeetingAnalytics_WeeklyBuckets_AreLabelledWithIsoWeeksWhateverTheLocale() {
+        Map<LocalDateTime, Long> buckets = new LinkedHashMap<>();
+        // date_trunc('week') Mondays whose ISO week-based year differs from the calendar year
+        buckets.put(LocalDateTime.of(2024, 12, 30, 0, 0), 3L);
+        buckets.put(LocalDateTime.of(2021, 1, 4, 0, 0), 2L);
+        buckets.put(LocalDateTime.of(2020, 12, 28, 0, 0), 1L);
+        when(meetingRepository.countCreatedByPeriod(eq(user.getId()), eq("week"), any(), any())).thenReturn(buckets);
+
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+        try {
+            Map<String, Long> counts = searchService.getMeetingAnalytics(user, "weekly",
+                    LocalDateTime.of(2020, 12, 1, 0, 0), LocalDateTime.of(2025, 1, 31, 0, 0));
+
+            assertEquals(List.of("2025-W01", "2021-W01", "2020-W53"), List.copyOf(counts.keySet()));
+            assertEquals(List.of(3L, 2L, 1L), List.copyOf(counts.values()));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+}
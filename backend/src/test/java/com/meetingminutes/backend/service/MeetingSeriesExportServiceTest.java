@@ -0,0 +1,106 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.GeneratedDocument;
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.exception.ProcessingException;
+import com.meetingminutes.backend.exception.ValidationException;
+import com.meetingminutes.backend.repository.MeetingSeriesRepo;
+import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MeetingSeriesExportServiceTest {
+
+    @Mock
+    private MeetingSeriesService meetingSeriesService;
+
+    @Mock
+    private MeetingSeriesRepo meetingSeriesRepo;
+
+    @Mock
+    private DocumentRenderCoordinator documentRenderCoordinator;
+
+    @Mock
+    private DocumentGenerationService documentGenerationService;
+
+    @Mock
+    private TranscriptRepository transcriptRepository;
+
+    @InjectMocks
+    private MeetingSeriesExportService exportService;
+
+    @Test
+    void writeZip_CopiesMinutesAndTranscripts_SkipsMeetingsThatFailToRender() throws Exception {
+        UUID kickoff = UUID.randomUUID();
+        UUID broken = UUID.randomUUID();
+        var export = new MeetingSeriesExportService.SeriesExport("Weekly Sync",
+                GeneratedDocument.DocumentType.MINUTES_PDF, true, List.of(
+                new MeetingSeriesExportService.ExportEntry(kickoff, "Kick-off", LocalDateTime.of(2026, 1, 5, 9, 0)),
+                new MeetingSeriesExportService.ExportEntry(broken, "Review", null)));
+
+        GridFsResource resource = mock(GridFsResource.class);
+        when(resource.exists()).thenReturn(true);
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream("%PDF-kickoff".getBytes(StandardCharsets.UTF_8)));
+        when(documentRenderCoordinator.getOrRenderLatest(kickoff, GeneratedDocument.DocumentType.MINUTES_PDF))
+                .thenReturn(Optional.of(GeneratedDocument.builder().id("file-1").build()));
+        when(documentGenerationService.getDocumentById("file-1")).thenReturn(resource);
+        when(documentRenderCoordinator.getOrRenderLatest(broken, GeneratedDocument.DocumentType.MINUTES_PDF))
+                .thenThrow(new ProcessingException("render failed"));
+
+        Transcript transcript = new Transcript();
+        transcript.setRawText("Grüße from the kick-off");
+        when(transcriptRepository.findRawTextByMeetingId(kickoff)).thenReturn(Optional.of(transcript));
+        when(transcriptRepository.findRawTextByMeetingId(broken)).thenReturn(Optional.empty());
+
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        exportService.writeZip(export, archive);
+
+        Map<String, String> entries = readZip(archive.toByteArray());
+        assertEquals(List.of("001_2026-01-05_Kick-off.pdf", "001_2026-01-05_Kick-off_transcript.txt"),
+                List.copyOf(entries.keySet()));
+        assertEquals("%PDF-kickoff", entries.get("001_2026-01-05_Kick-off.pdf"));
+        assertEquals("Grüße from the kick-off", entries.get("001_2026-01-05_Kick-off_transcript.txt"));
+        verify(transcriptRepository, never()).findByMeetingId(any());
+    }
+
+    @Test
+    void prepareExport_UnknownFormat_ThrowsValidationException() {
+        User user = new User("organizer@example.com", "Organizer");
+
+        assertThrows(ValidationException.class,
+                () -> exportService.prepareExport(UUID.randomUUID(), user, "odt", false));
+        verifyNoInteractions(meetingSeriesService, meetingSeriesRepo);
+    }
+
+    private Map<String, String> readZip(byte[] bytes) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,143 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.dto.SearchSuggestion;
+import com.meetingminutes.backend.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchSuggestionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @InjectMocks
+    private SearchSuggestionService suggestionService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(suggestionService, "minLength", 2);
+        ReflectionTestUtils.setField(suggestionService, "maxResults", 10);
+        ReflectionTestUtils.setField(suggestionService, "termsPerTranscript", 100);
+        user = new User("organizer@example.com", "Organizer");
+        user.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void suggest_PrefixMatchesFirst_ThenByKind_WithoutDuplicates() {
+        stubRows(
+                row("term", "budget", null, 1),
+                row("person", "Budd Lee", null, 1),
+                row("meeting", "Q3 budget review", UUID.randomUUID().toString(), 0),
+                row("meeting", "Budget sync", UUID.randomUUID().toString(), 1),
+                row("meeting", "budget SYNC", UUID.randomUUID().toString(), 1));
+
+        List<SearchSuggestion> suggestions = suggestionService.suggest(" Bud ", user, 10);
+
+        assertEquals(List.of("meeting:Budget sync", "person:Budd Lee", "term:budget", "meeting:Q3 budget review"),
+                suggestions.stream().map(s -> s.getType() + ":" + s.getText()).toList());
+    }
+
+    @Test
+    void suggest_InputBelowMinimumLength_QueriesNothing() {
+        assertTrue(suggestionService.suggest("b", user, 10).isEmpty());
+        verifyNoInteractions(namedParameterJdbcTemplate);
+    }
+
+    @Test
+    void recordTranscriptTerms_GoesThroughProxy_AndReportsFailureWithoutThrowing() {
+        UUID meetingId = UUID.randomUUID();
+        SearchSuggestionService proxy = mock(SearchSuggestionService.class);
+        when(applicationContext.getBean(SearchSuggestionService.class)).thenReturn(proxy);
+        doThrow(new IllegalStateException("insert failed")).when(proxy).replaceTranscriptTerms(meetingId, "text");
+
+        assertFalse(suggestionService.recordTranscriptTerms(meetingId, "text"));
+        verify(proxy).replaceTranscriptTerms(meetingId, "text");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void backfillTranscriptTerms_OnlyRecordsMeetingsWithoutTerms() {
+        UUID done = UUID.randomUUID();
+        UUID pending = UUID.randomUUID();
+        when(mongoTemplate.stream(any(Query.class), eq(Transcript.class)))
+                .thenReturn(Stream.of(transcript(done, null), transcript(pending, null)));
+        when(namedParameterJdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(UUID.class)))
+                .thenReturn(List.of(done));
+        when(mongoTemplate.find(any(Query.class), eq(Transcript.class)))
+                .thenReturn(List.of(transcript(pending, "Budget budget forecast")));
+        when(applicationContext.getBean(SearchSuggestionService.class)).thenReturn(suggestionService);
+
+        suggestionService.backfillTranscriptTerms();
+
+        verify(jdbcTemplate).update("DELETE FROM transcript_terms WHERE meeting_id = ?", pending);
+        verify(jdbcTemplate, never()).update("DELETE FROM transcript_terms WHERE meeting_id = ?", done);
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<?> terms) -> terms.size() == 2), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRows(Object[]... rows) {
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    RowMapper<Object> mapper = invocation.getArgument(2);
+                    List<Object> mapped = new ArrayList<>();
+                    for (int i = 0; i < rows.length; i++) {
+                        ResultSet rs = mock(ResultSet.class);
+                        when(rs.getString(1)).thenReturn((String) rows[i][0]);
+                        when(rs.getString(2)).thenReturn((String) rows[i][1]);
+                        when(rs.getString(3)).thenReturn((String) rows[i][2]);
+                        when(rs.getInt(4)).thenReturn((Integer) rows[i][3]);
+                        mapped.add(mapper.mapRow(rs, i));
+                    }
+                    return mapped;
+                });
+    }
+
+    private Object[] row(String type, String text, String meetingId, int prefix) {
+        return new Object[]{type, text, meetingId, prefix};
+    }
+
+    private Transcript transcript(UUID meetingId, String rawText) {
+        Transcript transcript = new Transcript();
+        transcript.setMeetingId(meetingId);
+        transcript.setRawText(rawText);
+        return transcript;
+    }
+}
@@ -0,0 +1,165 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.AIExtraction;
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.dto.MeetingSearchResult;
+import com.meetingminutes.backend.entity.Meeting;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.MeetingCard;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SimilarMeetingIndexTest {
+
+    private static final String BUDGET = "We reviewed the quarterly budget, agreed to reduce cloud hosting spend " +
+            "and postponed hiring until the revenue forecast improves.";
+    private static final String BUDGET_AGAIN = "Quarterly budget review: cloud hosting spend is reduced, hiring " +
+            "stays postponed until the revenue forecast improves.";
+    private static final String OFFSITE = "Planning the team offsite: venue shortlist, catering options, travel " +
+            "bookings and a hiking activity on the second day.";
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private SimilarMeetingIndex index;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        index = newIndex();
+        user = new User();
+        user.setId(UUID.randomUUID());
+    }
+
+    private SimilarMeetingIndex newIndex() {
+        SimilarMeetingIndex created = new SimilarMeetingIndex(mongoTemplate, meetingRepository, 128, 32, 1);
+        ReflectionTestUtils.setField(created, "enabled", true);
+        ReflectionTestUtils.setField(created, "ready", true);
+        ReflectionTestUtils.setField(created, "minSimilarity", 0.1);
+        ReflectionTestUtils.setField(created, "maxResults", 10);
+        ReflectionTestUtils.setField(created, "snapshotPath", tempDir.resolve("similar.bin").toString());
+        ReflectionTestUtils.setField(created, "syncOverlapMs", 120000L);
+        ReflectionTestUtils.setField(created, "watermark", LocalDateTime.now());
+        return created;
+    }
+
+    @Test
+    void findSimilar_RanksOverlappingMeetingFirstAndFiltersByAccess() {
+        UUID source = UUID.randomUUID();
+        UUID related = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        UUID hidden = UUID.randomUUID();
+        index.index(source, BUDGET, null);
+        index.index(related, BUDGET_AGAIN, null);
+        index.index(unrelated, OFFSITE, null);
+        index.index(hidden, BUDGET, null);
+
+        when(meetingRepository.findAccessibleAmong(eq(user.getId()), anyCollection()))
+                .thenReturn(List.of(related, unrelated));
+        when(meetingRepository.findCards(any())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> new MeetingCard(id, "t", null, "PROCESSED", null, null, null, 0, 0)).toList();
+        });
+
+        List<MeetingSearchResult> results = index.findSimilar(meeting(source), user, 5);
+
+        assertFalse(results.isEmpty());
+        assertEquals(related.toString(), results.get(0).getMeetingId());
+        assertTrue(results.stream().noneMatch(result -> result.getMeetingId().equals(hidden.toString())));
+        assertTrue(results.stream().noneMatch(result -> result.getMeetingId().equals(source.toString())));
+    }
+
+    @Test
+    void snapshot_RestoresSignaturesIntoNewIndex() {
+        UUID source = UUID.randomUUID();
+        UUID related = UUID.randomUUID();
+        index.index(source, BUDGET, null);
+        index.index(related, BUDGET_AGAIN, null);
+        index.snapshot();
+
+        SimilarMeetingIndex restored = newIndex();
+        ReflectionTestUtils.setField(restored, "ready", false);
+        when(mongoTemplate.find(any(Query.class), eq(Transcript.class))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(AIExtraction.class))).thenReturn(List.of());
+        restored.open();
+
+        when(meetingRepository.findAccessibleAmong(eq(user.getId()), anyCollection())).thenReturn(List.of(related));
+        when(meetingRepository.findCards(any())).thenReturn(
+                List.of(new MeetingCard(related, "t", null, "PROCESSED", null, null, null, 0, 0)));
+
+        assertTrue(restored.isAvailable());
+        assertEquals(related.toString(), restored.findSimilar(meeting(source), user, 5).get(0).getMeetingId());
+        // Caught up on changes since the snapshot instead of rebuilding
+        verify(mongoTemplate, never()).stream(any(Query.class), eq(Transcript.class));
+    }
+
+    @Test
+    void catchUp_IndexesMeetingProcessedOnAnotherNode() {
+        UUID source = UUID.randomUUID();
+        UUID remote = UUID.randomUUID();
+        index.index(source, BUDGET, null);
+
+        Transcript transcript = new Transcript();
+        transcript.setMeetingId(remote);
+        transcript.setRawText(BUDGET_AGAIN);
+        when(mongoTemplate.find(any(Query.class), eq(Transcript.class))).thenReturn(List.of(transcript));
+        when(mongoTemplate.find(any(Query.class), eq(AIExtraction.class))).thenReturn(List.of());
+        when(meetingRepository.findAccessibleAmong(eq(user.getId()), anyCollection())).thenReturn(List.of(remote));
+        when(meetingRepository.findCards(any())).thenReturn(
+                List.of(new MeetingCard(remote, "t", null, "PROCESSED", null, null, null, 0, 0)));
+
+        index.catchUp();
+
+        assertEquals(remote.toString(), index.findSimilar(meeting(source), user, 5).get(0).getMeetingId());
+    }
+
+    @Test
+    void prune_DropsMeetingsWhoseTranscriptIsGone() {
+        UUID source = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        index.index(source, BUDGET, null);
+        index.index(deleted, BUDGET_AGAIN, null);
+
+        Transcript kept = new Transcript();
+        kept.setMeetingId(source);
+        when(mongoTemplate.stream(any(Query.class), eq(Transcript.class))).thenReturn(Stream.of(kept));
+
+        index.prune();
+
+        assertTrue(index.findSimilar(meeting(source), user, 5).isEmpty());
+        verifyNoInteractions(meetingRepository);
+    }
+
+    private Meeting meeting(UUID id) {
+        Meeting meeting = new Meeting();
+        meeting.setId(id);
+        return meeting;
+    }
+}
@@ -0,0 +1,151 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.event.AttendeeChangedEvent;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TranscriptAccessSyncTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private TranscriptSearchIndex transcriptSearchIndex;
+
+    @InjectMocks
+    private TranscriptAccessSync accessSync;
+
+    private UUID meetingId;
+    private UUID organizer;
+    private UUID removedAttendee;
+
+    @BeforeEach
+    void setUp() {
+        meetingId = UUID.randomUUID();
+        organizer = UUID.randomUUID();
+        removedAttendee = UUID.randomUUID();
+    }
+
+    @Test
+    void reconcile_StaleListAfterLostRemoval_IsRewrittenAndReindexed() {
+        when(mongoTemplate.stream(any(Query.class), eq(Transcript.class)))
+                .thenReturn(Stream.of(transcript(meetingId, List.of(organizer, removedAttendee))));
+        when(meetingRepository.findAccessUserIdsByMeetingIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{meetingId, organizer}));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Transcript.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        Transcript reloaded = transcript(meetingId, List.of(organizer));
+        when(mongoTemplate.findOne(any(Query.class), eq(Transcript.class))).thenReturn(reloaded);
+
+        accessSync.reconcile();
+
+        assertEquals(List.of(organizer), writtenAccessList());
+        verify(transcriptSearchIndex).indexTranscript(reloaded);
+    }
+
+    @Test
+    void reconcile_MatchingListInAnotherOrder_IsLeftAlone() {
+        UUID attendee = UUID.randomUUID();
+        when(mongoTemplate.stream(any(Query.class), eq(Transcript.class)))
+                .thenReturn(Stream.of(transcript(meetingId, List.of(attendee, organizer))));
+        when(meetingRepository.findAccessUserIdsByMeetingIds(anyCollection())).thenReturn(List.of(
+                new Object[]{meetingId, organizer}, new Object[]{meetingId, attendee}));
+
+        accessSync.reconcile();
+
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(Transcript.class));
+        verifyNoInteractions(transcriptSearchIndex);
+    }
+
+    @Test
+    void reconcile_MissingList_IsWritten() {
+        when(mongoTemplate.stream(any(Query.class), eq(Transcript.class)))
+                .thenReturn(Stream.of(transcript(meetingId, null)));
+        when(meetingRepository.findAccessUserIdsByMeetingIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{meetingId, organizer}));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Transcript.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        accessSync.reconcile();
+
+        assertEquals(List.of(organizer), writtenAccessList());
+    }
+
+    @Test
+    void reconcile_FlaggedMeetingWithoutTranscript_IsUnflagged() {
+        UUID transcribed = UUID.randomUUID();
+        when(mongoTemplate.stream(any(Query.class), eq(Transcript.class))).thenReturn(Stream.empty());
+        when(meetingRepository.findTranscribedAfter(any(UUID.class), anyInt()))
+                .thenReturn(List.of(meetingId, transcribed));
+        when(mongoTemplate.findDistinct(any(Query.class), eq("meetingId"), eq(Transcript.class), eq(UUID.class)))
+                .thenReturn(List.of(transcribed));
+        when(meetingRepository.markTranscribed(List.of(meetingId), false)).thenReturn(1);
+
+        accessSync.reconcile();
+
+        verify(meetingRepository).markTranscribed(List.of(meetingId), false);
+        verify(meetingRepository, never()).markTranscribed(anyCollection(), eq(true));
+    }
+
+    @Test
+    void onAttendeeChanged_FailedRefresh_IsRetriedUntilItSucceeds() {
+        when(meetingRepository.findAccessUserIds(meetingId))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(List.of(organizer));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Transcript.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        accessSync.onAttendeeChanged(new AttendeeChangedEvent(meetingId, removedAttendee, true));
+        verifyNoInteractions(mongoTemplate);
+
+        accessSync.retryFailedRefreshes();
+        accessSync.retryFailedRefreshes();
+
+        assertEquals(List.of(organizer), writtenAccessList());
+        verify(meetingRepository, times(2)).findAccessUserIds(meetingId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UUID> writtenAccessList() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(Transcript.class));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertTrue(set.containsKey("updatedAt"));
+        return List.copyOf(Set.copyOf((List<UUID>) set.get("accessUserIds")));
+    }
+
+    private Transcript transcript(UUID meetingId, List<UUID> accessUserIds) {
+        Transcript transcript = new Transcript();
+        transcript.setMeetingId(meetingId);
+        transcript.setAccessUserIds(accessUserIds);
+        return transcript;
+    }
+}
@@ -0,0 +1,160 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.document.WordTimestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TranscriptSearchIndexTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    // What Mongo holds; every stream() call reads the current contents
+    private final List<Transcript> stored = new ArrayList<>();
+    private final List<TranscriptSearchIndex> opened = new ArrayList<>();
+
+    private UUID reader;
+    private UUID meetingA;
+    private UUID meetingB;
+
+    @BeforeEach
+    void setUp() {
+        reader = UUID.randomUUID();
+        meetingA = UUID.randomUUID();
+        meetingB = UUID.randomUUID();
+        when(mongoTemplate.stream(any(Query.class), eq(Transcript.class)))
+                .thenAnswer(invocation -> List.copyOf(stored).stream());
+    }
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(TranscriptSearchIndex::close);
+    }
+
+    @Test
+    void open_EmptyIndex_RebuildsFromMongoAndFiltersByReader() throws Exception {
+        Transcript transcript = transcript(meetingA, reader, null);
+        transcript.setWordTimestamps(List.of(
+                new WordTimestamp("We", 1.0, 1.2, 0.9),
+                new WordTimestamp("cut", 1.2, 1.5, 0.9),
+                new WordTimestamp("the", 1.5, 1.6, 0.9),
+                new WordTimestamp("budget", 4.0, 4.5, 0.9)));
+        stored.add(transcript);
+
+        TranscriptSearchIndex index = open();
+
+        TranscriptSearchIndex.TranscriptHits hits = index.search("budget", reader, 0, 10, 3);
+        assertEquals(1, hits.totalHits());
+        assertEquals(meetingA, hits.hits().get(0).meetingId());
+        TranscriptSearchIndex.TranscriptSnippet snippet = hits.hits().get(0).snippets().get(0);
+        assertTrue(snippet.highlight().contains("<mark>budget</mark>"));
+        assertEquals(4.0, snippet.startSeconds());
+
+        assertEquals(0, index.search("budget", UUID.randomUUID(), 0, 10, 3).totalHits());
+    }
+
+    @Test
+    void catchUp_IndexesTranscriptsWrittenByAnotherNode() throws Exception {
+        TranscriptSearchIndex index = open();
+        assertEquals(0, index.search("hiring", reader, 0, 10, 3).totalHits());
+
+        stored.add(transcript(meetingB, reader, "We postponed hiring until next quarter"));
+        index.catchUp();
+
+        assertEquals(List.of(meetingB), meetingIds(index.search("hiring", reader, 0, 10, 3)));
+    }
+
+    @Test
+    void catchUp_AppliesAccessListChangedElsewhere() throws Exception {
+        Transcript transcript = transcript(meetingA, reader, "Budget review notes");
+        stored.add(transcript);
+        TranscriptSearchIndex index = open();
+
+        UUID newReader = UUID.randomUUID();
+        transcript.setAccessUserIds(List.of(newReader));
+        transcript.setUpdatedAt(LocalDateTime.now());
+        index.catchUp();
+
+        assertEquals(0, index.search("budget", reader, 0, 10, 3).totalHits());
+        assertEquals(List.of(meetingA), meetingIds(index.search("budget", newReader, 0, 10, 3)));
+    }
+
+    @Test
+    void open_ExistingIndex_CatchesUpFromStoredWatermarkInsteadOfRebuilding() throws Exception {
+        stored.add(transcript(meetingA, reader, "Budget review notes"));
+        TranscriptSearchIndex first = open();
+        first.close();
+        opened.remove(first);
+
+        stored.add(transcript(meetingB, reader, "Budget forecast for the next quarter"));
+        TranscriptSearchIndex reopened = open();
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).stream(queries.capture(), eq(Transcript.class));
+        assertFalse(queries.getAllValues().get(0).getQueryObject().containsKey("updatedAt"));
+        assertTrue(queries.getAllValues().get(1).getQueryObject().containsKey("updatedAt"));
+        assertEquals(2, reopened.search("budget", reader, 0, 10, 3).totalHits());
+    }
+
+    @Test
+    void prune_RemovesDocumentsWhoseTranscriptIsGone() throws Exception {
+        stored.add(transcript(meetingA, reader, "Budget review notes"));
+        stored.add(transcript(meetingB, reader, "Budget forecast for the next quarter"));
+        TranscriptSearchIndex index = open();
+
+        stored.removeIf(transcript -> transcript.getMeetingId().equals(meetingB));
+        index.prune();
+
+        assertEquals(List.of(meetingA), meetingIds(index.search("budget", reader, 0, 10, 3)));
+    }
+
+    private TranscriptSearchIndex open() {
+        TranscriptSearchIndex index = new TranscriptSearchIndex(mongoTemplate);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "indexPath", tempDir.resolve("transcript-index").toString());
+        ReflectionTestUtils.setField(index, "ramBufferMb", 8.0);
+        ReflectionTestUtils.setField(index, "fragmentSize", 200);
+        ReflectionTestUtils.setField(index, "syncOverlapMs", 120000L);
+        index.open();
+        assertTrue(index.isAvailable());
+        opened.add(index);
+        return index;
+    }
+
+    private Transcript transcript(UUID meetingId, UUID userId, String rawText) {
+        Transcript transcript = new Transcript();
+        transcript.setMeetingId(meetingId);
+        transcript.setRawText(rawText);
+        transcript.setAccessUserIds(List.of(userId));
+        return transcript;
+    }
+
+    private List<UUID> meetingIds(TranscriptSearchIndex.TranscriptHits hits) {
+        return hits.hits().stream().map(TranscriptSearchIndex.TranscriptHit::meetingId).toList();
+    }
+}
@@ -0,0 +1,192 @@
+package com.meetingminutes.backend.service;
+
+import com.meetingminutes.backend.document.AIExtraction;
+import com.meetingminutes.backend.document.Transcript;
+import com.meetingminutes.backend.dto.MeetingSearchResult;
+import com.meetingminutes.backend.dto.SearchResponse;
+import com.meetingminutes.backend.entity.User;
+import com.meetingminutes.backend.repository.MeetingCard;
+import com.meetingminutes.backend.repository.MeetingRepository;
+import com.meetingminutes.backend.repository.MetadataSearchHit;
+import com.meetingminutes.backend.repository.mongo.TranscriptRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UnifiedSearchServiceTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private TranscriptRepository transcriptRepository;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private UnifiedSearchService searchService;
+    private User user;
+    private UUID meetingA;
+    private UUID meetingB;
+    private UUID meetingC;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new UnifiedSearchService(meetingRepository, transcriptRepository, mongoTemplate, 3);
+        ReflectionTestUtils.setField(searchService, "candidatesPerSource", 50);
+        ReflectionTestUtils.setField(searchService, "sourceTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(searchService, "rrfK", 60);
+        ReflectionTestUtils.setField(searchService, "fragmentSize", 200);
+        ReflectionTestUtils.setField(searchService, "maxFragments", 3);
+
+        user = new User("searcher@example.com", "Searcher");
+        user.setId(UUID.randomUUID());
+        meetingA = UUID.randomUUID();
+        meetingB = UUID.randomUUID();
+        meetingC = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchService.shutdown();
+    }
+
+    @Test
+    void search_MeetingFoundBySeveralSources_OutranksSingleSourceLeaders() {
+        when(meetingRepository.rankMetadataMatches(user.getId(), "budget", 50, Duration.ofMillis(2000))).thenReturn(List.of(
+                new MetadataSearchHit(meetingA, 0.9, List.of("title")),
+                new MetadataSearchHit(meetingB, 0.5, List.of("description"))));
+        when(mongoTemplate.find(argThat((Query query) -> query instanceof TextQuery), eq(Transcript.class)))
+                .thenReturn(List.of(transcript(meetingB), transcript(meetingC)));
+        when(mongoTemplate.find(argThat((Query query) -> !(query instanceof TextQuery)), eq(Transcript.class)))
+                .thenReturn(List.of());
+        when(mongoTemplate.find(any(TextQuery.class), eq(AIExtraction.class))).thenReturn(List.of());
+        when(meetingRepository.findHeadlines(anyCollection(), eq("budget"), anyInt(), anyInt())).thenReturn(List.of());
+        when(meetingRepository.findCards(anyCollection()))
+                .thenReturn(List.of(card(meetingA), card(meetingB), card(meetingC)));
+        when(transcriptRepository.findMeetingIdsByMeetingIdIn(anyCollection()))
+                .thenReturn(List.of(transcript(meetingB), transcript(meetingC)));
+
+        SearchResponse response = searchService.search("  budget ", user, 10);
+
+        List<MeetingSearchResult> results = response.getResults();
+        assertEquals(List.of(meetingB.toString(), meetingA.toString(), meetingC.toString()),
+                results.stream().map(MeetingSearchResult::getMeetingId).toList());
+        assertEquals(1.0 / 62 + 1.0 / 61, results.get(0).getRelevanceScore(), 1e-9);
+        assertEquals(List.of("description", "transcript"), results.get(0).getMatchingFields());
+        assertEquals(3, response.getTotalResults());
+        assertFalse(results.get(1).getHasTranscript());
+    }
+
+    @Test
+    void search_SlowSource_IsDroppedAfterTimeout() throws Exception {
+        ReflectionTestUtils.setField(searchService, "sourceTimeoutMs", 100L);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(meetingRepository.rankMetadataMatches(user.getId(), "budget", 50, Duration.ofMillis(100)))
+                .thenReturn(List.of(new MetadataSearchHit(meetingA, 0.9, List.of("title"))));
+        when(mongoTemplate.find(any(TextQuery.class), eq(Transcript.class))).thenAnswer(invocation -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return List.of(transcript(meetingB));
+        });
+        when(mongoTemplate.find(any(TextQuery.class), eq(AIExtraction.class)))
+                .thenThrow(new IllegalStateException("connection refused"));
+        when(meetingRepository.findHeadlines(anyCollection(), eq("budget"), anyInt(), anyInt())).thenReturn(List.of());
+        when(meetingRepository.findCards(List.of(meetingA))).thenReturn(List.of(card(meetingA)));
+        when(transcriptRepository.findMeetingIdsByMeetingIdIn(List.of(meetingA))).thenReturn(List.of());
+
+        try {
+            long started = System.nanoTime();
+            SearchResponse response = searchService.search("budget", user, 10);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+            assertTrue(elapsedMs < 2000, "search waited " + elapsedMs + " ms for the slow source");
+            assertEquals(List.of(meetingA.toString()),
+                    response.getResults().stream().map(MeetingSearchResult::getMeetingId).toList());
+            assertEquals(List.of("title"), response.getResults().get(0).getMatchingFields());
+            assertTrue(interrupted.await(1, TimeUnit.SECONDS), "timed-out source kept its worker");
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void search_Extractions_KeepOnlyRankedCandidatesTheUserCanAccess() {
+        UUID foreign = UUID.randomUUID();
+        when(meetingRepository.rankMetadataMatches(user.getId(), "budget", 50, Duration.ofMillis(2000))).thenReturn(List.of());
+        when(mongoTemplate.find(any(TextQuery.class), eq(Transcript.class))).thenReturn(List.of());
+        when(mongoTemplate.find(any(TextQuery.class), eq(AIExtraction.class)))
+                .thenReturn(List.of(extraction(foreign), extraction(meetingA), extraction(meetingB)));
+        when(meetingRepository.findAccessibleAmong(user.getId(), List.of(foreign, meetingA, meetingB)))
+                .thenReturn(List.of(meetingB, meetingA));
+        when(mongoTemplate.find(argThat((Query query) -> !(query instanceof TextQuery)), eq(AIExtraction.class)))
+                .thenReturn(List.of(extraction(meetingA), extraction(meetingB)));
+        when(meetingRepository.findCards(List.of(meetingA, meetingB))).thenReturn(List.of(card(meetingA), card(meetingB)));
+        when(transcriptRepository.findMeetingIdsByMeetingIdIn(List.of(meetingA, meetingB))).thenReturn(List.of());
+
+        SearchResponse response = searchService.search("budget", user, 10);
+
+        assertEquals(List.of(meetingA.toString(), meetingB.toString()),
+                response.getResults().stream().map(MeetingSearchResult::getMeetingId).toList());
+        // Every candidate came back in one short page, so there is nothing further to read
+        verify(mongoTemplate, times(1)).find(any(TextQuery.class), eq(AIExtraction.class));
+    }
+
+    @Test
+    void search_FullWorkerQueue_CountsSourcesAsEmpty() {
+        searchService.shutdown();
+
+        SearchResponse response = searchService.search("budget", user, 10);
+
+        assertTrue(response.getResults().isEmpty());
+        verifyNoInteractions(meetingRepository, transcriptRepository, mongoTemplate);
+    }
+
+    @Test
+    void search_BlankQuery_QueriesNothing() {
+        SearchResponse response = searchService.search("   ", user, 10);
+
+        assertTrue(response.getResults().isEmpty());
+        verifyNoInteractions(meetingRepository, transcriptRepository, mongoTemplate);
+    }
+
+    private Transcript transcript(UUID meetingId) {
+        Transcript transcript = new Transcript();
+        transcript.setMeetingId(meetingId);
+        return transcript;
+    }
+
+    private AIExtraction extraction(UUID meetingId) {
+        AIExtraction extraction = new AIExtraction();
+        extraction.setMeetingId(meetingId);
+        return extraction;
+    }
+
+    private MeetingCard card(UUID meetingId) {
+        return new MeetingCard(meetingId, "Budget " + meetingId, null, "PROCESSED", null,
+                LocalDateTime.now(), null, 2, 0);
+    }
+}
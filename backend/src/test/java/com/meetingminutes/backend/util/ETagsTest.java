@@ -0,0 +1,36 @@
+package com.meetingminutes.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ETagsTest {
+
+    @Test
+    void weak_IsStableAndSensitiveToEveryPart() {
+        UUID id = UUID.randomUUID();
+
+        String tag = ETags.weak(id, 3L, "2:2026-01-01");
+
+        assertTrue(tag.startsWith("W/\"") && tag.endsWith("\""));
+        assertEquals(tag, ETags.weak(id, 3L, "2:2026-01-01"));
+        assertNotEquals(tag, ETags.weak(id, 4L, "2:2026-01-01"));
+        assertNotEquals(ETags.weak("a", null), ETags.weak("a", ""));
+    }
+
+    @Test
+    void matches_UsesWeakComparisonAcrossListedTags() {
+        String tag = ETags.weak("meeting", 1);
+        String strong = tag.substring(2);
+
+        assertTrue(ETags.matches(tag, tag));
+        assertTrue(ETags.matches(strong, tag));
+        assertTrue(ETags.matches("\"other\", " + tag, tag));
+        assertTrue(ETags.matches("*", tag));
+        assertFalse(ETags.matches("\"other\"", tag));
+        assertFalse(ETags.matches(null, tag));
+        assertFalse(ETags.matches(tag, null));
+    }
+}
@@ -0,0 +1,50 @@
+package com.meetingminutes.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HighlightsTest {
+
+    @Test
+    void extract_MarksMatchesAndInflectedForms() {
+        List<String> fragments = Highlights.extract("We decided to cut the budget. Budgets are tight.", "budget", 200, 3);
+
+        assertEquals(1, fragments.size());
+        assertEquals("We decided to cut the <mark>budget</mark>. <mark>Budgets</mark> are tight.", fragments.get(0));
+    }
+
+    @Test
+    void extract_EscapesStoredText() {
+        List<String> fragments = Highlights.extract("<script>alert('budget')</script>", "budget", 200, 3);
+
+        assertFalse(fragments.get(0).contains("<script>"));
+        assertTrue(fragments.get(0).contains("<mark>budget</mark>"));
+    }
+
+    @Test
+    void extract_SplitsDistantMatchesUpToMaxFragments() {
+        String filler = " lorem".repeat(100);
+        String text = "alpha" + filler + " alpha" + filler + " alpha" + filler + " alpha";
+
+        List<String> fragments = Highlights.extract(text, "alpha", 60, 3);
+
+        assertEquals(3, fragments.size());
+        fragments.forEach(fragment -> assertTrue(fragment.length() < 120));
+    }
+
+    @Test
+    void extract_ReturnsNothingWithoutMatches() {
+        assertTrue(Highlights.extract("nothing relevant here", "budget", 200, 3).isEmpty());
+        assertTrue(Highlights.extract(null, "budget", 200, 3).isEmpty());
+    }
+
+    @Test
+    void fromHeadline_ReplacesMarkersAfterEscaping() {
+        String headline = "a " + Highlights.START + "b&c" + Highlights.STOP + " d" + Highlights.DELIMITER + "e";
+
+        assertEquals(List.of("a <mark>b&amp;c</mark> d", "e"), Highlights.fromHeadline(headline));
+    }
+}
@@ -0,0 +1,76 @@
+package com.meetingminutes.backend.util;
+
+import com.meetingminutes.backend.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MeetingCursorTest {
+
+    @Test
+    void decode_RoundTripsTitleContainingSeparator() {
+        UUID id = UUID.randomUUID();
+        MeetingCursor cursor = MeetingCursor.of("title", true, null, "Q1 | Q2 planning", id);
+
+        MeetingCursor decoded = MeetingCursor.decode(cursor.encode(), "title", true, null);
+
+        assertEquals(cursor, decoded);
+        assertEquals("Q1 | Q2 planning", decoded.sortKey());
+        assertEquals(id, decoded.id());
+    }
+
+    @Test
+    void decode_SameQueryModuloWhitespace_IsAccepted() {
+        MeetingCursor cursor = MeetingCursor.of("relevance", false, "budget review", "0.0607927", UUID.randomUUID());
+
+        assertEquals(cursor, MeetingCursor.decode(cursor.encode(), "relevance", false, "  budget review "));
+    }
+
+    @Test
+    void decode_DifferentQuery_ThrowsValidationException() {
+        MeetingCursor cursor = MeetingCursor.of("relevance", false, "budget", "0.0607927", UUID.randomUUID());
+
+        ValidationException error = assertThrows(ValidationException.class,
+                () -> MeetingCursor.decode(cursor.encode(), "relevance", false, "hiring"));
+        assertEquals("Pagination cursor does not match the requested search query", error.getMessage());
+    }
+
+    @Test
+    void decode_QueryCursorReplayedWithoutQuery_ThrowsValidationException() {
+        MeetingCursor cursor = MeetingCursor.of("createdAt", false, "budget", "2026-03-01T10:00:00", UUID.randomUUID());
+
+        assertThrows(ValidationException.class,
+                () -> MeetingCursor.decode(cursor.encode(), "createdAt", false, null));
+    }
+
+    @Test
+    void decode_BlankQueryMatchesNoQuery() {
+        MeetingCursor cursor = MeetingCursor.of("createdAt", false, "   ", "2026-03-01T10:00:00", UUID.randomUUID());
+
+        assertEquals(cursor, MeetingCursor.decode(cursor.encode(), "createdAt", false, null));
+    }
+
+    @Test
+    void decode_DifferentSortFieldOrDirection_ThrowsValidationException() {
+        String token = MeetingCursor.of("createdAt", false, null, "2026-03-01T10:00:00", UUID.randomUUID()).encode();
+
+        assertThrows(ValidationException.class, () -> MeetingCursor.decode(token, "title", false, null));
+        assertThrows(ValidationException.class, () -> MeetingCursor.decode(token, "createdAt", true, null));
+    }
+
+    @Test
+    void decode_MalformedToken_ThrowsValidationException() {
+        String missingParts = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("createdAt|d|-".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("createdAt|d|-|not-a-uuid|2026-03-01".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ValidationException.class, () -> MeetingCursor.decode("%%%", "createdAt", false, null));
+        assertThrows(ValidationException.class, () -> MeetingCursor.decode(missingParts, "createdAt", false, null));
+        assertThrows(ValidationException.class, () -> MeetingCursor.decode(badId, "createdAt", false, null));
+    }
+}
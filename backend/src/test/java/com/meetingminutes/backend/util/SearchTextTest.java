@@ -0,0 +1,34 @@
+package com.meetingminutes.backend.util;
+
+import com.meetingminutes.backend.document.ExtractedData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchTextTest {
+
+    @Test
+    void queryTerms_SplitsOnPunctuationAndDropsDuplicatesAndSingleCharacters() {
+        assertEquals(List.of("q3", "budget", "review"), SearchText.queryTerms("Q3 budget-review, a BUDGET"));
+        assertTrue(SearchText.queryTerms(null).isEmpty());
+    }
+
+    @Test
+    void contentWords_KeepsOrderWithoutStopWordsOrTrailingPunctuation() {
+        assertEquals(List.of("we'll", "cut", "budget", "q3-plan"),
+                SearchText.contentWords("We'll cut the budget for the Q3-plan -- ok?"));
+    }
+
+    @Test
+    void extractionText_LabelsDecisionsAndTopics() {
+        ExtractedData data = new ExtractedData();
+        data.setDecisions(List.of(new ExtractedData.ExtractedDecision("Budget", "Freeze hiring", null, null)));
+        data.setActionItems(List.of(new ExtractedData.ExtractedActionItem()));
+        data.setTopicsDiscussed(List.of(new ExtractedData.ExtractedTopic(null, "Roadmap slipped", null)));
+
+        assertEquals("Budget: Freeze hiring. Roadmap slipped", SearchText.extractionText(data));
+        assertEquals("", SearchText.extractionText(null));
+    }
+}
@@ -0,0 +1,34 @@
+interface HighlightedTextProps {
+  /** Escaped HTML from the search API, where the only markup is <mark> around matched words */
+  html: string;
+  className?: string;
+}
+
+const ENTITIES: Record<string, string> = {
+  '&amp;': '&',
+  '&lt;': '<',
+  '&gt;': '>',
+  '&quot;': '"',
+  '&#39;': "'",
+};
+
+const decode = (text: string) => text.replace(/&(?:amp|lt|gt|quot|#39);/g, (entity) => ENTITIES[entity]);
+
+/**
+ * Renders a search highlight as React elements rather than innerHTML, so nothing in the
+ * string except the <mark> tags can ever become markup.
+ */
+export const HighlightedText = ({ html, className }: HighlightedTextProps) => {
+  const parts = html.split(/<mark>([\s\S]*?)<\/mark>/);
+  return (
+    <span className={className}>
+      {parts.map((part, i) =>
+        i % 2 === 1 ? (
+          <mark key={i} className="rounded-sm px-0.5 bg-[#0071E3]/15 text-inherit">{decode(part)}</mark>
+        ) : (
+          decode(part)
+        )
+      )}
+    </span>
+  );
+};
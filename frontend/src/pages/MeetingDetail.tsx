@@ -1,6 +1,7 @@
 import { useEffect, useState, useCallback } from "react";
 import { useParams, useNavigate } from "react-router-dom";
 import { meetingService } from "@/services/meetingService";
+import { subscribeToMeetingEvents } from "@/services/realtimeService";
 import { Meeting, ProcessingStatus, ActionItem, Attendee } from "@/types/meeting";
 import { TranscriptTab } from "@/components/meeting/TranscriptTab";
 import TaskItem from "@/components/meeting/TaskItem";
@@ -16,6 +17,9 @@ import { EditMeetingModal } from '@/components/meeting/EditMeetingModal';
 import { InviteParticipantsModal } from '@/components/meeting/InviteParticipantsModal';
 import { useAuth } from '@/hooks/useAuth';
 
+// Reload anyway if no completion message arrives, e.g. when the socket could not connect
+const REGENERATION_TIMEOUT_MS = 60000;
+
 const MeetingDetail = () => {
   const { id: meetingId } = useParams<{ id: string }>();
   const navigate = useNavigate();
@@ -244,17 +248,40 @@ const MeetingDetail = () => {
     }
   };
 
+  // The render runs in the background; stay in the regenerating state until the server reports the outcome
+  useEffect(() => {
+    if (!meetingId || !isRegenerating) return;
+
+    const finish = () => {
+      setIsRegenerating(false);
+      loadMeeting(); // Reload to clear the outdated flag
+    };
+    const fallback = setTimeout(finish, REGENERATION_TIMEOUT_MS);
+    const unsubscribe = subscribeToMeetingEvents(meetingId, (event) => {
+      if (event.type === 'DOCUMENT_GENERATED') {
+        toast({ title: 'Documents Ready', description: 'Meeting minutes were regenerated.' });
+        finish();
+      } else if (event.type === 'DOCUMENT_REGENERATION_FAILED') {
+        toast({ title: 'Regeneration Failed', description: event.data?.message || 'Failed to regenerate documents', variant: 'destructive' });
+        setIsRegenerating(false);
+      }
+    });
+
+    return () => {
+      clearTimeout(fallback);
+      unsubscribe();
+    };
+  }, [meetingId, isRegenerating, loadMeeting, toast]);
+
   const handleRegenerateDocuments = async () => {
     if (!meetingId) return;
     setIsRegenerating(true);
     try {
       await meetingService.regenerateDocuments(meetingId);
-      toast({ title: 'Success', description: 'Documents regenerated successfully.' });
-      loadMeeting(); // Reload to clear the outdated flag
+      toast({ title: 'Regeneration Queued', description: 'Updated documents will be ready in a few seconds.' });
     } catch (error) {
       const errorMessage = error instanceof AxiosError ? error.response?.data?.message : 'Failed to regenerate documents';
       toast({ title: 'Regeneration Failed', description: errorMessage, variant: 'destructive' });
-    } finally {
       setIsRegenerating(false);
     }
   };
@@ -2,6 +2,7 @@ import { useState, useEffect, useCallback } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Search as SearchIcon, FileText, Calendar, Users, X, Clock } from 'lucide-react';
 import { searchService, MeetingSearchResult, TranscriptSearchResult } from '@/services/searchService';
+import { HighlightedText } from '@/components/search/HighlightedText';
 
 interface SearchOverlayProps {
   isOpen: boolean;
@@ -124,7 +125,7 @@ export default function SearchOverlay({ isOpen, onClose }: SearchOverlayProps) {
                     <div className="flex-1 min-w-0">
                       <h4 className="text-sm font-medium truncate" style={{ color: 'var(--text-primary)' }}>{result.title}</h4>
                       {mode === 'transcripts' && result.highlight ? (
-                        <p className="text-xs mt-1 italic line-clamp-2" style={{ color: 'var(--text-secondary)' }}>"{result.highlight}"</p>
+                        <p className="text-xs mt-1 italic line-clamp-2" style={{ color: 'var(--text-secondary)' }}>"<HighlightedText html={result.highlight} />"</p>
                       ) : (
                         <div className="flex gap-3 mt-1.5 text-[0.65rem] font-body" style={{ color: 'var(--text-tertiary)' }}>
                           {result.scheduledTime && (
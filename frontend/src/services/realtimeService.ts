@@ -0,0 +1,67 @@
+// stompjs' package entry pulls in Node's `net`; the browser client lives in lib/stomp.js
+import { Stomp } from 'stompjs/lib/stomp.js';
+import { getToken } from './authService';
+
+export type MeetingEventType =
+  | 'PROCESSING_UPDATE'
+  | 'PROCESSING_COMPLETE'
+  | 'PROCESSING_ERROR'
+  | 'DOCUMENT_GENERATED'
+  | 'DOCUMENT_REGENERATION_FAILED';
+
+export interface MeetingEvent {
+  type: MeetingEventType;
+  message?: string;
+  data?: {
+    meetingId?: string;
+    currentStep?: string;
+    message?: string;
+    documentUrl?: string;
+  };
+  timestamp?: string;
+}
+
+const getSocketUrl = () =>
+  (import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080').replace(/^http/, 'ws') + '/ws';
+
+/**
+ * Subscribes to a meeting's processing topic and returns a function that closes the connection
+ */
+export const subscribeToMeetingEvents = (
+  meetingId: string,
+  onEvent: (event: MeetingEvent) => void,
+  onError?: (error: unknown) => void,
+): (() => void) => {
+  const client = Stomp.client(getSocketUrl());
+  client.debug = null;
+  let closed = false;
+
+  client.connect(
+    { Authorization: `Bearer ${getToken() ?? ''}` },
+    () => {
+      if (closed) {
+        client.disconnect();
+        return;
+      }
+      client.subscribe(`/topic/meetings/${meetingId}/processing`, (frame: { body: string }) => {
+        try {
+          onEvent(JSON.parse(frame.body) as MeetingEvent);
+        } catch (error) {
+          console.error('[realtimeService] Failed to parse meeting event:', error);
+        }
+      });
+    },
+    (error: unknown) => {
+      if (!closed) onError?.(error);
+    },
+  );
+
+  return () => {
+    closed = true;
+    if (client.connected) {
+      client.disconnect();
+    } else {
+      client.ws?.close();
+    }
+  };
+};
@@ -75,6 +75,7 @@ export interface TranscriptSearchResult {
   seriesTitle?: string;
   matchingFields: string[];
   relevanceScore: number;
+  /** Escaped HTML with matches wrapped in <mark>; render with HighlightedText, never as plain text */
   highlight: string;
 }
 